@@ -0,0 +1,82 @@
+package com.plog.domain.post.dto;
+
+import com.plog.domain.member.entity.Member;
+import com.plog.domain.post.entity.Post;
+import com.plog.domain.post.entity.PostStatus;
+import com.plog.global.response.CommonResponse;
+import com.plog.global.response.SliceRes;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록/상세 응답의 DTO 변환과 JSON 직렬화 비용을 측정합니다.
+ * <p>
+ * MVC 응답 직렬화와 같은 Jackson 3 {@link JsonMapper}를 사용합니다.
+ *
+ * @author jack8
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostResponseBenchmark {
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private List<Post> posts;
+    private Slice<PostListRes> listSlice;
+    private JsonMapper jsonMapper;
+
+    @Setup
+    public void setUp() {
+        Member member = Member.builder()
+                .email("bench@plog.com")
+                .nickname("bench")
+                .password("password")
+                .build();
+
+        posts = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            posts.add(Post.builder()
+                    .title("벤치마크 게시글 " + i)
+                    .content("## 본문\n".repeat(50))
+                    .summary("요약 ".repeat(30))
+                    .status(PostStatus.PUBLISHED)
+                    .thumbnail("http://localhost:9000/team-bucket/thumb" + i + ".png")
+                    .member(member)
+                    .build());
+        }
+        listSlice = new SliceImpl<>(mapList(), PageRequest.of(0, pageSize), true);
+        jsonMapper = JsonMapper.builder().build();
+    }
+
+    private List<PostListRes> mapList() {
+        return posts.stream().map(PostListRes::from).toList();
+    }
+
+    @Benchmark
+    public List<PostListRes> mapPostList() {
+        return mapList();
+    }
+
+    @Benchmark
+    public PostInfoRes mapPostInfo() {
+        return PostInfoRes.from(posts.get(0));
+    }
+
+    @Benchmark
+    public byte[] serializePostListResponse() {
+        return jsonMapper.writeValueAsBytes(CommonResponse.success(SliceRes.from(listSlice), "게시글 목록 조회 성공"));
+    }
+}
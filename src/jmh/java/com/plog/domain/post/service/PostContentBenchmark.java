@@ -0,0 +1,59 @@
+package com.plog.domain.post.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 작성/수정 시 실행되는 마크다운 요약 추출과 태그 정규화 비용을 측정합니다.
+ *
+ * @author jack8
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostContentBenchmark {
+
+    /** 본문 길이(문단 반복 횟수)별로 측정합니다. */
+    @Param({"1", "20", "200"})
+    public int paragraphs;
+
+    private String markdown;
+
+    @Setup
+    public void setUp() {
+        String paragraph = """
+                ## 트러블슈팅 기록
+
+                **N+1 문제**가 발생해 `fetch join` 으로 해결했습니다. 자세한 내용은 [공식 문서](https://docs.spring.io)를 참고하세요.
+
+                - 원인: 지연 로딩된 연관 엔티티 접근
+                - 해결: 조회 쿼리에 `join fetch` 추가
+
+                ![diagram](http://localhost:9000/team-bucket/diagram.png)
+
+                ```java
+                @Query("select p from Post p join fetch p.member")
+                List<Post> findAllWithMember();
+                ```
+
+                """;
+        markdown = paragraph.repeat(paragraphs);
+    }
+
+    @Benchmark
+    public String extractSummary() {
+        return PostServiceImpl.extractSummary(
+                PostServiceImpl.extractPlainText(PostServiceImpl.MARKDOWN_PARSER.parse(markdown)));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String normalizeTag() {
+        return PostServiceImpl.normalizeTag("  Spring Boot ");
+    }
+}
@@ -0,0 +1,123 @@
+package com.plog.global.response;
+
+import com.plog.domain.comment.dto.CommentInfoRes;
+import com.plog.domain.comment.dto.ReplyInfoRes;
+import com.plog.domain.post.dto.PostListRes;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답을 Spring Data {@link Slice} 그대로 직렬화할 때와 {@link SliceRes}로 직렬화할 때의 비용을 비교합니다.
+ * <p>
+ * 게시글 목록과, 댓글마다 대댓글 미리보기 목록이 중첩된 댓글 목록 두 가지 응답을 측정합니다.
+ * 응답 크기(byte)는 시작 시 한 번 출력합니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SliceResponseBenchmark {
+
+    private static final int COMMENT_PAGE_SIZE = 10;
+    private static final int REPLY_PAGE_SIZE = 5;
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private JsonMapper jsonMapper;
+    private CommonResponse<Slice<PostListRes>> postSlice;
+    private CommonResponse<SliceRes<PostListRes>> postSliceRes;
+    private CommonResponse<Slice<SliceCommentInfoRes>> commentSlice;
+    private CommonResponse<SliceRes<CommentInfoRes>> commentSliceRes;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        LocalDateTime now = LocalDateTime.of(2026, 10, 18, 12, 0);
+        PageRequest feedPage = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createDate"));
+
+        List<PostListRes> posts = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            posts.add(new PostListRes((long) i, "벤치마크 게시글 " + i, "요약 ".repeat(30), i, now, now,
+                    List.of("java", "spring"), "http://localhost:9000/team-bucket/thumb" + i + ".png",
+                    "member" + i, "http://localhost:9000/team-bucket/profile" + i + ".png"));
+        }
+        Slice<PostListRes> feed = new SliceImpl<>(posts, feedPage, true);
+        postSlice = CommonResponse.success(feed, "게시글 목록 조회 성공");
+        postSliceRes = CommonResponse.success(SliceRes.from(feed), "게시글 목록 조회 성공");
+
+        PageRequest commentPage = PageRequest.of(0, COMMENT_PAGE_SIZE, Sort.by(Sort.Direction.ASC, "createDate"));
+        PageRequest replyPage = PageRequest.of(0, REPLY_PAGE_SIZE);
+        List<SliceCommentInfoRes> sliceComments = new ArrayList<>();
+        List<CommentInfoRes> comments = new ArrayList<>();
+        for (int i = 0; i < COMMENT_PAGE_SIZE; i++) {
+            List<ReplyInfoRes> replies = new ArrayList<>();
+            for (int j = 0; j < REPLY_PAGE_SIZE; j++) {
+                replies.add(new ReplyInfoRes(100L * i + j, "대댓글 " + j, i, j, "member" + j, "member" + j + "@plog.com",
+                        "http://localhost:9000/team-bucket/profile" + j + ".png", now, now));
+            }
+            sliceComments.add(new SliceCommentInfoRes(i, "댓글 " + i, i, "member" + i, "member" + i + "@plog.com",
+                    null, 1L, now, now, 8, new SliceImpl<>(replies, replyPage, true)));
+            comments.add(new CommentInfoRes(i, "댓글 " + i, i, "member" + i, "member" + i + "@plog.com",
+                    null, 1L, now, now, 8, new SliceRes<>(replies, true, 1L)));
+        }
+        commentSlice = CommonResponse.success(new SliceImpl<>(sliceComments, commentPage, true), "댓글 조회 성공");
+        commentSliceRes = CommonResponse.success(new SliceRes<>(comments, true, 1L), "댓글 조회 성공");
+
+        System.out.printf("%n[payload bytes, pageSize=%d] posts: Slice=%d, SliceRes=%d / comments: Slice=%d, SliceRes=%d%n",
+                pageSize, serializePostSlice().length, serializePostSliceRes().length,
+                serializeCommentSlice().length, serializeCommentSliceRes().length);
+    }
+
+    @Benchmark
+    public byte[] serializePostSlice() {
+        return jsonMapper.writeValueAsBytes(postSlice);
+    }
+
+    @Benchmark
+    public byte[] serializePostSliceRes() {
+        return jsonMapper.writeValueAsBytes(postSliceRes);
+    }
+
+    @Benchmark
+    public byte[] serializeCommentSlice() {
+        return jsonMapper.writeValueAsBytes(commentSlice);
+    }
+
+    @Benchmark
+    public byte[] serializeCommentSliceRes() {
+        return jsonMapper.writeValueAsBytes(commentSliceRes);
+    }
+
+    /**
+     * 대댓글 미리보기를 {@link Slice}로 담던 기존 댓글 응답 형식입니다.
+     */
+    public record SliceCommentInfoRes(
+            long id,
+            String content,
+            long authorId,
+            String nickname,
+            String email,
+            String profileUrl,
+            long postId,
+            LocalDateTime createDate,
+            LocalDateTime modifyDate,
+            long replyCount,
+            Slice<ReplyInfoRes> previewReplies
+    ) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.plog.global.security;
+
+import com.plog.domain.member.dto.MemberInfoRes;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 인증 요청마다 실행되는 JWT 생성/검증 비용을 측정합니다.
+ *
+ * @author minhee
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+    private JwtUtils jwtUtils;
+    private MemberInfoRes member;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils("benchmark-secret-key-benchmark-secret-key-0123456789", 1_800_000L, 604_800_000L);
+        member = MemberInfoRes.builder()
+                .id(1L)
+                .email("bench@plog.com")
+                .nickname("bench")
+                .build();
+        accessToken = jwtUtils.createAccessToken(member);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtUtils.createAccessToken(member);
+    }
+
+    @Benchmark
+    public Claims parseToken() {
+        return jwtUtils.parseToken(accessToken);
+    }
+}
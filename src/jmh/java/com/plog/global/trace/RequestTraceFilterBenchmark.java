@@ -0,0 +1,68 @@
+package com.plog.global.trace;
+
+import com.plog.global.metrics.QueryCountInspector;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 추적 필터가 요청 하나에 더하는 비용을 측정합니다.
+ * <p>
+ * 필터 체인 끝에서 게시글 상세 조회와 비슷하게 SQL 문 5개를 실행한 것처럼 기록하며,
+ * {@code none}(필터 없음), {@code disabled}, {@code unsampled}(표본 제외), {@code traced}(추적) 네 가지를 비교합니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestTraceFilterBenchmark {
+
+    private static final int STATEMENTS = 5;
+
+    @Param({"none", "disabled", "unsampled", "traced"})
+    public String mode;
+
+    private RequestTraceFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp() {
+        QueryCountInspector inspector = new QueryCountInspector();
+        TraceSessionEventListener listener = new TraceSessionEventListener();
+        chain = (req, res) -> {
+            for (int i = 0; i < STATEMENTS; i++) {
+                inspector.inspect("select p1_0.id,p1_0.title from post p1_0 where p1_0.id=?");
+                listener.jdbcExecuteStatementStart();
+                listener.jdbcExecuteStatementEnd();
+            }
+        };
+        filter = switch (mode) {
+            case "none" -> null;
+            case "disabled" -> new RequestTraceFilter(false, 1.0, Duration.ofSeconds(1), 100, 50);
+            case "unsampled" -> new RequestTraceFilter(true, 0.0, Duration.ofSeconds(1), 100, 50);
+            default -> new RequestTraceFilter(true, 1.0, Duration.ofSeconds(1), 100, 50);
+        };
+        request = new MockHttpServletRequest("GET", "/api/posts/1");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void doFilter() throws Exception {
+        if (filter == null) {
+            chain.doFilter(request, response);
+        } else {
+            filter.doFilter(request, response, chain);
+        }
+    }
+}
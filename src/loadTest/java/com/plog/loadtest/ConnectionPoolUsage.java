@@ -0,0 +1,114 @@
+package com.plog.loadtest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 측정 구간 동안 커넥션 풀별로 커넥션을 얼마나 오래 점유했는지 기록합니다.
+ * <p>
+ * Hikari 가 Micrometer 로 내보내는 {@code hikaricp.connections.usage}(대여부터 반환까지)와
+ * {@code hikaricp.connections.acquire}(대여 대기) 타이머를 읽습니다.
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. 타이머는 초기화할 수 없으므로 측정 시작 시점의 누적 횟수·시간을 빼서 측정 구간의 횟수와 평균을 구합니다. <br>
+ * 2. 백분위와 최댓값은 Micrometer 가 최근 구간(기본 2분) 기준으로 계산한 값이라 예열 구간 일부가 섞일 수 있습니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+final class ConnectionPoolUsage {
+
+    private static final String USAGE = "hikaricp.connections.usage";
+    private static final String ACQUIRE = "hikaricp.connections.acquire";
+    private static final String POOL_TAG = "pool";
+
+    private final MeterRegistry registry;
+    private final Map<String, Totals> usageAtStart;
+    private final Map<String, Totals> acquireAtStart;
+
+    private ConnectionPoolUsage(MeterRegistry registry) {
+        this.registry = registry;
+        this.usageAtStart = totals(registry, USAGE);
+        this.acquireAtStart = totals(registry, ACQUIRE);
+    }
+
+    /**
+     * 지금까지의 누적값을 기준점으로 삼습니다. 예열 구간이 끝났을 때 호출합니다.
+     */
+    static ConnectionPoolUsage start(MeterRegistry registry) {
+        return new ConnectionPoolUsage(registry);
+    }
+
+    /**
+     * 기준점 이후의 풀별 사용량을 풀 이름순으로 반환합니다.
+     */
+    SortedMap<String, Pool> finish() {
+        Map<String, Totals> acquire = totals(registry, ACQUIRE);
+        SortedMap<String, Pool> result = new TreeMap<>();
+        for (Timer usage : registry.find(USAGE).timers()) {
+            String pool = usage.getId().getTag(POOL_TAG);
+            Totals used = Totals.of(usage).minus(usageAtStart.get(pool));
+            Totals waited = acquire.getOrDefault(pool, Totals.EMPTY).minus(acquireAtStart.get(pool));
+            ValueAtPercentile[] percentiles = usage.takeSnapshot().percentileValues();
+            result.put(pool, new Pool(used.count(), used.meanMs(),
+                    percentile(percentiles, 0.5), percentile(percentiles, 0.99),
+                    usage.max(TimeUnit.MILLISECONDS), waited.meanMs()));
+        }
+        return result;
+    }
+
+    private static Map<String, Totals> totals(MeterRegistry registry, String name) {
+        Map<String, Totals> result = new TreeMap<>();
+        for (Timer timer : registry.find(name).timers()) {
+            result.put(timer.getId().getTag(POOL_TAG), Totals.of(timer));
+        }
+        return result;
+    }
+
+    /**
+     * {@code management.metrics.distribution.percentiles}에 설정되지 않은 백분위는 {@code NaN}입니다.
+     */
+    private static double percentile(ValueAtPercentile[] percentiles, double percentile) {
+        return Arrays.stream(percentiles)
+                .filter(value -> value.percentile() == percentile)
+                .mapToDouble(value -> value.value(TimeUnit.MILLISECONDS))
+                .findFirst()
+                .orElse(Double.NaN);
+    }
+
+    /**
+     * @param connections   측정 구간에 반환된 커넥션 수
+     * @param usageMeanMs   커넥션 평균 점유 시간
+     * @param usageP50Ms    커넥션 점유 시간 중앙값 (최근 구간)
+     * @param usageP99Ms    커넥션 점유 시간 99 백분위 (최근 구간)
+     * @param usageMaxMs    커넥션 최대 점유 시간 (최근 구간)
+     * @param acquireMeanMs 커넥션 평균 대여 대기 시간
+     */
+    record Pool(long connections, double usageMeanMs, double usageP50Ms, double usageP99Ms,
+                double usageMaxMs, double acquireMeanMs) {
+    }
+
+    private record Totals(long count, double totalMs) {
+
+        static final Totals EMPTY = new Totals(0, 0);
+
+        static Totals of(Timer timer) {
+            return new Totals(timer.count(), timer.totalTime(TimeUnit.MILLISECONDS));
+        }
+
+        Totals minus(Totals start) {
+            return start == null ? this : new Totals(count - start.count, totalMs - start.totalMs);
+        }
+
+        double meanMs() {
+            return count == 0 ? 0 : totalMs / count;
+        }
+    }
+}
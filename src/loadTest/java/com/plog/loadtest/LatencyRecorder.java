@@ -0,0 +1,74 @@
+package com.plog.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 응답 지연 시간과 실패 건수를 기록합니다.
+ * <p>
+ * 지연 시간은 마이크로초 단위로 HdrHistogram {@link Recorder}에 기록하므로, 여러 가상 사용자가
+ * 잠금 없이 동시에 기록할 수 있습니다. 실패한 요청도 지연 시간에 포함하고 실패 건수를 따로 셉니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+final class LatencyRecorder {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long elapsedNanos, boolean success) {
+        Endpoint target = endpoint(endpoint);
+        target.latency.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+        if (!success) {
+            target.failures.increment();
+        }
+    }
+
+    void recordFailure(String endpoint) {
+        endpoint(endpoint).failures.increment();
+    }
+
+    /**
+     * 지금까지 기록된 값을 버립니다. 예열 구간이 끝났을 때 호출합니다.
+     */
+    void reset() {
+        snapshot();
+    }
+
+    /**
+     * 직전 {@link #reset()} 또는 {@link #snapshot()} 이후 기록된 값을 엔드포인트 이름순으로 반환하고 비웁니다.
+     */
+    SortedMap<String, Snapshot> snapshot() {
+        SortedMap<String, Snapshot> result = new TreeMap<>();
+        endpoints.forEach((name, endpoint) -> result.put(name,
+                new Snapshot(endpoint.latency.getIntervalHistogram(), endpoint.failures.sumThenReset())));
+        return result;
+    }
+
+    private Endpoint endpoint(String name) {
+        return endpoints.computeIfAbsent(name, key -> new Endpoint());
+    }
+
+    /**
+     * 한 엔드포인트의 측정 결과입니다.
+     *
+     * @param latency  마이크로초 단위 지연 시간 분포
+     * @param failures 실패한 요청 수
+     */
+    record Snapshot(Histogram latency, long failures) {
+    }
+
+    private static final class Endpoint {
+        private final Recorder latency = new Recorder(SIGNIFICANT_DIGITS);
+        private final LongAdder failures = new LongAdder();
+    }
+}
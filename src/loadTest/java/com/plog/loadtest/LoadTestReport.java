@@ -0,0 +1,173 @@
+package com.plog.loadtest;
+
+import org.HdrHistogram.Histogram;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트 결과를 실행 간 비교하기 쉬운 형태로 저장합니다.
+ * <p>
+ * 실행 시각처럼 매번 달라지는 값은 넣지 않고, 엔드포인트는 항상 이름순으로 기록하여
+ * 두 실행의 결과 디렉터리를 {@code diff}로 바로 비교할 수 있습니다.
+ *
+ * <p><b>생성 파일:</b><br>
+ * 1. {@code summary.txt}: 엔드포인트별 요청 수, 실패 수, 처리량, 백분위 지연 시간(ms) 표와 커넥션 풀별 점유 시간 표 <br>
+ * 2. {@code summary.json}: 같은 내용을 도구에서 읽기 위한 JSON <br>
+ * 3. {@code <엔드포인트>.hgrm}: HdrHistogram 백분위 분포 (ms)
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+final class LoadTestReport {
+
+    private static final List<Percentile> PERCENTILES = List.of(
+            new Percentile("p50", 50.0), new Percentile("p90", 90.0),
+            new Percentile("p99", 99.0), new Percentile("p99.9", 99.9));
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final LoadTestSettings settings;
+    private final SortedMap<String, LatencyRecorder.Snapshot> endpoints;
+    private final SortedMap<String, ConnectionPoolUsage.Pool> pools;
+    private final double measuredSeconds;
+
+    LoadTestReport(LoadTestSettings settings, SortedMap<String, LatencyRecorder.Snapshot> endpoints,
+                   SortedMap<String, ConnectionPoolUsage.Pool> pools, double measuredSeconds) {
+        this.settings = settings;
+        this.endpoints = endpoints;
+        this.pools = pools;
+        this.measuredSeconds = measuredSeconds;
+    }
+
+    /**
+     * 결과 파일을 모두 쓰고 {@code summary.txt} 내용을 반환합니다.
+     */
+    String write() throws IOException {
+        Path dir = settings.reportDir();
+        Files.createDirectories(dir);
+
+        String summary = summary();
+        Files.writeString(dir.resolve("summary.txt"), summary, StandardCharsets.UTF_8);
+
+        JsonMapper mapper = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+        Files.writeString(dir.resolve("summary.json"), mapper.writeValueAsString(json()), StandardCharsets.UTF_8);
+
+        for (Map.Entry<String, LatencyRecorder.Snapshot> entry : endpoints.entrySet()) {
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(dir.resolve(fileName(entry.getKey()) + ".hgrm")), false, StandardCharsets.UTF_8)) {
+                entry.getValue().latency().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+        return summary;
+    }
+
+    private String summary() {
+        StringBuilder out = new StringBuilder();
+        out.append("# revision=").append(settings.revision())
+                .append(" duration=").append(settings.duration())
+                .append(" warmup=").append(settings.warmup())
+                .append(" virtual-users=").append(settings.virtualUsers())
+                .append('\n');
+        out.append("# mix=").append(mix())
+                .append(" members=").append(settings.members())
+                .append(" posts=").append(settings.posts())
+                .append('\n');
+        out.append(String.format(Locale.ROOT, "%-45s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        endpoints.forEach((name, snapshot) -> {
+            Histogram latency = snapshot.latency();
+            out.append(String.format(Locale.ROOT, "%-45s %9d %7d %9.1f", name,
+                    latency.getTotalCount(), snapshot.failures(), latency.getTotalCount() / measuredSeconds));
+            for (Percentile percentile : PERCENTILES) {
+                out.append(String.format(Locale.ROOT, " %9.2f", millis(latency.getValueAtPercentile(percentile.value()))));
+            }
+            out.append(String.format(Locale.ROOT, " %9.2f%n", millis(latency.getMaxValue())));
+        });
+        out.append('\n');
+        out.append(String.format(Locale.ROOT, "%-45s %11s %14s %13s %13s %13s %16s%n",
+                "connection pool", "connections", "usage-mean(ms)", "usage-p50(ms)", "usage-p99(ms)", "usage-max(ms)",
+                "acquire-mean(ms)"));
+        pools.forEach((name, pool) -> out.append(String.format(Locale.ROOT,
+                "%-45s %11d %14.2f %13.2f %13.2f %13.2f %16.3f%n", name, pool.connections(), pool.usageMeanMs(),
+                pool.usageP50Ms(), pool.usageP99Ms(), pool.usageMaxMs(), pool.acquireMeanMs())));
+        return out.toString();
+    }
+
+    private Map<String, Object> json() {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("revision", settings.revision());
+        root.put("duration", settings.duration().toString());
+        root.put("warmup", settings.warmup().toString());
+        root.put("virtualUsers", settings.virtualUsers());
+        root.put("mix", mix());
+        root.put("members", settings.members());
+        root.put("posts", settings.posts());
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        endpoints.forEach((name, snapshot) -> {
+            Histogram latency = snapshot.latency();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("requests", latency.getTotalCount());
+            result.put("errors", snapshot.failures());
+            result.put("throughput", round(latency.getTotalCount() / measuredSeconds));
+            for (Percentile percentile : PERCENTILES) {
+                result.put(percentile.label() + "Ms", round(millis(latency.getValueAtPercentile(percentile.value()))));
+            }
+            result.put("maxMs", round(millis(latency.getMaxValue())));
+            results.put(name, result);
+        });
+        root.put("endpoints", results);
+
+        Map<String, Object> connectionPools = new LinkedHashMap<>();
+        pools.forEach((name, pool) -> {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("connections", pool.connections());
+            result.put("usageMeanMs", round(pool.usageMeanMs()));
+            result.put("usageP50Ms", round(pool.usageP50Ms()));
+            result.put("usageP99Ms", round(pool.usageP99Ms()));
+            result.put("usageMaxMs", round(pool.usageMaxMs()));
+            result.put("acquireMeanMs", round(pool.acquireMeanMs()));
+            connectionPools.put(name, result);
+        });
+        root.put("connectionPools", connectionPools);
+        return root;
+    }
+
+    private String mix() {
+        return settings.mix().entrySet().stream()
+                .map(entry -> entry.getKey().key() + "=" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    /**
+     * {@code GET /api/posts/{id}} 형태의 엔드포인트 이름을 파일 이름으로 바꿉니다.
+     */
+    static String fileName(String endpoint) {
+        return Arrays.stream(endpoint.toLowerCase(Locale.ROOT).split("[^a-z0-9]+"))
+                .filter(part -> !part.isEmpty())
+                .collect(Collectors.joining("-"));
+    }
+
+    private record Percentile(String label, double value) {
+    }
+}
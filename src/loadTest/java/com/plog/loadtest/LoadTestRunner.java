@@ -0,0 +1,111 @@
+package com.plog.loadtest;
+
+import com.plog.PlogApplication;
+import com.plog.global.security.JwtUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST API 처리량과 엔드포인트별 지연 시간 분포를 측정하는 부하 테스트 실행기입니다. ({@code gradle loadTest})
+ * <p>
+ * 같은 JVM 에서 애플리케이션을 {@code seed,loadtest} 프로필로 띄워 H2 메모리 DB 에 합성 데이터를 만든 뒤,
+ * 가상 사용자들이 설정된 비중에 따라 {@link Scenario}를 반복 실행합니다.
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. 가상 사용자 하나당 가상 스레드 하나를 사용하고, HTTP 클라이언트도 가상 스레드 실행기로 동작합니다. <br>
+ * 2. 예열 구간 동안 기록된 값은 버리고, 측정 구간의 값만 결과에 포함합니다. <br>
+ * 3. 측정 구간의 커넥션 풀 점유 시간은 {@link ConnectionPoolUsage}로 함께 기록합니다. <br>
+ * 4. 결과는 {@link LoadTestReport}가 커밋 해시별 디렉터리에 저장합니다.
+ *
+ * @author Jaewon Ryu
+ * @see LoadTestSettings
+ * @since 2026-10-18
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private static final long EXPIRED_ACCESS_TOKEN_AGE_MILLIS = -60_000L;
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        try (ConfigurableApplicationContext context = SpringApplication.run(PlogApplication.class, args)) {
+            Environment env = context.getEnvironment();
+            LoadTestSettings settings = LoadTestSettings.from(env);
+            URI baseUri = URI.create("http://localhost:" + env.getRequiredProperty("local.server.port") + "/");
+
+            // 재발급 시나리오용: 서버와 같은 키로 서명하되 이미 만료된 액세스 토큰을 만듭니다.
+            JwtUtils expiredTokenIssuer = new JwtUtils(
+                    env.getRequiredProperty("custom.jwt.secretKey"),
+                    EXPIRED_ACCESS_TOKEN_AGE_MILLIS,
+                    env.getRequiredProperty("custom.jwt.refresh-expiration", Long.class));
+
+            String summary = run(settings, baseUri, expiredTokenIssuer, sampleImage(), context.getBean(MeterRegistry.class));
+            log.info("[LoadTestRunner] results written to {}\n{}", settings.reportDir(), summary);
+        }
+    }
+
+    private static String run(LoadTestSettings settings, URI baseUri, JwtUtils expiredTokenIssuer, byte[] image,
+                              MeterRegistry meterRegistry) throws InterruptedException, IOException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        long start = System.nanoTime();
+        long deadline = start + settings.warmup().plus(settings.duration()).toNanos();
+        long measureStart;
+        ConnectionPoolUsage poolUsage;
+
+        log.info("[LoadTestRunner] {} virtual users against {} (warmup {}, duration {})",
+                settings.virtualUsers(), baseUri, settings.warmup(), settings.duration());
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .executor(clientExecutor)
+                     .build()) {
+            try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < settings.virtualUsers(); i++) {
+                    users.execute(new VirtualUser(i, settings, client, baseUri, recorder, expiredTokenIssuer, image, deadline));
+                }
+                TimeUnit.NANOSECONDS.sleep(settings.warmup().toNanos());
+                recorder.reset();
+                poolUsage = ConnectionPoolUsage.start(meterRegistry);
+                measureStart = System.nanoTime();
+            } // 모든 가상 사용자가 종료될 때까지 대기
+        }
+        double measuredSeconds = (System.nanoTime() - measureStart) / 1_000_000_000.0;
+
+        return new LoadTestReport(settings, recorder.snapshot(), poolUsage.finish(), measuredSeconds).write();
+    }
+
+    /**
+     * 업로드 시나리오에 사용할 PNG 이미지를 만듭니다. 리사이즈 경로를 거치도록 일반적인 사진 크기로 생성합니다.
+     */
+    private static byte[] sampleImage() throws IOException {
+        BufferedImage image = new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, Color.ORANGE, 1600, 1200, Color.BLUE));
+        graphics.fillRect(0, 0, 1600, 1200);
+        graphics.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
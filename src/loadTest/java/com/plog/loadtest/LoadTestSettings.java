@@ -0,0 +1,109 @@
+package com.plog.loadtest;
+
+import org.springframework.core.env.Environment;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트 실행 설정입니다.
+ * <p>
+ * {@code application-loadtest.yml}의 {@code loadtest.*} 값과, 데이터 규모를 알기 위한
+ * {@code custom.seed.*} 값을 읽어 구성합니다. Gradle 에서 {@code -Ploadtest.<키>=<값>}으로 덮어쓸 수 있습니다.
+ *
+ * @param duration     측정 구간
+ * @param warmup       결과에서 제외하는 예열 구간
+ * @param virtualUsers 동시에 시나리오를 반복하는 가상 사용자 수
+ * @param randomSeed   가상 사용자별 난수 시드의 기준 값
+ * @param feedPages    피드 시나리오 한 번에 넘겨보는 페이지 수
+ * @param mix          시나리오별 비중
+ * @param members      생성된 회원 수 (회원 ID 는 1부터 연속)
+ * @param posts        생성된 게시글 수 (게시글 ID 는 1부터 연속)
+ * @param postSkew     게시글 선택에 적용할 거듭제곱 분포 지수 (seed 프로필과 동일)
+ * @param revision     결과를 구분하기 위한 커밋 해시
+ * @param reportDir    결과 저장 디렉터리
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+record LoadTestSettings(
+        Duration duration,
+        Duration warmup,
+        int virtualUsers,
+        long randomSeed,
+        int feedPages,
+        Map<Scenario, Integer> mix,
+        long members,
+        long posts,
+        double postSkew,
+        String revision,
+        Path reportDir
+) {
+
+    static LoadTestSettings from(Environment env) {
+        LoadTestSettings settings = new LoadTestSettings(
+                Duration.parse(env.getRequiredProperty("loadtest.duration")),
+                Duration.parse(env.getRequiredProperty("loadtest.warmup")),
+                env.getRequiredProperty("loadtest.virtual-users", Integer.class),
+                env.getRequiredProperty("loadtest.random-seed", Long.class),
+                env.getRequiredProperty("loadtest.feed-pages", Integer.class),
+                parseMix(env.getRequiredProperty("loadtest.mix")),
+                env.getRequiredProperty("custom.seed.members", Long.class),
+                env.getRequiredProperty("custom.seed.posts", Long.class),
+                env.getRequiredProperty("custom.seed.skew.post", Double.class),
+                env.getProperty("loadtest.revision", "local"),
+                Path.of(env.getProperty("loadtest.report-dir", "build/reports/loadtest/local")));
+
+        if (settings.virtualUsers > settings.members) {
+            // 가상 사용자마다 서로 다른 회원으로 로그인해야 리프레시 토큰이 서로 덮어쓰이지 않습니다.
+            throw new IllegalArgumentException("virtual-users(" + settings.virtualUsers
+                    + ") must not exceed seeded members(" + settings.members + ")");
+        }
+        return settings;
+    }
+
+    /**
+     * 비중에 따라 다음에 실행할 시나리오를 고릅니다.
+     */
+    Scenario pick(SplittableRandom random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int point = random.nextInt(total);
+        for (Map.Entry<Scenario, Integer> entry : mix.entrySet()) {
+            point -= entry.getValue();
+            if (point < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    /**
+     * 거듭제곱 분포로 게시글 ID 를 고릅니다. 앞쪽 ID 일수록 자주 선택되어 바이럴 게시글을 재현합니다.
+     */
+    long pickPostId(SplittableRandom random) {
+        return 1 + Math.min(posts - 1, (long) (posts * Math.pow(random.nextDouble(), postSkew)));
+    }
+
+    private static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .forEach(entry -> {
+                    String[] pair = entry.split("=", 2);
+                    int weight = pair.length == 2 ? Integer.parseInt(pair[1].trim()) : 0;
+                    if (weight < 0) {
+                        throw new IllegalArgumentException("negative weight in loadtest.mix: " + entry);
+                    }
+                    mix.put(Scenario.fromKey(pair[0].trim()), weight);
+                });
+        mix.values().removeIf(weight -> weight == 0);
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix has no scenario with positive weight: " + value);
+        }
+        return mix;
+    }
+}
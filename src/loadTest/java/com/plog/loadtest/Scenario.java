@@ -0,0 +1,91 @@
+package com.plog.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+
+/**
+ * 가상 사용자가 반복하는 부하 테스트 시나리오입니다.
+ * <p>
+ * 각 시나리오는 하나 이상의 요청으로 구성되며, 요청마다 경로 템플릿 단위로 지연 시간이 기록됩니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+enum Scenario {
+
+    /** 최신 게시글 목록을 여러 페이지 넘겨봅니다. */
+    FEED("feed") {
+        @Override
+        void execute(VirtualUser user) throws IOException, InterruptedException {
+            for (int page = 0; page < user.settings().feedPages(); page++) {
+                user.get("GET /api/posts", "/api/posts?page=" + page + "&size=10", false);
+            }
+        }
+    },
+
+    /** 게시글 상세(첫 댓글 페이지 포함)를 보고 다음 댓글 페이지를 불러옵니다. */
+    POST_DETAIL("post-detail") {
+        @Override
+        void execute(VirtualUser user) throws IOException, InterruptedException {
+            long postId = user.pickPostId();
+            user.get("GET /api/posts/{id}", "/api/posts/" + postId, false);
+            user.get("GET /api/posts/{postId}/comments", "/api/posts/" + postId + "/comments?pageNumber=1", false);
+        }
+    },
+
+    /** 인기 게시글에 댓글을 작성합니다. */
+    COMMENT_WRITE("comment-write") {
+        @Override
+        void execute(VirtualUser user) throws IOException, InterruptedException {
+            user.ensureSignedIn();
+            long postId = user.pickPostId();
+            user.postJson("POST /api/posts/{postId}/comments", "/api/posts/" + postId + "/comments",
+                    "{\"content\":\"load test comment from member " + user.memberId() + "\"}");
+        }
+    },
+
+    /** 다시 로그인한 뒤, 만료된 액세스 토큰과 리프레시 토큰으로 재발급을 받습니다. */
+    AUTH("auth") {
+        @Override
+        void execute(VirtualUser user) throws IOException, InterruptedException {
+            if (user.signIn()) {
+                HttpResponse<?> response = user.getWithExpiredAccessToken(
+                        "GET /api/posts/templates (reissue)", "/api/posts/templates");
+                // 재발급 없이 응답만 성공한 경우도 실패로 집계합니다.
+                if (response != null && response.statusCode() < 400
+                        && response.headers().firstValue("Authorization").isEmpty()) {
+                    user.recordFailure("GET /api/posts/templates (reissue)");
+                }
+            }
+        }
+    },
+
+    /** 이미지를 업로드합니다. 저장소는 NoOpStorage 이므로 디코딩·리사이즈·DB 기록 비용만 측정됩니다. */
+    IMAGE_UPLOAD("image-upload") {
+        @Override
+        void execute(VirtualUser user) throws IOException, InterruptedException {
+            user.ensureSignedIn();
+            user.uploadImage("POST /api/images", "/api/images");
+        }
+    };
+
+    private final String key;
+
+    Scenario(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    abstract void execute(VirtualUser user) throws IOException, InterruptedException;
+
+    static Scenario fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("unknown scenario in loadtest.mix: " + key));
+    }
+}
@@ -0,0 +1,184 @@
+package com.plog.loadtest;
+
+import com.plog.domain.member.dto.MemberInfoRes;
+import com.plog.global.security.JwtUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+/**
+ * 정해진 시각까지 시나리오를 반복 실행하는 가상 사용자입니다.
+ * <p>
+ * 가상 사용자마다 서로 다른 시드 회원({@code seed-<id>@plog.dev})으로 로그인하며,
+ * 발급받은 액세스 토큰과 리프레시 토큰을 세션처럼 보관합니다. 하나의 가상 스레드에서 실행됩니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+@Slf4j
+final class VirtualUser implements Runnable {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String SEED_PASSWORD = "password";
+    private static final String BOUNDARY = "----plog-load-test-boundary";
+
+    private final LoadTestSettings settings;
+    private final HttpClient client;
+    private final URI baseUri;
+    private final LatencyRecorder recorder;
+    private final JwtUtils expiredTokenIssuer;
+    private final byte[] uploadBody;
+    private final long deadlineNanos;
+    private final SplittableRandom random;
+    private final long memberId;
+
+    private String accessToken;
+    private String refreshToken;
+
+    VirtualUser(int index, LoadTestSettings settings, HttpClient client, URI baseUri, LatencyRecorder recorder,
+                JwtUtils expiredTokenIssuer, byte[] uploadImage, long deadlineNanos) {
+        this.settings = settings;
+        this.client = client;
+        this.baseUri = baseUri;
+        this.recorder = recorder;
+        this.expiredTokenIssuer = expiredTokenIssuer;
+        this.uploadBody = multipart(uploadImage);
+        this.deadlineNanos = deadlineNanos;
+        this.random = new SplittableRandom(settings.randomSeed() + index);
+        this.memberId = index + 1L;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (System.nanoTime() - deadlineNanos < 0) {
+                settings.pick(random).execute(this);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("[VirtualUser#run] member {} stopped: {}", memberId, e.toString());
+        }
+    }
+
+    LoadTestSettings settings() {
+        return settings;
+    }
+
+    long memberId() {
+        return memberId;
+    }
+
+    long pickPostId() {
+        return settings.pickPostId(random);
+    }
+
+    HttpResponse<Void> get(String endpoint, String path, boolean authenticated) throws InterruptedException {
+        HttpRequest.Builder request = request(path).GET();
+        if (authenticated) {
+            request.header("Authorization", "Bearer " + accessToken);
+        }
+        return send(endpoint, request);
+    }
+
+    HttpResponse<Void> postJson(String endpoint, String path, String json) throws InterruptedException {
+        return send(endpoint, request(path)
+                .header("Authorization", "Bearer " + accessToken)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    HttpResponse<Void> uploadImage(String endpoint, String path) throws InterruptedException {
+        return send(endpoint, request(path)
+                .header("Authorization", "Bearer " + accessToken)
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(uploadBody)));
+    }
+
+    /**
+     * 만료된 액세스 토큰과 리프레시 토큰 쿠키로 요청하여, 인증 필터의 재발급 경로를 거치게 합니다.
+     */
+    HttpResponse<Void> getWithExpiredAccessToken(String endpoint, String path) throws InterruptedException {
+        String expired = expiredTokenIssuer.createAccessToken(MemberInfoRes.builder()
+                .id(memberId)
+                .email(email())
+                .nickname("seed-" + memberId)
+                .build());
+        return send(endpoint, request(path)
+                .header("Authorization", "Bearer " + expired)
+                .header("Cookie", "refreshToken=" + refreshToken)
+                .GET());
+    }
+
+    /**
+     * 시드 회원으로 로그인하고 토큰을 보관합니다.
+     *
+     * @return 로그인 성공 여부
+     */
+    boolean signIn() throws InterruptedException {
+        String json = "{\"email\":\"" + email() + "\",\"password\":\"" + SEED_PASSWORD + "\"}";
+        HttpResponse<Void> response = send("POST /api/members/sign-in", request("/api/members/sign-in")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)));
+        if (response == null || response.statusCode() >= 400) {
+            return false;
+        }
+        accessToken = response.headers().firstValue("Authorization")
+                .map(value -> value.substring("Bearer ".length()))
+                .orElse(null);
+        refreshToken = response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith("refreshToken="))
+                .map(cookie -> cookie.substring("refreshToken=".length()).split(";", 2)[0])
+                .findFirst()
+                .orElse(null);
+        return accessToken != null && refreshToken != null;
+    }
+
+    void ensureSignedIn() throws InterruptedException {
+        if (accessToken == null) {
+            signIn();
+        }
+    }
+
+    void recordFailure(String endpoint) {
+        recorder.recordFailure(endpoint);
+    }
+
+    private HttpResponse<Void> send(String endpoint, HttpRequest.Builder request) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            recorder.record(endpoint, System.nanoTime() - start, response.statusCode() < 400);
+            return response;
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private String email() {
+        return "seed-" + memberId + "@plog.dev";
+    }
+
+    private static byte[] multipart(byte[] image) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"load-test.png\"\r\n"
+                + "Content-Type: image/png\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(image);
+        body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+}
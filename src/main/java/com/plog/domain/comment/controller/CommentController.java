@@ -7,10 +7,10 @@ import com.plog.domain.comment.dto.ReplyInfoRes;
 import com.plog.domain.comment.service.CommentService;
 import com.plog.global.response.CommonResponse;
 import com.plog.global.response.Response;
+import com.plog.global.response.SliceRes;
 import com.plog.global.security.SecurityUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -64,12 +64,12 @@ public class CommentController {
      */
 
     @GetMapping({"posts/{postId}/comments"})
-    public ResponseEntity<Response<Slice<CommentInfoRes>>> getComments(
+    public ResponseEntity<Response<SliceRes<CommentInfoRes>>> getComments(
             @PathVariable Long postId,
             @RequestParam(name = "pageNumber", defaultValue = "0") int pageNumber,
             @AuthenticationPrincipal SecurityUser securityUser
     ) {
-        Slice<CommentInfoRes> commentList = commentService.getCommentsByPostId(postId, pageNumber);
+        SliceRes<CommentInfoRes> commentList = commentService.getCommentsByPostId(postId, pageNumber);
 
         return ResponseEntity.ok(CommonResponse.success(commentList, "댓글 조회 성공"));
     }
@@ -83,7 +83,7 @@ public class CommentController {
      * @return 페이징된 대댓글 정보와 조회 성공 메시지.
      */
     @GetMapping({"/comments/{commentId}/replies"})
-    public ResponseEntity<Response<Slice<ReplyInfoRes>>> getReplies(
+    public ResponseEntity<Response<SliceRes<ReplyInfoRes>>> getReplies(
             @PathVariable Long commentId,
             @RequestParam(name = "pageNumber", defaultValue = "0") int pageNumber,
             @AuthenticationPrincipal SecurityUser securityUser
@@ -91,7 +91,7 @@ public class CommentController {
 
         Long currentMemberId = (securityUser != null) ? securityUser.getId() : null;
 
-        Slice<ReplyInfoRes> replyList = commentService.getRepliesByCommentId(commentId, pageNumber);
+        SliceRes<ReplyInfoRes> replyList = commentService.getRepliesByCommentId(commentId, pageNumber);
 
         return ResponseEntity.ok(CommonResponse.success(replyList, "댓글 조회 성공"));
     }
@@ -1,7 +1,7 @@
 package com.plog.domain.comment.dto;
 
 import com.plog.domain.comment.entity.Comment;
-import org.springframework.data.domain.Slice;
+import com.plog.global.response.SliceRes;
 
 import java.time.LocalDateTime;
 
@@ -13,7 +13,7 @@ import java.time.LocalDateTime;
  * </p>
  *
  * <p><b>주요 생성자:</b><br>
- * {@link #CommentInfoRes(Comment, Slice<ReplyInfoRes>)} <br>
+ * {@link #CommentInfoRes(Comment, SliceRes<ReplyInfoRes>)} <br>
  * 댓글 엔티티 {@link Comment}를 기반으로
  * 클라이언트 응답에 필요한 데이터만을 매핑하여 생성한다.
  * </p>
@@ -38,9 +38,9 @@ public record CommentInfoRes(
         LocalDateTime createDate,
         LocalDateTime modifyDate,
         long replyCount,
-        Slice<ReplyInfoRes> previewReplies
+        SliceRes<ReplyInfoRes> previewReplies
 ) {
-    public CommentInfoRes(Comment comment, Slice<ReplyInfoRes> previewReplies) {
+    public CommentInfoRes(Comment comment, SliceRes<ReplyInfoRes> previewReplies) {
         this(
                 comment.getId(),
                 comment.getContent(),
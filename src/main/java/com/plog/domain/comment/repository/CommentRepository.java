@@ -8,6 +8,9 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * <p>
  * Spring Data JPA의 {@link JpaRepository}를 상속하여
@@ -44,6 +47,25 @@ public interface CommentRepository extends JpaRepository<Comment, Long>{
             "order by r.createDate asc")
     Slice<Comment> findRepliesWithMemberAndImageByParentId(@Param("parentId") Long parentId, Pageable pageable);
 
+    /**
+     * 여러 부모 댓글의 대댓글 중 작성 순서상 앞의 {@code limit}개씩의 ID 를 한 번에 조회합니다.
+     * <p>
+     * 댓글마다 대댓글 미리보기를 따로 조회하는 N+1 문제를 막기 위해 윈도우 함수를 사용합니다.
+     */
+    @Query(value = "select t.id from (" +
+            "select c.id as id, row_number() over (partition by c.parent_id order by c.create_date asc, c.id asc) as rn " +
+            "from comment c where c.parent_id in (:parentIds)" +
+            ") t where t.rn <= :limit",
+            nativeQuery = true)
+    List<Long> findPreviewReplyIds(@Param("parentIds") Collection<Long> parentIds, @Param("limit") int limit);
+
+    @Query("select r from Comment r " +
+            "join fetch r.author m " +
+            "left join fetch m.profileImage i " +
+            "where r.id in :ids " +
+            "order by r.createDate asc, r.id asc")
+    List<Comment> findAllWithMemberAndImageByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * 특정 게시글의 모든 대댓글(자식)을 먼저 삭제합니다.
      */
@@ -3,7 +3,7 @@ package com.plog.domain.comment.service;
 import com.plog.domain.comment.dto.CommentCreateReq;
 import com.plog.domain.comment.dto.CommentInfoRes;
 import com.plog.domain.comment.dto.ReplyInfoRes;
-import org.springframework.data.domain.Slice;
+import com.plog.global.response.SliceRes;
 
 
 /**
@@ -68,7 +68,7 @@ public interface CommentService {
      * @param pageNumber 조회할 댓글 pageNumber
      * @return 댓글 목록 응답 DTO 슬라이스
      */
-    Slice<CommentInfoRes> getCommentsByPostId(Long postId, int pageNumber);
+    SliceRes<CommentInfoRes> getCommentsByPostId(Long postId, int pageNumber);
 
 
     /**
@@ -83,7 +83,7 @@ public interface CommentService {
      * @param pageNumber 조회할 대댓글 pageNumber
      * @return 대댓글 목록 응답 DTO 슬라이스
      */
-    Slice<ReplyInfoRes> getRepliesByCommentId(Long commentId, int pageNumber);
+    SliceRes<ReplyInfoRes> getRepliesByCommentId(Long commentId, int pageNumber);
 
 
     /**
@@ -16,6 +16,7 @@ import com.plog.global.exception.errorCode.PostErrorCode;
 import com.plog.global.exception.exceptions.AuthException;
 import com.plog.global.exception.exceptions.CommentException;
 import com.plog.global.exception.exceptions.PostException;
+import com.plog.global.response.SliceRes;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
@@ -27,6 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepository;
+    private final ReplyPreviewLoader replyPreviewLoader;
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
 
@@ -73,23 +75,9 @@ public class CommentServiceImpl implements CommentService {
         return commentRepository.save(comment).getId();
     }
 
-    //부모 댓글과 prefetch 자식 댓글을 하나의 DTO로 바꾸는 로직
-    private CommentInfoRes convertToCommentInfoRes(Comment comment) {
-
-        Pageable replyPageable = PageRequest.of(
-                0,
-                CommentConstants.REPLY_PAGE_SIZE,
-                Sort.by("createDate").ascending()
-        );
-
-        Slice<Comment> replySlice = commentRepository.findRepliesWithMemberAndImageByParentId(comment.getId(), replyPageable);
-
-        return new CommentInfoRes(comment, replySlice.map(ReplyInfoRes::new));
-    }
-
     @Override
     @Transactional(readOnly = true)
-    public Slice<CommentInfoRes> getCommentsByPostId(Long postId, int pageNumber) {
+    public SliceRes<CommentInfoRes> getCommentsByPostId(Long postId, int pageNumber) {
 
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new PostException(
@@ -106,12 +94,12 @@ public class CommentServiceImpl implements CommentService {
 
         Slice<Comment> comments = commentRepository.findCommentsWithMemberAndImageByPostId(postId, pageable);
 
-        return comments.map(this::convertToCommentInfoRes);
+        return replyPreviewLoader.attachPreviews(comments);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Slice<ReplyInfoRes> getRepliesByCommentId(Long commentId, int pageNumber) {
+    public SliceRes<ReplyInfoRes> getRepliesByCommentId(Long commentId, int pageNumber) {
 
         Comment parent = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CommentException(CommentErrorCode.COMMENT_NOT_FOUND,
@@ -126,7 +114,7 @@ public class CommentServiceImpl implements CommentService {
 
         Slice<Comment> replies = commentRepository.findRepliesWithMemberAndImageByParentId(commentId, pageable);
 
-        return replies.map(ReplyInfoRes::new);
+        return SliceRes.from(replies.map(ReplyInfoRes::new));
     }
 
     @Override
@@ -0,0 +1,94 @@
+package com.plog.domain.comment.service;
+
+import com.plog.domain.comment.constant.CommentConstants;
+import com.plog.domain.comment.dto.CommentInfoRes;
+import com.plog.domain.comment.dto.ReplyInfoRes;
+import com.plog.domain.comment.entity.Comment;
+import com.plog.domain.comment.repository.CommentRepository;
+import com.plog.global.jfr.CommentPageAssemblyEvent;
+import com.plog.global.response.SliceRes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 목록에 대댓글 미리보기를 붙여 {@link CommentInfoRes}로 변환하는 컴포넌트입니다.
+ * <p>
+ * 댓글마다 대댓글을 따로 조회하면 댓글 수만큼 쿼리가 추가로 실행되므로,
+ * 페이지에 포함된 모든 댓글의 미리보기 대댓글을 ID 조회 1회와 엔티티 조회 1회로 가져옵니다.
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. 부모 댓글별로 {@code REPLY_PAGE_SIZE + 1}개까지의 대댓글 ID 를 조회합니다. (다음 페이지 여부 확인용) <br>
+ * 2. 해당 대댓글을 작성자, 프로필 이미지와 함께 한 번에 조회합니다. <br>
+ * 3. 부모 댓글별로 묶어 첫 페이지 {@link SliceRes}로 변환합니다. <br>
+ * 4. 조립에 걸린 시간과 댓글·대댓글 수를 {@link CommentPageAssemblyEvent} JFR 이벤트로 기록합니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * {@code @Component}로 등록되며, 게시글 상세 조회와 댓글 목록 조회에서 함께 사용합니다.
+ *
+ * @author njwwn
+ * @see CommentRepository#findPreviewReplyIds
+ * @since 2026-10-18
+ */
+@Component
+@RequiredArgsConstructor
+public class ReplyPreviewLoader {
+
+    private final CommentRepository commentRepository;
+
+    /**
+     * 댓글 슬라이스의 각 댓글에 대댓글 미리보기를 붙여 반환합니다.
+     *
+     * @param comments 부모 댓글 슬라이스
+     * @return 대댓글 미리보기가 포함된 댓글 응답 슬라이스
+     */
+    public SliceRes<CommentInfoRes> attachPreviews(Slice<Comment> comments) {
+        CommentPageAssemblyEvent event = new CommentPageAssemblyEvent();
+        event.begin();
+
+        Map<Long, List<Comment>> repliesByParent = loadReplies(comments.getContent());
+        SliceRes<CommentInfoRes> page = SliceRes.from(comments.map(comment -> {
+            List<Comment> replies = repliesByParent.getOrDefault(comment.getId(), List.of());
+            boolean hasNext = replies.size() > CommentConstants.REPLY_PAGE_SIZE;
+            List<ReplyInfoRes> preview = replies.stream()
+                    .limit(CommentConstants.REPLY_PAGE_SIZE)
+                    .map(ReplyInfoRes::new)
+                    .toList();
+            // 미리보기는 대댓글 첫 페이지(0)이므로, 다음 요청은 1 페이지부터입니다.
+            return new CommentInfoRes(comment, new SliceRes<>(preview, hasNext, hasNext ? 1L : null));
+        }));
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.page = comments.getNumber();
+            event.comments = comments.getNumberOfElements();
+            event.replies = repliesByParent.values().stream().mapToInt(List::size).sum();
+            event.commit();
+        }
+        return page;
+    }
+
+    private Map<Long, List<Comment>> loadReplies(List<Comment> parents) {
+        if (parents.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> parentIds = parents.stream().map(Comment::getId).toList();
+        List<Long> replyIds = commentRepository.findPreviewReplyIds(parentIds, CommentConstants.REPLY_PAGE_SIZE + 1);
+        if (replyIds.isEmpty()) {
+            return Map.of();
+        }
+
+        // 조회 결과가 작성 순으로 정렬되어 있으므로, 부모별 목록도 작성 순서를 유지합니다.
+        Map<Long, List<Comment>> repliesByParent = new HashMap<>();
+        for (Comment reply : commentRepository.findAllWithMemberAndImageByIdIn(replyIds)) {
+            repliesByParent.computeIfAbsent(reply.getParent().getId(), k -> new ArrayList<>()).add(reply);
+        }
+        return repliesByParent;
+    }
+}
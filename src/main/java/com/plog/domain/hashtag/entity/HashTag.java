@@ -1,5 +1,6 @@
 package com.plog.domain.hashtag.entity;
 
+import com.plog.global.config.SecondLevelCacheConfig;
 import com.plog.global.jpa.entity.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -7,13 +8,21 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 // 데이터의 중복을 막고, 효율적으로 관리하기 위해서 해시태그 이름에 유니크 제약조건을 추가합니다.
+// 생성 후 변경되지 않으므로 READ_ONLY 2차 캐시에 보관하고, 이름을 자연 키로 조회합니다.
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = SecondLevelCacheConfig.HASH_TAG_REGION)
+@NaturalIdCache(region = SecondLevelCacheConfig.HASH_TAG_NATURAL_ID_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class HashTag extends BaseEntity {
 
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String name;
 
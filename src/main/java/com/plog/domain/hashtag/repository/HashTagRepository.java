@@ -5,6 +5,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 
-public interface HashTagRepository extends JpaRepository<HashTag, Long> {
+public interface HashTagRepository extends JpaRepository<HashTag, Long>, HashTagRepositoryCustom {
     Optional<HashTag> findByName(String name);
 }
@@ -0,0 +1,23 @@
+package com.plog.domain.hashtag.repository;
+
+import com.plog.domain.hashtag.entity.HashTag;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 자연 키(이름)로 해시태그를 조회하는 저장소 확장입니다.
+ * <p>
+ * 2차 캐시에 있는 이름은 DB 를 거치지 않고, 캐시에 없는 이름만 한 번에 조회합니다.
+ *
+ * @author Jaewon Ryu
+ * @see HashTagRepositoryCustomImpl
+ * @since 2026-10-18
+ */
+public interface HashTagRepositoryCustom {
+
+    /**
+     * 주어진 이름의 해시태그 중 존재하는 것만 반환합니다.
+     */
+    List<HashTag> findAllByNameIn(Collection<String> names);
+}
@@ -0,0 +1,54 @@
+package com.plog.domain.hashtag.repository;
+
+import com.plog.domain.hashtag.entity.HashTag;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.NaturalIdResolutions;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+@Transactional(readOnly = true)
+class HashTagRepositoryCustomImpl implements HashTagRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<HashTag> findAllByNameIn(Collection<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getEntityPersister(HashTag.class.getName(), null);
+        NaturalIdResolutions resolutions = session.getPersistenceContextInternal().getNaturalIdResolutions();
+
+        // 다건 자연 키 조회는 ID 가 캐시에 있어도 엔티티를 영속성 컨텍스트에서만 찾으므로,
+        // 캐시에서 ID 를 찾은 이름은 ID 로(엔티티 캐시 사용), 나머지만 자연 키로 한 번에 조회합니다.
+        List<Object> cachedIds = new ArrayList<>();
+        List<String> unresolved = new ArrayList<>();
+        for (String name : names) {
+            Object id = resolutions.findCachedIdByNaturalId(name, persister);
+            if (id != null) {
+                cachedIds.add(id);
+            } else {
+                unresolved.add(name);
+            }
+        }
+
+        List<HashTag> hashTags = new ArrayList<>(names.size());
+        if (!cachedIds.isEmpty()) {
+            hashTags.addAll(session.findMultiple(HashTag.class, cachedIds));
+        }
+        if (!unresolved.isEmpty()) {
+            hashTags.addAll(session.byMultipleNaturalId(HashTag.class).multiLoad(unresolved));
+        }
+        hashTags.removeIf(Objects::isNull);
+        return hashTags;
+    }
+}
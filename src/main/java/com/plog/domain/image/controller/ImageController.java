@@ -1,14 +1,20 @@
 package com.plog.domain.image.controller;
 
 import com.plog.domain.image.dto.ImageUploadRes;
+import com.plog.domain.image.dto.ImageUploadSessionReq;
+import com.plog.domain.image.dto.ImageUploadSessionRes;
 import com.plog.domain.image.service.ImageService;
+import com.plog.domain.image.service.ImageUploadSessionService;
+import com.plog.global.bulkhead.BulkheadExecutor;
 import com.plog.global.response.CommonResponse;
 import com.plog.global.security.SecurityUser;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -23,7 +29,8 @@ import java.util.List;
  * {@code @RestController}가 적용되어 모든 메서드의 반환값이 Response Body로 직렬화됩니다.
  *
  * <p><b>주요 생성자:</b><br>
- * {@code ImageController(ImageService imageService)} <br>
+ * {@code ImageController(ImageService imageService, ImageUploadSessionService imageUploadSessionService,
+ * BulkheadExecutor uploadExecutor)} <br>
  * {@code @RequiredArgsConstructor}를 통해 서비스 빈을 주입받습니다.
  *
  * @author Jaewon Ryu
@@ -35,6 +42,8 @@ import java.util.List;
 public class ImageController {
 
     private final ImageService imageService;
+    private final ImageUploadSessionService imageUploadSessionService;
+    private final BulkheadExecutor uploadExecutor;
 
     /**
      * 단일 이미지를 업로드합니다.
@@ -42,40 +51,47 @@ public class ImageController {
      * <b>API:</b> [POST] /api/images <br>
      * <b>Content-Type:</b> multipart/form-data
      *
+     * 업로드 처리는 업로드 전용 스레드 풀({@link BulkheadExecutor})에서 실행되며, 한도를 넘으면 503 을 반환합니다.
+     *
      * @param file 업로드할 이미지 파일 (key: "file")
      * @return 200 OK 상태 코드와 함께 업로드된 이미지 URL을 반환
      */
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<CommonResponse<ImageUploadRes>> uploadImage(
+    public WebAsyncTask<ResponseEntity<CommonResponse<ImageUploadRes>>> uploadImage(
             @RequestPart("file") MultipartFile file,
             @AuthenticationPrincipal SecurityUser securityUser) {
 
         Long memberId = securityUser.getId();
 
+        return uploadExecutor.submit(() -> {
             ImageUploadRes result = imageService.uploadImage(file, memberId);
 
             return ResponseEntity.ok(
                     CommonResponse.success(result, "이미지 업로드 성공")
             );
-
+        });
     }
+
     /**
      * 다중 이미지를 업로드합니다.
      * <p>
      * <b>API:</b> [POST] /api/images/bulk <br>
      * <b>Content-Type:</b> multipart/form-data
      *
+     * 업로드 처리는 업로드 전용 스레드 풀({@link BulkheadExecutor})에서 실행되며, 한도를 넘으면 503 을 반환합니다.
+     *
      * @param files 업로드할 이미지 파일 리스트 (key: "files")
      * @return 200 OK 상태 코드와 함께 성공 URL 및 실패 파일명 목록을 반환
      */
     @PostMapping(value = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<CommonResponse<ImageUploadRes>> uploadImages(
+    public WebAsyncTask<ResponseEntity<CommonResponse<ImageUploadRes>>> uploadImages(
             @RequestParam("files") List<MultipartFile> files,
             @AuthenticationPrincipal SecurityUser securityUser) {
 
         Long memberId = securityUser.getId();
 
+        return uploadExecutor.submit(() -> {
             ImageUploadRes result = imageService.uploadImages(files, memberId);
 
             String message = result.failedFilenames().isEmpty()
@@ -85,6 +101,45 @@ public class ImageController {
                     result.failedFilenames().size());
 
             return ResponseEntity.ok(CommonResponse.success(result, message));
+        });
+    }
+
+    /**
+     * 직접 업로드(Presigned URL) 세션을 발급합니다.
+     * <p>
+     * <b>API:</b> [POST] /api/images/upload-sessions <br>
+     * 클라이언트는 응답의 {@code uploadUrl}로 파일을 PUT 요청으로 직접 업로드한 뒤 완료 API 를 호출해야 합니다.
+     *
+     * @param request 업로드할 파일의 이름, Content-Type, 크기
+     * @return 200 OK 상태 코드와 함께 세션 ID, 업로드 URL, 만료 시각을 반환
+     */
+    @PostMapping(value = "/upload-sessions", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CommonResponse<ImageUploadSessionRes>> createUploadSession(
+            @Valid @RequestBody ImageUploadSessionReq request,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+
+        ImageUploadSessionRes result = imageUploadSessionService.createSession(request, securityUser.getId());
+
+        return ResponseEntity.ok(CommonResponse.success(result, "업로드 URL 발급 성공"));
+    }
+
+    /**
+     * 직접 업로드를 완료 처리합니다.
+     * <p>
+     * <b>API:</b> [POST] /api/images/upload-sessions/{imageId}/complete <br>
+     * 스토리지에 업로드된 파일이 세션 발급 시 선언한 크기와 형식과 일치하는지 검증하고,
+     * 검증된 파일을 서버가 지정한 경로에 저장합니다. 응답의 URL 만 이미지 주소로 사용할 수 있습니다.
+     *
+     * @param imageId 업로드 세션(이미지) ID
+     * @return 200 OK 상태 코드와 함께 업로드된 이미지 URL을 반환
+     */
+    @PostMapping("/upload-sessions/{imageId}/complete")
+    public ResponseEntity<CommonResponse<ImageUploadRes>> completeUploadSession(
+            @PathVariable Long imageId,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+
+        ImageUploadRes result = imageUploadSessionService.completeSession(imageId, securityUser.getId());
 
+        return ResponseEntity.ok(CommonResponse.success(result, "이미지 업로드 성공"));
     }
-}
\ No newline at end of file
+}
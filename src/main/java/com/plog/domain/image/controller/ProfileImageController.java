@@ -2,6 +2,7 @@ package com.plog.domain.image.controller;
 
 import com.plog.domain.image.dto.ProfileImageUploadRes;
 import com.plog.domain.image.service.ProfileImageService;
+import com.plog.global.bulkhead.BulkheadExecutor;
 import com.plog.global.response.CommonResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -9,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
@@ -22,7 +24,7 @@ import org.springframework.web.multipart.MultipartFile;
  * {@code @RestController}가 적용되어 모든 메서드의 반환값이 Response Body로 직렬화됩니다.
  *
  * <p><b>주요 생성자:</b><br>
- * {@code ProfileImageController(ProfileImageService profileImageService)} <br>
+ * {@code ProfileImageController(ProfileImageService profileImageService, BulkheadExecutor uploadExecutor)} <br>
  * {@code @RequiredArgsConstructor}를 통해 서비스 빈을 주입받습니다.
  *
  * @author Jaewon Ryu
@@ -35,25 +37,29 @@ import org.springframework.web.multipart.MultipartFile;
 public class ProfileImageController {
 
     private final ProfileImageService profileImageService;
+    private final BulkheadExecutor uploadExecutor;
 
     /**
      * 프로필 이미지 업로드 (수정)
      * [POST] /api/members/{memberId}/profile-image
+     * 업로드 처리는 업로드 전용 스레드 풀({@link BulkheadExecutor})에서 실행됩니다.
      */
     @Operation(summary = "프로필 이미지 업로드", description = "사용자의 프로필 이미지를 업로드하거나 교체합니다.")
     @PostMapping(
         value = "/{memberId}/profile-image", 
         consumes = MediaType.MULTIPART_FORM_DATA_VALUE
     )
-    public ResponseEntity<CommonResponse<ProfileImageUploadRes>> uploadProfileImage(
+    public WebAsyncTask<ResponseEntity<CommonResponse<ProfileImageUploadRes>>> uploadProfileImage(
             @PathVariable Long memberId,
             @RequestPart("file") MultipartFile file
     ) {
-        ProfileImageUploadRes response = profileImageService.uploadProfileImage(memberId, file);
+        return uploadExecutor.submit(() -> {
+            ProfileImageUploadRes response = profileImageService.uploadProfileImage(memberId, file);
 
-        return ResponseEntity.ok(
-            CommonResponse.success(response, "프로필 이미지가 성공적으로 변경되었습니다.")
-        );
+            return ResponseEntity.ok(
+                CommonResponse.success(response, "프로필 이미지가 성공적으로 변경되었습니다.")
+            );
+        });
     }
 
     /**
@@ -0,0 +1,25 @@
+package com.plog.domain.image.dto;
+
+import java.util.List;
+
+/**
+ * 다중 이미지 삭제 작업 완료 후 반환되는 응답 DTO입니다.
+ * <p>
+ * {@link ImageUploadRes}와 같은 형태로, 삭제에 성공한 URL과 실패한 URL을 구분하여 제공합니다.
+ * 존재하지 않는 이미지, 삭제 권한이 없는 이미지, 스토리지 삭제에 실패한 이미지는 {@code failedUrls}에 포함됩니다.
+ *
+ * <p><b>주요 필드:</b><br>
+ * {@code successUrls}: 삭제에 성공한 이미지 URL 리스트 (요청 순서 보장)<br>
+ * {@code failedUrls}: 삭제에 실패한 이미지 URL 리스트 (없으면 빈 리스트)
+ *
+ * @param successUrls 삭제에 성공한 이미지 URL 리스트
+ * @param failedUrls 삭제에 실패한 이미지 URL 리스트 (없으면 빈 리스트)
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ * @see com.plog.domain.image.service.ImageService#deleteImages(List, Long)
+ */
+public record ImageDeleteRes(
+        List<String> successUrls,
+        List<String> failedUrls
+) {
+}
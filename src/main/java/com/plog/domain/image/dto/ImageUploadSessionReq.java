@@ -0,0 +1,31 @@
+package com.plog.domain.image.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 직접 업로드(Presigned URL) 세션 발급을 위해 클라이언트로부터 전달받는 요청 데이터 레코드입니다.
+ * <p>
+ * 클라이언트는 업로드할 파일의 이름, Content-Type, 크기를 미리 선언하며,
+ * 업로드 완료 시 서버는 실제로 저장된 객체가 선언한 값과 일치하는지 검증합니다.
+ *
+ * @param originalFilename 원본 파일명
+ * @param contentType      업로드할 파일의 Content-Type (image/jpeg, image/png, image/gif)
+ * @param size             업로드할 파일의 바이트 크기
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ * @see com.plog.domain.image.controller.ImageController
+ */
+public record ImageUploadSessionReq(
+        @NotBlank(message = "파일명은 필수 입력 항목입니다.")
+        String originalFilename,
+
+        @NotBlank(message = "Content-Type 은 필수 입력 항목입니다.")
+        String contentType,
+
+        @NotNull(message = "파일 크기는 필수 입력 항목입니다.")
+        @Positive(message = "파일 크기는 0보다 커야 합니다.")
+        Long size
+) {
+}
@@ -0,0 +1,25 @@
+package com.plog.domain.image.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 직접 업로드(Presigned URL) 세션 발급 결과를 클라이언트에게 반환하는 응답 DTO입니다.
+ * <p>
+ * 클라이언트는 {@code uploadUrl}로 파일을 PUT 요청으로 직접 업로드한 뒤,
+ * {@code imageId}로 완료 API 를 호출해야 이미지가 사용 가능 상태가 됩니다.
+ * 업로드 시 요청에 선언한 Content-Type 헤더를 그대로 사용해야 합니다.
+ * 이미지 URL 은 서버가 검증한 파일을 새 경로에 저장한 뒤 완료 API 의 응답으로 전달됩니다.
+ *
+ * @param imageId   발급된 업로드 세션(이미지) ID
+ * @param uploadUrl 파일을 업로드할 Presigned PUT URL
+ * @param expiresAt Presigned URL 만료 시각
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ * @see com.plog.domain.image.controller.ImageController
+ */
+public record ImageUploadSessionRes(
+        Long imageId,
+        String uploadUrl,
+        LocalDateTime expiresAt
+) {
+}
@@ -2,9 +2,12 @@ package com.plog.domain.image.entity;
 
 import com.plog.domain.member.entity.Member;
 import com.plog.domain.post.entity.Post;
+import com.plog.global.config.SecondLevelCacheConfig;
 import com.plog.global.jpa.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * 게시글에 첨부되는 이미지 파일의 메타데이터를 관리하는 JPA 엔티티입니다.
@@ -22,11 +25,15 @@ import lombok.*;
  * {@code @Builder}를 통해 객체 생성 시 가독성을 높이고,
  * {@code @NoArgsConstructor(access = AccessLevel.PROTECTED)}로 무분별한 기본 생성자 호출을 방지합니다.
  *
+ * <p><b>캐시:</b><br>
+ * 프로필 이미지로 회원과 함께 자주 조회되므로 READ_WRITE 2차 캐시({@link SecondLevelCacheConfig#IMAGE_REGION})에 보관합니다.
+ *
  * @author Jaewon Ryu
  * @since 2026-01-20
  * @see
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.IMAGE_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -42,7 +49,39 @@ public class Image extends BaseEntity {
     @Column(nullable = false)
     private String accessUrl;
 
+    /** 저장된 파일의 바이트 크기입니다. 기능 도입 이전에 저장된 이미지는 null 일 수 있습니다. */
+    private Long size;
+
+    /** 직접 업로드 시 클라이언트가 선언한 Content-Type 입니다. */
+    private String contentType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    @Builder.Default
+    private ImageStatus status = ImageStatus.ACTIVE;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member uploader;
-    }
\ No newline at end of file
+
+    /**
+     * 직접 업로드가 아직 완료되지 않은 이미지인지 확인합니다.
+     */
+    public boolean isPending() {
+        return status == ImageStatus.PENDING;
+    }
+
+    /**
+     * 업로드 완료가 확인된 이미지를 서버가 검증·저장한 파일로 바꾸고 사용 가능 상태로 전환합니다.
+     *
+     * @param storedName 서버가 지정한 저장 경로
+     * @param accessUrl  저장된 파일의 전체 URL
+     * @param size       저장된 파일의 바이트 크기
+     */
+    public void activate(String storedName, String accessUrl, long size) {
+        this.storedName = storedName;
+        this.accessUrl = accessUrl;
+        this.size = size;
+        this.status = ImageStatus.ACTIVE;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.plog.domain.image.entity;
+
+import com.plog.global.jpa.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메타데이터는 삭제되었으나 스토리지에서 아직 삭제되지 않은 이미지 파일을 기록하는 엔티티입니다.
+ * <p>
+ * 이미지 메타데이터를 삭제하는 트랜잭션 안에서 함께 저장되고, 커밋 후 스토리지 삭제가 확인되면 지워집니다.
+ * 스토리지 삭제에 실패했거나 삭제 전에 서버가 종료된 경우 남아 있는 기록으로 삭제를 다시 시도합니다.
+ *
+ * <p><b>상속 정보:</b><br>
+ * {@link BaseEntity}를 상속받아 고유 식별자(id)와 생성/수정 시간을 공통으로 관리합니다.
+ *
+ * @author Jaewon Ryu
+ * @see com.plog.domain.image.service.ImageObjectDeleter
+ * @since 2026-10-18
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "image_deletion")
+public class ImageDeletion extends BaseEntity {
+
+    @Column(nullable = false, unique = true)
+    private String storedName;
+
+    public ImageDeletion(String storedName) {
+        this.storedName = storedName;
+    }
+}
@@ -0,0 +1,27 @@
+package com.plog.domain.image.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이미지의 업로드 상태를 관리하는 enum 클래스입니다.
+ * <p>
+ * 서버를 거치는 업로드는 저장과 동시에 {@link #ACTIVE} 상태가 되며,
+ * Presigned URL 을 통한 직접 업로드는 완료 확인 전까지 {@link #PENDING} 상태로 남습니다.
+ * 상태 컬럼이 추가되기 전에 저장된 이미지는 값이 null 이며, {@link #ACTIVE}와 동일하게 취급합니다.
+ *
+ * <p><b>주요 생성자:</b><br>
+ * {@code ImageStatus(String description)} <br>
+ * 상태 상수에 매핑될 한글 설명을 주입받는 생성자입니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageStatus {
+    PENDING("업로드 대기"),
+    ACTIVE("사용 가능");
+
+    private final String description;
+}
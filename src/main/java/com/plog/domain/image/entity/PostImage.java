@@ -0,0 +1,43 @@
+package com.plog.domain.image.entity;
+
+import com.plog.domain.post.entity.Post;
+import com.plog.global.jpa.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 본문(마크다운)과 썸네일이 참조하고 있는 이미지를 기록하는 연결 엔티티입니다.
+ * <p>
+ * 게시글이 작성/수정될 때마다 본문의 마크다운 AST에서 추출한 이미지 URL을 기준으로 갱신되며,
+ * 어떤 게시글에서도 참조되지 않는 이미지를 찾아 정리하는 데 사용됩니다.
+ *
+ * <p><b>상속 정보:</b><br>
+ * {@link BaseEntity}를 상속받아 고유 식별자(id)와 생성/수정 시간을 공통으로 관리합니다.
+ *
+ * @author Jaewon Ryu
+ * @see com.plog.domain.image.service.OrphanImageCollector
+ * @since 2026-10-18
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "post_image")
+public class PostImage extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    private Post post;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "image_id", nullable = false)
+    private Image image;
+
+    @Builder
+    public PostImage(Post post, Image image) {
+        this.post = post;
+        this.image = image;
+    }
+}
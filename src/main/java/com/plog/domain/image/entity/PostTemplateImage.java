@@ -0,0 +1,44 @@
+package com.plog.domain.image.entity;
+
+import com.plog.domain.post.entity.PostTemplate;
+import com.plog.global.jpa.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 템플릿 본문(마크다운)이 참조하고 있는 이미지를 기록하는 연결 엔티티입니다.
+ * <p>
+ * 템플릿이 작성/수정될 때마다 본문에서 추출한 이미지 URL을 기준으로 갱신되며,
+ * 템플릿에만 사용된 이미지가 고아 이미지로 정리되지 않도록 하는 데 사용됩니다.
+ * 본문이 없는 seed 참조 템플릿은 기록하지 않습니다.
+ *
+ * <p><b>상속 정보:</b><br>
+ * {@link BaseEntity}를 상속받아 고유 식별자(id)와 생성/수정 시간을 공통으로 관리합니다.
+ *
+ * @author Jaewon Ryu
+ * @see PostImage
+ * @since 2026-10-18
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "post_template_image")
+public class PostTemplateImage extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_template_id", nullable = false)
+    private PostTemplate postTemplate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "image_id", nullable = false)
+    private Image image;
+
+    @Builder
+    public PostTemplateImage(PostTemplate postTemplate, Image image) {
+        this.postTemplate = postTemplate;
+        this.image = image;
+    }
+}
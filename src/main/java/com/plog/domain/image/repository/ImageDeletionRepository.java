@@ -0,0 +1,33 @@
+package com.plog.domain.image.repository;
+
+import com.plog.domain.image.entity.ImageDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 스토리지 삭제를 기다리는 이미지 파일 기록({@link ImageDeletion})을 관리하는 저장소 인터페이스입니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+public interface ImageDeletionRepository extends JpaRepository<ImageDeletion, Long> {
+
+    /**
+     * 삭제를 기다리는 파일 경로를 오래된 순으로 조회합니다.
+     */
+    @Query("select d.storedName from ImageDeletion d order by d.id asc")
+    List<String> findPendingStoredNames(Pageable pageable);
+
+    /**
+     * 스토리지 삭제가 확인된 파일의 기록을 하나의 DELETE 문으로 삭제합니다.
+     */
+    @Modifying
+    @Query("delete from ImageDeletion d where d.storedName in :storedNames")
+    void deleteAllByStoredNameIn(@Param("storedNames") Collection<String> storedNames);
+}
@@ -1,8 +1,14 @@
 package com.plog.domain.image.repository;
 
 import com.plog.domain.image.entity.Image;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -29,5 +35,72 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ImageRepository extends JpaRepository<Image, Long> {
-    Optional<Image> findByAccessUrl(String accessUrl);
+    /**
+     * 유니크 인덱스가 걸린 저장 키로 이미지를 일괄 조회합니다.
+     * URL로 조회할 때는 {@link com.plog.domain.image.service.ImageUrlResolver}를 사용합니다.
+     */
+    List<Image> findAllByStoredNameIn(Collection<String> storedNames);
+
+    /**
+     * 어떤 게시글·템플릿에서도 참조되지 않고, 프로필 이미지로도 사용되지 않는 이미지를 오래된 순으로 조회합니다.
+     * <p>
+     * {@code trackedSince} 이전에 업로드된 이미지는 참조 정보가 기록되지 않았으므로 대상에서 제외합니다.
+     *
+     * @param trackedSince 참조 추적이 시작된 시점
+     * @param threshold    유예 기간이 지난 기준 시각 (이 시각 이전에 업로드된 이미지만 조회)
+     * @param pageable     한 번에 조회할 배치 크기
+     */
+    @Query("select i from Image i " +
+            "where i.createDate >= :trackedSince and i.createDate < :threshold " +
+            "and (i.status is null or i.status <> com.plog.domain.image.entity.ImageStatus.PENDING) " +
+            "and not exists (select 1 from PostImage pi where pi.image = i) " +
+            "and not exists (select 1 from PostTemplateImage ti where ti.image = i) " +
+            "and not exists (select 1 from Member m where m.profileImage = i) " +
+            "order by i.id asc")
+    List<Image> findOrphans(@Param("trackedSince") LocalDateTime trackedSince,
+                            @Param("threshold") LocalDateTime threshold,
+                            Pageable pageable);
+
+    /**
+     * 주어진 ID 중 삭제 직전 시점에도 여전히 참조되지 않는 이미지의 ID만 다시 조회합니다.
+     */
+    @Query("select i.id from Image i " +
+            "where i.id in :ids " +
+            "and (i.status is null or i.status <> com.plog.domain.image.entity.ImageStatus.PENDING) " +
+            "and not exists (select 1 from PostImage pi where pi.image = i) " +
+            "and not exists (select 1 from PostTemplateImage ti where ti.image = i) " +
+            "and not exists (select 1 from Member m where m.profileImage = i)")
+    List<Long> findOrphanIdsIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 주어진 ID 중 게시글·템플릿에서 참조되지 않고 프로필 이미지로도 사용되지 않아, 외래 키 제약 없이 삭제할 수 있는 이미지의 ID 를 조회합니다.
+     */
+    @Query("select i.id from Image i " +
+            "where i.id in :ids " +
+            "and not exists (select 1 from PostImage pi where pi.image = i) " +
+            "and not exists (select 1 from PostTemplateImage ti where ti.image = i) " +
+            "and not exists (select 1 from Member m where m.profileImage = i)")
+    List<Long> findUnreferencedIdsIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 완료되지 않은 채 만료된 직접 업로드 세션(PENDING 이미지)을 오래된 순으로 조회합니다.
+     *
+     * @param threshold 이 시각 이전에 발급된 세션만 조회
+     * @param pageable  한 번에 조회할 배치 크기
+     */
+    @Query("select i from Image i " +
+            "where i.status = com.plog.domain.image.entity.ImageStatus.PENDING and i.createDate < :threshold " +
+            "order by i.id asc")
+    List<Image> findExpiredUploadSessions(@Param("threshold") LocalDateTime threshold, Pageable pageable);
+
+    /**
+     * 아직 PENDING 상태인 업로드 세션만 삭제합니다. 조회 이후 완료된 세션은 삭제하지 않습니다.
+     *
+     * @param ids 삭제할 이미지 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from Image i " +
+            "where i.id in :ids and i.status = com.plog.domain.image.entity.ImageStatus.PENDING")
+    int deletePendingByIdIn(@Param("ids") Collection<Long> ids);
 }
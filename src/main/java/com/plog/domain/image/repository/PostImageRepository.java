@@ -0,0 +1,23 @@
+package com.plog.domain.image.repository;
+
+import com.plog.domain.image.entity.PostImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 게시글과 이미지 사이의 참조 관계({@link PostImage})를 관리하는 저장소 인터페이스입니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+public interface PostImageRepository extends JpaRepository<PostImage, Long> {
+
+    /**
+     * 특정 게시글이 가지고 있는 모든 이미지 참조를 삭제합니다.
+     */
+    @Modifying
+    @Query("delete from PostImage pi where pi.post.id = :postId")
+    void deleteAllByPostId(@Param("postId") Long postId);
+}
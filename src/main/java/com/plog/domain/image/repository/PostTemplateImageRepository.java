@@ -0,0 +1,23 @@
+package com.plog.domain.image.repository;
+
+import com.plog.domain.image.entity.PostTemplateImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 게시글 템플릿과 이미지 사이의 참조 관계({@link PostTemplateImage})를 관리하는 저장소 인터페이스입니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+public interface PostTemplateImageRepository extends JpaRepository<PostTemplateImage, Long> {
+
+    /**
+     * 특정 템플릿이 가지고 있는 모든 이미지 참조를 삭제합니다.
+     */
+    @Modifying
+    @Query("delete from PostTemplateImage ti where ti.postTemplate.id = :templateId")
+    void deleteAllByTemplateId(@Param("templateId") Long templateId);
+}
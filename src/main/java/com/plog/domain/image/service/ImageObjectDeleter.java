@@ -0,0 +1,174 @@
+package com.plog.domain.image.service;
+
+import com.plog.domain.image.entity.ImageDeletion;
+import com.plog.domain.image.repository.ImageDeletionRepository;
+import com.plog.global.exception.exceptions.ImageException;
+import com.plog.global.minio.storage.ObjectStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 메타데이터가 삭제된 이미지의 실제 파일을 스토리지에서 삭제하고, 실패한 파일은 다시 삭제를 시도하는 컴포넌트입니다.
+ * <p>
+ * 메타데이터를 삭제하는 트랜잭션 안에서 {@link #record(Collection)}로 삭제할 파일을 {@code image_deletion}에 함께 기록하고,
+ * 커밋 후 {@link #delete(Collection)}로 스토리지에서 삭제합니다. 요청을 처리하는 트랜잭션에서는 두 단계를 묶은
+ * {@link #deleteAfterCommit(Collection)}을 사용합니다. 삭제가 확인된 파일의 기록만 지우므로,
+ * 스토리지 요청이 실패하거나 삭제 전에 서버가 종료되어도 파일이 추적되지 않은 채 남지 않습니다.
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. 기록은 메타데이터 삭제와 같은 트랜잭션에서 저장되므로, 롤백되면 기록도 남지 않습니다. <br>
+ * 2. 스토리지 삭제 후 성공한 파일의 기록은 별도의 트랜잭션에서 지웁니다. <br>
+ * 3. {@code custom.image.deletion-retry.interval} 간격으로 남은 기록을 오래된 순으로 다시 삭제합니다.
+ *    존재하지 않는 객체의 삭제는 성공으로 처리되므로 같은 파일을 여러 번 삭제해도 안전합니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * {@code @Component}로 등록되며, 재시도는 {@code @Scheduled}에 의해 실행됩니다.
+ *
+ * @author Jaewon Ryu
+ * @see ImageDeletion
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class ImageObjectDeleter {
+
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final ObjectStorage objectStorage;
+    private final ImageDeletionRepository imageDeletionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ImageObjectDeleter(
+            ObjectStorage objectStorage,
+            ImageDeletionRepository imageDeletionRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${custom.image.deletion-retry.batch-size}") int batchSize) {
+        this.objectStorage = objectStorage;
+        this.imageDeletionRepository = imageDeletionRepository;
+        // 커밋 후 콜백에서도 호출되므로, 기존 트랜잭션에 참여하지 않고 항상 새 트랜잭션에서 기록을 지웁니다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 스토리지에서 삭제할 파일을 기록합니다. 메타데이터를 삭제하는 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param storedNames 삭제할 파일 경로
+     */
+    public void record(Collection<String> storedNames) {
+        if (storedNames.isEmpty()) {
+            return;
+        }
+        imageDeletionRepository.saveAll(storedNames.stream().distinct().map(ImageDeletion::new).toList());
+    }
+
+    /**
+     * 삭제할 파일을 현재 트랜잭션에 기록하고, 커밋된 뒤에 스토리지에서 삭제합니다.
+     * <p>
+     * 메타데이터 삭제가 외래 키 제약 등으로 롤백되면 파일도 삭제되지 않습니다.
+     * 트랜잭션 밖에서 호출하면 바로 삭제합니다.
+     *
+     * @param storedNames 메타데이터와 함께 삭제할 파일 경로
+     */
+    public void deleteAfterCommit(Collection<String> storedNames) {
+        if (storedNames.isEmpty()) {
+            return;
+        }
+        record(storedNames);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delete(storedNames);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // 이미 커밋된 요청이 실패로 응답되지 않도록 예외를 전파하지 않습니다. 남은 기록은 재시도에서 삭제됩니다.
+                try {
+                    delete(storedNames);
+                } catch (RuntimeException e) {
+                    log.warn("[ImageObjectDeleter#deleteAfterCommit] storage deletion failed. count={}",
+                            storedNames.size(), e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 파일을 스토리지에서 한 번에 삭제하고, 삭제가 확인된 파일의 기록을 지웁니다.
+     * <p>
+     * 스토리지나 DB 요청이 실패하더라도 예외를 전파하지 않습니다. 실패한 파일은 기록이 남아 다음 재시도에서 다시 삭제됩니다.
+     *
+     * @param storedNames {@link #record(Collection)}로 기록되어 커밋된 파일 경로
+     * @return 스토리지 삭제에 실패한 파일 경로 리스트
+     */
+    public List<String> delete(Collection<String> storedNames) {
+        if (storedNames.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> keys = storedNames.stream().distinct().toList();
+        Set<String> failed;
+        try {
+            failed = new HashSet<>(objectStorage.deleteAll(keys));
+        } catch (ImageException e) {
+            log.warn("{}", e.getLogMessage());
+            return keys;
+        }
+
+        List<String> deleted = keys.stream().filter(key -> !failed.contains(key)).toList();
+        if (!deleted.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        imageDeletionRepository.deleteAllByStoredNameIn(deleted));
+            } catch (RuntimeException e) {
+                log.warn("[ImageObjectDeleter#delete] failed to clear deletion records. count={}", deleted.size(), e);
+            }
+        }
+        return keys.stream().filter(failed::contains).toList();
+    }
+
+    /**
+     * 스토리지 삭제를 기다리는 파일을 오래된 순으로 다시 삭제합니다.
+     */
+    @Scheduled(initialDelayString = "${custom.image.deletion-retry.interval}",
+            fixedDelayString = "${custom.image.deletion-retry.interval}")
+    public void retryPending() {
+        int deleted = 0;
+        int failed = 0;
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            List<String> pending = imageDeletionRepository.findPendingStoredNames(PageRequest.of(0, batchSize));
+            if (pending.isEmpty()) {
+                break;
+            }
+
+            List<String> failedKeys = delete(pending);
+            deleted += pending.size() - failedKeys.size();
+            failed += failedKeys.size();
+
+            // 실패한 파일이 남아 있으면 같은 배치를 다시 조회하게 되므로 다음 실행으로 미룹니다.
+            if (!failedKeys.isEmpty() || pending.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (deleted > 0 || failed > 0) {
+            log.info("[ImageObjectDeleter#retryPending] deleted={}, failed={}", deleted, failed);
+        }
+    }
+}
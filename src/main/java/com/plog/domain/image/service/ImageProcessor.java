@@ -0,0 +1,369 @@
+package com.plog.domain.image.service;
+
+import com.plog.global.exception.errorCode.ImageErrorCode;
+import com.plog.global.exception.exceptions.ImageException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * 업로드된 이미지를 저장하기 전에 검증하고 재인코딩하는 컴포넌트입니다.
+ * <p>
+ * 파일 확장자 대신 파일 앞부분의 매직 바이트로 실제 이미지 형식을 판별하며,
+ * 지원하지 않는 형식은 {@link ImageErrorCode#INVALID_FILE_EXTENSION} 예외로 거부합니다.
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. 하나의 입력 스트림에서 매직 바이트와 (JPEG의 경우) EXIF 방향 정보를 읽습니다. <br>
+ * 2. 최대 해상도보다 큰 이미지는 디코딩 단계에서 서브샘플링하여 메모리 사용량을 줄입니다. <br>
+ * 3. 방향 보정과 리사이즈를 한 번의 그리기로 적용한 뒤, 메타데이터 없이 JPEG/PNG로 다시 인코딩합니다. <br>
+ * 4. 절감한 바이트 수를 {@code image.upload.bytes.saved} 지표로 기록합니다.
+ *
+ * <p>GIF는 애니메이션 보존을 위해 재인코딩하지 않으며, 디코딩할 수 없는 이미지(CMYK JPEG 등)는 원본 그대로 저장합니다.
+ * {@code custom.image.processing.enabled}가 false 이면 형식 검증만 수행합니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class ImageProcessor {
+
+    private static final byte[] JPEG_MAGIC = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PNG_MAGIC = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] GIF87_MAGIC = {'G', 'I', 'F', '8', '7', 'a'};
+    private static final byte[] GIF89_MAGIC = {'G', 'I', 'F', '8', '9', 'a'};
+
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+    private static final int MAX_EXIF_SEGMENT_LENGTH = 64 * 1024;
+
+    private final boolean enabled;
+    private final int maxDimension;
+    private final float jpegQuality;
+    private final int pngCompressionLevel;
+    private final MeterRegistry meterRegistry;
+
+    public ImageProcessor(
+            @Value("${custom.image.processing.enabled}") boolean enabled,
+            @Value("${custom.image.processing.max-dimension}") int maxDimension,
+            @Value("${custom.image.processing.jpeg-quality}") float jpegQuality,
+            @Value("${custom.image.processing.png-compression-level}") int pngCompressionLevel,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxDimension = maxDimension;
+        this.jpegQuality = jpegQuality;
+        this.pngCompressionLevel = pngCompressionLevel;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 업로드된 파일의 형식을 검증하고, 설정에 따라 메타데이터 제거 및 재인코딩을 수행합니다.
+     *
+     * @param file 업로드된 이미지 파일
+     * @return 저장할 이미지 데이터와 형식 정보
+     * @throws ImageException 지원하지 않는 형식이거나 파일을 읽을 수 없는 경우
+     */
+    public ProcessedImage process(MultipartFile file) {
+        return process(file, file.getSize(), file.getOriginalFilename());
+    }
+
+    /**
+     * 임의의 입력 소스에 담긴 이미지의 형식을 검증하고, 설정에 따라 메타데이터 제거 및 재인코딩을 수행합니다.
+     * 클라이언트가 스토리지에 직접 업로드한 파일을 처리할 때 사용합니다.
+     *
+     * @param source 이미지 데이터
+     * @param size   이미지 데이터의 바이트 크기
+     * @param name   로그에 남길 파일 이름
+     * @return 저장할 이미지 데이터와 형식 정보
+     * @throws ImageException 지원하지 않는 형식이거나 데이터를 읽을 수 없는 경우
+     */
+    public ProcessedImage process(InputStreamSource source, long size, String name) {
+        try (InputStream in = source.getInputStream();
+             ImageInputStream iis = new MemoryCacheImageInputStream(in)) {
+
+            ImageFormat format = detectFormat(iis);
+            if (!enabled || format == ImageFormat.GIF) {
+                return new ProcessedImage(source, size, format);
+            }
+
+            int orientation = format == ImageFormat.JPEG ? readJpegOrientation(iis) : 1;
+            iis.seek(0);
+
+            Decoded decoded = decode(iis, format);
+            if (decoded == null) {
+                log.warn("[ImageProcessor#process] undecodable image stored as is. name={}", name);
+                return new ProcessedImage(source, size, format);
+            }
+
+            BufferedImage transformed = orientAndResize(decoded.image(), orientation, format);
+            boolean resized = Math.max(transformed.getWidth(), transformed.getHeight()) < decoded.sourceLongestSide();
+            byte[] encoded = encode(transformed, format);
+
+            // 무손실 PNG 는 크기가 줄지 않았다면 원본을 유지합니다. JPEG 는 메타데이터 제거를 위해 항상 재인코딩본을 사용합니다.
+            if (format == ImageFormat.PNG && !resized && encoded.length >= size) {
+                return new ProcessedImage(source, size, format);
+            }
+
+            recordBytesSaved(format, size - encoded.length);
+            return new ProcessedImage(new ByteArrayResource(encoded), encoded.length, format);
+
+        } catch (IOException e) {
+            throw new ImageException(ImageErrorCode.IMAGE_UPLOAD_FAILED,
+                    "[ImageProcessor#process] failed to read image. name=" + name + ", cause=" + e.getMessage(),
+                    "이미지 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    private ImageFormat detectFormat(ImageInputStream iis) throws IOException {
+        byte[] header = new byte[PNG_MAGIC.length];
+        int read = iis.read(header);
+        iis.seek(0);
+
+        if (startsWith(header, read, JPEG_MAGIC)) return ImageFormat.JPEG;
+        if (startsWith(header, read, PNG_MAGIC)) return ImageFormat.PNG;
+        if (startsWith(header, read, GIF87_MAGIC) || startsWith(header, read, GIF89_MAGIC)) return ImageFormat.GIF;
+
+        throw new ImageException(
+                ImageErrorCode.INVALID_FILE_EXTENSION,
+                "[ImageProcessor#detectFormat] unsupported image signature: " + Arrays.toString(Arrays.copyOf(header, Math.max(read, 0))),
+                "지원하지 않는 파일 형식입니다. (jpg, jpeg, png, gif만 가능)");
+    }
+
+    private boolean startsWith(byte[] header, int length, byte[] magic) {
+        if (length < magic.length) return false;
+        for (int i = 0; i < magic.length; i++) {
+            if (header[i] != magic[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * JPEG 헤더의 APP1(EXIF) 세그먼트에서 방향 값을 읽습니다.
+     * 메타데이터를 제거하면 방향 정보도 사라지므로, 재인코딩 전에 픽셀에 직접 반영하기 위해 사용합니다.
+     *
+     * @return EXIF 방향 값 (1~8), 정보가 없으면 1
+     */
+    private int readJpegOrientation(ImageInputStream iis) throws IOException {
+        iis.seek(JPEG_MAGIC.length - 1);
+
+        while (true) {
+            int prefix = iis.read();
+            if (prefix != 0xFF) return 1;
+
+            int marker = iis.read();
+            while (marker == 0xFF) {
+                marker = iis.read();
+            }
+            // SOS(0xDA) 이후는 압축된 이미지 데이터이므로 더 이상 메타데이터가 없습니다.
+            if (marker < 0 || marker == 0xDA || marker == 0xD9) return 1;
+
+            int length = iis.readUnsignedShort();
+            if (length < 2) return 1;
+            long next = iis.getStreamPosition() + length - 2;
+
+            if (marker == 0xE1 && length > 8 && length - 2 <= MAX_EXIF_SEGMENT_LENGTH) {
+                byte[] segment = new byte[length - 2];
+                iis.readFully(segment);
+                int orientation = parseExifOrientation(segment);
+                if (orientation > 0) return orientation;
+            }
+            iis.seek(next);
+        }
+    }
+
+    private int parseExifOrientation(byte[] segment) {
+        if (segment.length < 14 || segment[0] != 'E' || segment[1] != 'x' || segment[2] != 'i' || segment[3] != 'f') {
+            return -1;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(segment, 6, segment.length - 6).slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+
+        if ((tiff.getShort(2) & 0xFFFF) != 42) return -1;
+        int ifdOffset = tiff.getInt(4);
+        if (ifdOffset < 8 || ifdOffset + 2 > tiff.limit()) return -1;
+
+        int entries = tiff.getShort(ifdOffset) & 0xFFFF;
+        for (int i = 0; i < entries; i++) {
+            int entry = ifdOffset + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) return -1;
+            if ((tiff.getShort(entry) & 0xFFFF) == EXIF_ORIENTATION_TAG) {
+                int value = tiff.getShort(entry + 8) & 0xFFFF;
+                return value >= 1 && value <= 8 ? value : -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 이미지를 디코딩합니다. 최대 해상도의 2배 이상인 이미지는 서브샘플링하여 필요한 만큼만 읽습니다.
+     *
+     * @return 디코딩된 이미지와 원본의 긴 변 길이, 디코딩할 수 없으면 null
+     */
+    private Decoded decode(ImageInputStream iis, ImageFormat format) throws IOException {
+        Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName(format.getFormatName());
+        if (!readers.hasNext()) return null;
+
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(iis, true, true);
+            int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+
+            ImageReadParam param = reader.getDefaultReadParam();
+            int subsampling = Math.max(1, longest / maxDimension);
+            param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+            return new Decoded(reader.read(0, param), longest);
+        } catch (IOException e) {
+            log.warn("[ImageProcessor#decode] failed to decode {} image. cause={}", format, e.getMessage());
+            return null;
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * EXIF 방향 보정과 최대 해상도 축소를 하나의 변환으로 합쳐 한 번에 그립니다.
+     */
+    private BufferedImage orientAndResize(BufferedImage source, int orientation, ImageFormat format) {
+        int w = source.getWidth();
+        int h = source.getHeight();
+        boolean swap = orientation >= 5;
+        int orientedWidth = swap ? h : w;
+        int orientedHeight = swap ? w : h;
+
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(orientedWidth, orientedHeight));
+        int targetWidth = Math.max(1, (int) Math.round(orientedWidth * scale));
+        int targetHeight = Math.max(1, (int) Math.round(orientedHeight * scale));
+
+        boolean keepAlpha = format == ImageFormat.PNG && source.getColorModel().hasAlpha();
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight,
+                keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+        AffineTransform transform = AffineTransform.getScaleInstance(
+                (double) targetWidth / orientedWidth, (double) targetHeight / orientedHeight);
+        transform.concatenate(orientationTransform(orientation, w, h));
+
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private AffineTransform orientationTransform(int orientation, int w, int h) {
+        return switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도 회전
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 전치
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 방향 90도 회전
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 역전치
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);   // 반시계 방향 90도 회전
+            default -> new AffineTransform();
+        };
+    }
+
+    /**
+     * 메타데이터 없이 이미지를 인코딩합니다.
+     */
+    private byte[] encode(BufferedImage image, ImageFormat format) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format.getFormatName()).next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(format == ImageFormat.JPEG
+                        ? jpegQuality
+                        : 1.0f - pngCompressionLevel / 9.0f);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private void recordBytesSaved(ImageFormat format, long bytesSaved) {
+        DistributionSummary.builder("image.upload.bytes.saved")
+                .description("Bytes saved per upload by re-encoding")
+                .baseUnit("bytes")
+                .tag("format", format.getFormatName())
+                .register(meterRegistry)
+                .record(Math.max(0, bytesSaved));
+    }
+
+    private record Decoded(BufferedImage image, int sourceLongestSide) {
+    }
+
+    /**
+     * 매직 바이트로 판별한 이미지 형식입니다.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum ImageFormat {
+        JPEG("jpeg", "jpg", "image/jpeg"),
+        PNG("png", "png", "image/png"),
+        GIF("gif", "gif", "image/gif");
+
+        private final String formatName;
+        private final String extension;
+        private final String contentType;
+
+        /**
+         * Content-Type 에 해당하는 형식을 찾습니다. 파라미터(charset 등)와 대소문자는 무시합니다.
+         */
+        public static Optional<ImageFormat> fromContentType(String contentType) {
+            if (contentType == null) return Optional.empty();
+            String mediaType = contentType.split(";", 2)[0].trim();
+            return Arrays.stream(values())
+                    .filter(format -> format.contentType.equalsIgnoreCase(mediaType))
+                    .findFirst();
+        }
+    }
+
+    /**
+     * 저장소에 업로드할 이미지 데이터입니다.
+     *
+     * @param source 업로드할 데이터 (원본 파일 또는 재인코딩된 바이트)
+     * @param size   업로드할 데이터의 바이트 크기
+     * @param format 판별된 이미지 형식
+     */
+    public record ProcessedImage(InputStreamSource source, long size, ImageFormat format) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.plog.domain.image.service;
 
+import com.plog.domain.image.dto.ImageDeleteRes;
 import com.plog.domain.image.dto.ImageUploadRes;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -46,7 +47,8 @@ public interface ImageService {
     /**
      * 이미지 URL 리스트를 받아 여러 이미지를 한 번에 삭제합니다. (일괄 삭제)
      * Controller에 매핑되지 않은 내부용 메서드입니다.
+     * 일부 이미지의 삭제에 실패하더라도 나머지는 삭제되며, 결과는 URL 단위로 반환됩니다.
      */
-    void deleteImages(List<String> imageUrls, Long memberId);
+    ImageDeleteRes deleteImages(List<String> imageUrls, Long memberId);
 
 }
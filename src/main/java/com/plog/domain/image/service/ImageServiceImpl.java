@@ -1,5 +1,6 @@
 package com.plog.domain.image.service;
 
+import com.plog.domain.image.dto.ImageDeleteRes;
 import com.plog.domain.image.dto.ImageUploadRes;
 import com.plog.domain.image.entity.Image;
 import com.plog.domain.image.repository.ImageRepository;
@@ -9,6 +10,7 @@ import com.plog.global.exception.exceptions.AuthException;
 import com.plog.global.exception.exceptions.ImageException;
 import com.plog.global.minio.storage.ObjectStorage;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -16,8 +18,14 @@ import com.plog.domain.member.repository.MemberRepository;
 import com.plog.domain.member.entity.Member;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * 이미지 업로드 및 메타데이터 관리를 담당하는 서비스 구현체입니다.
@@ -46,6 +54,7 @@ import java.util.UUID;
  * @since 2026-01-20
  */
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ImageServiceImpl implements ImageService {
@@ -53,6 +62,9 @@ public class ImageServiceImpl implements ImageService {
     private final ObjectStorage objectStorage;
     private final ImageRepository imageRepository;
     private final MemberRepository memberRepository;
+    private final ImageUrlResolver imageUrlResolver;
+    private final ImageProcessor imageProcessor;
+    private final ImageObjectDeleter imageObjectDeleter;
 
     @Override
     @Transactional
@@ -65,25 +77,21 @@ public class ImageServiceImpl implements ImageService {
             );
         }
 
+        ImageProcessor.ProcessedImage processed = imageProcessor.process(file);
+
         Member uploader = memberRepository.getReferenceById(memberId);
 
         String originalFileName = file.getOriginalFilename();
-        String storedFileName = createStoredFileName(originalFileName);
+        String storedFileName = createStoredFileName(processed.format());
 
-        if (!isValidExtension(originalFileName)) {
-            throw new ImageException(
-                    ImageErrorCode.INVALID_FILE_EXTENSION,
-                    "[ImageServiceImpl#uploadImage] invalid file extension request: " + originalFileName,
-                    "지원하지 않는 파일 형식입니다. (jpg, jpeg, png, gif만 가능)"
-            );
-        }
-
-        String accessUrl = objectStorage.upload(file, storedFileName);
+        String accessUrl = objectStorage.upload(
+                processed.source(), processed.size(), processed.format().getContentType(), storedFileName);
 
         Image image = Image.builder()
                 .originalName(originalFileName)
                 .storedName(storedFileName)
                 .accessUrl(accessUrl)
+                .size(processed.size())
                 .uploader(uploader)
                 .build();
 
@@ -91,19 +99,11 @@ public class ImageServiceImpl implements ImageService {
         return new ImageUploadRes(List.of(accessUrl), List.of());
     }
 
-    private String createStoredFileName(String originalFilename) {
-        String uuid = UUID.randomUUID().toString();
-        String ext = originalFilename.substring(originalFilename.lastIndexOf("."));
-        return uuid + ext;
-    }
-
-
-    private boolean isValidExtension(String filename) {
-        String lowerName = filename.toLowerCase();
-        return lowerName.endsWith(".jpg") ||
-                lowerName.endsWith(".jpeg") ||
-                lowerName.endsWith(".png") ||
-                lowerName.endsWith(".gif");
+    /**
+     * 저장 파일명을 생성합니다. 확장자는 원본 파일명이 아니라 실제 이미지 형식을 따릅니다.
+     */
+    private String createStoredFileName(ImageProcessor.ImageFormat format) {
+        return UUID.randomUUID() + "." + format.getExtension();
     }
 
     @Override
@@ -133,6 +133,12 @@ public class ImageServiceImpl implements ImageService {
     }
 
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 메타데이터를 먼저 삭제하고, 스토리지의 파일은 트랜잭션이 커밋된 뒤에 삭제합니다.
+     * 게시글·템플릿·프로필 이미지로 사용 중인 이미지는 {@link ImageErrorCode#IMAGE_IN_USE} 예외로 거절합니다.
+     */
     @Override
     @Transactional
     public void deleteImage(String imageUrl, Long memberId) {
@@ -141,7 +147,7 @@ public class ImageServiceImpl implements ImageService {
         }
 
 
-        Image image = imageRepository.findByAccessUrl(imageUrl)
+        Image image = imageUrlResolver.resolve(imageUrl)
                 .orElseThrow(() -> new ImageException(
                         ImageErrorCode.IMAGE_NOT_FOUND,
                         "[ImageServiceImpl#deleteImage] image not found in DB. url=" + imageUrl,
@@ -157,20 +163,82 @@ public class ImageServiceImpl implements ImageService {
             );
         }
 
-        String storedName = objectStorage.parsePath(imageUrl);
-        objectStorage.delete(storedName); // MinIO 삭제
-        imageRepository.delete(image);    // DB 삭제
+        if (imageRepository.findUnreferencedIdsIn(List.of(image.getId())).isEmpty()) {
+            throw new ImageException(
+                    ImageErrorCode.IMAGE_IN_USE,
+                    "[ImageServiceImpl#deleteImage] image is still referenced. imageId=" + image.getId(),
+                    "게시글, 템플릿 또는 프로필에서 사용 중인 이미지는 삭제할 수 없습니다."
+            );
+        }
+
+        imageRepository.delete(image);
+        imageRepository.flush(); // 외래 키 제약 위반을 스토리지 삭제 예약 전에 확인
+        imageObjectDeleter.deleteAfterCommit(List.of(image.getStoredName()));
+        imageUrlResolver.evictAll(List.of(imageUrl));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 이미지 메타데이터를 {@link ImageUrlResolver}로 한 번에 조회하고, 소유자 검증은 메모리에서 수행합니다.
+     * 게시글·템플릿·프로필 이미지로 사용 중인 이미지는 한 번의 조회로 걸러 실패로 반환하여, 외래 키 제약 위반으로
+     * 전체 삭제가 중단되지 않도록 합니다. 남은 이미지의 메타데이터를 하나의 DELETE 문으로 삭제하고, 스토리지의 파일은 트랜잭션이 커밋된 뒤에
+     * MinIO 다중 객체 삭제({@code removeObjects}) 한 번으로 제거합니다. 스토리지 삭제에 실패한 파일은
+     * {@link ImageObjectDeleter}가 다시 삭제합니다.
+     */
     @Override
     @Transactional
-    public void deleteImages(List<String> imageUrls, Long memberId) {
+    public ImageDeleteRes deleteImages(List<String> imageUrls, Long memberId) {
         if (imageUrls == null || imageUrls.isEmpty()) {
-            return;
+            return new ImageDeleteRes(List.of(), List.of());
+        }
+
+        Set<String> requestedUrls = imageUrls.stream()
+                .filter(url -> url != null && !url.isBlank())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<String, Image> imagesByUrl = imageUrlResolver.resolveAll(requestedUrls);
+
+        List<Map.Entry<String, Image>> deletable = new ArrayList<>();
+        List<String> failedUrls = new ArrayList<>();
+
+        for (String url : requestedUrls) {
+            Image image = imagesByUrl.get(url);
+            if (image == null || !Objects.equals(image.getUploader().getId(), memberId)) {
+                failedUrls.add(url);
+                continue;
+            }
+            deletable.add(Map.entry(url, image));
+        }
+
+        if (deletable.isEmpty()) {
+            return new ImageDeleteRes(List.of(), failedUrls);
         }
-        for (String url : imageUrls) {
 
-            deleteImage(url, memberId);
+        Set<Long> unreferencedIds = new HashSet<>(imageRepository.findUnreferencedIdsIn(
+                deletable.stream().map(entry -> entry.getValue().getId()).collect(Collectors.toSet())));
+
+        List<String> successUrls = new ArrayList<>();
+        Set<Long> deletedIds = new LinkedHashSet<>();
+        Set<String> storedNames = new LinkedHashSet<>();
+        for (Map.Entry<String, Image> entry : deletable) {
+            if (!unreferencedIds.contains(entry.getValue().getId())) {
+                failedUrls.add(entry.getKey());
+                continue;
+            }
+            successUrls.add(entry.getKey());
+            deletedIds.add(entry.getValue().getId());
+            storedNames.add(entry.getValue().getStoredName());
         }
+
+        if (deletedIds.isEmpty()) {
+            return new ImageDeleteRes(List.of(), failedUrls);
+        }
+
+        imageRepository.deleteAllByIdInBatch(List.copyOf(deletedIds));
+        imageObjectDeleter.deleteAfterCommit(storedNames);
+        imageUrlResolver.evictAll(successUrls);
+
+        return new ImageDeleteRes(successUrls, failedUrls);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package com.plog.domain.image.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 완료되지 않은 직접 업로드 세션을 주기적으로 정리하는 컴포넌트입니다.
+ * <p>
+ * Presigned URL 이 만료되고 유예 기간까지 지난 PENDING 이미지는 더 이상 완료될 수 없으므로,
+ * 스토리지에 올라간 객체(있다면)와 메타데이터를 함께 삭제합니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * {@code @Scheduled}에 의해 {@code custom.image.upload-session.reaper-interval} 간격으로 실행됩니다.
+ *
+ * @author Jaewon Ryu
+ * @see ImageUploadSessionService#reapExpiredSessions(LocalDateTime)
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class ImageUploadSessionReaper {
+
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final ImageUploadSessionService imageUploadSessionService;
+    private final Duration expiry;
+    private final Duration gracePeriod;
+
+    public ImageUploadSessionReaper(
+            ImageUploadSessionService imageUploadSessionService,
+            @Value("${custom.image.upload-session.expiry}") Duration expiry,
+            @Value("${custom.image.upload-session.reaper-grace-period}") Duration gracePeriod) {
+        this.imageUploadSessionService = imageUploadSessionService;
+        this.expiry = expiry;
+        this.gracePeriod = gracePeriod;
+    }
+
+    @Scheduled(initialDelayString = "${custom.image.upload-session.reaper-interval}",
+            fixedDelayString = "${custom.image.upload-session.reaper-interval}")
+    public void reap() {
+        LocalDateTime threshold = LocalDateTime.now().minus(expiry).minus(gracePeriod);
+
+        int reaped = 0;
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            int count = imageUploadSessionService.reapExpiredSessions(threshold);
+            reaped += count;
+            if (count == 0) {
+                break;
+            }
+        }
+
+        if (reaped > 0) {
+            log.info("[ImageUploadSessionReaper#reap] reaped {} expired upload sessions", reaped);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.plog.domain.image.service;
+
+import com.plog.domain.image.dto.ImageUploadRes;
+import com.plog.domain.image.dto.ImageUploadSessionReq;
+import com.plog.domain.image.dto.ImageUploadSessionRes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Presigned URL 을 이용한 직접 업로드 세션을 관리하는 서비스 인터페이스입니다.
+ * <p>
+ * 이미지 바이트는 클라이언트에서 스토리지로 직접 전송되며, 서버는 메타데이터만 처리합니다.
+ *
+ * <p><b>주요 기능:</b><br>
+ * - 업로드 세션 발급 (PENDING 이미지 생성 및 Presigned PUT URL 발급) <br>
+ * - 업로드 완료 확인 (스토리지 객체 검증 후 이미지 활성화) <br>
+ * - 만료된 업로드 세션 정리
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+public interface ImageUploadSessionService {
+
+    /**
+     * 업로드 세션을 발급합니다.
+     * 선언된 형식과 크기를 검증한 뒤 PENDING 상태의 이미지를 저장하고 Presigned PUT URL 을 반환합니다.
+     */
+    ImageUploadSessionRes createSession(ImageUploadSessionReq request, Long memberId);
+
+    /**
+     * 업로드 완료를 확인합니다.
+     * 스토리지에 저장된 객체의 크기와 형식이 선언한 값과 일치하면, 서버가 지정한 새 경로에 처리된 파일을 저장하고
+     * 이미지를 활성화합니다. 이미 완료된 세션에 대해 다시 호출하면 같은 결과를 반환하며, 만료된 세션은 완료할 수 없습니다.
+     */
+    ImageUploadRes completeSession(Long imageId, Long memberId);
+
+    /**
+     * {@code threshold} 이전에 발급되었으나 완료되지 않은 세션을 정리합니다.
+     *
+     * @return 정리된 세션 수
+     */
+    int reapExpiredSessions(LocalDateTime threshold);
+}
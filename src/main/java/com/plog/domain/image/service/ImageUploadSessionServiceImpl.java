@@ -0,0 +1,244 @@
+package com.plog.domain.image.service;
+
+import com.plog.domain.image.dto.ImageUploadRes;
+import com.plog.domain.image.dto.ImageUploadSessionReq;
+import com.plog.domain.image.dto.ImageUploadSessionRes;
+import com.plog.domain.image.entity.Image;
+import com.plog.domain.image.entity.ImageStatus;
+import com.plog.domain.image.repository.ImageRepository;
+import com.plog.domain.member.repository.MemberRepository;
+import com.plog.global.exception.errorCode.AuthErrorCode;
+import com.plog.global.exception.errorCode.ImageErrorCode;
+import com.plog.global.exception.exceptions.AuthException;
+import com.plog.global.exception.exceptions.ImageException;
+import com.plog.global.minio.storage.ObjectStorage;
+import com.plog.global.minio.storage.StoredObject;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Presigned URL 을 이용한 직접 업로드 세션을 관리하는 서비스 구현체입니다.
+ * <p>
+ * 세션 발급 시 PENDING 상태의 {@link Image}를 저장하고 {@link ObjectStorage#presignUpload}로 PUT URL 을 발급합니다.
+ * 클라이언트가 스토리지에 직접 업로드한 뒤 완료를 요청하면, {@link ObjectStorage#stat}으로 실제 객체의
+ * 크기와 Content-Type 을 확인합니다.
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. Presigned URL 은 완료 후에도 만료 전까지 같은 키에 다시 PUT 할 수 있으므로, 업로드된 키는 서비스하지 않습니다.
+ *    객체를 읽어 {@link ImageProcessor}로 형식(매직 바이트)을 검증하고 메타데이터를 제거한 뒤,
+ *    서버가 지정한 새 키에 저장하고 이미지가 그 키를 가리키도록 바꿉니다. <br>
+ * 2. 업로드된 키의 객체는 읽은 직후 삭제합니다. 검증에 실패한 세션은 PENDING 으로 남아 만료 정리 작업이 삭제합니다. <br>
+ * 3. URL 이 만료된 세션은 완료할 수 없으며, 만료 정리 작업은 PENDING 상태인 세션만 삭제하여
+ *    늦게 완료된 이미지를 지우지 않습니다.
+ *
+ * <p><b>상속 정보:</b><br>
+ * {@link ImageUploadSessionService} 인터페이스를 구현합니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * {@code @Service} 어노테이션을 통해 스프링 빈으로 등록되며, 메서드 레벨에서 트랜잭션을 관리합니다.
+ *
+ * @author Jaewon Ryu
+ * @see ImageUploadSessionReaper
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+public class ImageUploadSessionServiceImpl implements ImageUploadSessionService {
+
+    private static final int REAP_BATCH_SIZE = 100;
+
+    private final ObjectStorage objectStorage;
+    private final ImageRepository imageRepository;
+    private final MemberRepository memberRepository;
+    private final ImageProcessor imageProcessor;
+    private final Duration expiry;
+    private final long maxSize;
+
+    public ImageUploadSessionServiceImpl(
+            ObjectStorage objectStorage,
+            ImageRepository imageRepository,
+            MemberRepository memberRepository,
+            ImageProcessor imageProcessor,
+            @Value("${custom.image.upload-session.expiry}") Duration expiry,
+            @Value("${custom.image.upload-session.max-size}") long maxSize) {
+        this.objectStorage = objectStorage;
+        this.imageRepository = imageRepository;
+        this.memberRepository = memberRepository;
+        this.imageProcessor = imageProcessor;
+        this.expiry = expiry;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    @Transactional
+    public ImageUploadSessionRes createSession(ImageUploadSessionReq request, Long memberId) {
+        ImageProcessor.ImageFormat format = ImageProcessor.ImageFormat.fromContentType(request.contentType())
+                .orElseThrow(() -> new ImageException(
+                        ImageErrorCode.INVALID_FILE_EXTENSION,
+                        "[ImageUploadSessionServiceImpl#createSession] unsupported content type: " + request.contentType(),
+                        "지원하지 않는 파일 형식입니다. (jpg, jpeg, png, gif만 가능)"));
+
+        if (request.size() > maxSize) {
+            throw new ImageException(
+                    ImageErrorCode.FILE_TOO_LARGE,
+                    "[ImageUploadSessionServiceImpl#createSession] declared size exceeds limit. size=" + request.size(),
+                    "허용된 최대 파일 크기를 초과했습니다.");
+        }
+
+        String storedName = UUID.randomUUID() + "." + format.getExtension();
+        String uploadUrl = objectStorage.presignUpload(storedName, expiry);
+
+        Image image = Image.builder()
+                .originalName(request.originalFilename())
+                .storedName(storedName)
+                .accessUrl(objectStorage.urlOf(storedName))
+                .size(request.size())
+                .contentType(format.getContentType())
+                .status(ImageStatus.PENDING)
+                .uploader(memberRepository.getReferenceById(memberId))
+                .build();
+        imageRepository.save(image);
+
+        return new ImageUploadSessionRes(image.getId(), uploadUrl, LocalDateTime.now().plus(expiry));
+    }
+
+    @Override
+    @Transactional
+    public ImageUploadRes completeSession(Long imageId, Long memberId) {
+        Image image = imageRepository.findById(imageId)
+                .orElseThrow(() -> new ImageException(
+                        ImageErrorCode.IMAGE_NOT_FOUND,
+                        "[ImageUploadSessionServiceImpl#completeSession] upload session not found. imageId=" + imageId,
+                        "해당 이미지를 찾을 수 없습니다."));
+
+        if (!Objects.equals(image.getUploader().getId(), memberId)) {
+            throw new AuthException(
+                    AuthErrorCode.USER_AUTH_FAIL,
+                    "[ImageUploadSessionServiceImpl#completeSession] unauthorized completion. uploaderId="
+                            + image.getUploader().getId() + ", requesterId=" + memberId,
+                    "이미지 업로드를 완료할 권한이 없습니다.");
+        }
+
+        if (!image.isPending()) {
+            return new ImageUploadRes(List.of(image.getAccessUrl()), List.of());
+        }
+
+        if (image.getCreateDate().plus(expiry).isBefore(LocalDateTime.now())) {
+            throw new ImageException(
+                    ImageErrorCode.UPLOAD_SESSION_EXPIRED,
+                    "[ImageUploadSessionServiceImpl#completeSession] session expired. imageId=" + imageId
+                            + ", issuedAt=" + image.getCreateDate(),
+                    "업로드 세션이 만료되었습니다. 다시 업로드해 주세요.");
+        }
+
+        StoredObject stored = objectStorage.stat(image.getStoredName())
+                .orElseThrow(() -> new ImageException(
+                        ImageErrorCode.UPLOAD_NOT_COMPLETED,
+                        "[ImageUploadSessionServiceImpl#completeSession] object not uploaded. key=" + image.getStoredName(),
+                        "업로드가 완료되지 않았습니다."));
+
+        if (!matches(image, stored)) {
+            discardObject(image.getStoredName());
+            throw new ImageException(
+                    ImageErrorCode.UPLOAD_VERIFICATION_FAILED,
+                    "[ImageUploadSessionServiceImpl#completeSession] object mismatch. key=" + image.getStoredName()
+                            + ", declared=" + image.getSize() + "/" + image.getContentType()
+                            + ", actual=" + stored.size() + "/" + stored.contentType(),
+                    "업로드된 파일이 요청 정보와 일치하지 않습니다.");
+        }
+
+        // 읽은 뒤에는 업로드된 키를 더 이상 사용하지 않으므로, 검증 결과와 관계없이 삭제합니다.
+        byte[] content = objectStorage.read(image.getStoredName(), (int) maxSize + 1);
+        discardObject(image.getStoredName());
+
+        ImageProcessor.ProcessedImage processed = process(image, content);
+        String storedName = UUID.randomUUID() + "." + processed.format().getExtension();
+        String accessUrl = objectStorage.upload(
+                processed.source(), processed.size(), processed.format().getContentType(), storedName);
+
+        image.activate(storedName, accessUrl, processed.size());
+        return new ImageUploadRes(List.of(image.getAccessUrl()), List.of());
+    }
+
+    @Override
+    @Transactional
+    public int reapExpiredSessions(LocalDateTime threshold) {
+        List<Image> expired = imageRepository.findExpiredUploadSessions(threshold, PageRequest.of(0, REAP_BATCH_SIZE));
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        List<String> keys = expired.stream().map(Image::getStoredName).toList();
+        Set<String> failedKeys;
+        try {
+            // 업로드되지 않은 객체를 삭제하는 것은 오류가 아니므로, 세션 전체를 한 번에 삭제 요청합니다.
+            failedKeys = new HashSet<>(objectStorage.deleteAll(keys));
+        } catch (ImageException e) {
+            log.warn("{}", e.getLogMessage());
+            return 0;
+        }
+
+        List<Long> ids = expired.stream()
+                .filter(image -> !failedKeys.contains(image.getStoredName()))
+                .map(Image::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // 조회 이후 완료된 세션은 새 키로 옮겨졌으므로, 업로드된 키의 삭제는 무해하고 메타데이터만 남기면 됩니다.
+        return imageRepository.deletePendingByIdIn(ids);
+    }
+
+    private boolean matches(Image image, StoredObject stored) {
+        if (stored.size() != image.getSize() || stored.size() > maxSize) {
+            return false;
+        }
+        return ImageProcessor.ImageFormat.fromContentType(stored.contentType())
+                .map(format -> format.getContentType().equals(image.getContentType()))
+                .orElse(false);
+    }
+
+    /**
+     * 스토리지에서 읽은 내용이 선언과 같은 형식의 이미지인지 확인하고, 메타데이터 제거 등 업로드 처리를 적용합니다.
+     */
+    private ImageProcessor.ProcessedImage process(Image image, byte[] content) {
+        ImageProcessor.ProcessedImage processed = null;
+        if (content.length == image.getSize()) {
+            try {
+                processed = imageProcessor.process(new ByteArrayResource(content), content.length, image.getOriginalName());
+            } catch (ImageException e) {
+                log.warn("{}", e.getLogMessage());
+            }
+        }
+
+        if (processed == null || !processed.format().getContentType().equals(image.getContentType())) {
+            throw new ImageException(
+                    ImageErrorCode.UPLOAD_VERIFICATION_FAILED,
+                    "[ImageUploadSessionServiceImpl#completeSession] content mismatch. key=" + image.getStoredName()
+                            + ", declared=" + image.getSize() + "/" + image.getContentType()
+                            + ", actual=" + content.length + "/" + (processed == null ? null : processed.format()),
+                    "업로드된 파일이 요청 정보와 일치하지 않습니다.");
+        }
+        return processed;
+    }
+
+    private void discardObject(String storedName) {
+        try {
+            objectStorage.delete(storedName);
+        } catch (ImageException e) {
+            log.warn("{}", e.getLogMessage());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.plog.domain.image.service;
+
+import com.plog.domain.image.entity.Image;
+import com.plog.domain.image.repository.ImageRepository;
+import com.plog.global.minio.storage.ObjectStorage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.plog.global.config.CacheConfig.IMAGE_ID_CACHE_NAME;
+
+/**
+ * 이미지 접근 URL을 이미지 엔티티로 변환하는 컴포넌트입니다.
+ * <p>
+ * 길고 인덱스가 없는 {@code accessUrl} 컬럼 대신, {@link ObjectStorage#parsePath(String)}로 URL에서
+ * 저장 키를 추출하여 유니크 인덱스가 걸린 {@code storedName} 컬럼으로 조회합니다.
+ * 최근 변환한 URL과 이미지 ID의 매핑은 캐시에 보관하여, 같은 URL은 이후 기본 키 조회만으로 처리합니다.
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. 캐시에 매핑이 있는 URL은 기본 키({@code id})로 조회합니다. <br>
+ * 2. 캐시에 없거나 캐시의 이미지가 이미 삭제된 URL은 저장 키로 조회한 뒤 캐시에 기록합니다. <br>
+ * 3. 이 서비스의 저장소 URL이 아닌 외부 이미지 주소와 업로드가 완료되지 않은 이미지는 결과에서 제외됩니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * {@code @Component}로 등록되며, 캐시는 {@link com.plog.global.config.CacheConfig}에서 구성한
+ * {@code imageIdByUrl} 캐시를 사용합니다.
+ *
+ * @author Jaewon Ryu
+ * @see com.plog.global.config.CacheConfig#IMAGE_ID_CACHE_NAME
+ * @since 2026-10-18
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageUrlResolver {
+
+    private final ImageRepository imageRepository;
+    private final ObjectStorage objectStorage;
+    private final CacheManager cacheManager;
+
+    /**
+     * 단일 이미지 URL을 이미지 엔티티로 변환합니다.
+     *
+     * @param url 이미지 접근 URL
+     * @return 이미지 엔티티, 저장소에 없는 이미지이면 빈 {@link Optional}
+     */
+    public Optional<Image> resolve(String url) {
+        if (url == null || url.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(resolveAll(List.of(url)).get(url));
+    }
+
+    /**
+     * 여러 이미지 URL을 한 번에 이미지 엔티티로 변환합니다.
+     *
+     * @param urls 이미지 접근 URL 목록
+     * @return URL을 키로 하는 이미지 맵 (요청 순서 보장, 변환할 수 없는 URL은 제외)
+     */
+    public Map<String, Image> resolveAll(Collection<String> urls) {
+        Cache cache = cacheManager.getCache(IMAGE_ID_CACHE_NAME);
+
+        // 내부/외부 엔드포인트 URL처럼 서로 다른 URL이 같은 이미지를 가리킬 수 있습니다.
+        Map<Long, List<String>> cachedUrlsById = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String url : urls) {
+            Long id = cache != null ? cache.get(url, Long.class) : null;
+            if (id != null) {
+                cachedUrlsById.computeIfAbsent(id, k -> new ArrayList<>()).add(url);
+            } else {
+                misses.add(url);
+            }
+        }
+
+        Map<String, Image> resolved = new HashMap<>();
+        if (!cachedUrlsById.isEmpty()) {
+            for (Image image : imageRepository.findAllById(List.copyOf(cachedUrlsById.keySet()))) {
+                cachedUrlsById.remove(image.getId()).forEach(url -> resolved.put(url, image));
+            }
+            // 캐시에는 남아 있지만 이미 삭제된 이미지는 저장 키로 다시 확인합니다.
+            cachedUrlsById.values().stream().flatMap(List::stream).forEach(url -> {
+                evict(cache, url);
+                misses.add(url);
+            });
+        }
+
+        resolveByStoredName(misses, resolved, cache);
+
+        Map<String, Image> ordered = new LinkedHashMap<>();
+        for (String url : urls) {
+            Image image = resolved.get(url);
+            if (image != null) {
+                ordered.put(url, image);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * 삭제된 이미지의 URL 매핑을 캐시에서 제거합니다.
+     *
+     * @param urls 삭제된 이미지의 접근 URL 목록
+     */
+    public void evictAll(Collection<String> urls) {
+        Cache cache = cacheManager.getCache(IMAGE_ID_CACHE_NAME);
+        urls.forEach(url -> evict(cache, url));
+    }
+
+    private void resolveByStoredName(List<String> urls, Map<String, Image> resolved, Cache cache) {
+        Map<String, List<String>> urlsByKey = new HashMap<>();
+        for (String url : urls) {
+            String key = objectStorage.parsePath(url);
+            if (!key.isBlank()) {
+                urlsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(url);
+            }
+        }
+        if (urlsByKey.isEmpty()) {
+            return;
+        }
+
+        for (Image image : imageRepository.findAllByStoredNameIn(urlsByKey.keySet())) {
+            // 업로드가 완료되지 않은 이미지는 아직 사용할 수 없으므로 변환하지 않습니다.
+            if (image.isPending()) continue;
+            for (String url : urlsByKey.get(image.getStoredName())) {
+                resolved.put(url, image);
+                if (cache != null) {
+                    cache.put(url, image.getId());
+                }
+            }
+        }
+    }
+
+    private void evict(Cache cache, String url) {
+        if (cache != null) {
+            cache.evict(url);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.plog.domain.image.service;
+
+import com.plog.domain.image.entity.Image;
+import com.plog.domain.image.repository.ImageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 어떤 게시글에서도 참조되지 않는 이미지(고아 이미지)를 주기적으로 정리하는 컴포넌트입니다.
+ * <p>
+ * 업로드 후 게시글에 사용되지 않았거나, 게시글 수정/삭제로 참조가 끊어진 이미지는
+ * 유예 기간(grace period)이 지나면 DB 메타데이터와 MinIO 객체가 함께 삭제됩니다.
+ * 참조 여부는 게시글·템플릿 작성/수정 시 갱신되는 {@code post_image}, {@code post_template_image} 테이블과
+ * 회원 프로필 이미지를 기준으로 판단합니다.
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. 고아 이미지를 배치 크기만큼 조회합니다. <br>
+ * 2. 삭제 직전에 참조 여부를 다시 확인한 뒤, 남은 이미지의 메타데이터를 하나의 DELETE 문으로 삭제하고
+ *    같은 트랜잭션에서 삭제할 파일을 {@code image_deletion}에 기록합니다.
+ *    확인과 삭제 사이에 다시 참조된 이미지가 있어 외래 키 제약에 걸리면 그 배치만 롤백하고 다음 배치를 계속합니다. <br>
+ * 3. 커밋 이후 MinIO의 다중 객체 삭제({@code removeObjects})로 실제 파일을 한 번에 삭제합니다.
+ *    삭제에 실패한 파일은 기록이 남아 {@link ImageObjectDeleter}가 다시 삭제합니다. <br>
+ * 4. 한 번의 실행에서 처리할 배치 수와 배치 사이의 대기 시간을 제한하여 DB/스토리지 부하를 조절합니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * {@code custom.image.gc.enabled} 속성이 true 인 경우에만 빈으로 등록되며 (기본값 false),
+ * {@code @Scheduled}에 의해 {@code custom.image.gc.interval} 간격으로 실행됩니다. <br>
+ * 참조 추적 이전에 작성된 게시글의 이미지는 {@code post_image}에 기록이 없으므로, 켜기 전에
+ * {@code custom.image.gc.tracked-since}를 참조 추적이 포함된 버전의 배포 시각으로 지정해야 합니다.
+ * 기본값이 없어 지정하지 않으면 기동에 실패합니다.
+ *
+ * @author Jaewon Ryu
+ * @see com.plog.domain.image.entity.PostImage
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "custom.image.gc", name = "enabled", havingValue = "true")
+public class OrphanImageCollector {
+
+    private final ImageRepository imageRepository;
+    private final ImageObjectDeleter imageObjectDeleter;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration gracePeriod;
+    private final LocalDateTime trackedSince;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration batchInterval;
+
+    public OrphanImageCollector(
+            ImageRepository imageRepository,
+            ImageObjectDeleter imageObjectDeleter,
+            PlatformTransactionManager transactionManager,
+            @Value("${custom.image.gc.grace-period}") Duration gracePeriod,
+            @Value("${custom.image.gc.tracked-since}") String trackedSince,
+            @Value("${custom.image.gc.batch-size}") int batchSize,
+            @Value("${custom.image.gc.max-batches-per-run}") int maxBatchesPerRun,
+            @Value("${custom.image.gc.batch-interval}") Duration batchInterval) {
+        this.imageRepository = imageRepository;
+        this.imageObjectDeleter = imageObjectDeleter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.gracePeriod = gracePeriod;
+        this.trackedSince = LocalDateTime.parse(trackedSince);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.batchInterval = batchInterval;
+    }
+
+    /**
+     * 스케줄러에 의해 주기적으로 호출되어 고아 이미지를 정리합니다.
+     */
+    @Scheduled(initialDelayString = "${custom.image.gc.interval}", fixedDelayString = "${custom.image.gc.interval}")
+    public void collect() {
+        SweepResult result = sweep(LocalDateTime.now().minus(gracePeriod));
+
+        if (result.deletedCount() > 0 || result.failedCount() > 0) {
+            log.info("[OrphanImageCollector#collect] deleted={}, failed={}, reclaimedBytes={}",
+                    result.deletedCount(), result.failedCount(), result.reclaimedBytes());
+        }
+    }
+
+    /**
+     * {@code threshold} 이전에 업로드된 고아 이미지를 배치 단위로 삭제합니다.
+     *
+     * @param threshold 유예 기간이 적용된 기준 시각
+     * @return 삭제 건수, 실패 건수, 회수한 바이트 수를 담은 결과
+     */
+    public SweepResult sweep(LocalDateTime threshold) {
+        int deleted = 0;
+        int failed = 0;
+        long reclaimedBytes = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Image> candidates = transactionTemplate.execute(status ->
+                    imageRepository.findOrphans(trackedSince, threshold, PageRequest.of(0, batchSize)));
+
+            if (candidates == null || candidates.isEmpty()) {
+                break;
+            }
+
+            List<Image> removed;
+            try {
+                removed = deleteMetadata(candidates);
+            } catch (DataIntegrityViolationException e) {
+                // 다시 참조된 이미지는 다음 조회에서 제외되므로, 이 배치의 나머지 이미지는 다음 배치나 실행에서 삭제됩니다.
+                log.warn("[OrphanImageCollector#sweep] batch rolled back, an image was referenced again. size={}, cause={}",
+                        candidates.size(), e.getMostSpecificCause().getMessage());
+                removed = List.of();
+            }
+            List<String> failedKeys = imageObjectDeleter.delete(removed.stream().map(Image::getStoredName).toList());
+
+            deleted += removed.size() - failedKeys.size();
+            failed += failedKeys.size();
+            Set<String> failedKeySet = Set.copyOf(failedKeys);
+            reclaimedBytes += removed.stream()
+                    .filter(image -> !failedKeySet.contains(image.getStoredName()))
+                    .mapToLong(image -> image.getSize() != null ? image.getSize() : 0L)
+                    .sum();
+
+            if (candidates.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        return new SweepResult(deleted, failed, reclaimedBytes);
+    }
+
+    /**
+     * 삭제 직전에 참조 여부를 다시 확인하고, 여전히 고아인 이미지의 메타데이터만 일괄 삭제합니다.
+     * <p>
+     * 조회 이후 게시글에 다시 사용된 이미지를 실수로 지우지 않도록, 확인과 삭제를 하나의 트랜잭션에서 수행합니다.
+     * 스토리지에서 삭제할 파일도 같은 트랜잭션에서 기록하여, 커밋 후 스토리지 삭제가 실패해도 파일을 다시 찾을 수 있게 합니다.
+     *
+     * @return 메타데이터가 삭제된 이미지 리스트
+     */
+    private List<Image> deleteMetadata(List<Image> candidates) {
+        Map<Long, Image> byId = candidates.stream()
+                .collect(Collectors.toMap(Image::getId, Function.identity()));
+
+        List<Long> orphanIds = transactionTemplate.execute(status -> {
+            List<Long> ids = imageRepository.findOrphanIdsIn(byId.keySet());
+            if (!ids.isEmpty()) {
+                imageRepository.deleteAllByIdInBatch(ids);
+                imageObjectDeleter.record(ids.stream().map(id -> byId.get(id).getStoredName()).toList());
+            }
+            return ids;
+        });
+
+        if (orphanIds == null) {
+            return List.of();
+        }
+        return orphanIds.stream().map(byId::get).toList();
+    }
+
+    /**
+     * 다음 배치 전까지 대기합니다.
+     *
+     * @return 대기 중 인터럽트가 발생하면 {@code false}
+     */
+    private boolean pause() {
+        if (batchInterval.isZero() || batchInterval.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchInterval.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 한 번의 정리 작업 결과입니다.
+     *
+     * @param deletedCount   DB와 스토리지에서 모두 삭제된 이미지 수
+     * @param failedCount    메타데이터는 삭제되었으나 스토리지 삭제에 실패해 재시도를 기다리는 이미지 수
+     * @param reclaimedBytes 회수한 스토리지 용량 (바이트)
+     */
+    public record SweepResult(int deletedCount, int failedCount, long reclaimedBytes) {
+    }
+}
@@ -5,6 +5,7 @@ import com.plog.domain.image.entity.Image;
 import com.plog.domain.image.repository.ImageRepository;
 import com.plog.domain.member.entity.Member;
 import com.plog.domain.member.repository.MemberRepository;
+import com.plog.domain.post.service.FeedVersion;
 import com.plog.global.exception.errorCode.ImageErrorCode;
 import com.plog.global.exception.exceptions.AuthException;
 import com.plog.global.exception.exceptions.ImageException;
@@ -54,12 +55,15 @@ public class ProfileImageServiceImpl implements ProfileImageService {
     private final MemberRepository memberRepository;
     private final ImageRepository imageRepository;
     private final ObjectStorage objectStorage;
+    private final ImageProcessor imageProcessor;
+    private final FeedVersion feedVersion;
 
     @Override
     @Transactional
     public ProfileImageUploadRes uploadProfileImage(Long memberId, MultipartFile file) {
         // 1. 사용자 검증 및 조회
         validateFile(file);
+        ImageProcessor.ProcessedImage processed = imageProcessor.process(file);
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new AuthException(USER_NOT_FOUND,
                         "존재하지 않는 사용자입니다."));
@@ -67,9 +71,10 @@ public class ProfileImageServiceImpl implements ProfileImageService {
         deleteOldProfileImage(member);
 
         String originalFilename = file.getOriginalFilename();
-        String storedName = createStoredFileName(memberId, originalFilename);
+        String storedName = createStoredFileName(memberId, processed.format());
 
-        String accessUrl = objectStorage.upload(file, storedName);
+        String accessUrl = objectStorage.upload(
+                processed.source(), processed.size(), processed.format().getContentType(), storedName);
 
         if (TransactionSynchronizationManager.isActualTransactionActive()) {
             TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
@@ -92,11 +97,13 @@ public class ProfileImageServiceImpl implements ProfileImageService {
                 .originalName(originalFilename)
                 .storedName(storedName)
                 .accessUrl(accessUrl)
+                .size(processed.size())
                 .uploader(member)
                 .build();
 
         imageRepository.save(newImage);
         member.updateProfileImage(newImage);
+        feedVersion.refreshAfterCommit();
 
         return ProfileImageUploadRes.from(member);
     }
@@ -121,27 +128,10 @@ public class ProfileImageServiceImpl implements ProfileImageService {
                     "이미지 파일이 비어있습니다."
             );
         }
-
-        String filename = file.getOriginalFilename();
-        if (!isValidExtension(filename)) {
-            throw new ImageException(
-                    ImageErrorCode.INVALID_FILE_EXTENSION,
-                    "[ProfileImageServiceImpl#uploadProfileImage] invalid extension: " + filename,
-                    "지원하지 않는 파일 형식입니다."
-            );
-        }
-    }
-
-    private boolean isValidExtension(String filename) {
-        String lowerName = filename.toLowerCase();
-        return lowerName.endsWith(".jpg") || lowerName.endsWith(".jpeg") ||
-                lowerName.endsWith(".png") || lowerName.endsWith(".gif");
     }
 
-    private String createStoredFileName(Long memberId, String originalFilename) {
-        String uuid = UUID.randomUUID().toString();
-        String ext = originalFilename.substring(originalFilename.lastIndexOf("."));
-        return "profile/image/" + memberId + "/" + uuid + ext;
+    private String createStoredFileName(Long memberId, ImageProcessor.ImageFormat format) {
+        return "profile/image/" + memberId + "/" + UUID.randomUUID() + "." + format.getExtension();
     }
 
     private void deleteOldProfileImage(Member member) {
@@ -155,6 +145,7 @@ public class ProfileImageServiceImpl implements ProfileImageService {
 
             member.updateProfileImage(null);
             imageRepository.delete(oldImage);
+            feedVersion.refreshAfterCommit();
         }
     }
     @Override
@@ -1,18 +1,27 @@
 package com.plog.domain.member.entity;
 
 import com.plog.domain.image.entity.Image;
+import com.plog.global.config.SecondLevelCacheConfig;
 import com.plog.global.jpa.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import static lombok.AccessLevel.PROTECTED;
 
+// 로그인·작성자 표시 등으로 자주 조회되지만 거의 바뀌지 않아 2차 캐시에 보관합니다. 이메일은 변경할 수 없으므로 자연 키로 사용합니다.
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.MEMBER_REGION)
+@NaturalIdCache(region = SecondLevelCacheConfig.MEMBER_NATURAL_ID_REGION)
 @Getter
 @Builder
 @NoArgsConstructor(access = PROTECTED)
 @AllArgsConstructor
 public class Member extends BaseEntity {
+    @NaturalId
     @Column(unique = true, nullable = false)
     private String email;
 
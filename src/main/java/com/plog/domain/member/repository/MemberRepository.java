@@ -7,13 +7,11 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
-public interface MemberRepository extends JpaRepository<Member, Long> {
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
 
     Optional<Member> findByNickname(String nickname);
 
     boolean existsByEmail(String email);
 
     boolean existsByNickname(String nickname);
-  
-    Optional<Member> findByEmail(String email);
 }
\ No newline at end of file
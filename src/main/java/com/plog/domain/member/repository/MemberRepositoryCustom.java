@@ -0,0 +1,19 @@
+package com.plog.domain.member.repository;
+
+import com.plog.domain.member.entity.Member;
+
+import java.util.Optional;
+
+/**
+ * 자연 키(이메일)로 회원을 조회하는 저장소 확장입니다.
+ * <p>
+ * 파생 쿼리 대신 Hibernate 자연 키 조회를 사용하여, 2차 캐시가 켜져 있으면 이메일 → ID → 엔티티를 DB 없이 찾습니다.
+ *
+ * @author Jaewon Ryu
+ * @see MemberRepositoryCustomImpl
+ * @since 2026-10-18
+ */
+public interface MemberRepositoryCustom {
+
+    Optional<Member> findByEmail(String email);
+}
@@ -0,0 +1,21 @@
+package com.plog.domain.member.repository;
+
+import com.plog.domain.member.entity.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Optional<Member> findByEmail(String email) {
+        return em.unwrap(Session.class).bySimpleNaturalId(Member.class).loadOptional(email);
+    }
+}
@@ -4,6 +4,7 @@ import com.plog.domain.member.dto.MemberInfoRes;
 import com.plog.domain.member.dto.MemberUpdaterReq;
 import com.plog.domain.member.entity.Member;
 import com.plog.domain.member.repository.MemberRepository;
+import com.plog.domain.post.service.FeedVersion;
 import com.plog.global.exception.errorCode.AuthErrorCode;
 import com.plog.global.exception.exceptions.AuthException;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
+    private final FeedVersion feedVersion;
 
     @Override
     @Transactional(readOnly = true)
@@ -61,6 +63,8 @@ public class MemberServiceImpl implements MemberService {
 
         //코드의 흐름 상, save 를 일부로 명시하는 편을 좋아합니다.
         memberRepository.save(member);
+        // 게시글 목록에 작성자 닉네임이 포함되므로 목록 버전을 다시 계산하도록 합니다.
+        feedVersion.refreshAfterCommit();
 
         return MemberInfoRes.from(member);
     }
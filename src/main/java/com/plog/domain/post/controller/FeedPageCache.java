@@ -0,0 +1,141 @@
+package com.plog.domain.post.controller;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.plog.domain.post.dto.PostListRes;
+import com.plog.domain.post.service.PostService;
+import com.plog.global.response.CommonResponse;
+import com.plog.global.response.SliceRes;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 게시글 목록({@code GET /api/posts})의 앞쪽 페이지를 직렬화된 JSON 바이트로 보관하는 캐시입니다.
+ * <p>
+ * 기본 정렬·크기로 요청한 앞쪽 페이지는 사용자와 무관하게 같은 응답이므로,
+ * 조회·DTO 변환·직렬화를 요청마다 반복하지 않고 보관해 둔 바이트를 그대로 응답합니다.
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. 각 페이지는 만들 때의 목록 버전({@link PostService#getFeedVersion()})을 ETag 로 함께 보관합니다. <br>
+ * 2. 게시글 작성·수정·삭제로 목록 버전이 바뀌거나 {@code refresh-interval}이 지나면, 보관 중인 페이지를
+ *    그대로 응답하면서 백그라운드에서 다시 만듭니다. 읽는 요청은 다시 만들기를 기다리지 않습니다.
+ *    {@code refresh-interval}로 다시 만든 페이지는 조회수만 다를 수 있어 같은 약한 ETag 를 유지합니다. <br>
+ * 3. 오래된 페이지는 자신의 ETag 와 함께 응답하므로, 클라이언트가 새 버전의 ETag 로 오래된 본문을 저장하지 않습니다. <br>
+ * 4. 다시 만드는 작업은 페이지당 하나만 실행되어, 쓰기가 몰려도 목록 조회 쿼리가 쌓이지 않습니다. <br>
+ * 5. 페이지는 캐시 내부 잠금 밖의 별도 스레드(가상 스레드 모드에서는 가상 스레드)에서 만들므로,
+ *    처음 요청된 페이지를 기다리는 가상 스레드가 캐리어 스레드에 고정되지 않습니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * {@code @Component}로 등록되며, 캐시 지표는 {@code cache.*{cache=feedPages}}로 노출됩니다.
+ *
+ * <p><b>외부 모듈:</b><br>
+ * Caffeine Cache, Jackson
+ *
+ * @author Jaewon Ryu
+ * @see PostController#getPosts
+ * @since 2026-10-18
+ */
+@Component
+class FeedPageCache {
+
+    static final String CACHE_NAME = "feedPages";
+    static final Sort FEED_SORT = Sort.by(Sort.Direction.DESC, "createDate");
+    static final int FEED_PAGE_SIZE = 10;
+    static final String FEED_MESSAGE = "게시글 목록 조회 성공";
+
+    private final PostService postService;
+    private final JsonMapper jsonMapper;
+    private final int pages;
+    private final ExecutorService refresher;
+    private final AsyncLoadingCache<Integer, FeedPage> cache;
+
+    FeedPageCache(
+            PostService postService,
+            JsonMapper jsonMapper,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${custom.post.feed-cache.pages}") int pages,
+            @Value("${custom.post.feed-cache.refresh-interval}") Duration refreshInterval,
+            @Value("${spring.threads.virtual.enabled}") boolean virtualThreads
+    ) {
+        this.postService = postService;
+        this.jsonMapper = jsonMapper;
+        this.pages = pages;
+        this.refresher = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("feed-page-refresh-", 0).factory())
+                : Executors.newSingleThreadExecutor(Thread.ofPlatform().name("feed-page-refresh").daemon().factory());
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(pages, 1))
+                .refreshAfterWrite(refreshInterval)
+                .executor(refresher)
+                .recordStats()
+                .buildAsync(this::load);
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache.synchronous(), CACHE_NAME));
+    }
+
+    /**
+     * 기본 정렬·크기로 요청한 앞쪽 페이지인지 확인합니다.
+     */
+    boolean isCacheable(Pageable pageable) {
+        return pageable.getPageNumber() < pages
+                && pageable.getPageSize() == FEED_PAGE_SIZE
+                && FEED_SORT.equals(pageable.getSort());
+    }
+
+    /**
+     * 보관 중인 페이지를 반환하고, 목록 버전이 바뀌었으면 백그라운드에서 다시 만듭니다.
+     * 처음 요청된 페이지만 만들어질 때까지 기다립니다.
+     */
+    FeedPage get(int pageNumber) {
+        FeedPage page;
+        try {
+            page = cache.get(pageNumber).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        if (!page.eTag().equals(postService.getFeedVersion().eTag())) {
+            cache.synchronous().refresh(pageNumber);
+        }
+        return page;
+    }
+
+    /**
+     * 보관 중인 페이지를 모두 비웁니다. 다음 요청은 페이지가 만들어질 때까지 기다립니다.
+     */
+    void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private FeedPage load(Integer pageNumber) {
+        // 조회 전에 버전을 읽어, 조회 중에 바뀐 내용은 다음 요청에서 다시 만들도록 합니다.
+        String eTag = postService.getFeedVersion().eTag();
+        SliceRes<PostListRes> posts = postService.getPosts(PageRequest.of(pageNumber, FEED_PAGE_SIZE, FEED_SORT));
+        return new FeedPage(eTag, jsonMapper.writeValueAsBytes(CommonResponse.success(posts, FEED_MESSAGE)));
+    }
+
+    /**
+     * 직렬화된 목록 페이지와 그 페이지를 만들 때의 ETag 입니다.
+     */
+    record FeedPage(String eTag, byte[] body) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.plog.domain.post.controller;
 
+import com.plog.domain.post.dto.ContentVersion;
 import com.plog.domain.post.dto.PostCreateReq;
 import com.plog.domain.post.dto.PostInfoRes;
 import com.plog.domain.post.dto.PostListRes;
@@ -7,6 +8,7 @@ import com.plog.domain.post.dto.PostUpdateReq;
 import com.plog.domain.post.service.PostService;
 import com.plog.global.response.CommonResponse;
 import com.plog.global.response.Response;
+import com.plog.global.response.SliceRes;
 import com.plog.global.security.SecurityUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,9 +16,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 
@@ -30,8 +36,8 @@ import java.net.URI;
  * 상속 정보 없음.
  *
  * <p><b>주요 생성자:</b><br>
- * {@code PostController(PostService postService)} <br>
- * 생성자 주입을 통해 PostService 빈을 주입받습니다.
+ * {@code PostController(PostService postService, FeedPageCache feedPageCache)} <br>
+ * 생성자 주입을 통해 PostService 와 목록 페이지 캐시 빈을 주입받습니다.
  *
  * <p><b>빈 관리:</b><br>
  * {@code @RestController}를 사용하여 스프링 컨테이너의 빈으로 관리되며,
@@ -48,7 +54,14 @@ import java.net.URI;
 @RequiredArgsConstructor
 public class PostController {
 
+    /**
+     * 비로그인 사용자도 조회하는 응답은 공유 캐시에 저장할 수 있게 하되, 조회수가 포함되어 있으므로
+     * 매번 ETag 로 재검증하도록 합니다.
+     */
+    private static final CacheControl PUBLIC_REVALIDATE = CacheControl.noCache().cachePublic();
+
     private final PostService postService;
+    private final FeedPageCache feedPageCache;
 
     /**
      * 새로운 게시물을 생성합니다.
@@ -68,17 +81,29 @@ public class PostController {
 
     /**
      * 특정 ID의 게시물을 상세 조회합니다.
+     * <p>
+     * 본문과 댓글을 조회하기 전에 게시물 버전({@code ETag}, {@code Last-Modified})을 먼저 확인하여,
+     * 클라이언트가 가진 응답이 최신이면 조회수만 올리고 {@code 304 Not Modified}로 응답합니다.
      *
      * @param id 게시물 고유 식별자
-     * @return 조회된 게시물 정보와 성공 메시지를 포함한 공통 응답 객체 (200 OK)
+     * @return 조회된 게시물 정보와 성공 메시지를 포함한 공통 응답 객체 (200 OK), 변경이 없으면 304
      */
     @GetMapping("/{id}")
     public ResponseEntity<Response<PostInfoRes>> getPost(
             @PathVariable Long id,
-            @RequestParam(name = "comment_offset", defaultValue = "0") int pageNumber
+            @RequestParam(name = "comment_offset", defaultValue = "0") int pageNumber,
+            WebRequest webRequest
     ) {
+        ContentVersion version = postService.getPostVersion(id);
+        if (webRequest.checkNotModified(version.eTag(), version.lastModified())) {
+            postService.increaseViewCount(id);
+            return notModified();
+        }
+
         PostInfoRes response = postService.getPostDetail(id, pageNumber);
-        return ResponseEntity.ok(CommonResponse.success(response, "게시글 조회 성공"));
+        return ResponseEntity.ok()
+                .cacheControl(PUBLIC_REVALIDATE)
+                .body(CommonResponse.success(response, "게시글 조회 성공"));
     }
 
     /**
@@ -86,16 +111,40 @@ public class PostController {
      * <p>
      * {@link Slice}를 사용하여 전체 카운트 쿼리 없이 다음 페이지 존재 여부만 확인합니다.
      * 이는 무한 스크롤 구현에 최적화된 방식입니다.
+     * <p>
+     * 목록 버전({@code ETag})이 클라이언트가 가진 값과 같으면 조회 없이 {@code 304 Not Modified}로 응답합니다.
+     * <p>
+     * 기본 정렬·크기로 요청한 앞쪽 페이지는 {@link FeedPageCache}가 보관한 JSON 바이트를 그대로 응답하며,
+     * 이때 {@code ETag}는 그 페이지를 만들 때의 목록 버전입니다.
      *
      * @param pageable 페이징 및 정렬 정보 (기본값: 10개씩, 생성일 내림차순)
-     * @return 게시물 데이터 슬라이스와 성공 메시지를 포함한 공통 응답 객체
+     * @return 게시물 데이터 슬라이스와 성공 메시지를 포함한 공통 응답 객체(캐시된 페이지는 직렬화된 바이트), 변경이 없으면 304
      */
     @GetMapping
-    public ResponseEntity<Response<Slice<PostListRes>>> getPosts(
-            @PageableDefault(size = 10, sort = "createDate", direction = Sort.Direction.DESC) Pageable pageable
+    public ResponseEntity<?> getPosts(
+            @PageableDefault(size = FeedPageCache.FEED_PAGE_SIZE, sort = "createDate", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest
     ) {
-        Slice<PostListRes> posts = postService.getPosts(pageable);
-        return ResponseEntity.ok(CommonResponse.success(posts, "게시글 목록 조회 성공"));
+        if (feedPageCache.isCacheable(pageable)) {
+            FeedPageCache.FeedPage page = feedPageCache.get(pageable.getPageNumber());
+            if (webRequest.checkNotModified(page.eTag())) {
+                return notModified();
+            }
+            return ResponseEntity.ok()
+                    .cacheControl(PUBLIC_REVALIDATE)
+                    .eTag(page.eTag())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(page.body());
+        }
+
+        if (webRequest.checkNotModified(postService.getFeedVersion().eTag())) {
+            return notModified();
+        }
+
+        SliceRes<PostListRes> posts = postService.getPosts(pageable);
+        return ResponseEntity.ok()
+                .cacheControl(PUBLIC_REVALIDATE)
+                .body(CommonResponse.success(posts, FeedPageCache.FEED_MESSAGE));
     }
 
     /**
@@ -149,18 +198,37 @@ public class PostController {
      * {@link Slice} 방식을 사용하여 전체 게시물 개수(Count)를 조회하지 않고,
      * 다음 페이지 존재 여부만을 확인하여 반환합니다. 이는 무한 스크롤이나 '더 보기'
      * 형태의 UI 구현에 최적화되어 있습니다.
+     * <p>
+     * 전체 목록과 같은 목록 버전({@code ETag})을 사용하여, 변경이 없으면 {@code 304 Not Modified}로 응답합니다.
      *
      * @param memberId 조회할 사용자의 고유 식별자(ID)
      * @param pageable 페이징 및 정렬 정보 (기본값: 10개씩, 생성일 내림차순 정렬)
-     * @return 게시물 데이터 슬라이스와 성공 메시지를 포함한 공통 응답 객체
+     * @return 게시물 데이터 슬라이스와 성공 메시지를 포함한 공통 응답 객체, 변경이 없으면 304
      */
     @GetMapping("/members/{memberId}")
-    public ResponseEntity<Response<Slice<PostInfoRes>>> getPostsByMember(
+    public ResponseEntity<Response<SliceRes<PostInfoRes>>> getPostsByMember(
             @PathVariable Long memberId,
-            @PageableDefault(size = 10, sort = "createDate", direction = Sort.Direction.DESC) Pageable pageable
+            @PageableDefault(size = 10, sort = "createDate", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest
     ) {
-        Slice<PostInfoRes> posts = postService.getPostsByMember(memberId, pageable);
+        if (webRequest.checkNotModified(postService.getFeedVersion().eTag())) {
+            return notModified();
+        }
+
+        SliceRes<PostInfoRes> posts = postService.getPostsByMember(memberId, pageable);
+
+        return ResponseEntity.ok()
+                .cacheControl(PUBLIC_REVALIDATE)
+                .body(CommonResponse.success(posts, "사용자 게시글 목록 조회 성공"));
+    }
 
-        return ResponseEntity.ok(CommonResponse.success(posts, "사용자 게시글 목록 조회 성공"));
+    /**
+     * {@link WebRequest#checkNotModified}가 {@code ETag}, {@code Last-Modified} 헤더를 이미 설정했으므로,
+     * 캐시 정책만 더해 본문 없이 응답합니다.
+     */
+    private static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(PUBLIC_REVALIDATE)
+                .build();
     }
 }
\ No newline at end of file
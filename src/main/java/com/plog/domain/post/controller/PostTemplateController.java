@@ -6,6 +6,7 @@ import com.plog.domain.post.dto.PostTemplateUpdateReq;
 import com.plog.domain.post.service.PostTemplateService;
 import com.plog.global.response.CommonResponse;
 import com.plog.global.response.Response;
+import com.plog.global.response.SliceRes;
 import com.plog.global.security.SecurityUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +15,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 
 /**
  * postTemplate 관련한 API 엔드포인트입니다.
@@ -27,6 +27,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PostTemplateController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostTemplateService postTemplateService;
 
     @PostMapping
@@ -47,11 +49,22 @@ public class PostTemplateController {
         return ResponseEntity.ok(CommonResponse.success(response, "post template 조회"));
     }
 
+    /**
+     * 로그인한 회원의 템플릿 목록을 조회합니다.
+     * <p>
+     * 이전 응답의 마지막 템플릿 id 를 {@code cursor} 로 전달하면 그 다음 템플릿부터 조회합니다.
+     *
+     * @param cursor 이전 페이지의 마지막 템플릿 id (첫 페이지는 생략)
+     * @param size   조회할 개수 (기본값 20, 최대 100)
+     */
     @GetMapping
-    public ResponseEntity<Response<List<PostTemplateSummaryRes>>> getPostTemplates(
-            @AuthenticationPrincipal SecurityUser securityUser
+    public ResponseEntity<Response<SliceRes<PostTemplateSummaryRes>>> getPostTemplates(
+            @AuthenticationPrincipal SecurityUser securityUser,
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size
     ) {
-        List<PostTemplateSummaryRes> response = postTemplateService.getTemplateListByMember(securityUser.getId());
+        SliceRes<PostTemplateSummaryRes> response = postTemplateService.getTemplateListByMember(
+                securityUser.getId(), cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
 
         return ResponseEntity.ok(CommonResponse.success(response, "post template 리스트 조회"));
     }
@@ -0,0 +1,18 @@
+package com.plog.domain.post.dto;
+
+/**
+ * 조건부 요청({@code If-None-Match}, {@code If-Modified-Since})을 판단하기 위한 응답 버전 정보입니다.
+ * <p>
+ * 본문을 조회·직렬화하기 전에 가벼운 조회만으로 만들 수 있어야 하며,
+ * 응답에 조회수처럼 매 요청 바뀌는 값이 포함되므로 ETag 는 약한 비교용({@code W/"..."})으로 만듭니다.
+ *
+ * @param eTag         약한 ETag
+ * @param lastModified 마지막 수정 시각 (epoch ms), 알 수 없으면 {@code -1}
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+public record ContentVersion(
+        String eTag,
+        long lastModified
+) {
+}
@@ -0,0 +1,24 @@
+package com.plog.domain.post.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 응답의 버전을 계산하기 위해, 목록에 포함되는 데이터의 개수와 최댓값만 조회하는 projection 입니다.
+ * <p>
+ * 게시글은 삭제되면 수정 시각이 남지 않으므로 개수를 함께 사용하고, 해시태그는 수정 시 다시 저장되므로 최대 ID로 변경을 확인합니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+public interface FeedVersionView {
+
+    long getPostCount();
+
+    Long getPostMaxId();
+
+    LocalDateTime getPostModifyDate();
+
+    Long getHashTagMaxId();
+
+    LocalDateTime getAuthorModifyDate();
+}
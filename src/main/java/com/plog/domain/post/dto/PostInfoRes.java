@@ -3,7 +3,7 @@ package com.plog.domain.post.dto;
 import com.plog.domain.comment.dto.CommentInfoRes;
 import com.plog.domain.hashtag.entity.PostHashTag;
 import com.plog.domain.post.entity.Post;
-import org.springframework.data.domain.Slice;
+import com.plog.global.response.SliceRes;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,7 +18,7 @@ import java.util.List;
  * {@link java.lang.Record} 클래스를 암시적으로 상속받으며, 모든 필드는 final로 선언됩니다.
  *
  * <p><b>주요 생성자:</b><br>
- * {@code PostInfoRes(Long id, String title, String content, int viewCount, LocalDateTime createDate, LocalDateTime modifyDate, Slice<CommentInfoRes> comments, String nickname, String profileImage)} <br>
+ * {@code PostInfoRes(Long id, String title, String content, int viewCount, LocalDateTime createDate, LocalDateTime modifyDate, SliceRes<CommentInfoRes> comments, String nickname, String profileImage)} <br>
  * 레코드 정의에 따른 표준 생성자를 사용합니다.
  *
  * <p><b>빈 관리:</b><br>
@@ -38,7 +38,7 @@ public record PostInfoRes(
         int viewCount,
         LocalDateTime createDate,
         LocalDateTime modifyDate,
-        Slice<CommentInfoRes> comments,
+        SliceRes<CommentInfoRes> comments,
         List<String> hashtags,
         String thumbnail,
         Long authorid,
@@ -76,7 +76,7 @@ public record PostInfoRes(
      * @param comments 게시물에 속한 댓글 슬라이스 데이터
      * @return 필드값과 댓글 목록이 매핑된 PostInfoRes 객체
      */
-    public static PostInfoRes from(Post post, Slice<CommentInfoRes> comments) {
+    public static PostInfoRes from(Post post, SliceRes<CommentInfoRes> comments) {
         return new PostInfoRes(
                 post.getId(),
                 post.getTitle(),
@@ -29,4 +29,16 @@ public record PostTemplateInfoDto(
                 .content(template.getContent())
                 .build();
     }
+
+    /**
+     * seed 를 참조하는 템플릿의 제목과 본문을 seed 의 내용으로 채워 반환합니다.
+     */
+    public static PostTemplateInfoDto of(PostTemplate template, PostTemplateSeed seed) {
+        return PostTemplateInfoDto.builder()
+                .id(template.getId())
+                .name(template.getName())
+                .title(seed.title())
+                .content(seed.content())
+                .build();
+    }
 }
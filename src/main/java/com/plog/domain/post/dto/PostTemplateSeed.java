@@ -10,6 +10,7 @@ import lombok.Builder;
  */
 @Builder
 public record PostTemplateSeed (
+       String key,
        String name,
        String title,
        String content) {
@@ -1,6 +1,5 @@
 package com.plog.domain.post.dto;
 
-import com.plog.domain.post.entity.PostTemplate;
 import lombok.Builder;
 
 /**
@@ -12,12 +11,14 @@ import lombok.Builder;
 @Builder
 public record PostTemplateSummaryRes(
         String name,
-        Long id
+        Long id,
+        String title
 ) {
-    public static PostTemplateSummaryRes to(PostTemplate postTemplate) {
+    public static PostTemplateSummaryRes to(PostTemplateSummaryView view, String title) {
         return PostTemplateSummaryRes.builder()
-                .name(postTemplate.getName())
-                .id(postTemplate.getId())
+                .name(view.getName())
+                .id(view.getId())
+                .title(title)
                 .build();
     }
 }
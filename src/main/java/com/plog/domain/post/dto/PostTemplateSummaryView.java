@@ -0,0 +1,18 @@
+package com.plog.domain.post.dto;
+
+/**
+ * 템플릿 목록 조회 시 본문(content)을 제외한 컬럼만 조회하기 위한 projection 입니다.
+ *
+ * @author jack8
+ * @since 2026-10-18
+ */
+public interface PostTemplateSummaryView {
+
+    Long getId();
+
+    String getName();
+
+    String getTitle();
+
+    String getSeedKey();
+}
@@ -0,0 +1,28 @@
+package com.plog.domain.post.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 응답의 버전을 계산하기 위해, 응답에 포함되는 데이터의 변경 시각과 개수만 조회하는 projection 입니다.
+ * <p>
+ * 댓글·해시태그는 삭제되면 수정 시각이 남지 않으므로 개수를 함께 사용합니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+public interface PostVersionView {
+
+    LocalDateTime getPostModifyDate();
+
+    LocalDateTime getAuthorModifyDate();
+
+    long getCommentCount();
+
+    LocalDateTime getCommentModifyDate();
+
+    LocalDateTime getCommentAuthorModifyDate();
+
+    long getHashTagCount();
+
+    Long getHashTagMaxId();
+}
@@ -4,6 +4,7 @@ import com.plog.domain.hashtag.entity.PostHashTag;
 import com.plog.domain.member.entity.Member;
 import com.plog.global.jpa.entity.BaseEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import lombok.*;
 
 import java.util.ArrayList;
@@ -58,15 +59,12 @@ public class Post extends BaseEntity{
     private Member member;
 
     @Builder.Default
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PostHashTag> postHashTags = new ArrayList<>();
 
     private String thumbnail;
 
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
     public void update(String title, String content, String summary, String thumbnail) {
         this.title = title;
         this.content = content;
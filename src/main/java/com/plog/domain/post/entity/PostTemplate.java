@@ -9,6 +9,10 @@ import lombok.*;
  * 게시글 작성 시 게시글의 템플릿을 기존에 설정해 둘 수 있습니다. 이를 위한 엔티티 클래스입니다.
  * <p>
  * 제목, 본문, author 에 대한 데이터를 가지고 있습니다.
+ * <p>
+ * 회원가입 시 지급되는 기본 템플릿은 본문을 복사하지 않고 {@code seedKey}로 공유 seed 를 참조하는 가벼운 행으로 저장됩니다.
+ * 이 경우 제목과 본문은 빈 값이며, 조회 시 seed 의 내용으로 채워집니다.
+ * 사용자가 템플릿을 수정하는 시점에 비로소 본문이 복사(copy-on-write)되고 seed 참조가 해제됩니다.
  *
  * <p><b>상속 정보:</b><br>
  * {@link BaseEntity}를 상속받아 고유 식별자(id)와 생성/수정 시간을 공통으로 관리합니다.
@@ -37,10 +41,21 @@ public class PostTemplate extends BaseEntity {
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
 
+    /**
+     * 참조하는 기본 템플릿 seed 의 키입니다. 사용자가 직접 작성했거나 수정한 템플릿은 {@code null} 입니다.
+     */
+    @Column(length = 100)
+    private String seedKey;
+
+    public boolean isSeedReference() {
+        return seedKey != null;
+    }
+
     public PostTemplate update(String name, String title, String content) {
         this.title = title;
         this.content = content;
         this.name = name;
+        this.seedKey = null;
 
         return this;
     }
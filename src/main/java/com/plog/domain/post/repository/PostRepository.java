@@ -1,9 +1,12 @@
 package com.plog.domain.post.repository;
 
+import com.plog.domain.post.dto.FeedVersionView;
+import com.plog.domain.post.dto.PostVersionView;
 import com.plog.domain.post.entity.Post;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -36,21 +39,57 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     /**
      * 게시글 조회: 작성자(Member), 해시태그(PostHashTag)를 한 번의 쿼리로 함께 가져옵니다.
      */
-    @Query("select p from Post p join fetch p.member left join fetch p.postHashTags where p.id = :id")
+    @Query("select p from Post p join fetch p.member m left join fetch m.profileImage left join fetch p.postHashTags where p.id = :id")
     Optional<Post> findByIdWithMember(@Param("id") Long id);
 
     /**
-     * 전체 게시글 조회: 작성자(Member), 해시태그(PostHashTag)를 한 번의 쿼리로 함께 가져옵니다.
+     * 전체 게시글 조회: 작성자(Member)와 프로필 이미지를 한 번의 쿼리로 함께 가져옵니다.
+     * <p>
+     * 컬렉션(PostHashTag)을 fetch join 하면 페이징이 메모리에서 처리되므로,
+     * 해시태그는 {@link Post#getPostHashTags()}의 배치 로딩으로 한 번에 가져옵니다.
      */
-    @Query("select p from Post p join fetch p.member left join fetch p.postHashTags where p.status = 'PUBLISHED'")
+    @Query("select p from Post p join fetch p.member m left join fetch m.profileImage where p.status = 'PUBLISHED'")
     Slice<Post> findAllWithMember(Pageable pageable);
 
     /**
      * 특정 회원 게시글 조회: memberId로 필터링하면서 작성자 정보를 함께 가져옵니다.
+     * 해시태그는 배치 로딩으로 가져옵니다.
      */
     @Query("select p from Post p " +
-            "join fetch p.member " +
-            "left join fetch p.postHashTags " +
+            "join fetch p.member m " +
+            "left join fetch m.profileImage " +
             "where p.member.id = :memberId")
     Slice<Post> findAllByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * 게시글 상세 응답의 버전 계산용: 게시글·작성자·댓글·댓글 작성자의 최종 수정 시각과 댓글·해시태그 개수를 한 번에 조회합니다.
+     */
+    @Query("select p.modifyDate as postModifyDate, m.modifyDate as authorModifyDate, " +
+            "(select count(c) from Comment c where c.post = p) as commentCount, " +
+            "(select max(c.modifyDate) from Comment c where c.post = p) as commentModifyDate, " +
+            "(select max(a.modifyDate) from Comment c join c.author a where c.post = p) as commentAuthorModifyDate, " +
+            "(select count(t) from PostHashTag t where t.post = p) as hashTagCount, " +
+            "(select max(t.id) from PostHashTag t where t.post = p) as hashTagMaxId " +
+            "from Post p join p.member m " +
+            "where p.id = :id")
+    Optional<PostVersionView> findVersionById(@Param("id") Long id);
+
+    /**
+     * 게시글 목록 응답의 버전 계산용: 게시글 개수·최대 ID·최종 수정 시각과 해시태그 최대 ID, 회원 최종 수정 시각을 한 번에 조회합니다.
+     * <p>
+     * 전체 목록과 회원별 목록이 같은 버전을 사용하므로 게시글 상태로 거르지 않습니다.
+     */
+    @Query("select count(p) as postCount, max(p.id) as postMaxId, max(p.modifyDate) as postModifyDate, " +
+            "(select max(t.id) from PostHashTag t) as hashTagMaxId, " +
+            "(select max(m.modifyDate) from Member m) as authorModifyDate " +
+            "from Post p")
+    FeedVersionView findFeedVersion();
+
+    /**
+     * 조회수 증가: 엔티티를 수정하면 {@code modifyDate}도 함께 바뀌어 게시글 버전이 매 조회마다 달라지므로,
+     * 조회수 컬럼만 직접 갱신합니다.
+     */
+    @Modifying
+    @Query("update Post p set p.viewCount = p.viewCount + 1 where p.id = :id")
+    int increaseViewCount(@Param("id") Long id);
 }
@@ -1,9 +1,12 @@
 package com.plog.domain.post.repository;
 
+import com.plog.domain.post.dto.PostTemplateSummaryView;
 import com.plog.domain.post.entity.PostTemplate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
-
-import java.util.List;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * PostTemplate 에 대한 DAO 인터페이스입니다.
@@ -17,5 +20,18 @@ import java.util.List;
  */
 public interface PostTemplateRepository extends JpaRepository<PostTemplate, Long> {
 
-    List<PostTemplate> findAllByMember_Id(Long memberId);
+    /**
+     * 회원의 템플릿 요약 목록을 id 기준 keyset 방식으로 조회합니다. 본문(content)은 조회하지 않습니다.
+     *
+     * @param memberId 회원 식별자
+     * @param cursorId 이전 페이지의 마지막 템플릿 id (첫 페이지는 0)
+     * @param pageable 조회 크기 (정렬은 id 오름차순으로 고정)
+     */
+    @Query("select t.id as id, t.name as name, t.title as title, t.seedKey as seedKey " +
+            "from PostTemplate t " +
+            "where t.member.id = :memberId and t.id > :cursorId " +
+            "order by t.id asc")
+    Slice<PostTemplateSummaryView> findSummariesByMemberId(@Param("memberId") Long memberId,
+                                                           @Param("cursorId") Long cursorId,
+                                                           Pageable pageable);
 }
@@ -0,0 +1,104 @@
+package com.plog.domain.post.service;
+
+import com.plog.domain.post.dto.ContentVersion;
+import com.plog.domain.post.dto.FeedVersionView;
+import com.plog.domain.post.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * 게시글 목록 응답의 버전입니다.
+ * <p>
+ * 목록에 보이는 데이터(게시글, 해시태그, 작성자 닉네임·프로필 이미지)의 개수와 최댓값을 한 번의 집계 쿼리로 조회해 ETag 를 만들고,
+ * 목록 조회 전에 이 값으로 변경이 없으면 {@code 304 Not Modified}로 응답합니다.
+ * 데이터에서 계산하므로 다른 인스턴스에서의 변경이나 DB 를 직접 수정한 경우에도 버전이 바뀝니다.
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. 게시글 개수·최대 ID·최종 수정 시각, 해시태그 최대 ID, 회원 최종 수정 시각으로 ETag 를 만듭니다.
+ *    삭제는 개수로, 해시태그 교체는 새로 발급된 ID 로 확인합니다. <br>
+ * 2. 목록 조회마다 집계 쿼리를 실행하지 않도록, 계산한 버전을 {@code custom.post.feed-version.ttl} 동안 재사용합니다.
+ *    따라서 다른 인스턴스에서의 변경은 최대 그 시간만큼 늦게 반영됩니다. <br>
+ * 3. 이 인스턴스에서의 변경은 트랜잭션 커밋 후 {@link #refreshAfterCommit()}으로 보관 중인 버전을 버려 바로 반영합니다. <br>
+ * 4. 조회수는 별도의 UPDATE 로 증가하여 버전에 포함되지 않습니다.
+ *    약한 ETag 이므로, 조회수만 다른 응답은 같은 버전으로 취급합니다. <br>
+ * 5. 삭제는 수정 시각에 남지 않으므로 {@code Last-Modified}는 제공하지 않습니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * {@code @Component}로 등록되며, 게시글·회원 정보를 변경하는 서비스에서 {@link #refreshAfterCommit()}을 호출합니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+@Component
+public class FeedVersion {
+
+    private final PostRepository postRepository;
+    private final long ttlNanos;
+
+    private volatile Snapshot snapshot;
+
+    public FeedVersion(PostRepository postRepository,
+                       @Value("${custom.post.feed-version.ttl}") Duration ttl) {
+        this.postRepository = postRepository;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public ContentVersion current() {
+        long now = System.nanoTime();
+        Snapshot cached = snapshot;
+        if (cached != null && now - cached.loadedAt() < ttlNanos) {
+            return cached.version();
+        }
+        // 만료 직후 동시에 들어온 요청은 각자 계산할 수 있으나, 잠금을 기다리며 스레드를 붙잡지 않도록 허용합니다.
+        ContentVersion version = load();
+        snapshot = new Snapshot(version, now);
+        return version;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 보관 중인 버전을 버려, 다음 요청에서 다시 계산하도록 합니다. 트랜잭션 밖에서는 바로 버립니다.
+     */
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            snapshot = null;
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                snapshot = null;
+            }
+        });
+    }
+
+    /**
+     * 집계 쿼리로 현재 목록 버전을 계산합니다.
+     */
+    ContentVersion load() {
+        FeedVersionView view = postRepository.findFeedVersion();
+        String eTag = LongStream.of(
+                        view.getPostCount(),
+                        view.getPostMaxId() == null ? 0 : view.getPostMaxId(),
+                        epochMillis(view.getPostModifyDate()),
+                        view.getHashTagMaxId() == null ? 0 : view.getHashTagMaxId(),
+                        epochMillis(view.getAuthorModifyDate()))
+                .mapToObj(value -> Long.toString(value, Character.MAX_RADIX))
+                .collect(Collectors.joining("-", "W/\"feed-", "\""));
+        return new ContentVersion(eTag, -1);
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record Snapshot(ContentVersion version, long loadedAt) {
+    }
+}
@@ -1,11 +1,12 @@
 package com.plog.domain.post.service;
 
+import com.plog.domain.post.dto.ContentVersion;
 import com.plog.domain.post.dto.PostCreateReq;
 import com.plog.domain.post.dto.PostInfoRes;
 import com.plog.domain.post.dto.PostListRes;
 import com.plog.domain.post.dto.PostUpdateReq;
+import com.plog.global.response.SliceRes;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 
 
 /**
@@ -41,7 +42,7 @@ public interface PostService {
      * 특정 ID의 게시물을 상세 조회합니다.
      * <p><b>실행 로직:</b><br>
      * 1. 전달받은 ID로 게시물을 검색하며, 존재하지 않을 경우 {@code PostException}을 발생시킵니다. <br>
-     * 2. 조회에 성공하면 해당 게시물의 누적 조회수를 1 증가시킵니다. <br>
+     * 2. 조회에 성공하면 해당 게시물의 누적 조회수를 1 증가시킵니다. (수정 시각은 바뀌지 않습니다.) <br>
      * 3. 엔티티 객체를 응답용 DTO({@code PostInfoRes})로 변환하여 반환합니다.
      *
      * @param id 게시물 고유 식별자
@@ -51,6 +52,38 @@ public interface PostService {
      */
     PostInfoRes getPostDetail(Long id, int pageNumber);
 
+    /**
+     * 게시물 상세 응답의 버전을 조회합니다.
+     * <p><b>실행 로직:</b><br>
+     * 1. 게시물, 작성자, 댓글, 댓글 작성자의 최종 수정 시각과 댓글·해시태그 개수를 한 번의 쿼리로 조회합니다. <br>
+     * 2. 조회한 값으로 ETag 를 만들고, 가장 늦은 수정 시각을 {@code Last-Modified}로 사용합니다.
+     * <p>
+     * 본문과 댓글을 조회하기 전에 호출하여, 클라이언트가 가진 응답이 최신이면 {@code 304}로 응답하는 데 사용합니다.
+     *
+     * @param id 게시물 고유 식별자
+     * @return 게시물 상세 응답의 버전 정보
+     * @throws com.plog.global.exception.exceptions.PostException 게시물을 찾을 수 없을 때 발생
+     */
+    ContentVersion getPostVersion(Long id);
+
+    /**
+     * 게시물의 조회수를 1 증가시킵니다.
+     * <p>
+     * 조건부 요청에 {@code 304}로 응답하여 {@link #getPostDetail}을 호출하지 않은 경우에도 조회수를 집계하기 위해 사용합니다.
+     *
+     * @param id 게시물 고유 식별자
+     */
+    void increaseViewCount(Long id);
+
+    /**
+     * 게시물 목록 응답의 버전을 반환합니다.
+     * <p>
+     * 게시물이나 작성자 정보가 변경될 때마다 바뀌며, 집계 쿼리로 계산한 값을 짧은 시간 동안 재사용합니다.
+     *
+     * @return 게시물 목록 응답의 버전 정보
+     */
+    ContentVersion getFeedVersion();
+
     /**
      * 게시물 목록을 페이징하여 조회합니다.
      * <p><b>실행 로직:</b><br>
@@ -60,7 +93,7 @@ public interface PostService {
      *
      * @return 최신순으로 정렬된 게시물 정보 DTO 리스트
      */
-    Slice<PostListRes> getPosts(Pageable pageable);
+    SliceRes<PostListRes> getPosts(Pageable pageable);
 
     /**
      * 기존 게시물을 수정합니다.
@@ -103,5 +136,5 @@ public interface PostService {
      * @param pageable 페이징 및 정렬 정보 (size, page, sort 등)
      * @return 해당 회원이 작성한 최신순 게시물 정보 DTO 리스트
      */
-    Slice<PostInfoRes> getPostsByMember(Long memberId, Pageable pageable);
+    SliceRes<PostInfoRes> getPostsByMember(Long memberId, Pageable pageable);
 }
\ No newline at end of file
@@ -2,19 +2,25 @@ package com.plog.domain.post.service;
 
 import com.plog.domain.comment.constant.CommentConstants;
 import com.plog.domain.comment.dto.CommentInfoRes;
-import com.plog.domain.comment.dto.ReplyInfoRes;
 import com.plog.domain.comment.entity.Comment;
 import com.plog.domain.comment.repository.CommentRepository;
+import com.plog.domain.comment.service.ReplyPreviewLoader;
 import com.plog.domain.hashtag.entity.HashTag;
 import com.plog.domain.hashtag.entity.PostHashTag;
 import com.plog.domain.hashtag.repository.HashTagRepository;
 import com.plog.domain.hashtag.repository.PostHashTagRepository;
+import com.plog.domain.image.entity.Image;
+import com.plog.domain.image.entity.PostImage;
+import com.plog.domain.image.repository.PostImageRepository;
+import com.plog.domain.image.service.ImageUrlResolver;
 import com.plog.domain.member.entity.Member;
 import com.plog.domain.member.repository.MemberRepository;
+import com.plog.domain.post.dto.ContentVersion;
 import com.plog.domain.post.dto.PostCreateReq;
 import com.plog.domain.post.dto.PostInfoRes;
 import com.plog.domain.post.dto.PostListRes;
 import com.plog.domain.post.dto.PostUpdateReq;
+import com.plog.domain.post.dto.PostVersionView;
 import com.plog.domain.post.entity.Post;
 import com.plog.domain.post.entity.PostStatus;
 import com.plog.domain.post.repository.PostRepository;
@@ -22,7 +28,13 @@ import com.plog.global.exception.errorCode.AuthErrorCode;
 import com.plog.global.exception.errorCode.PostErrorCode;
 import com.plog.global.exception.exceptions.AuthException;
 import com.plog.global.exception.exceptions.PostException;
+import com.plog.global.jfr.MarkdownProcessingEvent;
+import com.plog.global.jfr.TagResolutionEvent;
+import com.plog.global.response.SliceRes;
 import lombok.RequiredArgsConstructor;
+import org.commonmark.node.AbstractVisitor;
+import org.commonmark.node.HtmlBlock;
+import org.commonmark.node.HtmlInline;
 import org.commonmark.node.Node;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.text.TextContentRenderer;
@@ -33,7 +45,18 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 /**
  * {@link PostService} 인터페이스의 기본 구현체입니다.
@@ -55,23 +78,33 @@ public class PostServiceImpl implements PostService {
     /** 요약본 생성을 위한 최대 글자 수 기준입니다. */
     private static final int MAX_SUMMARY_LENGTH = 150;
 
+    /** 마크다운 본문에 직접 작성된 {@code <img src="...">} 태그에서 이미지 주소를 추출하기 위한 패턴입니다. */
+    private static final Pattern HTML_IMG_SRC = Pattern.compile("<img\\s[^>]*?src\\s*=\\s*[\"']([^\"']+)[\"']", Pattern.CASE_INSENSITIVE);
+
+    /** CommonMark 파서와 렌더러는 불변 객체로 스레드 안전하므로 재사용합니다. */
+    static final Parser MARKDOWN_PARSER = Parser.builder().build();
+    private static final TextContentRenderer TEXT_RENDERER = TextContentRenderer.builder().build();
+
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final MemberRepository memberRepository;
     private final PostHashTagRepository postHashTagRepository;
     private final HashTagRepository hashTagRepository;
+    private final ImageUrlResolver imageUrlResolver;
+    private final PostImageRepository postImageRepository;
+    private final ReplyPreviewLoader replyPreviewLoader;
+    private final FeedVersion feedVersion;
 
     @Override
     @Transactional
     public Long createPost(Long memberId, PostCreateReq req) {
         Member member = memberRepository.getReferenceById(memberId);
-        String plainText = extractPlainText(req.content());
-        String summary = extractSummary(plainText);
+        ParsedContent parsed = parseContent(0L, req.content());
 
         Post post = Post.builder()
                 .title(req.title())
                 .content(req.content())
-                .summary(summary)
+                .summary(parsed.summary())
                 .member(member)
                 .status(PostStatus.PUBLISHED)
                 .thumbnail(req.thumbnail())
@@ -79,6 +112,8 @@ public class PostServiceImpl implements PostService {
         post = postRepository.save(post);
 
         applyTags(post, req.hashtags());
+        applyImageReferences(post, extractImageUrls(parsed.document(), req.thumbnail()));
+        feedVersion.refreshAfterCommit();
 
         return post.getId();
     }
@@ -86,12 +121,12 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional
     public PostInfoRes getPostDetail(Long id, int pageNumber) {
+        postRepository.increaseViewCount(id);
+
         Post post = postRepository.findByIdWithMember(id)
                 .orElseThrow(() -> new PostException(PostErrorCode.POST_NOT_FOUND,
                         "[PostServiceImpl#getPostDetail] can't find post by id", "존재하지 않는 게시물입니다."));
 
-        post.incrementViewCount();
-
         Pageable pageable = PageRequest.of(
                 pageNumber,
                 CommentConstants.COMMENT_PAGE_SIZE,
@@ -100,29 +135,49 @@ public class PostServiceImpl implements PostService {
 
         Slice<Comment> comments = commentRepository.findCommentsWithMemberAndImageByPostId(id, pageable);
 
-        Slice<CommentInfoRes> commentResSlice = comments.map(this::convertToCommentInfoRes);
+        SliceRes<CommentInfoRes> commentResSlice = replyPreviewLoader.attachPreviews(comments);
 
         return PostInfoRes.from(post, commentResSlice);
     }
 
-    private CommentInfoRes convertToCommentInfoRes(Comment comment) {
-
-        Pageable replyPageable = PageRequest.of(
-                0,
-                CommentConstants.REPLY_PAGE_SIZE,
-                Sort.by("createDate").ascending()
-        );
+    @Override
+    public ContentVersion getPostVersion(Long id) {
+        PostVersionView view = postRepository.findVersionById(id)
+                .orElseThrow(() -> new PostException(PostErrorCode.POST_NOT_FOUND,
+                        "[PostServiceImpl#getPostVersion] can't find post by id", "존재하지 않는 게시물입니다."));
+
+        long[] modifiedAt = {
+                epochMillis(view.getPostModifyDate()),
+                epochMillis(view.getAuthorModifyDate()),
+                epochMillis(view.getCommentModifyDate()),
+                epochMillis(view.getCommentAuthorModifyDate())
+        };
+        String eTag = LongStream.concat(
+                        LongStream.of(id, view.getCommentCount(), view.getHashTagCount(),
+                                view.getHashTagMaxId() == null ? 0 : view.getHashTagMaxId()),
+                        LongStream.of(modifiedAt))
+                .mapToObj(value -> Long.toString(value, Character.MAX_RADIX))
+                .collect(Collectors.joining("-", "W/\"", "\""));
+
+        return new ContentVersion(eTag, LongStream.of(modifiedAt).max().orElse(-1));
+    }
 
-        Slice<Comment> replySlice = commentRepository.findRepliesWithMemberAndImageByParentId(comment.getId(), replyPageable);
+    @Override
+    @Transactional
+    public void increaseViewCount(Long id) {
+        postRepository.increaseViewCount(id);
+    }
 
-        return new CommentInfoRes(comment, replySlice.map(ReplyInfoRes::new));
+    @Override
+    public ContentVersion getFeedVersion() {
+        return feedVersion.current();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Slice<PostListRes> getPosts(Pageable pageable) {
-        return postRepository.findAllWithMember(pageable)
-                .map(PostListRes::from);
+    public SliceRes<PostListRes> getPosts(Pageable pageable) {
+        return SliceRes.from(postRepository.findAllWithMember(pageable)
+                .map(PostListRes::from));
     }
 
     @Override
@@ -138,14 +193,17 @@ public class PostServiceImpl implements PostService {
                     "해당 게시물을 수정할 권한이 없습니다.");
         }
 
-        String plainText = extractPlainText(req.content());
-        String summary = extractSummary(plainText);
+        ParsedContent parsed = parseContent(postId, req.content());
 
-        post.update(req.title(), req.content(), summary, req.thumbnail());
+        post.update(req.title(), req.content(), parsed.summary(), req.thumbnail());
 
         postHashTagRepository.deleteAllByPostId(postId);
 
         applyTags(post, req.hashtags()); // 공통 로직 호출
+
+        postImageRepository.deleteAllByPostId(postId);
+        applyImageReferences(post, extractImageUrls(parsed.document(), req.thumbnail()));
+        feedVersion.refreshAfterCommit();
     }
 
     @Override
@@ -169,28 +227,123 @@ public class PostServiceImpl implements PostService {
         commentRepository.deleteParentsByPostId(postId);
         // 5. 연결된 해시태그 정보 삭제
         postHashTagRepository.deleteAllByPostId(postId);
-        // 6. 게시물 삭제
+        // 6. 이미지 참조 정보 삭제 (참조가 끊긴 이미지는 OrphanImageCollector 가 정리)
+        postImageRepository.deleteAllByPostId(postId);
+        // 7. 게시물 삭제
         postRepository.delete(post);
+        feedVersion.refreshAfterCommit();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Slice<PostInfoRes> getPostsByMember(Long memberId, Pageable pageable) {
+    public SliceRes<PostInfoRes> getPostsByMember(Long memberId, Pageable pageable) {
         Slice<Post> postSlice = postRepository.findAllByMemberId(memberId, pageable);
 
-        return postSlice.map(PostInfoRes::from);
+        return SliceRes.from(postSlice.map(PostInfoRes::from));
+    }
+
+    /**
+     * 게시물 본문 마크다운을 파싱하고 요약글을 만듭니다.
+     * <p>
+     * 작업 시간과 본문·요약 길이를 {@link MarkdownProcessingEvent} JFR 이벤트로 기록합니다.
+     *
+     * @param postId  대상 게시물 ID (작성 중이면 0)
+     * @param content 마크다운 본문
+     * @return 파싱된 문서와 요약글
+     */
+    private ParsedContent parseContent(Long postId, String content) {
+        MarkdownProcessingEvent event = new MarkdownProcessingEvent();
+        event.begin();
+
+        Node document = MARKDOWN_PARSER.parse(content);
+        String plainText = extractPlainText(document);
+        String summary = extractSummary(plainText);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.postId = postId;
+            event.contentLength = content.length();
+            event.plainTextLength = plainText.length();
+            event.summaryLength = summary.length();
+            event.commit();
+        }
+        return new ParsedContent(document, summary);
     }
 
     /**
-     * 마크다운 텍스트에서 특수기호를 제거하고 순수 텍스트만 추출합니다.
-     * * @param markdown 마크다운 원문
+     * 마크다운 문서에서 특수기호를 제거하고 순수 텍스트만 추출합니다.
+     * * @param document 파싱된 마크다운 문서
      * @return 추출된 순수 텍스트
      */
-    private String extractPlainText(String markdown) {
-        Parser parser = Parser.builder().build();
-        Node document = parser.parse(markdown);
-        TextContentRenderer renderer = TextContentRenderer.builder().build();
-        return renderer.render(document);
+    static String extractPlainText(Node document) {
+        return TEXT_RENDERER.render(document);
+    }
+
+    /**
+     * 마크다운 AST를 순회하며 본문에서 사용된 이미지 주소와 썸네일 주소를 중복 없이 추출합니다.
+     * <p>
+     * 마크다운 이미지 문법({@code ![alt](url)})과 HTML {@code <img>} 태그를 모두 지원합니다.
+     * 게시글 템플릿의 이미지 참조를 기록할 때도 사용합니다.
+     *
+     * @param document  파싱된 마크다운 문서
+     * @param thumbnail 게시물 썸네일 주소 (nullable)
+     * @return 등장 순서를 유지한 이미지 주소 집합
+     */
+    static Set<String> extractImageUrls(Node document, String thumbnail) {
+        Set<String> urls = new LinkedHashSet<>();
+        if (thumbnail != null && !thumbnail.isBlank()) {
+            urls.add(thumbnail);
+        }
+
+        document.accept(new AbstractVisitor() {
+            @Override
+            public void visit(org.commonmark.node.Image image) {
+                urls.add(image.getDestination());
+                visitChildren(image);
+            }
+
+            @Override
+            public void visit(HtmlInline htmlInline) {
+                addHtmlImageSources(htmlInline.getLiteral(), urls);
+            }
+
+            @Override
+            public void visit(HtmlBlock htmlBlock) {
+                addHtmlImageSources(htmlBlock.getLiteral(), urls);
+            }
+        });
+        return urls;
+    }
+
+    private static void addHtmlImageSources(String html, Set<String> urls) {
+        Matcher matcher = HTML_IMG_SRC.matcher(html);
+        while (matcher.find()) {
+            urls.add(matcher.group(1));
+        }
+    }
+
+    /**
+     * 게시물이 참조하는 이미지 정보를 {@code post_image} 테이블에 기록합니다.
+     * <p>
+     * 서비스에 업로드된 이미지만 기록되며, 외부 이미지 주소는 무시됩니다.
+     *
+     * @param post      대상 게시물
+     * @param imageUrls 본문과 썸네일에서 추출된 이미지 주소
+     */
+    private void applyImageReferences(Post post, Set<String> imageUrls) {
+        if (imageUrls.isEmpty()) return;
+
+        List<Image> images = imageUrlResolver.resolveAll(imageUrls).values().stream()
+                .distinct()
+                .toList();
+        if (images.isEmpty()) return;
+
+        postImageRepository.saveAll(images.stream()
+                .map(image -> PostImage.builder()
+                        .post(post)
+                        .image(image)
+                        .build())
+                .toList());
     }
 
     /**
@@ -199,35 +352,71 @@ public class PostServiceImpl implements PostService {
      * * @param plainText 추출된 순수 텍스트
      * @return 가공된 요약본 문자열
      */
-    private String extractSummary(String plainText) {
+    static String extractSummary(String plainText) {
         if (plainText.length() <= MAX_SUMMARY_LENGTH) {
             return plainText;
         }
         return plainText.substring(0, MAX_SUMMARY_LENGTH) + "...";
     }
 
+    /**
+     * 게시물에 해시태그를 연결합니다.
+     * <p>
+     * 태그마다 조회하지 않고, 기존 해시태그를 한 번에 조회한 뒤 없는 태그만 생성합니다.
+     * 정규화된 이름이 같은 태그는 하나로 합치며, 처음 입력된 표기를 표시 이름으로 사용합니다.
+     *
+     * @param post     대상 게시물 (기존 태그 연결은 호출 전에 삭제되어 있어야 합니다)
+     * @param tagNames 사용자가 입력한 태그 이름 목록
+     */
     private void applyTags(Post post, List<String> tagNames) {
         if (tagNames == null || tagNames.isEmpty()) return;
 
+        TagResolutionEvent event = new TagResolutionEvent();
+        event.begin();
+
+        Map<String, String> displayNames = new LinkedHashMap<>();
         for (String rawName : tagNames) {
-            String normalizedName = normalizeTag(rawName);
+            displayNames.putIfAbsent(normalizeTag(rawName), rawName);
+        }
 
-            HashTag hashTag = hashTagRepository.findByName(normalizedName)
-                    .orElseGet(() -> hashTagRepository.save(new HashTag(normalizedName)));
+        Map<String, HashTag> hashTags = new HashMap<>();
+        hashTagRepository.findAllByNameIn(displayNames.keySet())
+                .forEach(hashTag -> hashTags.put(hashTag.getName(), hashTag));
 
-            if (!postHashTagRepository.existsByPostIdAndHashTagId(post.getId(), hashTag.getId())) {
-                PostHashTag postHashTag = PostHashTag.builder()
-                        .post(post)
-                        .hashTag(hashTag)
-                        .displayName(rawName)
-                        .build();
+        List<HashTag> newHashTags = displayNames.keySet().stream()
+                .filter(name -> !hashTags.containsKey(name))
+                .map(HashTag::new)
+                .toList();
+        if (!newHashTags.isEmpty()) {
+            hashTagRepository.saveAll(newHashTags).forEach(hashTag -> hashTags.put(hashTag.getName(), hashTag));
+        }
 
-                postHashTagRepository.save(postHashTag);
-            }
+        postHashTagRepository.saveAll(displayNames.entrySet().stream()
+                .map(entry -> PostHashTag.builder()
+                        .post(post)
+                        .hashTag(hashTags.get(entry.getKey()))
+                        .displayName(entry.getValue())
+                        .build())
+                .toList());
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.postId = post.getId();
+            event.requestedTags = tagNames.size();
+            event.distinctTags = displayNames.size();
+            event.createdTags = newHashTags.size();
+            event.commit();
         }
     }
 
-    private String normalizeTag(String name) {
+    static String normalizeTag(String name) {
         return name.trim().toLowerCase().replace(" ", "_");
     }
-}
\ No newline at end of file
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record ParsedContent(Node document, String summary) {
+    }
+}
@@ -3,8 +3,7 @@ package com.plog.domain.post.service;
 import com.plog.domain.post.dto.PostTemplateInfoDto;
 import com.plog.domain.post.dto.PostTemplateSummaryRes;
 import com.plog.domain.post.dto.PostTemplateUpdateReq;
-
-import java.util.List;
+import com.plog.global.response.SliceRes;
 
 /**
  * 게시글 템플릿(Post Template)에 대한 비즈니스 기능을 정의하는 서비스 인터페이스입니다.
@@ -29,12 +28,16 @@ public interface PostTemplateService {
 
 
     /**
-     * 특정 회원이 보유한 게시글 템플릿 목록을 조회합니다.
+     * 특정 회원이 보유한 게시글 템플릿 목록을 id 오름차순으로 조회합니다.
+     * <p>
+     * 이전 페이지의 마지막 템플릿 id 를 커서로 사용하는 keyset 방식으로 페이징합니다.
      *
      * @param memberId 회원 식별자
-     * @return 템플릿 요약 정보 목록
+     * @param cursorId 이전 페이지의 마지막 템플릿 id, 첫 페이지는 {@code null}
+     * @param size     조회할 개수
+     * @return 템플릿 요약 정보 슬라이스
      */
-    List<PostTemplateSummaryRes> getTemplateListByMember(Long memberId);
+    SliceRes<PostTemplateSummaryRes> getTemplateListByMember(Long memberId, Long cursorId, int size);
 
 
     /**
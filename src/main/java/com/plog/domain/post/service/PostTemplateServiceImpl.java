@@ -1,29 +1,50 @@
 package com.plog.domain.post.service;
 
+import com.plog.domain.image.entity.Image;
+import com.plog.domain.image.entity.PostTemplateImage;
+import com.plog.domain.image.repository.PostTemplateImageRepository;
+import com.plog.domain.image.service.ImageUrlResolver;
 import com.plog.domain.member.entity.Member;
 import com.plog.domain.member.repository.MemberRepository;
 import com.plog.domain.post.dto.PostTemplateInfoDto;
 import com.plog.domain.post.dto.PostTemplateSeed;
 import com.plog.domain.post.dto.PostTemplateSummaryRes;
+import com.plog.domain.post.dto.PostTemplateSummaryView;
 import com.plog.domain.post.dto.PostTemplateUpdateReq;
 import com.plog.domain.post.entity.PostTemplate;
 import com.plog.domain.post.repository.PostTemplateRepository;
 import com.plog.global.exception.errorCode.PostErrorCode;
 import com.plog.global.exception.exceptions.PostException;
+import com.plog.global.response.SliceRes;
 import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.security.core.parameters.P;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.plog.global.config.CacheConfig.POST_TEMPLATE_SUMMARY_CACHE_NAME;
 
 /**
  * 게시글 템플릿(PostTemplate)에 대한 비즈니스 로직을 처리하는 서비스 구현체입니다.
@@ -31,6 +52,16 @@ import java.util.Objects;
  * <p>
  * 사용자가 저장한 게시글 템플릿을 생성, 조회, 수정, 삭제하는 기능을 제공하며,
  * 모든 변경·조회 작업에 대해 템플릿 소유자 검증을 수행합니다.
+ * <p>
+ * 기본 템플릿({@code postTemplate/*.md})은 기동 시 메모리에 한 번만 적재되며,
+ * 회원가입 시에는 본문 없이 seed 를 참조하는 템플릿만 생성합니다.
+ * 사용자가 해당 템플릿을 수정할 때 본문이 복사되어 개인 템플릿이 됩니다.
+ * <p>
+ * 템플릿 목록은 본문을 제외한 projection 으로 조회하며, 회원별 첫 페이지만 캐시합니다.
+ * 템플릿이 생성·수정·삭제되면 해당 회원의 캐시를 비웁니다.
+ * <p>
+ * 템플릿 본문이 참조하는 업로드 이미지는 {@code post_template_image}에 기록하여,
+ * 고아 이미지 정리 작업이 템플릿에만 사용된 이미지를 삭제하지 않도록 합니다.
  *
  * <p><b>상속 정보:</b><br>
  * {@link PostTemplateService} 인터페이스를 구현합니다.
@@ -48,9 +79,12 @@ public class PostTemplateServiceImpl implements PostTemplateService {
 
     private final PostTemplateRepository postTemplateRepository;
     private final MemberRepository memberRepository;
+    private final CacheManager cacheManager;
+    private final PostTemplateImageRepository postTemplateImageRepository;
+    private final ImageUrlResolver imageUrlResolver;
 
     @Getter
-    private List<PostTemplateSeed> seeds;
+    private Map<String, PostTemplateSeed> seeds;
 
     @PostConstruct
     public void init() {
@@ -59,25 +93,27 @@ public class PostTemplateServiceImpl implements PostTemplateService {
                     new PathMatchingResourcePatternResolver();
 
             Resource[] resources = resolver.getResources("classpath:postTemplate/*.md");
-            List<PostTemplateSeed> loads = new ArrayList<>();
+            Map<String, PostTemplateSeed> loads = new LinkedHashMap<>();
 
             for(Resource resource : resources) {
                 String filename = resource.getFilename();
                 if(filename == null) continue;
 
-                String title = filename.replace(".md", "").replace("_", " ");
+                String key = filename.replace(".md", "");
+                String title = key.replace("_", " ");
                 String context = new String(
                         resource.getInputStream().readAllBytes(),
                         StandardCharsets.UTF_8
                 );
 
-                loads.add(PostTemplateSeed.builder()
+                loads.put(key, PostTemplateSeed.builder()
+                        .key(key)
                         .title(title)
                         .name(title)
                         .content(context)
                         .build());
             }
-            this.seeds = List.copyOf(loads);
+            this.seeds = Collections.unmodifiableMap(loads);
         } catch (IOException e) {
             throw new IllegalStateException(
                     "[PostTemplateServiceImpl#init] failed to load postTemplate/*.md", e
@@ -99,15 +135,70 @@ public class PostTemplateServiceImpl implements PostTemplateService {
                 .build();
 
         PostTemplate saved = postTemplateRepository.save(postTemplate);
+        applyImageReferences(saved, dto.content());
+        evictSummaries(memberId);
         return saved.getId();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<PostTemplateSummaryRes> getTemplateListByMember(Long memberId) {
-        List<PostTemplate> getList = postTemplateRepository.findAllByMember_Id(memberId);
+    public SliceRes<PostTemplateSummaryRes> getTemplateListByMember(Long memberId, Long cursorId, int size) {
+        Cache cache = cacheManager.getCache(POST_TEMPLATE_SUMMARY_CACHE_NAME);
+        if (cache == null || cursorId != null) {
+            return loadSummaries(memberId, cursorId, size);
+        }
+
+        // 회원마다 첫 페이지 하나만 보관하여, 캐시 크기가 회원 수로 제한되고 회원 단위로 비울 수 있게 합니다.
+        // 조회는 캐시 내부 잠금 밖(이 스레드)에서 실행하고, 같은 회원의 동시 요청은 그 결과를 기다립니다.
+        AtomicBoolean loader = new AtomicBoolean();
+        CompletableFuture<FirstPage> loading = new CompletableFuture<>();
+        CompletableFuture<FirstPage> cached = cache.retrieve(memberId, () -> {
+            loader.set(true);
+            return loading;
+        });
+        if (loader.get()) {
+            try {
+                loading.complete(new FirstPage(size, loadSummaries(memberId, null, size)));
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        FirstPage page = join(cached);
+        return page.size() == size ? page.summaries() : loadSummaries(memberId, null, size);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private SliceRes<PostTemplateSummaryRes> loadSummaries(Long memberId, Long cursorId, int size) {
+        Slice<PostTemplateSummaryView> views = postTemplateRepository.findSummariesByMemberId(
+                memberId, cursorId == null ? 0L : cursorId, PageRequest.of(0, size));
+
+        return SliceRes.from(views.map(view -> {
+            String title = view.getSeedKey() == null ? view.getTitle() : seedTitle(view.getSeedKey());
+            return PostTemplateSummaryRes.to(view, title);
+        }), PostTemplateSummaryRes::id);
+    }
 
-        return getList.stream().map(PostTemplateSummaryRes::to).toList();
+    /**
+     * 캐시에 보관하는 회원별 첫 페이지와 그 페이지를 조회한 크기입니다.
+     */
+    private record FirstPage(int size, SliceRes<PostTemplateSummaryRes> summaries) {
+    }
+
+    private String seedTitle(String seedKey) {
+        PostTemplateSeed seed = seeds.get(seedKey);
+        return seed == null ? "" : seed.title();
     }
 
     @Override
@@ -120,6 +211,9 @@ public class PostTemplateServiceImpl implements PostTemplateService {
         postTemplate.update(dto.name(), dto.title(), dto.content());
 
         postTemplateRepository.save(postTemplate);
+        postTemplateImageRepository.deleteAllByTemplateId(templateId);
+        applyImageReferences(postTemplate, dto.content());
+        evictSummaries(memberId);
     }
 
     @Override
@@ -129,6 +223,9 @@ public class PostTemplateServiceImpl implements PostTemplateService {
 
         validateOwner(memberId, postTemplate);
 
+        if (postTemplate.isSeedReference()) {
+            return PostTemplateInfoDto.of(postTemplate, findSeed(postTemplate));
+        }
         return PostTemplateInfoDto.to(postTemplate);
     }
 
@@ -139,8 +236,9 @@ public class PostTemplateServiceImpl implements PostTemplateService {
 
         validateOwner(memberId, postTemplate);
 
+        postTemplateImageRepository.deleteAllByTemplateId(templateId);
         postTemplateRepository.delete(postTemplate);
-
+        evictSummaries(memberId);
     }
 
     @Override
@@ -148,14 +246,44 @@ public class PostTemplateServiceImpl implements PostTemplateService {
     public void initTemplateSeedOfUser(Long memberId) {
         Member member = memberRepository.getReferenceById(memberId);
         List<PostTemplate> templates = new ArrayList<>();
-        seeds.forEach(seed -> templates.add(PostTemplate.builder()
+        // 본문은 복사하지 않고 seed 키만 참조합니다. 본문은 사용자가 수정할 때 복사됩니다.
+        seeds.values().forEach(seed -> templates.add(PostTemplate.builder()
                 .member(member)
                 .name(seed.name())
-                .title(seed.title())
-                .content(seed.content())
+                .title("")
+                .content("")
+                .seedKey(seed.key())
                 .build()));
 
         postTemplateRepository.saveAll(templates);
+        evictSummaries(memberId);
+    }
+
+    /**
+     * 템플릿 본문이 참조하는 이미지 정보를 {@code post_template_image} 테이블에 기록합니다.
+     * <p>
+     * 서비스에 업로드된 이미지만 기록되며, 외부 이미지 주소는 무시됩니다.
+     *
+     * @param template 대상 템플릿
+     * @param content  템플릿 본문 (마크다운)
+     */
+    private void applyImageReferences(PostTemplate template, String content) {
+        if (content == null || content.isBlank()) return;
+
+        Set<String> urls = PostServiceImpl.extractImageUrls(PostServiceImpl.MARKDOWN_PARSER.parse(content), null);
+        if (urls.isEmpty()) return;
+
+        List<Image> images = imageUrlResolver.resolveAll(urls).values().stream()
+                .distinct()
+                .toList();
+        if (images.isEmpty()) return;
+
+        postTemplateImageRepository.saveAll(images.stream()
+                .map(image -> PostTemplateImage.builder()
+                        .postTemplate(template)
+                        .image(image)
+                        .build())
+                .toList());
     }
 
     private PostTemplate findByTemplateId(Long id) {
@@ -164,6 +292,37 @@ public class PostTemplateServiceImpl implements PostTemplateService {
                         "[PostTemplateServiceImpl#findByTemplateId] unknown template id = " + id));
     }
 
+    /**
+     * 회원의 템플릿 요약 목록 캐시를 비웁니다.
+     * <p>
+     * 커밋 전에 다른 요청이 변경 전 목록을 다시 캐시할 수 있으므로, 트랜잭션 커밋 후에도 한 번 더 비웁니다.
+     */
+    private void evictSummaries(Long memberId) {
+        Cache cache = cacheManager.getCache(POST_TEMPLATE_SUMMARY_CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        cache.evict(memberId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(memberId);
+                }
+            });
+        }
+    }
+
+    private PostTemplateSeed findSeed(PostTemplate template) {
+        PostTemplateSeed seed = seeds.get(template.getSeedKey());
+        if (seed == null) {
+            throw new PostException(PostErrorCode.POST_TEMPLATE_NOT_FOUND,
+                    "[PostTemplateServiceImpl#findSeed] unknown seed key = " + template.getSeedKey());
+        }
+        return seed;
+    }
+
     private void validateOwner(Long memberId, PostTemplate template) {
         if(!Objects.equals(template.getMember().getId(), memberId)) {
             throw new PostException(PostErrorCode.POST_TEMPLATE_AUTH_FAIL,
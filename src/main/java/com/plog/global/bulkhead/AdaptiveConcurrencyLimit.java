@@ -0,0 +1,131 @@
+package com.plog.global.bulkhead;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관측한 응답 시간으로 동시 처리 한도를 스스로 조정하는 동시성 제한기입니다.
+ * <p>
+ * 고정된 한도는 서버가 감당할 수 있는 양을 미리 알아야 하고, 한도가 너무 크면 요청이 스레드·커넥션 대기열에
+ * 쌓였다가 한꺼번에 시간 초과됩니다. 이 제한기는 응답 시간이 평소보다 길어지는 것을 대기열이 생기는 신호로 보고
+ * 한도를 줄여, 넘는 요청을 대기시키지 않고 바로 거절합니다.
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. 처리 중인 요청 수가 한도 이상이면 바로 거절합니다. <br>
+ * 2. 끝난 요청의 응답 시간을 {@code window} 단위로 모아 평균(short RTT)을 구하고,
+ *    평소 응답 시간(long RTT)은 그 평균의 지수 이동 평균으로 천천히 따라갑니다. <br>
+ * 3. 구간이 끝날 때마다 {@code gradient = clamp(1.5 × long / short, 0.5, 1.0)}로
+ *    {@code 새 한도 = 한도 × gradient + √한도}를 계산하고, {@code smoothing} 비율만큼 반영합니다.
+ *    응답 시간이 평소와 같으면 한도가 √한도씩 늘고, 평소의 1.5배를 넘으면 줄어듭니다. <br>
+ * 4. 구간 동안 처리 중인 요청이 한도의 절반에도 못 미쳤으면 한도를 바꾸지 않습니다.
+ *    요청이 적어 측정한 응답 시간이 한도를 판단할 근거가 되지 않기 때문입니다. <br>
+ * 5. short RTT 가 long RTT 의 절반 아래로 떨어지면 long RTT 를 조금씩 낮춰, 부하가 지나간 뒤에도
+ *    과거의 느린 응답 시간을 기준으로 한도를 키우는 일을 막습니다.
+ *
+ * <p><b>주요 생성자:</b><br>
+ * {@code AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, long windowMillis,
+ * double smoothing, Clock clock)} <br>
+ * 한도의 시작값과 범위, 한도를 다시 계산하는 최소 주기, 새 한도의 반영 비율, 구간 계산에 사용할 {@link Clock}을 주입받습니다.
+ *
+ * @author Jaewon Ryu
+ * @see ConcurrencyLimitFilter
+ * @since 2026-10-18
+ */
+public class AdaptiveConcurrencyLimit {
+
+    static final double RTT_TOLERANCE = 1.5;
+    static final double MIN_GRADIENT = 0.5;
+    static final double LONG_RTT_WEIGHT = 0.05;
+    static final double LONG_RTT_DECAY = 0.95;
+    static final int MIN_WINDOW_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long windowMillis;
+    private final double smoothing;
+    private final Clock clock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long windowStartMillis;
+    private long windowRttSumNanos;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, long windowMillis,
+                                    double smoothing, Clock clock) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowMillis = windowMillis;
+        this.smoothing = smoothing;
+        this.clock = clock;
+        this.estimatedLimit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.limit = (int) estimatedLimit;
+        this.windowStartMillis = clock.millis();
+    }
+
+    /**
+     * 처리 중인 요청 수가 한도보다 적으면 자리를 차지합니다. 기다리지 않습니다.
+     *
+     * @return 자리를 얻었으면 {@code true}. 이 경우 요청이 끝나면 반드시 {@link #release(long)}를 호출해야 합니다.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 자리를 반환하고 요청의 응답 시간을 한도 계산에 반영합니다.
+     *
+     * @param rttNanos 자리를 얻은 뒤 요청이 끝날 때까지 걸린 시간
+     */
+    public void release(long rttNanos) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightBeforeRelease);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtSample) {
+        windowRttSumNanos += rttNanos;
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtSample);
+        long now = clock.millis();
+        if (now - windowStartMillis < windowMillis || windowSamples < MIN_WINDOW_SAMPLES) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSumNanos / windowSamples;
+        longRttNanos = longRttNanos == 0 ? shortRtt : longRttNanos + (shortRtt - longRttNanos) * LONG_RTT_WEIGHT;
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= LONG_RTT_DECAY;
+        }
+
+        if (windowMaxInFlight >= estimatedLimit / 2) {
+            double gradient = Math.clamp(RTT_TOLERANCE * longRttNanos / shortRtt, MIN_GRADIENT, 1.0);
+            double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            estimatedLimit = Math.clamp(estimatedLimit * (1 - smoothing) + newLimit * smoothing, minLimit, maxLimit);
+            limit = (int) estimatedLimit;
+        }
+
+        windowStartMillis = now;
+        windowRttSumNanos = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+    }
+}
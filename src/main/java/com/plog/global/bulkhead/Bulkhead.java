@@ -0,0 +1,82 @@
+package com.plog.global.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출한 스레드에서 실행되는 작업의 동시 실행 수를 제한하는 격벽(bulkhead)입니다.
+ * <p>
+ * 자리가 없으면 {@code max-wait}만큼 도착 순서대로 기다리고, 그래도 자리가 나지 않으면 거절합니다.
+ * 기다리는 동안에도 호출한 스레드를 점유하므로 {@code max-wait}는 짧게 둡니다.
+ *
+ * <p><b>지표:</b><br>
+ * {@code bulkhead.active}(실행 중), {@code bulkhead.queued}(대기 중),
+ * {@code bulkhead.rejected}(거절 수, {@code reason} 태그)를 {@code bulkhead} 태그로 구분해 기록합니다.
+ *
+ * @author Jaewon Ryu
+ * @see BulkheadFilter
+ * @see BulkheadExecutor
+ * @since 2026-10-18
+ */
+public class Bulkhead {
+
+    static final String REASON_FULL = "full";
+
+    private final String name;
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final Counter rejected;
+
+    public Bulkhead(String name, int maxConcurrent, Duration maxWait, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.rejected = rejectedCounter(meterRegistry, name, REASON_FULL);
+        Gauge.builder("bulkhead.active", permits, p -> maxConcurrent - p.availablePermits())
+                .description("Calls currently running inside the bulkhead")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.queued", permits, Semaphore::getQueueLength)
+                .description("Calls waiting for a place in the bulkhead")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 자리가 날 때까지 최대 {@code max-wait}만큼 기다립니다.
+     *
+     * @return 들어갔으면 {@code true}, 거절됐으면 {@code false}. {@code true}인 경우 반드시 {@link #exit()}를 호출해야 합니다.
+     */
+    public boolean tryEnter() {
+        try {
+            if (permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public void exit() {
+        permits.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    static Counter rejectedCounter(MeterRegistry meterRegistry, String bulkhead, String reason) {
+        return Counter.builder("bulkhead.rejected")
+                .description("Calls rejected by the bulkhead")
+                .tag("bulkhead", bulkhead)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,102 @@
+package com.plog.global.bulkhead;
+
+import com.plog.global.datasource.ReadYourWrites;
+import com.plog.global.exception.exceptions.BulkheadException;
+import com.plog.global.trace.RequestTrace;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 처리를 전용 스레드 풀에서 비동기로 실행하는 격벽(bulkhead)입니다.
+ * <p>
+ * 컨트롤러가 {@link #submit(Callable)}이 만든 {@link WebAsyncTask}를 반환하면, 요청을 받은 Tomcat 스레드는
+ * 바로 풀로 돌아가고 작업은 이 격벽의 스레드에서 실행됩니다. 스레드 수가 곧 동시 처리 한도이므로,
+ * 작업 안에서 사용하는 DB 커넥션도 스레드 수를 넘지 않습니다.
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. 스레드가 모두 사용 중이면 {@code queue-capacity}까지 대기열에 넣고, 대기열도 차 있으면 바로 거절합니다. <br>
+ * 2. 대기열에서 {@code queue-timeout} 넘게 기다린 작업은 실행하지 않고 거절합니다. <br>
+ * 3. 대기와 실행을 합쳐 {@code timeout}이 지나면 응답을 거절로 끝내고 실행 중인 작업을 중단합니다. <br>
+ * 4. 거절은 모두 {@link BulkheadException}(503)으로 응답하고 {@code bulkhead.rejected}에 사유별로 기록합니다. <br>
+ * 5. 요청 추적({@link RequestTrace})과 쓰기 후 읽기 고정({@link ReadYourWrites})은 요청 스레드의 것을
+ *    작업 스레드로 옮겨, 격벽에서 실행한 DB·스토리지 작업도 같은 요청에 기록되도록 합니다.
+ *
+ * @author Jaewon Ryu
+ * @see Bulkhead
+ * @since 2026-10-18
+ */
+public class BulkheadExecutor {
+
+    static final String REASON_QUEUE_FULL = "queue-full";
+    static final String REASON_QUEUE_TIMEOUT = "queue-timeout";
+    static final String REASON_TIMEOUT = "timeout";
+
+    private final String name;
+    private final long queueTimeoutNanos;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor pool;
+    private final TaskExecutorAdapter taskExecutor;
+    private final Counter queueTimedOut;
+    private final Counter timedOut;
+
+    public BulkheadExecutor(String name, int threads, int queueCapacity, Duration queueTimeout, Duration timeout,
+                            MeterRegistry meterRegistry) {
+        this.name = name;
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.timeoutMillis = timeout.toMillis();
+        Counter queueFull = Bulkhead.rejectedCounter(meterRegistry, name, REASON_QUEUE_FULL);
+        this.queueTimedOut = Bulkhead.rejectedCounter(meterRegistry, name, REASON_QUEUE_TIMEOUT);
+        this.timedOut = Bulkhead.rejectedCounter(meterRegistry, name, REASON_TIMEOUT);
+        this.pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name(name + "-", 0).daemon().factory(),
+                (task, executor) -> {
+                    queueFull.increment();
+                    throw new BulkheadException(name, REASON_QUEUE_FULL);
+                });
+        this.taskExecutor = new TaskExecutorAdapter(pool);
+        // 작업을 넘기는 요청 스레드에서 호출되므로, 이 시점의 요청 범위를 작업 스레드로 옮길 수 있습니다.
+        this.taskExecutor.setTaskDecorator(task -> RequestTrace.wrap(ReadYourWrites.wrap(task)));
+        Gauge.builder("bulkhead.active", pool, ThreadPoolExecutor::getActiveCount)
+                .description("Calls currently running inside the bulkhead")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.queued", pool, p -> p.getQueue().size())
+                .description("Calls waiting for a place in the bulkhead")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업을 이 격벽의 스레드 풀에서 실행하는 비동기 요청 처리 단위를 만듭니다.
+     * 대기열이 차 있으면 Spring MVC 가 작업을 넘기는 시점에 {@link BulkheadException}으로 응답합니다.
+     */
+    public <T> WebAsyncTask<T> submit(Callable<T> task) {
+        long queueDeadline = System.nanoTime() + queueTimeoutNanos;
+        WebAsyncTask<T> asyncTask = new WebAsyncTask<>(timeoutMillis, taskExecutor, () -> {
+            if (System.nanoTime() - queueDeadline > 0) {
+                queueTimedOut.increment();
+                throw new BulkheadException(name, REASON_QUEUE_TIMEOUT);
+            }
+            return task.call();
+        });
+        asyncTask.onTimeout(() -> {
+            timedOut.increment();
+            throw new BulkheadException(name, REASON_TIMEOUT);
+        });
+        return asyncTask;
+    }
+
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,86 @@
+package com.plog.global.bulkhead;
+
+import com.plog.global.exception.errorCode.BulkheadErrorCode;
+import com.plog.global.exception.exceptions.BulkheadException;
+import com.plog.global.response.CommonResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 지정한 경로의 POST 요청을 {@link Bulkhead} 안에서만 처리하는 필터입니다.
+ * <p>
+ * multipart 본문은 컨트롤러가 호출되기 전 {@code DispatcherServlet}이 Tomcat 스레드에서 읽습니다.
+ * 느린 네트워크의 업로드가 본문을 읽는 동안 Tomcat 스레드를 오래 점유하므로, 본문을 읽기 전에 이 필터에서
+ * 동시 처리 수를 제한해 나머지 스레드를 조회 요청 몫으로 남겨 둡니다.
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. 자리를 얻지 못하면 본문을 읽지 않고 {@code 503}과 {@code Retry-After}로 응답합니다. <br>
+ * 2. 요청이 비동기 처리로 넘어가면 Tomcat 스레드가 반환되므로, 필터 체인이 끝나는 즉시 자리를 반환합니다.
+ *    이후 처리는 {@link BulkheadExecutor}가 제한합니다.
+ *
+ * <p><b>상속 정보:</b><br>
+ * {@link OncePerRequestFilter}를 상속받아 비동기 처리 결과를 보내는 디스패치에서는 실행되지 않습니다.
+ *
+ * @author Jaewon Ryu
+ * @see UploadBulkheadConfig
+ * @since 2026-10-18
+ */
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private final Bulkhead bulkhead;
+    private final List<PathPattern> patterns;
+    private final JsonMapper jsonMapper;
+
+    public BulkheadFilter(Bulkhead bulkhead, List<String> patterns, JsonMapper jsonMapper) {
+        this.bulkhead = bulkhead;
+        this.patterns = patterns.stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return true;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        return patterns.stream().noneMatch(pattern -> pattern.matches(path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!bulkhead.tryEnter()) {
+            reject(response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            bulkhead.exit();
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(BulkheadErrorCode.BULKHEAD_FULL.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, BulkheadException.RETRY_AFTER_SECONDS);
+        // 읽지 않은 본문이 남아 있으므로 응답 후 연결을 닫아 다음 요청으로 해석되지 않게 합니다.
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8");
+        response.getWriter().write(
+                jsonMapper.writeValueAsString(
+                        CommonResponse.fail(BulkheadErrorCode.BULKHEAD_FULL.getMessage())));
+    }
+}
@@ -0,0 +1,55 @@
+package com.plog.global.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.security.autoconfigure.web.servlet.SecurityFilterProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * API 요청에 적응형 동시성 제한({@link ConcurrencyLimitFilter})을 적용하는 설정 클래스입니다.
+ * <p>
+ * 필터는 Spring Security 필터 체인보다 먼저 실행되므로, 거절된 요청은 JWT 검증이나 회원 조회 비용을 쓰지 않습니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * {@code custom.concurrency-limit.enabled}가 {@code true}일 때만 등록됩니다.
+ *
+ * @author Jaewon Ryu
+ * @see AdaptiveConcurrencyLimit
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "custom.concurrency-limit", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            JsonMapper jsonMapper,
+            MeterRegistry meterRegistry,
+            @Value("${custom.concurrency-limit.read.initial-limit}") int readInitialLimit,
+            @Value("${custom.concurrency-limit.read.min-limit}") int readMinLimit,
+            @Value("${custom.concurrency-limit.read.max-limit}") int readMaxLimit,
+            @Value("${custom.concurrency-limit.write.initial-limit}") int writeInitialLimit,
+            @Value("${custom.concurrency-limit.write.min-limit}") int writeMinLimit,
+            @Value("${custom.concurrency-limit.write.max-limit}") int writeMaxLimit,
+            @Value("${custom.concurrency-limit.window}") Duration window,
+            @Value("${custom.concurrency-limit.smoothing}") double smoothing) {
+        Clock clock = Clock.systemUTC();
+        AdaptiveConcurrencyLimit readLimit = new AdaptiveConcurrencyLimit(
+                readInitialLimit, readMinLimit, readMaxLimit, window.toMillis(), smoothing, clock);
+        AdaptiveConcurrencyLimit writeLimit = new AdaptiveConcurrencyLimit(
+                writeInitialLimit, writeMinLimit, writeMaxLimit, window.toMillis(), smoothing, clock);
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(readLimit, writeLimit, UploadBulkheadConfig.UPLOAD_PATHS,
+                        jsonMapper, meterRegistry));
+        // CustomAuthenticationFilter 가 포함된 Spring Security 필터 체인보다 먼저 실행합니다.
+        registration.setOrder(SecurityFilterProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+}
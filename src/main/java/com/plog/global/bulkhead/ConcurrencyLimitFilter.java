@@ -0,0 +1,194 @@
+package com.plog.global.bulkhead;
+
+import com.plog.global.exception.errorCode.BulkheadErrorCode;
+import com.plog.global.exception.exceptions.BulkheadException;
+import com.plog.global.response.CommonResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * API 요청을 {@link AdaptiveConcurrencyLimit}의 한도 안에서만 처리하고, 넘는 요청은 바로 거절하는 필터입니다.
+ * <p>
+ * 과부하 상황에서 요청이 스레드·커넥션 대기열에 쌓였다가 한꺼번에 시간 초과되는 대신,
+ * 서버가 감당할 수 있는 만큼만 받고 나머지는 인증·본문 처리 전에 {@code 503}으로 빠르게 돌려보냅니다.
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. 쓰기(POST·PUT·PATCH·DELETE)와 읽기(그 외) 요청은 서로 다른 한도를 사용하므로, 비용이 큰 쓰기가 몰려도
+ *    읽기 한도는 읽기 요청의 응답 시간으로만 조정됩니다. 분류는 토큰을 검증하기 전에 해야 하므로
+ *    위조할 수 있는 인증 헤더 대신 HTTP 메서드를 기준으로 합니다. <br>
+ * 2. 업로드 경로는 {@link UploadBulkheadConfig}의 격벽이 따로 제한하고, 수 초씩 걸리는 응답 시간이
+ *    쓰기 한도를 왜곡하므로 제외합니다. {@code /api/} 밖의 경로(Actuator 등)도 제외합니다. <br>
+ * 3. 거절하면 {@code 503}, {@code Retry-After}와 {@link CommonResponse#fail} 본문으로 응답합니다. <br>
+ * 4. 요청이 비동기 처리로 넘어가면 처리가 끝났을 때 자리를 반환합니다.
+ *
+ * <p><b>지표:</b><br>
+ * {@code concurrency.limit}(현재 한도), {@code concurrency.inflight}(처리 중),
+ * {@code concurrency.decisions}(허용·거절 수, {@code outcome} 태그)를 {@code limiter} 태그로 구분해 기록합니다.
+ *
+ * <p><b>상속 정보:</b><br>
+ * {@link OncePerRequestFilter}를 상속받아 하나의 요청당 한 번만 자리를 차지합니다.
+ *
+ * @author Jaewon Ryu
+ * @see ConcurrencyLimitConfig
+ * @since 2026-10-18
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    static final String READ = "read";
+    static final String WRITE = "write";
+
+    private final Limiter read;
+    private final Limiter write;
+    private final List<PathPattern> excludedPatterns;
+    private final JsonMapper jsonMapper;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimit readLimit, AdaptiveConcurrencyLimit writeLimit,
+                                  List<String> excludedPatterns, JsonMapper jsonMapper, MeterRegistry meterRegistry) {
+        this.read = new Limiter(READ, readLimit, meterRegistry);
+        this.write = new Limiter(WRITE, writeLimit, meterRegistry);
+        this.excludedPatterns = excludedPatterns.stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith("/api/")) {
+            return true;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        return excludedPatterns.stream().anyMatch(pattern -> pattern.matches(container));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Limiter limiter = isWrite(request) ? write : read;
+        if (!limiter.limit.tryAcquire()) {
+            limiter.rejected.increment();
+            reject(response);
+            return;
+        }
+        limiter.accepted.increment();
+
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(limiter.limit, start));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                limiter.limit.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.POST.matches(method)
+                || HttpMethod.PUT.matches(method)
+                || HttpMethod.PATCH.matches(method)
+                || HttpMethod.DELETE.matches(method);
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(BulkheadErrorCode.CONCURRENCY_LIMITED.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, BulkheadException.RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8");
+        response.getWriter().write(
+                jsonMapper.writeValueAsString(
+                        CommonResponse.fail(BulkheadErrorCode.CONCURRENCY_LIMITED.getMessage())));
+    }
+
+    private static final class Limiter {
+
+        private final AdaptiveConcurrencyLimit limit;
+        private final Counter accepted;
+        private final Counter rejected;
+
+        private Limiter(String name, AdaptiveConcurrencyLimit limit, MeterRegistry meterRegistry) {
+            this.limit = limit;
+            this.accepted = decisions(meterRegistry, name, "accepted");
+            this.rejected = decisions(meterRegistry, name, "rejected");
+            Gauge.builder("concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                    .description("Current adaptive concurrency limit")
+                    .tag("limiter", name)
+                    .register(meterRegistry);
+            Gauge.builder("concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                    .description("Requests currently holding a place in the concurrency limit")
+                    .tag("limiter", name)
+                    .register(meterRegistry);
+        }
+
+        private static Counter decisions(MeterRegistry meterRegistry, String name, String outcome) {
+            return Counter.builder("concurrency.decisions")
+                    .description("Admission decisions made by the adaptive concurrency limiter")
+                    .tag("limiter", name)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 비동기 요청은 완료·시간 초과·오류 중 먼저 일어난 시점에 한 번만 자리를 반환합니다.
+     */
+    private static final class ReleaseOnComplete implements AsyncListener {
+
+        private final AdaptiveConcurrencyLimit limit;
+        private final long start;
+        private boolean released;
+
+        private ReleaseOnComplete(AdaptiveConcurrencyLimit limit, long start) {
+            this.limit = limit;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private synchronized void release() {
+            if (!released) {
+                released = true;
+                limit.release(System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.plog.global.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.security.autoconfigure.web.servlet.SecurityFilterProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 이미지 업로드 요청을 조회 요청과 분리하는 격벽(bulkhead) 설정 클래스입니다.
+ * <p>
+ * 업로드는 두 단계로 제한합니다. multipart 본문을 읽는 동안은 {@link BulkheadFilter}가 Tomcat 스레드 점유 수를,
+ * 이미지 변환·저장소 전송·DB 저장은 {@link BulkheadExecutor}의 전용 스레드 수가 DB 커넥션 점유 수를 제한합니다.
+ * 따라서 업로드가 몰려도 조회 요청은 {@code Tomcat 최대 스레드 - max-concurrent}개의 스레드와
+ * {@code Hikari 최대 커넥션 - threads}개의 커넥션을 항상 사용할 수 있습니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * 두 한도가 Tomcat 스레드 풀이나 Hikari 커넥션 풀을 모두 차지하도록 설정되면 애플리케이션을 시작하지 않습니다.
+ * 가상 스레드 모드에서는 Tomcat 스레드 수 제한이 없으므로 커넥션 수만 확인합니다.
+ *
+ * @author Jaewon Ryu
+ * @see com.plog.domain.image.controller.ImageController
+ * @see com.plog.domain.image.controller.ProfileImageController
+ * @since 2026-10-18
+ */
+@Configuration
+public class UploadBulkheadConfig {
+
+    static final String UPLOAD = "upload";
+    static final String UPLOAD_PROCESSING = "upload-processing";
+    static final List<String> UPLOAD_PATHS = List.of(
+            "/api/images",
+            "/api/images/bulk",
+            "/api/members/{memberId}/profile-image");
+
+    @Bean
+    public Bulkhead uploadBulkhead(
+            MeterRegistry meterRegistry,
+            @Value("${custom.image.upload-bulkhead.max-concurrent}") int maxConcurrent,
+            @Value("${custom.image.upload-bulkhead.max-wait}") Duration maxWait,
+            @Value("${server.tomcat.threads.max:200}") int tomcatThreads,
+            @Value("${spring.threads.virtual.enabled}") boolean virtualThreads) {
+        if (!virtualThreads && maxConcurrent >= tomcatThreads) {
+            throw new IllegalStateException("custom.image.upload-bulkhead.max-concurrent(" + maxConcurrent
+                    + ") must be less than server.tomcat.threads.max(" + tomcatThreads + ")");
+        }
+        return new Bulkhead(UPLOAD, maxConcurrent, maxWait, meterRegistry);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public BulkheadExecutor uploadExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${custom.image.upload-bulkhead.threads}") int threads,
+            @Value("${custom.image.upload-bulkhead.queue-capacity}") int queueCapacity,
+            @Value("${custom.image.upload-bulkhead.queue-timeout}") Duration queueTimeout,
+            @Value("${custom.image.upload-bulkhead.timeout}") Duration timeout,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connections) {
+        if (threads >= connections) {
+            throw new IllegalStateException("custom.image.upload-bulkhead.threads(" + threads
+                    + ") must be less than spring.datasource.hikari.maximum-pool-size(" + connections + ")");
+        }
+        return new BulkheadExecutor(UPLOAD_PROCESSING, threads, queueCapacity, queueTimeout, timeout, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<BulkheadFilter> uploadBulkheadFilter(Bulkhead uploadBulkhead, JsonMapper jsonMapper) {
+        FilterRegistrationBean<BulkheadFilter> registration =
+                new FilterRegistrationBean<>(new BulkheadFilter(uploadBulkhead, UPLOAD_PATHS, jsonMapper));
+        // 인증에 실패한 요청이 자리를 차지하지 않도록 Spring Security 필터 체인 뒤에서 실행합니다.
+        registration.setOrder(SecurityFilterProperties.DEFAULT_FILTER_ORDER + 10);
+        return registration;
+    }
+}
@@ -19,7 +19,11 @@ import java.util.concurrent.TimeUnit;
  *
  * <p><b>주요 설정 내용:</b><br>
  * 1. 캐시 만료 정책: {@code expireAfterWrite}를 사용하여 토큰 발급 후 설정된 시간이 지나면 자동 삭제 처리합니다. <br>
- * 2. 최대 용량 제한: 서버 메모리 보호를 위해 최대 항목 수를 제한합니다.
+ * 2. 최대 용량 제한: 서버 메모리 보호를 위해 최대 항목 수를 제한합니다. <br>
+ * 3. 이미지 URL 캐시: 이미지 URL과 이미지 ID의 매핑을 최근 사용 순으로 일정 개수만 보관합니다. <br>
+ * 4. 템플릿 목록 캐시: 회원별 템플릿 요약 목록의 첫 페이지를 보관하며, 템플릿이 변경되면 회원 단위로 비웁니다.
+ *    조회가 캐시 내부 잠금 밖에서 실행되도록 비동기 캐시로 등록합니다. <br>
+ * 5. 통계 기록: 모든 캐시가 {@code recordStats()}로 적중률·제거 횟수를 기록하여 Actuator 의 {@code cache.*} 지표로 노출됩니다.
  *
  * <p><b>빈 관리:</b><br>
  * {@link CacheManager}를 빈으로 등록하여 스프링의 추상화된 캐시 인터페이스({@code @Cacheable} 등)를 사용할 수 있게 합니다.
@@ -38,12 +42,29 @@ public class CacheConfig {
      * 캐시 저장소 이름을 다른 곳에서도 사용할 수 있도록 상수로 정의합니다.
      */
     public static final String CACHE_NAME = "refreshToken";
+
+    /**
+     * 이미지 접근 URL을 이미지 ID로 매핑하는 캐시의 이름입니다.
+     */
+    public static final String IMAGE_ID_CACHE_NAME = "imageIdByUrl";
+
+    /**
+     * 회원 ID를 템플릿 요약 목록의 첫 페이지로 매핑하는 캐시의 이름입니다.
+     */
+    public static final String POST_TEMPLATE_SUMMARY_CACHE_NAME = "postTemplateSummaries";
+
     private final long refreshTokenExpiration;
+    private final long imageIdCacheSize;
+    private final long templateSummaryCacheSize;
 
     public CacheConfig(
-            @Value("${custom.jwt.refresh-expiration}") long refreshTokenExpiration
+            @Value("${custom.jwt.refresh-expiration}") long refreshTokenExpiration,
+            @Value("${custom.image.url-cache-size}") long imageIdCacheSize,
+            @Value("${custom.post-template.summary-cache-size}") long templateSummaryCacheSize
     ) {
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.imageIdCacheSize = imageIdCacheSize;
+        this.templateSummaryCacheSize = templateSummaryCacheSize;
     }
 
     /**
@@ -54,6 +75,11 @@ public class CacheConfig {
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager(CACHE_NAME);
         cacheManager.setCaffeine(caffeineBuilder());
+        cacheManager.registerCustomCache(IMAGE_ID_CACHE_NAME,
+                Caffeine.newBuilder().maximumSize(imageIdCacheSize).recordStats().build());
+        cacheManager.registerCustomCache(POST_TEMPLATE_SUMMARY_CACHE_NAME,
+                Caffeine.newBuilder().maximumSize(templateSummaryCacheSize).expireAfterAccess(30, TimeUnit.MINUTES)
+                        .recordStats().buildAsync());
         return cacheManager;
     }
 
@@ -64,6 +90,7 @@ public class CacheConfig {
     private Caffeine<Object, Object> caffeineBuilder() {
         return Caffeine.newBuilder()
                 .expireAfterWrite(refreshTokenExpiration, TimeUnit.MILLISECONDS)
-                .maximumSize(1000);
+                .maximumSize(1000)
+                .recordStats();
     }
 }
\ No newline at end of file
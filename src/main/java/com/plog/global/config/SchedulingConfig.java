@@ -0,0 +1,18 @@
+package com.plog.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Scheduled} 기반의 주기 작업을 활성화하는 설정 클래스입니다.
+ * <p>
+ * 고아 이미지 정리와 같이 요청과 무관하게 주기적으로 실행되어야 하는 작업들이 이 설정을 통해 동작합니다.
+ *
+ * @author Jaewon Ryu
+ * @see com.plog.domain.image.service.OrphanImageCollector
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
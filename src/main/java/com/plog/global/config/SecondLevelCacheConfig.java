@@ -0,0 +1,98 @@
+package com.plog.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * 자주 조회되지만 거의 바뀌지 않는 엔티티({@code Member}, {@code Image}, {@code HashTag})를 위한
+ * Hibernate 2차 캐시 구성 클래스입니다.
+ * <p>
+ * Caffeine 의 JCache 구현으로 리전마다 별도 캐시를 만들고, Hibernate 의 JCache 리전 팩토리에 넘깁니다.
+ * 리전 이름과 크기·만료 시간은 {@code custom.second-level-cache.regions}에서 설정하며,
+ * 설정에 없는 리전을 엔티티가 사용하면 시작 시 실패하도록 하여 크기 제한 없는 캐시가 생기지 않게 합니다.
+ *
+ * <p><b>주요 설정 내용:</b><br>
+ * 1. 엔티티 캐시: {@code Member}, {@code Image}는 READ_WRITE, {@code HashTag}는 변경되지 않으므로 READ_ONLY 입니다. <br>
+ * 2. 자연 키 캐시: {@code Member.email}, {@code HashTag.name}으로 ID 를 찾는 조회를 캐시합니다. <br>
+ * 3. 통계: Hibernate 통계를 켜서 리전별 적중·실패 수가 {@code hibernate.second.level.cache.requests} 지표로 노출됩니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * {@code custom.second-level-cache.enabled}가 {@code true}일 때만 등록됩니다. (seed 프로필 등에서 끔)
+ *
+ * <p><b>외부 모듈:</b><br>
+ * Caffeine JCache (com.github.ben-manes.caffeine:jcache), Hibernate JCache
+ *
+ * @author Jaewon Ryu
+ * @see CacheConfig
+ * @since 2026-10-18
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "custom.second-level-cache", name = "enabled", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    public static final String MEMBER_REGION = "member";
+    public static final String MEMBER_NATURAL_ID_REGION = "member-natural-id";
+    public static final String IMAGE_REGION = "image";
+    public static final String HASH_TAG_REGION = "hash-tag";
+    public static final String HASH_TAG_NATURAL_ID_REGION = "hash-tag-natural-id";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(Environment environment) {
+        Map<String, Region> regions = Binder.get(environment)
+                .bind("custom.second-level-cache.regions", Bindable.mapOf(String.class, Region.class))
+                .orElse(Map.of());
+
+        // 제공자의 기본 CacheManager 는 JVM 전역에서 공유되므로, 컨텍스트마다 별도 URI 로 만듭니다.
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("plog:second-level-cache:" + UUID.randomUUID()), provider.getDefaultClassLoader());
+        regions.forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.maxSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.ttl().toNanos()));
+            cacheManager.createCache(name, configuration);
+            log.info("[SecondLevelCacheConfig] region {} (max-size={}, ttl={})", name, region.maxSize(), region.ttl());
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    /**
+     * 리전 하나의 설정입니다.
+     *
+     * @param maxSize 최대 항목 수
+     * @param ttl     저장 후 만료까지의 시간
+     */
+    public record Region(long maxSize, Duration ttl) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.plog.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기 전용 트랜잭션을 replica 로 보내는 읽기/쓰기 분리 데이터 소스 구성 클래스입니다.
+ * <p>
+ * {@code @Transactional(readOnly = true)}인 트랜잭션은 replica 커넥션 풀을, 그 외에는 primary 풀을 사용합니다.
+ * 복제 지연이 허용치를 넘거나, 같은 요청에서 이미 쓰기가 있었다면 읽기도 primary 로 보냅니다.
+ *
+ * <p><b>주요 설정 내용:</b><br>
+ * 1. primary: {@code spring.datasource.*}, {@code spring.datasource.hikari.*} 설정으로 만든 Hikari 풀입니다. <br>
+ * 2. replica: {@code custom.datasource.replica.*}, {@code custom.datasource.replica.hikari.*} 설정으로 만든 Hikari 풀입니다. <br>
+ * 3. 커넥션 해제: Hibernate 가 트랜잭션이 끝날 때마다 커넥션을 반납하도록 하여, OSIV 로 하나의
+ *    {@code EntityManager}가 요청 전체에 걸쳐 열려 있어도 트랜잭션마다 대상 풀을 다시 고르게 합니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * {@code custom.datasource.replica.enabled}가 {@code true}일 때만 등록되며, 꺼져 있으면
+ * Spring Boot 기본 데이터 소스를 그대로 사용합니다.
+ *
+ * @author Jaewon Ryu
+ * @see ReplicaRoutingDataSource
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "custom.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(
+            @Value("${custom.datasource.replica.url}") String url,
+            @Value("${custom.datasource.replica.username}") String username,
+            @Value("${custom.datasource.replica.password:}") String password,
+            Environment environment
+    ) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setAutoCommit(false);
+        dataSource.setReadOnly(true);
+        Binder.get(environment).bind("custom.datasource.replica.hikari", Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            HikariDataSource primaryDataSource,
+            HikariDataSource replicaDataSource,
+            @Value("${custom.datasource.replica.lag-check.enabled:true}") boolean lagCheckEnabled,
+            @Value("${custom.datasource.replica.lag-check.max-lag:5s}") Duration maxLag,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, lagCheckEnabled, maxLag, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        return ReplicaRoutingDataSource.readWriteSplitting(primaryDataSource, replicaDataSource, replicaLagMonitor);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer readReplicaConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
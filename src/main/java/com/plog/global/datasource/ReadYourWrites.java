@@ -0,0 +1,67 @@
+package com.plog.global.datasource;
+
+/**
+ * 요청 안에서 쓰기 트랜잭션이 실행되었는지 기록하여, 이후 읽기 전용 트랜잭션을 primary 로 보내기 위한 컨텍스트입니다.
+ * <p>
+ * 복제 지연 때문에 방금 쓴 데이터가 replica 에 아직 없을 수 있으므로, 같은 요청에서 쓰기 이후의 읽기는
+ * primary 에 고정(pinning)합니다. {@link ReadYourWritesFilter}가 요청마다 범위를 열고 닫으며,
+ * 범위 밖(스케줄러 등)에서는 쓰기가 있어도 고정하지 않습니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<boolean[]> SCOPE = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    static void begin() {
+        SCOPE.set(new boolean[1]);
+    }
+
+    static void end() {
+        SCOPE.remove();
+    }
+
+    /**
+     * 현재 요청의 범위를 작업을 실행하는 스레드에도 연결하도록 작업을 감쌉니다. 요청 범위 밖이면 작업을 그대로 반환합니다.
+     * 작업 스레드에서 일어난 쓰기는 같은 요청의 이후 읽기에도 반영됩니다.
+     *
+     * @param task 다른 스레드에서 실행할 작업
+     * @return 실행하는 동안 요청 범위가 연결되는 작업
+     */
+    public static Runnable wrap(Runnable task) {
+        boolean[] scope = SCOPE.get();
+        if (scope == null) {
+            return task;
+        }
+        return () -> {
+            SCOPE.set(scope);
+            try {
+                task.run();
+            } finally {
+                SCOPE.remove();
+            }
+        };
+    }
+
+    /**
+     * 현재 요청에서 쓰기가 일어났음을 기록합니다.
+     */
+    static void markWrite() {
+        boolean[] scope = SCOPE.get();
+        if (scope != null) {
+            scope[0] = true;
+        }
+    }
+
+    /**
+     * 현재 요청의 읽기를 primary 로 보내야 하는지 반환합니다.
+     */
+    public static boolean isPinned() {
+        boolean[] scope = SCOPE.get();
+        return scope != null && scope[0];
+    }
+}
@@ -0,0 +1,111 @@
+package com.plog.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * primary 에 주기적으로 기록한 시각(heartbeat)을 replica 에서 읽어 복제 지연을 측정합니다.
+ * <p>
+ * 지연이 {@code max-lag}를 넘거나 replica 조회에 실패하면 replica 를 사용할 수 없는 것으로 보고,
+ * {@link ReplicaRoutingDataSource}가 읽기 전용 트랜잭션도 primary 로 보냅니다.
+ * 지연 확인을 끄면(복제되지 않는 로컬 H2 두 개로 시험할 때) replica 를 항상 사용합니다.
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. 시작 시 primary 에 {@code replication_heartbeat} 테이블을 만듭니다. <br>
+ * 2. {@code heartbeat-interval}마다 primary 에 현재 시각을 쓰고, replica 에 복제된 시각과의 차이를 지연으로 기록합니다. <br>
+ * 3. 지연과 사용 가능 여부를 {@code datasource.replica.lag}, {@code datasource.replica.available} 지표로 노출합니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * {@link ReadReplicaConfig}에서 {@code @Bean}으로 등록됩니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String HEARTBEAT_TABLE = "replication_heartbeat";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final TransactionTemplate primaryTransaction;
+    private final boolean lagCheckEnabled;
+    private final long maxLagMillis;
+
+    private volatile boolean replicaAvailable;
+    private volatile long lagMillis;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, boolean lagCheckEnabled, Duration maxLag,
+                             MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.primaryTransaction = new TransactionTemplate(new DataSourceTransactionManager(primary));
+        this.lagCheckEnabled = lagCheckEnabled;
+        this.maxLagMillis = maxLag.toMillis();
+        this.replicaAvailable = !lagCheckEnabled;
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMillis)
+                .description("Replication lag measured from the heartbeat table")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.replicaAvailable ? 1 : 0)
+                .description("Whether read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!lagCheckEnabled) {
+            return;
+        }
+        primaryTransaction.executeWithoutResult(status -> primary.execute(
+                "create table if not exists " + HEARTBEAT_TABLE + " (id int primary key, beat_at bigint not null)"));
+        check();
+    }
+
+    @Scheduled(fixedDelayString = "${custom.datasource.replica.heartbeat-interval}")
+    public void check() {
+        if (!lagCheckEnabled) {
+            return;
+        }
+        boolean available;
+        try {
+            beat();
+            Long beatAt = replica.queryForObject("select beat_at from " + HEARTBEAT_TABLE + " where id = 1", Long.class);
+            lagMillis = beatAt == null ? Long.MAX_VALUE : Math.max(0, System.currentTimeMillis() - beatAt);
+            available = lagMillis <= maxLagMillis;
+        } catch (Exception e) {
+            log.debug("[ReplicaLagMonitor#check] heartbeat failed: {}", e.getMessage());
+            lagMillis = Long.MAX_VALUE;
+            available = false;
+        }
+        if (available != replicaAvailable) {
+            log.warn("[ReplicaLagMonitor#check] replica {} (lag={}ms, max={}ms)",
+                    available ? "available" : "unavailable, routing reads to primary",
+                    lagMillis == Long.MAX_VALUE ? "unknown" : lagMillis, maxLagMillis);
+        }
+        replicaAvailable = available;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    private void beat() {
+        long now = System.currentTimeMillis();
+        primaryTransaction.executeWithoutResult(status -> {
+            if (primary.update("update " + HEARTBEAT_TABLE + " set beat_at = ? where id = 1", now) == 0) {
+                primary.update("insert into " + HEARTBEAT_TABLE + " (id, beat_at) values (1, ?)", now);
+            }
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package com.plog.global.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션의 커넥션을 replica 에서, 필요하면 primary 에서 가져오는 라우팅 데이터 소스입니다.
+ * <p>
+ * 같은 요청에서 이미 쓰기가 있었거나({@link ReadYourWrites}) replica 지연이 허용치를 넘으면
+ * ({@link ReplicaLagMonitor}) primary 를 사용합니다.
+ *
+ * <p><b>구성:</b><br>
+ * {@link #readWriteSplitting}이 만드는 {@link LazyConnectionDataSourceProxy}는 트랜잭션이 커넥션에
+ * {@code setReadOnly(true)}를 호출했는지 보고, 실제 커넥션을 가져올 때 이 데이터 소스와 primary 중 하나를 고릅니다.
+ * 쓰기 경로의 커넥션을 가져올 때는 쓰기 트랜잭션이면 현재 요청을 primary 에 고정합니다.
+ *
+ * @author Jaewon Ryu
+ * @see ReadReplicaConfig
+ * @since 2026-10-18
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    private ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        initialize();
+    }
+
+    /**
+     * 읽기 전용 트랜잭션은 replica 로, 나머지는 primary 로 보내는 데이터 소스를 만듭니다.
+     */
+    static DataSource readWriteSplitting(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(new WriteTrackingDataSource(primary));
+        proxy.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replica, lagMonitor));
+        return proxy;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ReadYourWrites.isPinned() || !lagMonitor.isReplicaAvailable() ? Target.PRIMARY : Target.REPLICA;
+    }
+
+    private static final class WriteTrackingDataSource extends DelegatingDataSource {
+
+        private WriteTrackingDataSource(DataSource primary) {
+            super(primary);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                ReadYourWrites.markWrite();
+            }
+            return super.getConnection();
+        }
+    }
+}
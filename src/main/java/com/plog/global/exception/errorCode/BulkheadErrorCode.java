@@ -0,0 +1,30 @@
+package com.plog.global.exception.errorCode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 격벽(bulkhead)이나 동시성 제한기가 요청을 받지 못했을 때의 에러 상황을 정의한 Enum 클래스입니다.
+ * <p>
+ * {@link com.plog.global.exception.exceptions.BulkheadException} 발생 시 인자로 사용되며,
+ * 필터에서 바로 거절할 때는 응답 상태와 메시지로 사용됩니다.
+ *
+ * <p><b>주요 패턴:</b><br>
+ * {@code @AllArgsConstructor}와 {@code @Getter}를 사용하여 불변 필드를 관리합니다.
+ *
+ * @author Jaewon Ryu
+ * @see com.plog.global.exception.exceptions.BulkheadException
+ * @since 2026-10-18
+ */
+@Getter
+@AllArgsConstructor
+public enum BulkheadErrorCode implements ErrorCode {
+
+    // 503: 동시 처리 한도 초과, 대기 시간 초과
+    BULKHEAD_FULL(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."),
+    CONCURRENCY_LIMITED(HttpStatus.SERVICE_UNAVAILABLE, "서버가 혼잡하여 요청을 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+
+    private final HttpStatus httpStatus;
+    private final String message;
+}
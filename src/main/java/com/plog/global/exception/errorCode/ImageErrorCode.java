@@ -35,7 +35,14 @@ public enum ImageErrorCode implements ErrorCode {
     // 400: 클라이언트 에러
     EMPTY_FILE(HttpStatus.BAD_REQUEST, "파일이 비어있습니다."),
     INVALID_FILE_EXTENSION(HttpStatus.BAD_REQUEST, "지원하지 않는 파일 형식입니다."),
-    IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 이미지를 찾을 수 없습니다.");
+    FILE_TOO_LARGE(HttpStatus.BAD_REQUEST, "허용된 최대 파일 크기를 초과했습니다."),
+    UPLOAD_NOT_COMPLETED(HttpStatus.BAD_REQUEST, "업로드가 완료되지 않았습니다."),
+    UPLOAD_VERIFICATION_FAILED(HttpStatus.BAD_REQUEST, "업로드된 파일이 요청 정보와 일치하지 않습니다."),
+    UPLOAD_SESSION_EXPIRED(HttpStatus.BAD_REQUEST, "업로드 세션이 만료되었습니다."),
+    IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 이미지를 찾을 수 없습니다."),
+
+    // 409: 다른 데이터에서 사용 중
+    IMAGE_IN_USE(HttpStatus.CONFLICT, "게시글, 템플릿 또는 프로필에서 사용 중인 이미지입니다.");
 
     private final HttpStatus httpStatus;
     private final String message;
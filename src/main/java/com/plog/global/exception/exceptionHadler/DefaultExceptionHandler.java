@@ -1,10 +1,12 @@
 package com.plog.global.exception.exceptionHadler;
 
 import com.plog.global.exception.exceptions.BaseException;
+import com.plog.global.exception.exceptions.BulkheadException;
 import com.plog.global.response.CommonResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -47,6 +49,14 @@ public class DefaultExceptionHandler {
         return fail(ex.getMessage(), ex.getErrorCode().getHttpStatus());
     }
 
+    @ExceptionHandler(BulkheadException.class)
+    public ResponseEntity<Object> handleBulkheadException(BulkheadException ex) {
+        log.warn("{}", ex.getLogMessage());
+        return ResponseEntity.status(ex.getErrorCode().getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, BulkheadException.RETRY_AFTER_SECONDS)
+                .body(CommonResponse.fail(ex.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleUnexpectedException(Exception ex) {
         log.error("[unexpected] {}", ex.getMessage(), ex);
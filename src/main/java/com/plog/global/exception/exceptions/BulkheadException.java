@@ -0,0 +1,32 @@
+package com.plog.global.exception.exceptions;
+
+import com.plog.global.exception.errorCode.BulkheadErrorCode;
+
+/**
+ * 격벽(bulkhead)의 동시 처리 한도나 대기 시간을 넘어 요청을 거절할 때 발생하는 예외입니다.
+ * <p>
+ * 클라이언트는 {@code 503 Service Unavailable}과 {@code Retry-After} 헤더를 받습니다.
+ *
+ * <p><b>상속 정보:</b><br>
+ * {@link BaseException}을 상속받아 전역 예외 처리기에서 일관된 포맷으로 처리됩니다.
+ *
+ * <p><b>주요 생성자:</b><br>
+ * {@code BulkheadException(String bulkhead, String reason)} <br>
+ * 거절한 격벽 이름과 사유를 로그 메시지에 남깁니다.
+ *
+ * @author Jaewon Ryu
+ * @see com.plog.global.bulkhead.Bulkhead
+ * @see com.plog.global.bulkhead.BulkheadExecutor
+ * @since 2026-10-18
+ */
+public class BulkheadException extends BaseException {
+
+    /**
+     * 거절 응답의 {@code Retry-After} 값(초)입니다.
+     */
+    public static final String RETRY_AFTER_SECONDS = "1";
+
+    public BulkheadException(String bulkhead, String reason) {
+        super(BulkheadErrorCode.BULKHEAD_FULL, "bulkhead '" + bulkhead + "' rejected: " + reason);
+    }
+}
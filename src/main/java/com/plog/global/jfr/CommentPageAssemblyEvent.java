@@ -0,0 +1,28 @@
+package com.plog.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 댓글 한 페이지에 대댓글 미리보기를 붙여 응답을 조립하는 작업을 기록하는 JFR 이벤트입니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+@Name("com.plog.comment.CommentPageAssembly")
+@Label("Comment Page Assembly")
+@Category({"Plog", "Comment"})
+@StackTrace(false)
+public class CommentPageAssemblyEvent extends jdk.jfr.Event {
+
+    @Label("Page Number")
+    public int page;
+
+    @Label("Comments")
+    public int comments;
+
+    @Label("Replies Loaded")
+    public int replies;
+}
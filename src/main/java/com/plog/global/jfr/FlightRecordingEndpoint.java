@@ -0,0 +1,55 @@
+package com.plog.global.jfr;
+
+import jdk.jfr.Recording;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 상시 JFR 녹화의 상태 조회와 덤프를 제공하는 Actuator 엔드포인트입니다.
+ * <p>
+ * <b>API:</b> [GET] /actuator/jfr (녹화 상태), [POST] /actuator/jfr (현재 구간을 파일로 저장) <br>
+ * 다른 Actuator 엔드포인트와 같이 {@link com.plog.global.security.SecurityConfig}의 허용 IP 대역에서만 접근할 수 있습니다.
+ *
+ * @author Jaewon Ryu
+ * @see FlightRecordingManager
+ * @since 2026-10-18
+ */
+@Component
+@Endpoint(id = "jfr")
+@ConditionalOnProperty(prefix = "custom.jfr", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class FlightRecordingEndpoint {
+
+    private final FlightRecordingManager flightRecordingManager;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Recording recording = flightRecordingManager.getRecording();
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("name", recording.getName());
+        status.put("state", recording.getState().name());
+        status.put("startTime", String.valueOf(recording.getStartTime()));
+        status.put("maxAge", String.valueOf(recording.getMaxAge()));
+        status.put("maxSize", recording.getMaxSize());
+        return status;
+    }
+
+    @WriteOperation
+    public Map<String, Object> dump() throws IOException {
+        Path file = flightRecordingManager.dump();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("file", file.toAbsolutePath().toString());
+        result.put("size", Files.size(file));
+        return result;
+    }
+}
@@ -0,0 +1,116 @@
+package com.plog.global.jfr;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 애플리케이션이 떠 있는 동안 JDK Flight Recorder 상시 녹화를 유지하고, 요청 시 디스크로 덤프하는 컴포넌트입니다.
+ * <p>
+ * 지연 시간이 튀는 순간을 사후에 분석할 수 있도록, 최근 {@code max-age} 동안의 JVM 이벤트와
+ * 도메인 이벤트({@code com.plog.*})를 순환 버퍼로 보관합니다.
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. JDK 기본 설정({@code custom.jfr.settings}, 기본값 {@code default})에 {@code jfr/plog.jfc}의 도메인 이벤트 설정을 덮어씁니다. <br>
+ * 2. 녹화는 디스크 저장소를 사용하며, {@code max-age}, {@code max-size}를 넘는 오래된 구간은 버려집니다. <br>
+ * 3. {@link #dump()}는 녹화를 멈추지 않고 현재 보관 구간을 {@code dump-directory}에 파일로 씁니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * {@code custom.jfr.enabled}가 true 일 때만 등록되며, 빈 종료 시 녹화를 닫습니다.
+ *
+ * @author Jaewon Ryu
+ * @see FlightRecordingEndpoint
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "custom.jfr", name = "enabled", havingValue = "true")
+public class FlightRecordingManager {
+
+    static final String RECORDING_NAME = "plog-continuous";
+    private static final String DOMAIN_SETTINGS = "jfr/plog.jfc";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final String baseSettings;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private final Path dumpDirectory;
+
+    private Recording recording;
+
+    public FlightRecordingManager(
+            @Value("${custom.jfr.settings}") String baseSettings,
+            @Value("${custom.jfr.max-age}") Duration maxAge,
+            @Value("${custom.jfr.max-size}") DataSize maxSize,
+            @Value("${custom.jfr.dump-directory}") Path dumpDirectory) {
+        this.baseSettings = baseSettings;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+        this.dumpDirectory = dumpDirectory;
+    }
+
+    @PostConstruct
+    public void start() throws IOException, ParseException {
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration(baseSettings).getSettings());
+        try (Reader reader = new InputStreamReader(new ClassPathResource(DOMAIN_SETTINGS).getInputStream(), StandardCharsets.UTF_8)) {
+            settings.putAll(Configuration.create(reader).getSettings());
+        }
+
+        recording = new Recording(settings);
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSize.toBytes());
+        recording.start();
+        log.info("[FlightRecordingManager#start] continuous recording started. settings={}+{}, maxAge={}, maxSize={}",
+                baseSettings, DOMAIN_SETTINGS, maxAge, maxSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    /**
+     * 현재 보관 중인 녹화 구간을 파일로 저장합니다. 상시 녹화는 계속 진행됩니다.
+     *
+     * @return 저장된 파일 경로
+     * @throws IOException 디렉터리 생성이나 파일 쓰기에 실패한 경우
+     */
+    public Path dump() throws IOException {
+        Files.createDirectories(dumpDirectory);
+        Path file = dumpDirectory.resolve("plog-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr");
+        recording.dump(file);
+        log.info("[FlightRecordingManager#dump] recording dumped. file={}", file);
+        return file;
+    }
+
+    /**
+     * 상시 녹화의 현재 상태를 반환합니다.
+     */
+    public Recording getRecording() {
+        return recording;
+    }
+}
@@ -0,0 +1,35 @@
+package com.plog.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 게시글 본문 마크다운을 파싱하여 평문과 요약을 만드는 작업을 기록하는 JFR 이벤트입니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+@Name("com.plog.post.MarkdownProcessing")
+@Label("Markdown Processing")
+@Description("Parsing post markdown into plain text and summary")
+@Category({"Plog", "Post"})
+@StackTrace(false)
+public class MarkdownProcessingEvent extends jdk.jfr.Event {
+
+    @Label("Post ID")
+    @Description("0 when the post is being created")
+    public long postId;
+
+    @Label("Content Length")
+    @Description("Markdown length in characters")
+    public int contentLength;
+
+    @Label("Plain Text Length")
+    public int plainTextLength;
+
+    @Label("Summary Length")
+    public int summaryLength;
+}
@@ -0,0 +1,55 @@
+package com.plog.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 오브젝트 스토리지 업로드와 삭제 요청을 기록하는 JFR 이벤트입니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+@Name("com.plog.storage.StorageOperation")
+@Label("Storage Operation")
+@Description("Object storage upload or delete request")
+@Category({"Plog", "Storage"})
+@StackTrace(false)
+public class StorageOperationEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    @Description("upload, delete or deleteAll")
+    public String operation;
+
+    @Label("Object Key")
+    @Description("Empty for bulk operations")
+    public String objectKey;
+
+    @Label("Size")
+    @DataAmount
+    public long size;
+
+    @Label("Objects")
+    public int objects;
+
+    @Label("Failed Objects")
+    public int failedObjects;
+
+    @Label("Success")
+    public boolean success;
+
+    /**
+     * 지정한 작업의 이벤트를 만들고 시간 측정을 시작합니다.
+     */
+    public static StorageOperationEvent start(String operation, String objectKey, int objects) {
+        StorageOperationEvent event = new StorageOperationEvent();
+        event.operation = operation;
+        event.objectKey = objectKey;
+        event.objects = objects;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,31 @@
+package com.plog.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 게시글 해시태그를 기존 태그와 매칭하고 새 태그를 만드는 작업을 기록하는 JFR 이벤트입니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+@Name("com.plog.post.TagResolution")
+@Label("Tag Resolution")
+@Category({"Plog", "Post"})
+@StackTrace(false)
+public class TagResolutionEvent extends jdk.jfr.Event {
+
+    @Label("Post ID")
+    public long postId;
+
+    @Label("Requested Tags")
+    public int requestedTags;
+
+    @Label("Distinct Tags")
+    public int distinctTags;
+
+    @Label("Created Tags")
+    public int createdTags;
+}
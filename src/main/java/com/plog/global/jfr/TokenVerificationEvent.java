@@ -0,0 +1,42 @@
+package com.plog.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 인증 필터의 Access Token 검증과 재발급을 기록하는 JFR 이벤트입니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+@Name("com.plog.auth.TokenVerification")
+@Label("Token Verification")
+@Description("Access token parse or refresh-token based reissue in the authentication filter")
+@Category({"Plog", "Auth"})
+@StackTrace(false)
+public class TokenVerificationEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    @Description("parse or reissue")
+    public String operation;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Member ID")
+    @Description("0 when the member could not be identified")
+    public long memberId;
+
+    /**
+     * 지정한 작업의 이벤트를 만들고 시간 측정을 시작합니다.
+     */
+    public static TokenVerificationEvent start(String operation) {
+        TokenVerificationEvent event = new TokenVerificationEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+}
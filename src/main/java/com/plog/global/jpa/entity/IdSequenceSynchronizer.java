@@ -0,0 +1,104 @@
+package com.plog.global.jpa.entity;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 엔티티 ID 시퀀스가 테이블의 기존 ID 보다 앞서도록 맞추는 컴포넌트입니다.
+ * <p>
+ * {@link BaseEntity}는 엔티티별 시퀀스({@code <테이블>_seq})에서 ID 를 블록 단위로 미리 할당받습니다.
+ * IDENTITY 방식으로 쌓인 기존 데이터나 ID 를 직접 지정해 넣은 데이터(시드 데이터)가 있으면
+ * 새로 만든 시퀀스가 이미 사용된 ID 를 내줄 수 있으므로, 시작 시점에 각 시퀀스를 {@code max(id)} 뒤로 옮깁니다.
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. 시퀀스를 지원하는 DB(H2 등)는 다음 값을 한 번 조회하고, 부족하면 {@code alter sequence ... restart}로 재설정합니다. <br>
+ * 2. 시퀀스가 없는 MySQL 은 Hibernate 가 만든 {@code <테이블>_seq} 테이블의 {@code next_val}을 갱신합니다. <br>
+ * 3. 이미 충분히 앞서 있는 시퀀스는 그대로 둡니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * {@link SmartInitializingSingleton}으로 모든 싱글톤 생성 직후, 웹 서버와 스케줄러가 시작되기 전에 실행됩니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class IdSequenceSynchronizer implements SmartInitializingSingleton {
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public IdSequenceSynchronizer(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        synchronize();
+    }
+
+    /**
+     * 모든 엔티티 시퀀스를 각 테이블의 최대 ID 뒤로 맞춥니다.
+     *
+     * @return 재설정한 시퀀스 수
+     */
+    public int synchronize() {
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        int[] adjusted = new int[1];
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (persister.getGenerator() instanceof SequenceStyleGenerator generator
+                    && synchronize(dialect, persister, generator.getDatabaseStructure())) {
+                adjusted[0]++;
+            }
+        });
+        return adjusted[0];
+    }
+
+    private boolean synchronize(Dialect dialect, EntityPersister persister, DatabaseStructure structure) {
+        String sequence = structure.getPhysicalName().render();
+        int increment = structure.getIncrementSize();
+        Boolean adjusted = transactionTemplate.execute(status -> {
+            Long maxId = jdbcTemplate.queryForObject("select max(" + persister.getRootTableIdentifierColumnNames()[0]
+                    + ") from " + persister.getRootTableName(), Long.class);
+            if (maxId == null) {
+                return false;
+            }
+            // pooled 옵티마이저는 조회한 값 v 에 대해 (v - increment, v] 구간의 ID 를 사용합니다.
+            long required = maxId + increment + 1;
+            if (structure.isPhysicalSequence()) {
+                Long next = jdbcTemplate.queryForObject(
+                        dialect.getSequenceSupport().getSequenceNextValString(sequence), Long.class);
+                if (next != null && next - increment >= maxId) {
+                    return false;
+                }
+                jdbcTemplate.execute(dialect.getSequenceSupport().getRestartSequenceString(sequence, required));
+                return true;
+            }
+            Long next = jdbcTemplate.queryForObject(
+                    "select " + SequenceStyleGenerator.DEF_VALUE_COLUMN + " from " + sequence + " for update", Long.class);
+            if (next != null && next - increment >= maxId) {
+                return false;
+            }
+            jdbcTemplate.update("update " + sequence + " set " + SequenceStyleGenerator.DEF_VALUE_COLUMN + " = ?", required);
+            return true;
+        });
+        if (Boolean.TRUE.equals(adjusted)) {
+            log.info("[IdSequenceSynchronizer] {} restarted after existing ids of {}", sequence, persister.getRootTableName());
+        }
+        return Boolean.TRUE.equals(adjusted);
+    }
+}
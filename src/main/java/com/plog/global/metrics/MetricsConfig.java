@@ -0,0 +1,28 @@
+package com.plog.global.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 애플리케이션 지표 수집을 위한 구성 클래스입니다.
+ * <p>
+ * 컨트롤러 응답 시간({@code http.server.requests}), Hikari 커넥션 풀, Caffeine 캐시 지표는
+ * Actuator 자동 구성이 수집하며, 이 클래스는 자동 구성이 다루지 않는 요청당 SQL 문 수 계수기를 Hibernate 에 등록합니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * 다른 {@code StatementInspector}가 이미 설정되어 있으면(예: 쿼리 수 검증 테스트) 덮어쓰지 않습니다.
+ *
+ * @author Jaewon Ryu
+ * @see QueryCountMetricsFilter
+ * @since 2026-10-18
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+        return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+}
@@ -0,0 +1,51 @@
+package com.plog.global.metrics;
+
+import com.plog.global.trace.RequestTrace;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청 하나에서 Hibernate 가 실행한 SQL 문 수를 세는 {@link StatementInspector}입니다.
+ * <p>
+ * {@link QueryCountMetricsFilter}가 요청 시작 시 {@link #begin()}, 종료 시 {@link #end()}를 호출하며,
+ * 그 사이 같은 스레드에서 준비(prepare)된 SQL 문의 수를 셉니다. SQL 은 변경하지 않습니다.
+ * 요청 추적 중이면 SQL 문 자체도 {@link RequestTrace}에 넘깁니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * 빈이 아니며, {@link MetricsConfig}가 Hibernate 설정({@code hibernate.session_factory.statement_inspector})에
+ * 인스턴스를 등록합니다. 계수 상태는 스레드별로 정적 보관됩니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    /**
+     * 현재 스레드에서 SQL 문 계수를 시작합니다.
+     */
+    public static void begin() {
+        COUNTER.set(new int[1]);
+    }
+
+    /**
+     * 현재 스레드의 계수를 끝내고 그동안 실행된 SQL 문 수를 반환합니다.
+     *
+     * @return 실행된 SQL 문 수, 계수 중이 아니었다면 0
+     */
+    public static int end() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter == null ? 0 : counter[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        RequestTrace.recordStatement(sql);
+        return sql;
+    }
+}
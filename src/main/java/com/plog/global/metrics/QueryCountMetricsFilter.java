@@ -0,0 +1,64 @@
+package com.plog.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * API 요청마다 실행된 SQL 문 수를 기록하는 필터입니다.
+ * <p>
+ * {@code http.server.requests} 타이머와 같은 {@code method}, {@code uri} 태그로
+ * {@code http.server.requests.queries} 분포를 기록하여, 엔드포인트별 지연 시간과 쿼리 수를 함께 볼 수 있게 합니다.
+ * N+1 처럼 요청당 쿼리 수가 늘어나는 회귀를 운영 지표에서 확인하는 용도입니다.
+ *
+ * <p><b>상속 정보:</b><br>
+ * {@link OncePerRequestFilter}를 상속받아 하나의 요청당 한 번만 기록합니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * {@code @Component}로 등록되어 서블릿 필터 체인에 자동으로 추가됩니다.
+ *
+ * @author Jaewon Ryu
+ * @see QueryCountInspector
+ * @since 2026-10-18
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryCountMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountInspector.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = QueryCountInspector.end();
+            // 경로 변수가 들어간 실제 URI 대신 매핑 패턴을 태그로 사용해 태그 수가 늘어나지 않게 합니다.
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("http.server.requests.queries")
+                    .description("SQL statements executed per HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern != null ? pattern.toString() : UNKNOWN_URI)
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+}
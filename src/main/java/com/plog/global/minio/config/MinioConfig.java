@@ -1,10 +1,18 @@
 package com.plog.global.minio.config;
 
 import io.minio.MinioClient;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * MinIO 객체 스토리지 연동을 위한 설정 클래스입니다.
@@ -23,20 +31,94 @@ import org.springframework.context.annotation.Configuration;
 @ConditionalOnProperty(prefix = "minio", name = "enabled", havingValue = "true")
 public class MinioConfig {
 
+    /**
+     * Presigned URL 서명에 사용하는 클라이언트의 빈 이름입니다.
+     */
+    public static final String PRESIGN_CLIENT = "minioPresignClient";
+
     @Value("${minio.endpoint}")
     private String endpoint;
 
+    @Value("${minio.external_endpoint}")
+    private String externalEndpoint;
+
+    @Value("${minio.region}")
+    private String region;
+
     @Value("${minio.access_key}")
     private String accessKey;
 
     @Value("${minio.secret_key}")
     private String secretKey;
 
+    @Value("${minio.http.connect-timeout}")
+    private Duration connectTimeout;
+
+    @Value("${minio.http.read-timeout}")
+    private Duration readTimeout;
+
+    @Value("${minio.http.write-timeout}")
+    private Duration writeTimeout;
+
+    @Value("${minio.http.max-idle-connections}")
+    private int maxIdleConnections;
+
+    @Value("${minio.http.keep-alive}")
+    private Duration keepAlive;
+
+    @Value("${minio.http.max-requests}")
+    private int maxRequests;
+
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+
     @Bean
+    @Primary
     public MinioClient minioClient() {
         return MinioClient.builder()
                 .endpoint(endpoint)
                 .credentials(accessKey, secretKey)
+                .httpClient(minioHttpClient())
+                .build();
+    }
+
+    /**
+     * MinIO 와 통신하는 OkHttp 클라이언트를 생성합니다.
+     * <p>
+     * 기본 설정에는 읽기/쓰기 타임아웃이 사실상 없어서 MinIO 가 응답하지 않으면 요청 스레드가 무한정 대기합니다.
+     * 연결/읽기/쓰기 타임아웃과 커넥션 풀 크기, 동시 요청 수를 명시적으로 제한합니다.
+     * <p>
+     * {@link MinioClient}는 요청을 {@link Dispatcher}의 스레드에서 실행하고 호출 스레드는 완료를 기다리므로,
+     * 가상 스레드 모드에서는 Dispatcher 도 가상 스레드로 요청을 실행합니다. 동시 요청 수 제한은 그대로 적용됩니다.
+     */
+    private OkHttpClient minioHttpClient() {
+        Dispatcher dispatcher = virtualThreads
+                ? new Dispatcher(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("minio-", 0).factory()))
+                : new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequests);
+
+        return new OkHttpClient.Builder()
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .writeTimeout(writeTimeout)
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAlive.toMillis(), TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher)
+                .build();
+    }
+
+    /**
+     * 클라이언트에게 전달할 Presigned URL 을 서명하는 전용 클라이언트입니다.
+     * <p>
+     * 서명에는 호스트가 포함되므로 외부 엔드포인트로 생성하며,
+     * 리전을 명시하여 서명 시 리전 조회 요청이 발생하지 않도록 합니다. (서명은 네트워크 요청 없이 수행됩니다.)
+     */
+    @Bean(PRESIGN_CLIENT)
+    public MinioClient minioPresignClient() {
+        return MinioClient.builder()
+                .endpoint(externalEndpoint)
+                .region(region)
+                .credentials(accessKey, secretKey)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.plog.global.minio.config;
+
+import com.plog.global.minio.storage.MinioStorage;
+import com.plog.global.minio.storage.ObjectStorage;
+import com.plog.global.minio.storage.ResilientObjectStorage;
+import com.plog.global.minio.storage.StorageCircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * MinIO 스토리지에 재시도와 서킷 브레이커를 적용하는 설정 클래스입니다.
+ * <p>
+ * {@link MinioStorage}를 {@link ResilientObjectStorage}로 감싸 {@code @Primary} 빈으로 등록하므로,
+ * {@link ObjectStorage}를 주입받는 서비스는 코드 수정 없이 장애 격리가 적용된 구현체를 사용합니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * application.yml의 minio.enabled 속성이 true일 경우에만 활성화됩니다.
+ *
+ * @author Jaewon Ryu
+ * @see ResilientObjectStorage
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "minio", name = "enabled", havingValue = "true")
+public class StorageResilienceConfig {
+
+    @Bean
+    @Primary
+    public ObjectStorage resilientObjectStorage(
+            MinioStorage minioStorage,
+            MeterRegistry meterRegistry,
+            @Value("${minio.resilience.retry.max-attempts}") int maxAttempts,
+            @Value("${minio.resilience.retry.base-backoff}") Duration baseBackoff,
+            @Value("${minio.resilience.retry.max-backoff}") Duration maxBackoff,
+            @Value("${minio.resilience.circuit-breaker.failure-threshold}") int failureThreshold,
+            @Value("${minio.resilience.circuit-breaker.open-duration}") Duration openDuration) {
+        StorageCircuitBreaker circuitBreaker =
+                new StorageCircuitBreaker(failureThreshold, openDuration, Clock.systemUTC());
+        return new ResilientObjectStorage(
+                minioStorage, circuitBreaker, maxAttempts, baseBackoff, maxBackoff, meterRegistry);
+    }
+}
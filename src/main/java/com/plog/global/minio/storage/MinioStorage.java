@@ -2,16 +2,28 @@ package com.plog.global.minio.storage;
 
 import com.plog.global.exception.errorCode.ImageErrorCode;
 import com.plog.global.exception.exceptions.ImageException;
+import com.plog.global.jfr.StorageOperationEvent;
+import com.plog.global.minio.config.MinioConfig;
+import com.plog.global.trace.RequestTrace;
 import io.minio.*;
+import io.minio.errors.ErrorResponseException;
+import io.minio.http.Method;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * MinIO 객체 스토리지와의 통신을 담당하는 구현체 클래스입니다.
@@ -23,8 +35,8 @@ import java.io.InputStream;
  * {@link ObjectStorage} 인터페이스를 구현합니다.
  *
  * <p><b>주요 생성자:</b><br>
- * {@code MinioStorage(MinioClient minioClient)} <br>
- * MinIO 클라이언트 객체를 주입받아 초기화합니다. <br>
+ * {@code MinioStorage(MinioClient minioClient, MinioClient presignClient)} <br>
+ * 내부 엔드포인트용 MinIO 클라이언트와 Presigned URL 서명용 클라이언트를 주입받아 초기화합니다. <br>
  *
  * <p><b>빈 관리:</b><br>
  * {@code @Component} 어노테이션을 통해 스프링 빈으로 등록됩니다. <br>
@@ -34,16 +46,19 @@ import java.io.InputStream;
  * <p><b>외부 모듈:</b><br>
  * {@code io.minio:minio} 라이브러리를 사용하여 MinIO 서버와 통신합니다.
  *
+ * <p><b>JFR:</b><br>
+ * 업로드와 삭제 요청은 객체 키, 크기, 성공 여부와 함께 {@link StorageOperationEvent}로 기록됩니다.
+ *
  * @author Jaewon Ryu
  * @since 2026-01-16
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 @ConditionalOnProperty(prefix = "minio", name = "enabled", havingValue = "true")
 public class MinioStorage implements ObjectStorage {
 
     private final MinioClient minioClient;
+    private final MinioClient presignClient;
 
     @Value("${minio.endpoint}")
     private String endpoint;
@@ -54,6 +69,12 @@ public class MinioStorage implements ObjectStorage {
     @Value("${minio.bucket}")
     private String bucket;
 
+    public MinioStorage(MinioClient minioClient,
+                        @Qualifier(MinioConfig.PRESIGN_CLIENT) MinioClient presignClient) {
+        this.minioClient = minioClient;
+        this.presignClient = presignClient;
+    }
+
     @PostConstruct
     public void init() {
         validateBucket();
@@ -61,48 +82,182 @@ public class MinioStorage implements ObjectStorage {
 
     @Override
     public String upload(MultipartFile file, String destination) {
+        return upload(file, file.getSize(), file.getContentType(), destination);
+    }
 
-        try (InputStream inputStream = file.getInputStream()) {
+    @Override
+    public String upload(InputStreamSource source, long size, String contentType, String destination) {
+        long start = System.nanoTime();
+        StorageOperationEvent event = StorageOperationEvent.start("upload", destination, 1);
+        event.size = size;
+
+        try (InputStream inputStream = source.getInputStream()) {
             minioClient.putObject(
                     PutObjectArgs.builder()
                             .bucket(bucket)
                             .object(destination)
-                            .stream(inputStream, file.getSize(), -1)
-                            .contentType(file.getContentType())
+                            .stream(inputStream, size, -1)
+                            .contentType(contentType)
                             .build());
 
-            return externalEndpoint + "/" + bucket + "/" + destination;
+            event.success = true;
+            return urlOf(destination);
 
         } catch (Exception e) {
             throw new ImageException(ImageErrorCode.IMAGE_UPLOAD_FAILED,
 
                     "[MinioStorage#upload] failed. dest=" + destination + ", cause=" + e.getMessage(),
                     "이미지 업로드 중 오류가 발생했습니다.");
+        } finally {
+            event.commit();
+            RequestTrace.recordStorageCall(System.nanoTime() - start);
         }
     }
 
     @Override
     public void delete(String destination) {
+        long start = System.nanoTime();
+        StorageOperationEvent event = StorageOperationEvent.start("delete", destination, 1);
         try {
             minioClient.removeObject(RemoveObjectArgs.builder()
                     .bucket(bucket)
                     .object(destination)
                     .build());
+            event.success = true;
         } catch (Exception e) {
             throw new ImageException(ImageErrorCode.IMAGE_DELETE_FAILED,
                     "[MinioStorage#delete] failed. dest=" + destination + ", cause=" + e.getMessage(),
                     "이미지 삭제 중 오류가 발생했습니다.");
+        } finally {
+            event.commit();
+            RequestTrace.recordStorageCall(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> destinations) {
+        if (destinations == null || destinations.isEmpty()) {
+            return List.of();
+        }
+
+        List<DeleteObject> objects = destinations.stream()
+                .map(DeleteObject::new)
+                .toList();
+
+        long start = System.nanoTime();
+        StorageOperationEvent event = StorageOperationEvent.start("deleteAll", "", destinations.size());
+        List<String> failed = new ArrayList<>();
+        try {
+            // removeObjects 는 결과를 지연 평가하므로, 반드시 순회해야 실제 삭제 요청이 전송됩니다.
+            Iterable<Result<DeleteError>> results = minioClient.removeObjects(RemoveObjectsArgs.builder()
+                    .bucket(bucket)
+                    .objects(objects)
+                    .build());
+
+            for (Result<DeleteError> result : results) {
+                DeleteError error = result.get();
+                log.warn("[MinioStorage#deleteAll] failed to delete object. dest={}, cause={}",
+                        error.objectName(), error.message());
+                failed.add(error.objectName());
+            }
+            event.success = failed.isEmpty();
+        } catch (Exception e) {
+            throw new ImageException(ImageErrorCode.IMAGE_DELETE_FAILED,
+                    "[MinioStorage#deleteAll] failed. count=" + destinations.size() + ", cause=" + e.getMessage(),
+                    "이미지 삭제 중 오류가 발생했습니다.");
+        } finally {
+            event.failedObjects = failed.size();
+            event.commit();
+            RequestTrace.recordStorageCall(System.nanoTime() - start);
         }
+        return failed;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 업로드 시 반환하는 외부 엔드포인트({@code external_endpoint}) URL과
+     * 내부 엔드포인트({@code endpoint}) URL을 모두 인식하며, 쿼리 스트링은 무시합니다.
+     */
     @Override
     public String parsePath(String url) {
-        if (url == null || !url.contains(endpoint + "/" + bucket)) {
+        if (url == null) {
             return "";
         }
-        int idx = (endpoint + "/" + bucket).length();
-        // URL 구조상 '/'가 포함되어 있으므로 인덱스 조정 (+1)
-        return url.substring(idx + 1);
+        String path = stripQuery(url);
+        for (String base : new String[]{externalEndpoint, endpoint}) {
+            String prefix = base + "/" + bucket + "/";
+            if (base != null && !base.isBlank() && path.startsWith(prefix)) {
+                return path.substring(prefix.length());
+            }
+        }
+        return "";
+    }
+
+    private String stripQuery(String url) {
+        int idx = url.indexOf('?');
+        return idx < 0 ? url : url.substring(0, idx);
+    }
+
+    @Override
+    public String presignUpload(String destination, Duration expiry) {
+        try {
+            return presignClient.getPresignedObjectUrl(GetPresignedObjectUrlArgs.builder()
+                    .method(Method.PUT)
+                    .bucket(bucket)
+                    .object(destination)
+                    .expiry((int) expiry.toSeconds())
+                    .build());
+        } catch (Exception e) {
+            throw new ImageException(ImageErrorCode.IMAGE_UPLOAD_FAILED,
+                    "[MinioStorage#presignUpload] failed. dest=" + destination + ", cause=" + e.getMessage(),
+                    "업로드 URL 발급 중 오류가 발생했습니다.");
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String destination) {
+        try {
+            StatObjectResponse response = minioClient.statObject(StatObjectArgs.builder()
+                    .bucket(bucket)
+                    .object(destination)
+                    .build());
+            return Optional.of(new StoredObject(response.size(), response.contentType()));
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                return Optional.empty();
+            }
+            throw statFailed(destination, e);
+        } catch (Exception e) {
+            throw statFailed(destination, e);
+        }
+    }
+
+    @Override
+    public byte[] read(String destination, int maxLength) {
+        try (InputStream in = minioClient.getObject(GetObjectArgs.builder()
+                .bucket(bucket)
+                .object(destination)
+                .offset(0L)
+                .length((long) maxLength)
+                .build())) {
+            return in.readNBytes(maxLength);
+        } catch (Exception e) {
+            throw new ImageException(ImageErrorCode.IMAGE_UPLOAD_FAILED,
+                    "[MinioStorage#read] failed. dest=" + destination + ", cause=" + e.getMessage(),
+                    "업로드된 이미지를 확인하는 중 오류가 발생했습니다.");
+        }
+    }
+
+    @Override
+    public String urlOf(String destination) {
+        return externalEndpoint + "/" + bucket + "/" + destination;
+    }
+
+    private ImageException statFailed(String destination, Exception e) {
+        return new ImageException(ImageErrorCode.IMAGE_UPLOAD_FAILED,
+                "[MinioStorage#stat] failed. dest=" + destination + ", cause=" + e.getMessage(),
+                "업로드된 이미지를 확인하는 중 오류가 발생했습니다.");
     }
 
     /**
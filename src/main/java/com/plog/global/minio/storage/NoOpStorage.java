@@ -1,23 +1,59 @@
 package com.plog.global.minio.storage;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * MinIO가 비활성화되었을 때 사용하는 가짜 저장소 구현체입니다.
  */
 @Component
 @ConditionalOnProperty(prefix = "minio", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class NoOpStorage implements ObjectStorage {
+    private static final String TEMP_URL_PREFIX = "http://localhost:8080/temp-url/";
+
     @Override
     public String upload(MultipartFile file, String destination) {
-        return "http://localhost:8080/temp-url/" + destination; // 실제 업로드는 하지 않음
+        return TEMP_URL_PREFIX + destination; // 실제 업로드는 하지 않음
+    }
+
+    @Override
+    public String upload(InputStreamSource source, long size, String contentType, String destination) {
+        return TEMP_URL_PREFIX + destination;
     }
 
     @Override
     public void delete(String destination) { /* 아무것도 하지 않음 */ }
 
     @Override
-    public String parsePath(String url) { return ""; }
-}
\ No newline at end of file
+    public List<String> deleteAll(List<String> destinations) { return List.of(); }
+
+    @Override
+    public String parsePath(String url) {
+        if (url == null || !url.startsWith(TEMP_URL_PREFIX)) {
+            return "";
+        }
+        return url.substring(TEMP_URL_PREFIX.length());
+    }
+
+    @Override
+    public String presignUpload(String destination, Duration expiry) {
+        return TEMP_URL_PREFIX + destination;
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String destination) { return Optional.empty(); }
+
+    @Override
+    public byte[] read(String destination, int maxLength) { return new byte[0]; }
+
+    @Override
+    public String urlOf(String destination) {
+        return TEMP_URL_PREFIX + destination;
+    }
+}
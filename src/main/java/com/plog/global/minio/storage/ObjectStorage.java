@@ -2,8 +2,13 @@ package com.plog.global.minio.storage;
 
 import com.plog.global.exception.errorCode.ImageErrorCode;
 import com.plog.global.exception.exceptions.ImageException;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 파일 스토리지(File Storage) 기능을 추상화한 인터페이스입니다.
  * <p>
@@ -33,6 +38,19 @@ public interface ObjectStorage {
 
     String upload(MultipartFile file, String destination);
 
+    /**
+     * 가공된 이미지 데이터 등 임의의 입력 소스를 MinIO 스토리지에 업로드합니다.
+     *
+     * @param source      업로드할 데이터의 입력 소스
+     * @param size        업로드할 데이터의 바이트 크기
+     * @param contentType 저장될 파일의 Content-Type
+     * @param destination 저장될 파일의 전체 경로 (파일명 포함)
+     * @return 저장된 파일의 전체 URL (Endpoint + Bucket + Path)
+     * @throws ImageException 파일 업로드 실패 시 {@link ImageErrorCode#IMAGE_UPLOAD_FAILED} 예외 발생
+     */
+
+    String upload(InputStreamSource source, long size, String contentType, String destination);
+
     /**
      * 지정된 경로의 파일을 MinIO 스토리지에서 삭제합니다.
      *
@@ -42,12 +60,64 @@ public interface ObjectStorage {
 
     void delete(String destination);
 
+    /**
+     * 여러 파일을 한 번의 요청으로 MinIO 스토리지에서 삭제합니다.
+     *
+     * @param destinations 삭제할 파일 경로 리스트 (파일명 포함)
+     * @return 삭제에 실패한 파일 경로 리스트 (모두 성공하면 빈 리스트)
+     * @throws ImageException 스토리지 요청 자체가 실패한 경우 {@link ImageErrorCode#IMAGE_DELETE_FAILED} 예외 발생
+     */
+
+    List<String> deleteAll(List<String> destinations);
+
     /**
      * 전체 URL에서 스토리지 내부 저장 경로(Object Key)를 추출합니다.
      *
      * @param url 파일의 전체 URL
-     * @return 버킷 내부의 파일 경로 (Endpoint와 Bucket명을 제외한 나머지 경로)
+     * @return 버킷 내부의 파일 경로 (Endpoint와 Bucket명을 제외한 나머지 경로),
+     *         이 저장소의 URL이 아니면 빈 문자열
      */
 
     String parsePath(String url);
-}
\ No newline at end of file
+
+    /**
+     * 클라이언트가 서버를 거치지 않고 직접 파일을 업로드할 수 있는 Presigned PUT URL 을 발급합니다.
+     *
+     * @param destination 저장될 파일의 전체 경로 (파일명 포함)
+     * @param expiry      URL 유효 기간
+     * @return 클라이언트가 접근 가능한 엔드포인트 기준의 Presigned URL
+     * @throws ImageException URL 발급 실패 시 {@link ImageErrorCode#IMAGE_UPLOAD_FAILED} 예외 발생
+     */
+
+    String presignUpload(String destination, Duration expiry);
+
+    /**
+     * 저장된 파일의 크기와 Content-Type 을 조회합니다.
+     *
+     * @param destination 조회할 파일의 경로 (파일명 포함)
+     * @return 파일 메타데이터, 파일이 없으면 빈 {@link Optional}
+     * @throws ImageException 스토리지 요청 자체가 실패한 경우 {@link ImageErrorCode#IMAGE_UPLOAD_FAILED} 예외 발생
+     */
+
+    Optional<StoredObject> stat(String destination);
+
+    /**
+     * 저장된 파일을 최대 {@code maxLength} 바이트까지 읽습니다. 클라이언트가 직접 업로드한 파일을 검증할 때 사용합니다.
+     *
+     * @param destination 읽을 파일의 경로 (파일명 포함)
+     * @param maxLength   읽을 최대 바이트 수
+     * @return 파일의 내용, 파일이 {@code maxLength}보다 길면 앞부분
+     * @throws ImageException 스토리지 요청이 실패한 경우 {@link ImageErrorCode#IMAGE_UPLOAD_FAILED} 예외 발생
+     */
+
+    byte[] read(String destination, int maxLength);
+
+    /**
+     * 저장 경로에 해당하는 파일의 전체 URL 을 생성합니다.
+     *
+     * @param destination 파일의 경로 (파일명 포함)
+     * @return 파일의 전체 URL (Endpoint + Bucket + Path)
+     */
+
+    String urlOf(String destination);
+}
@@ -0,0 +1,183 @@
+package com.plog.global.minio.storage;
+
+import com.plog.global.exception.errorCode.ImageErrorCode;
+import com.plog.global.exception.exceptions.ImageException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 실제 스토리지 구현체를 감싸 재시도와 서킷 브레이커를 적용하는 {@link ObjectStorage} 데코레이터입니다.
+ * <p>
+ * 스토리지가 느려지거나 중단되었을 때 요청 스레드가 계속 묶이지 않도록, 연속 실패가 누적되면
+ * {@link StorageCircuitBreaker}가 요청을 즉시 거절하고 {@link ImageErrorCode#IMAGE_UPLOAD_FAILED} 예외를 던집니다.
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. 멱등한 작업({@code delete}, {@code deleteAll}, {@code stat}, {@code read})은 지수 백오프와 지터(Full Jitter)를 적용해 재시도합니다. <br>
+ * 2. 업로드는 입력 스트림을 다시 읽을 수 없으므로 재시도하지 않고 서킷 브레이커만 적용합니다. <br>
+ * 3. 네트워크를 사용하지 않는 {@code presignUpload}, {@code parsePath}, {@code urlOf}는 그대로 위임합니다.
+ *
+ * <p><b>메트릭:</b><br>
+ * {@code storage.requests} 타이머(operation, outcome 태그)로 작업별 지연 시간을,
+ * {@code storage.circuit.state} 게이지로 서킷 브레이커 상태(0: CLOSED, 1: OPEN, 2: HALF_OPEN)를 노출합니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * {@link com.plog.global.minio.config.StorageResilienceConfig}에서 {@link MinioStorage}를 감싸
+ * {@code @Primary} 빈으로 등록합니다.
+ *
+ * @author Jaewon Ryu
+ * @see StorageCircuitBreaker
+ * @since 2026-10-18
+ */
+@Slf4j
+public class ResilientObjectStorage implements ObjectStorage {
+
+    private final ObjectStorage delegate;
+    private final StorageCircuitBreaker circuitBreaker;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final MeterRegistry meterRegistry;
+
+    public ResilientObjectStorage(ObjectStorage delegate,
+                                  StorageCircuitBreaker circuitBreaker,
+                                  int maxAttempts,
+                                  Duration baseBackoff,
+                                  Duration maxBackoff,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("storage.circuit.state", circuitBreaker, breaker -> breaker.getState().code())
+                .description("Object storage circuit breaker state (0=closed, 1=open, 2=half-open)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String upload(MultipartFile file, String destination) {
+        return call("upload", () -> delegate.upload(file, destination));
+    }
+
+    @Override
+    public String upload(InputStreamSource source, long size, String contentType, String destination) {
+        return call("upload", () -> delegate.upload(source, size, contentType, destination));
+    }
+
+    @Override
+    public void delete(String destination) {
+        retry("delete", () -> {
+            delegate.delete(destination);
+            return null;
+        });
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> destinations) {
+        if (destinations == null || destinations.isEmpty()) {
+            return List.of();
+        }
+        return retry("deleteAll", () -> delegate.deleteAll(destinations));
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String destination) {
+        return retry("stat", () -> delegate.stat(destination));
+    }
+
+    @Override
+    public byte[] read(String destination, int maxLength) {
+        return retry("read", () -> delegate.read(destination, maxLength));
+    }
+
+    @Override
+    public String presignUpload(String destination, Duration expiry) {
+        return delegate.presignUpload(destination, expiry);
+    }
+
+    @Override
+    public String parsePath(String url) {
+        return delegate.parsePath(url);
+    }
+
+    @Override
+    public String urlOf(String destination) {
+        return delegate.urlOf(destination);
+    }
+
+    private <T> T retry(String operation, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call(operation, action);
+            } catch (ImageException e) {
+                // 차단으로 거절된 요청이나 마지막 시도는 더 이상 재시도하지 않습니다.
+                if (circuitBreaker.getState() != StorageCircuitBreaker.State.CLOSED || attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.warn("[ResilientObjectStorage#{}] attempt {} failed, retrying. cause={}",
+                        operation, attempt, e.getMessage());
+                sleep(backoff(attempt));
+            }
+        }
+    }
+
+    private <T> T call(String operation, Supplier<T> action) {
+        if (!circuitBreaker.tryAcquire()) {
+            timer(operation, "rejected").record(Duration.ZERO);
+            throw new ImageException(ImageErrorCode.IMAGE_UPLOAD_FAILED,
+                    "[ResilientObjectStorage#" + operation + "] circuit open",
+                    "이미지 저장소를 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = action.get();
+            circuitBreaker.onSuccess();
+            timer(operation, "success").record(Duration.ofNanos(System.nanoTime() - start));
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            timer(operation, "failure").record(Duration.ofNanos(System.nanoTime() - start));
+            throw e;
+        }
+    }
+
+    /**
+     * Full Jitter 방식의 백오프 시간을 계산합니다. ({@code random(0, min(max, base * 2^(attempt-1)))})
+     */
+    private Duration backoff(int attempt) {
+        long cap = Math.min(maxBackoff.toMillis(), baseBackoff.toMillis() << Math.min(attempt - 1, 20));
+        return cap <= 0 ? Duration.ZERO : Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1));
+    }
+
+    private void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return Timer.builder("storage.requests")
+                .description("Object storage request latency")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,107 @@
+package com.plog.global.minio.storage;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 스토리지 장애 시 요청을 빠르게 차단하기 위한 서킷 브레이커입니다.
+ * <p>
+ * 연속 실패 횟수가 임계치에 도달하면 차단(OPEN) 상태로 전환되어, 설정된 시간 동안 모든 요청을 즉시 거절합니다.
+ * 차단 시간이 지나면 반개방(HALF_OPEN) 상태에서 단 하나의 시험 요청만 통과시키고,
+ * 그 결과에 따라 정상(CLOSED) 상태로 복구하거나 다시 차단합니다.
+ *
+ * <p><b>주요 생성자:</b><br>
+ * {@code StorageCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock)} <br>
+ * 차단 임계치, 차단 유지 시간, 시간 계산에 사용할 {@link Clock}을 주입받습니다.
+ *
+ * @author Jaewon Ryu
+ * @see ResilientObjectStorage
+ * @since 2026-10-18
+ */
+public class StorageCircuitBreaker {
+
+    /**
+     * 서킷 브레이커의 상태입니다. {@code code}는 메트릭으로 노출되는 값입니다.
+     */
+    public enum State {
+        CLOSED(0), OPEN(1), HALF_OPEN(2);
+
+        private final int code;
+
+        State(int code) {
+            this.code = code;
+        }
+
+        public int code() {
+            return code;
+        }
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private boolean probeInFlight;
+
+    public StorageCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * 요청을 보내도 되는지 확인합니다.
+     * <p>
+     * 차단 시간이 지난 뒤 처음 호출되면 반개방 상태로 전환하며, 해당 호출이 시험 요청이 됩니다.
+     *
+     * @return 요청을 보내도 되면 {@code true}, 차단 중이면 {@code false}
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.instant().isBefore(openedAt.plus(openDuration))) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                return true;
+            default:
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    /**
+     * 요청이 성공했음을 기록하고 정상 상태로 복구합니다.
+     */
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    /**
+     * 요청이 실패했음을 기록합니다. 시험 요청이 실패하거나 연속 실패가 임계치에 도달하면 차단합니다.
+     */
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.instant();
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,13 @@
+package com.plog.global.minio.storage;
+
+/**
+ * 스토리지에 저장된 객체의 메타데이터입니다.
+ *
+ * @param size        객체의 바이트 크기
+ * @param contentType 객체의 Content-Type
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ * @see ObjectStorage#stat(String)
+ */
+public record StoredObject(long size, String contentType) {
+}
@@ -0,0 +1,47 @@
+package com.plog.global.response;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 목록 조회 API 의 페이징 응답 형식입니다.
+ * <p>
+ * Spring Data 의 {@link Slice}를 그대로 직렬화하면 {@code pageable}, {@code sort}, {@code first},
+ * {@code numberOfElements} 등 클라이언트가 쓰지 않는 필드가 목록마다(중첩된 대댓글 미리보기 포함) 함께 내려가므로,
+ * 무한 스크롤에 필요한 값만 담아 응답합니다.
+ *
+ * <p><b>주요 생성자:</b><br>
+ * {@link #from(Slice)}: 페이지 번호 기반 목록. {@code nextCursor}는 다음 페이지 번호입니다. <br>
+ * {@link #from(Slice, Function)}: ID 커서 기반 목록. {@code nextCursor}는 마지막 항목의 ID 입니다.
+ *
+ * @param items      현재 페이지의 항목
+ * @param hasNext    다음 페이지 존재 여부
+ * @param nextCursor 다음 페이지를 요청할 때 넘길 값 (다음 페이지가 없으면 {@code null})
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+public record SliceRes<T>(
+        List<T> items,
+        boolean hasNext,
+        Long nextCursor
+) {
+
+    public static <T> SliceRes<T> from(Slice<T> slice) {
+        return new SliceRes<>(slice.getContent(), slice.hasNext(),
+                slice.hasNext() ? (long) slice.getNumber() + 1 : null);
+    }
+
+    public static <T> SliceRes<T> from(Slice<T> slice, Function<? super T, Long> cursorExtractor) {
+        List<T> items = slice.getContent();
+        Long nextCursor = slice.hasNext() && !items.isEmpty()
+                ? cursorExtractor.apply(items.get(items.size() - 1))
+                : null;
+        return new SliceRes<>(items, slice.hasNext(), nextCursor);
+    }
+
+    public <R> SliceRes<R> map(Function<? super T, ? extends R> mapper) {
+        return new SliceRes<>(items.stream().<R>map(mapper).toList(), hasNext, nextCursor);
+    }
+}
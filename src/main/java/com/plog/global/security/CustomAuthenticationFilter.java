@@ -3,8 +3,11 @@ package com.plog.global.security;
 
 import com.plog.domain.member.dto.MemberInfoRes;
 import com.plog.global.exception.errorCode.AuthErrorCode;
+import com.plog.global.jfr.TokenVerificationEvent;
+import com.plog.global.trace.RequestTrace;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,9 +32,14 @@ import java.util.List;
  * {@link OncePerRequestFilter}를 상속받아 하나의 요청당 단 한 번만 실행됨을 보장합니다.
  *
  * <p><b>주요 생성자:</b><br>
- * {@code CustomAuthenticationFilter(JwtUtils, TokenResolver, CustomUserDetailsService, TokenStore)}<br>
+ * {@code CustomAuthenticationFilter(JwtUtils, TokenResolver, CustomUserDetailsService, TokenStore, MeterRegistry)}<br>
  * 인증 유지 및 토큰 재발급에 필요한 보안 컴포넌트들을 주입받습니다.
  *
+ * <p><b>메트릭:</b><br>
+ * {@code auth.token.parse}: Access Token 검증 결과별 횟수 (outcome=valid, expired, invalid) <br>
+ * {@code auth.token.reissue}: 재발급 시도 결과별 횟수 (outcome=success, missing, mismatch, expired, invalid) <br>
+ * 같은 결과가 소요 시간과 함께 {@link TokenVerificationEvent} JFR 이벤트로도 기록됩니다.
+ *
  * <p><b>빈 관리:</b><br>
  * {@link Component} 어노테이션을 통해 스프링 빈으로 등록되며,
  * SecurityConfig에서 필터 체인의 적절한 위치에 수동으로 등록됩니다.
@@ -52,25 +60,31 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
     private final TokenResolver tokenResolver;
     private final CustomUserDetailsService customUserDetailsService;
     private final TokenStore tokenStore;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 필터의 핵심 로직을 수행하며, Access Token의 유효성을 검사하고 만료 시 재발급을 시도합니다.
      */
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-
+        long start = System.nanoTime();
         String accessToken = tokenResolver.resolveAccessToken(request);
 
+        TokenVerificationEvent event = TokenVerificationEvent.start("parse");
         try {
             if (accessToken != null) {
-                authenticate(accessToken);
+                event.memberId = authenticate(accessToken).getId();
+                finish(event, "valid");
             }
         } catch (ExpiredJwtException e) {
+            finish(event, "expired");
             handleAccessTokenReissue(request, response);
         } catch (Exception e) {
+            finish(event, "invalid");
             request.setAttribute("exception", AuthErrorCode.TOKEN_INVALID);
         }
 
+        RequestTrace.recordAuth(System.nanoTime() - start);
         filterChain.doFilter(request, response);
     }
 
@@ -89,8 +103,9 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
      * 토큰의 Claims에서 사용자의 PK(id), 식별자(email), 닉네임을 추출하여 {@link SecurityUser}를 구성합니다.
      *
      * @param token 파싱할 JWT Access Token 문자열
+     * @return 인증된 사용자 정보
      */
-    private void authenticate(String token) {
+    private SecurityUser authenticate(String token) {
         Claims claims = jwtUtils.parseToken(token);
         Long id = claims.get("id", Long.class);
         String email = claims.getSubject();
@@ -105,6 +120,7 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
                 .build();
 
         processAuthentication(user);
+        return user;
     }
 
     /**
@@ -118,9 +134,11 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
      * @param response 새 토큰 전달 및 쿠키 삭제용
      */
     private void handleAccessTokenReissue(HttpServletRequest request, HttpServletResponse response) {
+        TokenVerificationEvent event = TokenVerificationEvent.start("reissue");
         String refreshToken = tokenResolver.resolveRefreshToken(request);
 
         if (refreshToken == null) {
+            finish(event, "missing");
             request.setAttribute("exception", AuthErrorCode.LOGIN_REQUIRED);
             return;
         }
@@ -131,6 +149,7 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
             String savedToken = tokenStore.get(email);
 
             if (savedToken == null || !savedToken.equals(refreshToken)) {
+                finish(event, "mismatch");
                 tokenResolver.deleteRefreshTokenCookie(response);
                 request.setAttribute("exception", AuthErrorCode.LOGIN_REQUIRED);
                 return;
@@ -147,11 +166,24 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
             tokenResolver.setHeader(response, newAccess);
 
             processAuthentication(user);
+            event.memberId = user.getId();
+            finish(event, "success");
         } catch (ExpiredJwtException e) {
+            finish(event, "expired");
             tokenResolver.deleteRefreshTokenCookie(response);
             request.setAttribute("exception", AuthErrorCode.LOGIN_REQUIRED);
         } catch (Exception e) {
+            finish(event, "invalid");
             request.setAttribute("exception", AuthErrorCode.TOKEN_INVALID);
         }
     }
+
+    /**
+     * 검증 결과를 {@code auth.token.<작업>} 카운터와 {@link TokenVerificationEvent} JFR 이벤트로 기록합니다.
+     */
+    private void finish(TokenVerificationEvent event, String outcome) {
+        meterRegistry.counter("auth.token." + event.operation, "outcome", outcome).increment();
+        event.outcome = outcome;
+        event.commit();
+    }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.plog.domain.member.dto.AuthSignInReq;
 import com.plog.domain.member.dto.MemberInfoRes;
 import com.plog.global.exception.errorCode.AuthErrorCode;
 import com.plog.global.response.CommonResponse;
+import com.plog.global.trace.RequestTrace;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -76,6 +77,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     @NotNull
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
+        long start = System.nanoTime();
         try {
             String body = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
             AuthSignInReq authSignInReq = objectMapper.readValue(body, AuthSignInReq.class);
@@ -87,6 +89,8 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
         } catch (IOException e) {
             throw new RuntimeException(e);
+        } finally {
+            RequestTrace.recordAuth(System.nanoTime() - start);
         }
     }
 
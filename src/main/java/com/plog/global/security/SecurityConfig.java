@@ -4,15 +4,19 @@ package com.plog.global.security;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.plog.global.exception.errorCode.AuthErrorCode;
 import com.plog.global.response.CommonResponse;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.security.autoconfigure.actuate.web.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -22,7 +26,9 @@ import org.springframework.security.config.annotation.web.configurers.HeadersCon
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
@@ -36,6 +42,7 @@ import java.util.List;
  * 세션 정책을 STATELESS로 설정하고 CORS/CSRF 등 보안 옵션을 조정합니다.
  * 로그인 처리({@link LoginFilter})와 요청 검증({@link CustomAuthenticationFilter}) 필터를
  * 등록해 토큰 기반 인증/인가 프로세스를 완성합니다.
+ * Actuator 엔드포인트는 health 만 공개하고, 나머지(metrics, prometheus 등)는 설정된 IP 대역에서만 허용합니다.
  *
  * <p><b>상속 정보:</b><br>
  * 별도의 상속 없이 Spring Security 6.x 버전의 컴포넌트 기반 설정을 따릅니다.
@@ -64,6 +71,7 @@ public class SecurityConfig {
     private final AuthenticationConfiguration authenticationConfiguration;
     private final TokenResolver tokenResolver;
     private final TokenStore tokenStore;
+    private final List<IpAddressMatcher> managementAllowedIps;
 
     public SecurityConfig(
             CustomAuthenticationFilter customAuthenticationFilter,
@@ -71,7 +79,8 @@ public class SecurityConfig {
             JwtUtils jwtUtils,
             AuthenticationConfiguration authenticationConfiguration,
             @Value("${custom.cors.allowed-origins}") List<String> allowedOrigins, TokenResolver tokenResolver,
-            TokenStore tokenStore) {
+            TokenStore tokenStore,
+            @Value("${custom.management.allowed-ips}") List<String> managementAllowedIps) {
         this.customAuthenticationFilter = customAuthenticationFilter;
         this.objectMapper = objectMapper;
         this.jwtUtils = jwtUtils;
@@ -79,6 +88,7 @@ public class SecurityConfig {
         this.allowedOrigins = allowedOrigins;
         this.tokenResolver = tokenResolver;
         this.tokenStore = tokenStore;
+        this.managementAllowedIps = managementAllowedIps.stream().map(String::trim).map(IpAddressMatcher::new).toList();
     }
 
     private LoginFilter loginFilter() throws Exception {
@@ -96,6 +106,10 @@ public class SecurityConfig {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 처리 결과를 보내는 디스패치는 첫 요청에서 이미 인가됨 (JWT 인증 정보는 다시 만들지 않음)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers(EndpointRequest.to("health")).permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).access(managementAccess())
                         .requestMatchers(HttpMethod.GET, AccessURL.GET_PUBLIC.getUrls().toArray(String[]::new)).permitAll()
                         .requestMatchers(AccessURL.PUBLIC.getUrls().toArray(String[]::new)).permitAll()
                         .anyRequest().authenticated()
@@ -122,6 +136,15 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 요청자의 IP 가 허용 대역에 속할 때만 Actuator 엔드포인트 접근을 허용합니다.
+     * 지표에는 내부 구조와 트래픽 정보가 담기므로 토큰 인증과 관계없이 네트워크 위치로 제한합니다.
+     */
+    private AuthorizationManager<RequestAuthorizationContext> managementAccess() {
+        return (authentication, context) -> new AuthorizationDecision(
+                managementAllowedIps.stream().anyMatch(matcher -> matcher.matches(context.getRequest())));
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
         return authenticationConfiguration.getAuthenticationManager();
@@ -0,0 +1,327 @@
+package com.plog.global.seed;
+
+import com.plog.domain.image.entity.ImageStatus;
+import com.plog.domain.post.entity.PostStatus;
+import com.plog.global.jpa.entity.IdSequenceSynchronizer;
+import com.plog.global.minio.storage.ObjectStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+
+/**
+ * 성능 테스트를 위한 대용량 합성 데이터를 생성하는 도구입니다.
+ * <p>
+ * {@code seed} 프로필로 실행하면 회원, 이미지, 해시태그, 게시글, 게시글-해시태그, 댓글(대댓글 포함)을
+ * 설정된 개수만큼 생성한 뒤 애플리케이션을 종료합니다. ({@code gradle seedData})
+ *
+ * <p><b>처리 방식:</b><br>
+ * 1. 각 테이블의 현재 최대 ID 다음 값부터 ID 를 직접 지정하여, 외래 키를 다시 조회하지 않고 참조합니다. <br>
+ * 2. 행 단위 난수를 (시드, 테이블, 행 번호)로부터 만들어, 스레드 수나 실행 순서와 관계없이 같은 데이터가 생성됩니다. <br>
+ * 3. 배치 크기 단위로 나눈 JDBC batch insert 를 여러 스레드에서 각자의 트랜잭션으로 실행합니다. <br>
+ * 4. 작성자·게시글·태그 선택에 거듭제곱 분포를 적용하여 인기 작성자, 바이럴 게시글, 인기 태그를 재현합니다.
+ *    지수가 1 이면 균등 분포이고, 클수록 앞쪽 소수의 행에 집중됩니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * {@code @Profile("seed")}로 seed 프로필에서만 등록됩니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class SyntheticDataSeeder implements ApplicationRunner {
+
+    private static final long MEMBER = 1, IMAGE = 2, TAG = 3, POST = 4, POST_TAG = 5, COMMENT = 6, REPLY = 7;
+    private static final String[] WORDS = {
+            "spring", "jpa", "트랜잭션", "인덱스", "캐시", "쿼리", "성능", "테스트", "배포", "리팩터링",
+            "도메인", "엔티티", "페이징", "스레드", "락", "커넥션", "지연", "로딩", "배치", "메모리"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectStorage objectStorage;
+    private final PasswordEncoder passwordEncoder;
+    private final IdSequenceSynchronizer idSequenceSynchronizer;
+    private final ConfigurableApplicationContext context;
+
+    private final long seed;
+    private final int threads;
+    private final int batchSize;
+    private final long members;
+    private final int imagesPerMember;
+    private final double profileImageRatio;
+    private final long tags;
+    private final long posts;
+    private final int tagsPerPost;
+    private final long comments;
+    private final double replyRatio;
+    private final double authorSkew;
+    private final double postSkew;
+    private final double tagSkew;
+    private final Duration timeSpan;
+    private final boolean exitOnCompletion;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    public SyntheticDataSeeder(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectStorage objectStorage,
+            PasswordEncoder passwordEncoder,
+            IdSequenceSynchronizer idSequenceSynchronizer,
+            ConfigurableApplicationContext context,
+            @Value("${custom.seed.random-seed}") long seed,
+            @Value("${custom.seed.threads}") int threads,
+            @Value("${custom.seed.batch-size}") int batchSize,
+            @Value("${custom.seed.members}") long members,
+            @Value("${custom.seed.images-per-member}") int imagesPerMember,
+            @Value("${custom.seed.profile-image-ratio}") double profileImageRatio,
+            @Value("${custom.seed.tags}") long tags,
+            @Value("${custom.seed.posts}") long posts,
+            @Value("${custom.seed.tags-per-post}") int tagsPerPost,
+            @Value("${custom.seed.comments}") long comments,
+            @Value("${custom.seed.reply-ratio}") double replyRatio,
+            @Value("${custom.seed.skew.author}") double authorSkew,
+            @Value("${custom.seed.skew.post}") double postSkew,
+            @Value("${custom.seed.skew.tag}") double tagSkew,
+            @Value("${custom.seed.time-span}") Duration timeSpan,
+            @Value("${custom.seed.exit-on-completion}") boolean exitOnCompletion) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectStorage = objectStorage;
+        this.passwordEncoder = passwordEncoder;
+        this.idSequenceSynchronizer = idSequenceSynchronizer;
+        this.context = context;
+        this.seed = seed;
+        this.threads = threads;
+        this.batchSize = batchSize;
+        this.members = members;
+        this.imagesPerMember = imagesPerMember;
+        this.profileImageRatio = profileImageRatio;
+        this.tags = tags;
+        this.posts = posts;
+        this.tagsPerPost = tagsPerPost;
+        this.comments = comments;
+        this.replyRatio = replyRatio;
+        this.authorSkew = authorSkew;
+        this.postSkew = postSkew;
+        this.tagSkew = tagSkew;
+        this.timeSpan = timeSpan;
+        this.exitOnCompletion = exitOnCompletion;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            generate(executor);
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info("[SyntheticDataSeeder] completed in {}s", Duration.ofNanos(System.nanoTime() - started).toSeconds());
+
+        if (exitOnCompletion) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    private void generate(ExecutorService executor) throws Exception {
+        long memberBase = nextId("member");
+        long imageBase = nextId("image");
+        long tagBase = nextId("hash_tag");
+        long postBase = nextId("post");
+        long postTagBase = nextId("post_hashtag");
+        long commentBase = nextId("comment");
+        long images = members * imagesPerMember;
+        long replies = (long) (comments * replyRatio);
+        long topLevelComments = comments - replies;
+        String password = passwordEncoder.encode("password");
+
+        insert(executor, "member", members,
+                "insert into member (id, email, password, nickname, create_date, modify_date) values (?, ?, ?, ?, ?, ?)",
+                i -> {
+                    long id = memberBase + i;
+                    Timestamp created = timestamp(random(MEMBER, i));
+                    return List.<Object[]>of(new Object[]{id, "seed-" + id + "@plog.dev", password, "seed-" + id, created, created});
+                });
+
+        insert(executor, "image", images,
+                "insert into image (id, original_name, stored_name, access_url, size, content_type, status, member_id, create_date, modify_date) " +
+                        "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                i -> {
+                    SplittableRandom random = random(IMAGE, i);
+                    long id = imageBase + i;
+                    String storedName = "seed/" + id + ".jpg";
+                    Timestamp created = timestamp(random);
+                    return List.<Object[]>of(new Object[]{id, "photo-" + id + ".jpg", storedName, objectStorage.urlOf(storedName),
+                            20_000L + random.nextLong(500_000L), "image/jpeg", ImageStatus.ACTIVE.name(),
+                            memberBase + i / imagesPerMember, created, created});
+                });
+
+        if (imagesPerMember > 0) {
+            insert(executor, "member.profile_image_id", members,
+                    "update member set profile_image_id = ? where id = ?",
+                    i -> random(MEMBER, i).nextDouble() < profileImageRatio
+                            ? List.<Object[]>of(new Object[]{imageBase + i * imagesPerMember, memberBase + i})
+                            : List.of());
+        }
+
+        insert(executor, "hash_tag", tags,
+                "insert into hash_tag (id, name, create_date, modify_date) values (?, ?, ?, ?)",
+                i -> {
+                    long id = tagBase + i;
+                    Timestamp created = timestamp(random(TAG, i));
+                    return List.<Object[]>of(new Object[]{id, "seed-tag-" + id, created, created});
+                });
+
+        insert(executor, "post", posts,
+                "insert into post (id, title, content, summary, status, view_count, member_id, thumbnail, create_date, modify_date) " +
+                        "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                i -> {
+                    SplittableRandom random = random(POST, i);
+                    long authorIndex = skewed(random, members, authorSkew);
+                    String content = sentence(random, 80 + random.nextInt(800));
+                    String summary = content.length() <= 150 ? content : content.substring(0, 150) + "...";
+                    String thumbnail = imagesPerMember > 0 && random.nextBoolean()
+                            ? objectStorage.urlOf("seed/" + (imageBase + authorIndex * imagesPerMember) + ".jpg")
+                            : null;
+                    Timestamp created = timestamp(random);
+                    // 바이럴 게시글(앞쪽 인덱스)일수록 조회수가 높습니다.
+                    int viewCount = (int) (100_000 / (1 + skewed(random, posts, postSkew)));
+                    return List.<Object[]>of(new Object[]{postBase + i, sentence(random, 6), content, summary,
+                            PostStatus.PUBLISHED.name(), viewCount, memberBase + authorIndex, thumbnail, created, created});
+                });
+
+        insert(executor, "post_hashtag", posts,
+                "insert into post_hashtag (id, post_id, tag_id, display_name, create_date, modify_date) values (?, ?, ?, ?, ?, ?)",
+                i -> {
+                    SplittableRandom random = random(POST_TAG, i);
+                    Set<Long> tagIndexes = new LinkedHashSet<>();
+                    for (int j = 0; j < tagsPerPost; j++) {
+                        tagIndexes.add(skewed(random, tags, tagSkew));
+                    }
+                    Timestamp created = timestamp(random);
+                    List<Object[]> rows = new ArrayList<>();
+                    int j = 0;
+                    for (long tagIndex : tagIndexes) {
+                        long tagId = tagBase + tagIndex;
+                        rows.add(new Object[]{postTagBase + i * tagsPerPost + j++, postBase + i, tagId, "seed-tag-" + tagId, created, created});
+                    }
+                    return rows;
+                });
+
+        String commentSql = "insert into comment (id, author_id, post_id, content, parent_id, deleted, create_date, modify_date) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+        insert(executor, "comment", topLevelComments, commentSql,
+                i -> {
+                    SplittableRandom random = random(COMMENT, i);
+                    Timestamp created = timestamp(random);
+                    return List.<Object[]>of(new Object[]{commentBase + i, memberBase + random.nextLong(members),
+                            postBase + commentPostIndex(i), sentence(random, 5 + random.nextInt(30)), null, false, created, created});
+                });
+
+        insert(executor, "comment(reply)", replies, commentSql,
+                i -> {
+                    SplittableRandom random = random(REPLY, i);
+                    // 댓글이 많은 게시글의 댓글일수록 대댓글도 많이 달리도록 부모 댓글도 거듭제곱 분포로 선택합니다.
+                    long parentIndex = skewed(random, topLevelComments, postSkew);
+                    Timestamp created = timestamp(random);
+                    return List.<Object[]>of(new Object[]{commentBase + topLevelComments + i, memberBase + random.nextLong(members),
+                            postBase + commentPostIndex(parentIndex), sentence(random, 5 + random.nextInt(30)),
+                            commentBase + parentIndex, false, created, created});
+                });
+
+        // ID 를 직접 지정해 넣었으므로, 이후 애플리케이션의 INSERT 가 충돌하지 않도록 엔티티 시퀀스를 뒤로 옮깁니다.
+        idSequenceSynchronizer.synchronize();
+    }
+
+    /**
+     * 최상위 댓글이 달린 게시글의 인덱스입니다. 대댓글의 게시글을 부모 댓글과 맞추기 위해 행 번호로부터 다시 계산합니다.
+     */
+    private long commentPostIndex(long commentIndex) {
+        return skewed(random(COMMENT + 100, commentIndex), posts, postSkew);
+    }
+
+    private void insert(ExecutorService executor, String name, long count, String sql,
+                        LongFunction<List<Object[]>> rows) throws Exception {
+        if (count <= 0) {
+            return;
+        }
+        long started = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (long from = 0; from < count; from += batchSize) {
+            long start = from;
+            long end = Math.min(count, from + batchSize);
+            futures.add(executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                List<Object[]> batch = new ArrayList<>();
+                for (long i = start; i < end; i++) {
+                    batch.addAll(rows.apply(i));
+                }
+                if (!batch.isEmpty()) {
+                    jdbcTemplate.batchUpdate(sql, batch);
+                }
+            })));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedMillis = Math.max(1, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        log.info("[SyntheticDataSeeder] {}: {} units in {}ms ({} units/s)", name, count, elapsedMillis, count * 1000 / elapsedMillis);
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    private SplittableRandom random(long table, long index) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + table * 0xC2B2AE3D27D4EB4FL + index);
+    }
+
+    /**
+     * {@code [0, n)} 범위에서 거듭제곱 분포를 따르는 인덱스를 뽑습니다. 지수가 클수록 작은 인덱스에 집중됩니다.
+     */
+    private static long skewed(SplittableRandom random, long n, double exponent) {
+        return Math.min(n - 1, (long) (n * Math.pow(random.nextDouble(), exponent)));
+    }
+
+    private Timestamp timestamp(SplittableRandom random) {
+        return Timestamp.valueOf(now.minusSeconds(random.nextLong(Math.max(1, timeSpan.toSeconds()))));
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(i % 12 == 0 ? ".\n\n" : " ");
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,152 @@
+package com.plog.global.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 하나를 처리하는 동안 DB, 스토리지, 인증에 쓴 시간과 횟수를 모으는 추적 정보입니다.
+ * <p>
+ * {@link RequestTraceFilter}가 요청 스레드에 하나씩 연결하며, 각 계층은 정적 메서드로 값을 더합니다.
+ * 추적 중인 요청이 없으면(필터 밖, 샘플링 제외) 모든 기록 메서드는 아무 일도 하지 않습니다.
+ * 비동기로 처리되는 요청은 {@link #wrap(Runnable)}으로 작업 스레드에도 같은 추적을 연결합니다.
+ *
+ * <p><b>기록 위치:</b><br>
+ * 1. SQL 문: {@link com.plog.global.metrics.QueryCountInspector} <br>
+ * 2. DB 실행·커넥션 획득 시간: {@link TraceSessionEventListener} <br>
+ * 3. 스토리지 호출: {@link com.plog.global.minio.storage.MinioStorage} <br>
+ * 4. 인증 시간: {@link com.plog.global.security.CustomAuthenticationFilter},
+ *    {@link com.plog.global.security.LoginFilter}
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+public final class RequestTrace {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final int maxSql;
+    private final List<String> sql = new ArrayList<>();
+    private boolean sqlTruncated;
+    private int statements;
+    private long dbNanos;
+    private long connectionAcquisitionNanos;
+    private int storageCalls;
+    private long storageNanos;
+    private long authNanos;
+
+    private RequestTrace(int maxSql) {
+        this.maxSql = maxSql;
+    }
+
+    /**
+     * 현재 스레드에서 새 추적을 시작합니다.
+     *
+     * @param maxSql 보관할 SQL 문의 최대 개수 (초과분은 개수만 셉니다)
+     */
+    static RequestTrace begin(int maxSql) {
+        RequestTrace trace = new RequestTrace(maxSql);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 스레드의 추적을 작업을 실행하는 스레드에도 연결하도록 작업을 감쌉니다. 추적 중이 아니면 작업을 그대로 반환합니다.
+     * <p>
+     * 요청 스레드는 작업을 넘긴 뒤 더 이상 기록하지 않으므로, 한 추적에는 한 번에 한 스레드만 기록합니다.
+     *
+     * @param task 다른 스레드에서 실행할 작업
+     * @return 실행하는 동안 추적이 연결되는 작업
+     */
+    public static Runnable wrap(Runnable task) {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null) {
+            return task;
+        }
+        return () -> {
+            CURRENT.set(trace);
+            try {
+                task.run();
+            } finally {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    public static void recordStatement(String statement) {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null) {
+            return;
+        }
+        trace.statements++;
+        if (trace.sql.size() < trace.maxSql) {
+            trace.sql.add(statement);
+        } else {
+            trace.sqlTruncated = true;
+        }
+    }
+
+    public static void recordDbTime(long nanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.dbNanos += nanos;
+        }
+    }
+
+    public static void recordConnectionAcquisition(long nanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.connectionAcquisitionNanos += nanos;
+        }
+    }
+
+    public static void recordStorageCall(long nanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.storageCalls++;
+            trace.storageNanos += nanos;
+        }
+    }
+
+    public static void recordAuth(long nanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.authNanos += nanos;
+        }
+    }
+
+    List<String> sql() {
+        return sql;
+    }
+
+    boolean sqlTruncated() {
+        return sqlTruncated;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    long dbNanos() {
+        return dbNanos;
+    }
+
+    long connectionAcquisitionNanos() {
+        return connectionAcquisitionNanos;
+    }
+
+    int storageCalls() {
+        return storageCalls;
+    }
+
+    long storageNanos() {
+        return storageNanos;
+    }
+
+    long authNanos() {
+        return authNanos;
+    }
+}
@@ -0,0 +1,23 @@
+package com.plog.global.trace;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 추적에 필요한 Hibernate 세션 리스너를 등록하는 구성 클래스입니다.
+ *
+ * @author Jaewon Ryu
+ * @see TraceSessionEventListener
+ * @since 2026-10-18
+ */
+@Configuration
+public class RequestTraceConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer traceSessionEventListenerCustomizer() {
+        return properties -> properties.putIfAbsent(
+                AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, TraceSessionEventListener.class.getName());
+    }
+}
@@ -0,0 +1,187 @@
+package com.plog.global.trace;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 표본으로 고른 API 요청을 추적하고, 기준 시간보다 오래 걸린 요청을 메모리에 보관하는 필터입니다.
+ * <p>
+ * 추적 중인 요청은 SQL 문과 실행 시간, 커넥션 획득 대기 시간, 스토리지 호출, 인증 시간을 {@link RequestTrace}에 모읍니다.
+ * 처리 시간이 {@code custom.trace.slow-threshold} 이상이면 {@link SlowRequest}로 정리하여
+ * 최근 {@code ring-size}개만 보관하고 WARN 로그를 남깁니다. 보관된 요청은 {@link SlowRequestEndpoint}로 조회합니다.
+ *
+ * <p><b>비동기 요청:</b><br>
+ * 격벽({@link com.plog.global.bulkhead.BulkheadExecutor}) 등에서 비동기로 처리되는 요청은 요청 스레드가 먼저 반환되므로,
+ * {@link AsyncListener}로 응답이 끝난 시점에 처리 시간을 재고 기록합니다. 작업 스레드의 SQL·스토리지 호출은
+ * {@link RequestTrace#wrap(Runnable)}으로 연결된 같은 추적에 모입니다.
+ *
+ * <p><b>처리 비용:</b><br>
+ * 표본에서 제외된 요청은 난수 하나만 뽑고 그대로 통과하며, 추적 중인 요청도 스레드 로컬 카운터 증가와
+ * SQL 문자열 참조 보관만 합니다. 느린 요청일 때만 결과 객체를 만듭니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * {@code @Component}로 등록되며, 인증 필터 시간까지 포함하도록 Spring Security 필터 체인보다 먼저 실행됩니다.
+ *
+ * @author Jaewon Ryu
+ * @see TraceSessionEventListener
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final int maxSqlPerRequest;
+    private final SlowRequestRing slowRequests;
+
+    public RequestTraceFilter(
+            @Value("${custom.trace.enabled:true}") boolean enabled,
+            @Value("${custom.trace.sample-rate:1.0}") double sampleRate,
+            @Value("${custom.trace.slow-threshold:1s}") Duration slowThreshold,
+            @Value("${custom.trace.ring-size:100}") int ringSize,
+            @Value("${custom.trace.max-sql-per-request:50}") int maxSqlPerRequest) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.maxSqlPerRequest = maxSqlPerRequest;
+        this.slowRequests = new SlowRequestRing(ringSize);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequestTrace trace = RequestTrace.begin(maxSqlPerRequest);
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new RecordOnComplete(request, response, trace, start));
+                async = true;
+            }
+        } finally {
+            RequestTrace.end();
+            if (!async) {
+                finish(request, response, trace, start);
+            }
+        }
+    }
+
+    private void finish(HttpServletRequest request, HttpServletResponse response, RequestTrace trace, long start) {
+        long elapsed = System.nanoTime() - start;
+        if (elapsed >= slowThresholdNanos) {
+            record(request, response, trace, elapsed);
+        }
+    }
+
+    /**
+     * 보관 중인 느린 요청을 최신순으로 반환합니다.
+     */
+    public List<SlowRequest> getSlowRequests() {
+        return slowRequests.snapshot();
+    }
+
+    public void clearSlowRequests() {
+        slowRequests.clear();
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, RequestTrace trace, long elapsed) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        SlowRequest slowRequest = new SlowRequest(
+                Instant.now(),
+                request.getMethod(),
+                request.getRequestURI(),
+                pattern != null ? pattern.toString() : null,
+                response.getStatus(),
+                millis(elapsed),
+                trace.statements(),
+                millis(trace.dbNanos()),
+                millis(trace.connectionAcquisitionNanos()),
+                trace.storageCalls(),
+                millis(trace.storageNanos()),
+                millis(trace.authNanos()),
+                List.copyOf(trace.sql()),
+                trace.sqlTruncated());
+        slowRequests.add(slowRequest);
+
+        log.warn("[RequestTraceFilter] slow request {} {} status={} duration={}ms statements={} db={}ms "
+                        + "connection={}ms storage={}x{}ms auth={}ms",
+                slowRequest.method(), slowRequest.uri(), slowRequest.status(), slowRequest.durationMs(),
+                slowRequest.statements(), slowRequest.dbMs(), slowRequest.connectionAcquisitionMs(),
+                slowRequest.storageCalls(), slowRequest.storageMs(), slowRequest.authMs());
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / NANOS_PER_MILLI * 100) / 100.0;
+    }
+
+    /**
+     * 비동기 요청은 응답이 끝난 시점에 기록합니다. 시간 초과나 오류로 끝난 요청도 오류 응답을 쓴 뒤 완료되므로,
+     * 최종 상태 코드로 한 번만 기록됩니다.
+     */
+    private final class RecordOnComplete implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final RequestTrace trace;
+        private final long start;
+
+        private RecordOnComplete(HttpServletRequest request, HttpServletResponse response, RequestTrace trace,
+                                 long start) {
+            this.request = request;
+            this.response = response;
+            this.trace = trace;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            finish(request, response, trace, start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.plog.global.trace;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 느린 요청 하나의 추적 결과입니다. 시간 값은 밀리초 단위입니다.
+ *
+ * @param timestamp               요청 종료 시각
+ * @param method                  HTTP 메서드
+ * @param uri                     요청 URI (쿼리 문자열 제외)
+ * @param pattern                 매핑된 경로 패턴, 매핑 전 종료된 요청이면 {@code null}
+ * @param status                  응답 상태 코드
+ * @param durationMs              전체 처리 시간
+ * @param statements              실행된 SQL 문 수
+ * @param dbMs                    JDBC 실행 시간 합계
+ * @param connectionAcquisitionMs 커넥션 풀에서 커넥션을 얻기까지 기다린 시간 합계
+ * @param storageCalls            스토리지 호출 수
+ * @param storageMs               스토리지 호출 시간 합계
+ * @param authMs                  인증 필터에서 쓴 시간
+ * @param sql                     실행된 SQL 문 (설정된 최대 개수까지)
+ * @param sqlTruncated            최대 개수를 넘어 생략된 SQL 문이 있는지 여부
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+public record SlowRequest(
+        Instant timestamp,
+        String method,
+        String uri,
+        String pattern,
+        int status,
+        double durationMs,
+        int statements,
+        double dbMs,
+        double connectionAcquisitionMs,
+        int storageCalls,
+        double storageMs,
+        double authMs,
+        List<String> sql,
+        boolean sqlTruncated
+) {
+}
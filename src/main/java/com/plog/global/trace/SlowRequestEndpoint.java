@@ -0,0 +1,37 @@
+package com.plog.global.trace;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 최근 느린 요청의 추적 결과를 조회하고 비우는 Actuator 엔드포인트입니다.
+ * <p>
+ * <b>API:</b> [GET] /actuator/slowrequests (최신순 조회), [DELETE] /actuator/slowrequests (비우기) <br>
+ * 다른 Actuator 엔드포인트와 같이 {@link com.plog.global.security.SecurityConfig}의 허용 IP 대역에서만 접근할 수 있습니다.
+ *
+ * @author Jaewon Ryu
+ * @see RequestTraceFilter
+ * @since 2026-10-18
+ */
+@Component
+@Endpoint(id = "slowrequests")
+@RequiredArgsConstructor
+public class SlowRequestEndpoint {
+
+    private final RequestTraceFilter requestTraceFilter;
+
+    @ReadOperation
+    public List<SlowRequest> slowRequests() {
+        return requestTraceFilter.getSlowRequests();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        requestTraceFilter.clearSlowRequests();
+    }
+}
@@ -0,0 +1,48 @@
+package com.plog.global.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 느린 요청을 고정 개수만 보관하는 순환 버퍼입니다. 가득 차면 가장 오래된 항목을 덮어씁니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+final class SlowRequestRing {
+
+    private final AtomicReferenceArray<SlowRequest> slots;
+    private final AtomicLong next = new AtomicLong();
+
+    SlowRequestRing(int capacity) {
+        this.slots = new AtomicReferenceArray<>(Math.max(1, capacity));
+    }
+
+    void add(SlowRequest request) {
+        slots.set((int) (next.getAndIncrement() % slots.length()), request);
+    }
+
+    /**
+     * 보관 중인 요청을 최신순으로 반환합니다.
+     */
+    List<SlowRequest> snapshot() {
+        long end = next.get();
+        int count = (int) Math.min(end, slots.length());
+        List<SlowRequest> result = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            SlowRequest request = slots.get((int) ((end - i) % slots.length()));
+            if (request != null) {
+                result.add(request);
+            }
+        }
+        return result;
+    }
+
+    void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.plog.global.trace;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션의 JDBC 실행 시간과 커넥션 획득 시간을 현재 요청의 {@link RequestTrace}에 더하는 리스너입니다.
+ * <p>
+ * {@code hibernate.session.events.auto} 설정으로 세션마다 새 인스턴스가 만들어지며,
+ * 한 세션은 한 스레드에서만 사용되므로 시작 시각을 필드에 보관합니다.
+ *
+ * @author Jaewon Ryu
+ * @see RequestTraceConfig
+ * @since 2026-10-18
+ */
+public class TraceSessionEventListener implements SessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+    private long acquisitionStart;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestTrace.recordConnectionAcquisition(System.nanoTime() - acquisitionStart);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTrace.recordDbTime(System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTrace.recordDbTime(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,57 @@
+package com.plog.domain.comment.service;
+
+import com.plog.domain.comment.dto.CommentInfoRes;
+import com.plog.domain.comment.entity.Comment;
+import com.plog.domain.member.entity.Member;
+import com.plog.domain.post.entity.Post;
+import com.plog.global.minio.storage.ObjectStorage;
+import com.plog.global.response.SliceRes;
+import com.plog.testUtil.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentQueryCountTest extends QueryCountTestSupport {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private ObjectStorage objectStorage;
+
+    @ParameterizedTest(name = "댓글 {0}개, 댓글당 대댓글 {0}개")
+    @ValueSource(ints = {1, 5, 20})
+    @DisplayName("댓글 목록 조회는 댓글과 대댓글 수와 관계없이 일정한 수의 쿼리로 처리된다")
+    void getCommentsByPostIdQueryCount(int size) {
+        // [Given]
+        Post post = post(member());
+        for (int i = 0; i < size; i++) {
+            Comment parent = comment(post, memberWithProfileImage(objectStorage.urlOf("c-" + i + ".png")), null);
+            for (int j = 0; j < size; j++) {
+                comment(post, memberWithProfileImage(objectStorage.urlOf("r-" + i + "-" + j + ".png")), parent);
+            }
+        }
+
+        // [When]
+        AtomicReference<SliceRes<CommentInfoRes>> result = new AtomicReference<>();
+        List<String> queries = recordQueries(() -> result.set(commentService.getCommentsByPostId(post.getId(), 0)));
+
+        // [Then]
+        // 게시글 확인 1 + 댓글 1 + 대댓글 미리보기 ID 1 + 대댓글 1
+        assertQueryCountAtMost(queries, 4);
+        assertThat(result.get().items()).allSatisfy(comment -> {
+            assertThat(comment.replyCount()).isEqualTo(size);
+            assertThat(comment.previewReplies().items()).hasSize(Math.min(size, 5));
+            assertThat(comment.previewReplies().items()).allSatisfy(reply -> {
+                assertThat(reply.parentCommentId()).isEqualTo(comment.id());
+                assertThat(reply.profileUrl()).isNotNull();
+            });
+        });
+    }
+}
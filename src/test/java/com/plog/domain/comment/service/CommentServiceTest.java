@@ -12,6 +12,7 @@ import com.plog.domain.post.repository.PostRepository;
 import com.plog.global.exception.exceptions.AuthException;
 import com.plog.global.exception.exceptions.CommentException;
 import com.plog.global.exception.exceptions.PostException;
+import com.plog.global.response.SliceRes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -51,6 +52,9 @@ class CommentServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private ReplyPreviewLoader replyPreviewLoader;
+
     private Post createPost(Long id, String title) {
         Post post = Post.builder().title(title).build();
         ReflectionTestUtils.setField(post, "id", id);
@@ -135,11 +139,12 @@ class CommentServiceTest {
         given(commentRepository.findRepliesWithMemberAndImageByParentId(eq(parentId), any(Pageable.class))).willReturn(slice);
 
         // [when]
-        Slice<ReplyInfoRes> result = commentService.getRepliesByCommentId(parentId, 0);
+        SliceRes<ReplyInfoRes> result = commentService.getRepliesByCommentId(parentId, 0);
 
         // [then]
-        assertThat(result.getContent()).hasSize(5);
+        assertThat(result.items()).hasSize(5);
         assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursor()).isEqualTo(1L);
     }
 
     @Test
@@ -187,15 +192,16 @@ class CommentServiceTest {
         given(commentRepository.findCommentsWithMemberAndImageByPostId(eq(postId), any(Pageable.class)))
                 .willReturn(new SliceImpl<>(List.of(parent)));
 
-        Slice<Comment> emptyReplySlice = new SliceImpl<>(new ArrayList<>(), PageRequest.of(0, 5), false);
-        given(commentRepository.findRepliesWithMemberAndImageByParentId(anyLong(), any(Pageable.class)))
-                .willReturn(emptyReplySlice);
+        SliceRes<ReplyInfoRes> emptyReplySlice = new SliceRes<>(List.of(), false, null);
+        given(replyPreviewLoader.attachPreviews(any()))
+                .willAnswer(invocation -> SliceRes.from(invocation.<Slice<Comment>>getArgument(0)
+                        .map(comment -> new CommentInfoRes(comment, emptyReplySlice))));
 
         // [When]
-        Slice<CommentInfoRes> result = commentService.getCommentsByPostId(postId, 0);
+        SliceRes<CommentInfoRes> result = commentService.getCommentsByPostId(postId, 0);
 
         // [Then]
-        assertThat(result.getContent()).isNotEmpty();
+        assertThat(result.items()).isNotEmpty();
     }
 
     @Test
@@ -1,15 +1,22 @@
 package com.plog.domain.image.controller;
 
 import com.plog.domain.image.dto.ImageUploadRes;
+import com.plog.domain.image.dto.ImageUploadSessionReq;
+import com.plog.domain.image.dto.ImageUploadSessionRes;
 import com.plog.domain.image.service.ImageService;
+import com.plog.domain.image.service.ImageUploadSessionService;
+import com.plog.global.bulkhead.Bulkhead;
+import com.plog.global.bulkhead.UploadBulkheadConfig;
 import com.plog.global.security.SecurityUser;
 import com.plog.testUtil.SecurityTestConfig;
 import com.plog.testUtil.WebMvcTestSupport;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -18,14 +25,20 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -34,12 +47,18 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  */
 @WebMvcTest(ImageController.class)
 @ActiveProfiles("test")
-@Import(SecurityTestConfig.class) // [추가] SecurityTestConfig 가져오기
+@Import({SecurityTestConfig.class, UploadBulkheadConfig.class})
 class ImageControllerTest extends WebMvcTestSupport {
 
     @MockitoBean
     private ImageService imageService;
 
+    @MockitoBean
+    private ImageUploadSessionService imageUploadSessionService;
+
+    @Autowired
+    private Bulkhead uploadBulkhead;
+
     // [추가] 테스트 실행 전 가짜 인증 정보 주입
     @BeforeEach
     void setUpUser() {
@@ -68,8 +87,8 @@ class ImageControllerTest extends WebMvcTestSupport {
         );
         given(imageService.uploadImage(any(), any())).willReturn(mockResult);
 
-        ResultActions resultActions = mockMvc
-                .perform(
+        ResultActions resultActions =
+                performAsync(
                         multipart("/api/images")
                                 .file(file)
                                 .contentType(MediaType.MULTIPART_FORM_DATA)
@@ -105,8 +124,8 @@ class ImageControllerTest extends WebMvcTestSupport {
         );
         given(imageService.uploadImages(anyList(), any())).willReturn(mockResult);
 
-        ResultActions resultActions = mockMvc
-                .perform(
+        ResultActions resultActions =
+                performAsync(
                         multipart("/api/images/bulk")
                                 .file(file1)
                                 .file(file2)
@@ -136,7 +155,7 @@ class ImageControllerTest extends WebMvcTestSupport {
         );
         given(imageService.uploadImages(anyList(), any())).willReturn(mockResult);
 
-        mockMvc.perform(multipart("/api/images/bulk").file(file1))
+        performAsync(multipart("/api/images/bulk").file(file1))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.successUrls").isArray())
                 .andExpect(jsonPath("$.data.successUrls.length()").value(1))
@@ -157,12 +176,36 @@ class ImageControllerTest extends WebMvcTestSupport {
                         "지원하지 않는 파일 형식입니다."
                 ));
 
-        mockMvc.perform(multipart("/api/images").file(txtFile))
+        performAsync(multipart("/api/images").file(txtFile))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.status").value("fail"))
                 .andExpect(jsonPath("$.message").value("지원하지 않는 파일 형식입니다."));
     }
 
+    @Test
+    @DisplayName("업로드 격벽이 가득 차 있으면 본문을 처리하지 않고 503과 Retry-After를 반환한다")
+    void uploadImageRejectedWhenBulkheadFull() throws Exception {
+        // [Given] 다른 업로드 요청들이 격벽의 자리를 모두 차지함
+        MockMultipartFile file = new MockMultipartFile("file", "test.jpg", "image/jpeg", "data".getBytes());
+        int occupied = 0;
+        while (uploadBulkhead.tryEnter()) {
+            occupied++;
+        }
+
+        try {
+            // [When & Then]
+            mockMvc.perform(multipart("/api/images").file(file))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                    .andExpect(jsonPath("$.status").value("fail"));
+            verify(imageService, never()).uploadImage(any(), any());
+        } finally {
+            for (int i = 0; i < occupied; i++) {
+                uploadBulkhead.exit();
+            }
+        }
+    }
+
     @Test
     @DisplayName("파일 없이 요청하면 400 Bad Request가 발생한다")
     void uploadImageWithoutFile() throws Exception {
@@ -170,4 +213,47 @@ class ImageControllerTest extends WebMvcTestSupport {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.message").value("Missing request part"));
     }
+
+    @Test
+    @DisplayName("업로드 세션 발급 시 Presigned URL 을 반환한다")
+    void createUploadSessionSuccess() throws Exception {
+        ImageUploadSessionRes mockResult = new ImageUploadSessionRes(
+                10L,
+                "http://minio/bucket/uuid.png?X-Amz-Signature=sig",
+                LocalDateTime.of(2026, 10, 18, 12, 0)
+        );
+        given(imageUploadSessionService.createSession(any(), any())).willReturn(mockResult);
+
+        mockMvc.perform(post("/api/images/upload-sessions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ImageUploadSessionReq("cat.png", "image/png", 100L))))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data.imageId").value(10))
+                .andExpect(jsonPath("$.data.uploadUrl").value("http://minio/bucket/uuid.png?X-Amz-Signature=sig"))
+                .andExpect(jsonPath("$.message").value("업로드 URL 발급 성공"));
+    }
+
+    @Test
+    @DisplayName("업로드 세션 발급 요청에 크기가 없으면 400 을 반환한다")
+    void createUploadSessionInvalidRequest() throws Exception {
+        mockMvc.perform(post("/api/images/upload-sessions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"originalFilename\":\"cat.png\",\"contentType\":\"image/png\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("업로드 완료 시 이미지 URL 을 반환한다")
+    void completeUploadSessionSuccess() throws Exception {
+        given(imageUploadSessionService.completeSession(eq(10L), any()))
+                .willReturn(new ImageUploadRes(List.of("http://minio/bucket/uuid.png"), List.of()));
+
+        mockMvc.perform(post("/api/images/upload-sessions/10/complete"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.successUrls[0]").value("http://minio/bucket/uuid.png"))
+                .andExpect(jsonPath("$.message").value("이미지 업로드 성공"));
+    }
 }
@@ -2,6 +2,7 @@ package com.plog.domain.image.controller;
 
 import com.plog.domain.image.dto.ProfileImageUploadRes;
 import com.plog.domain.image.service.ProfileImageService;
+import com.plog.global.bulkhead.UploadBulkheadConfig;
 import com.plog.global.security.SecurityUser;
 import com.plog.testUtil.SecurityTestConfig;
 import com.plog.testUtil.WebMvcTestSupport;
@@ -36,7 +37,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  */
 @WebMvcTest(ProfileImageController.class)
 @ActiveProfiles("test")
-@Import(SecurityTestConfig.class) // [추가] SecurityTestConfig 적용
+@Import({SecurityTestConfig.class, UploadBulkheadConfig.class})
 class ProfileImageControllerTest extends WebMvcTestSupport {
 
     @MockitoBean
@@ -67,7 +68,7 @@ class ProfileImageControllerTest extends WebMvcTestSupport {
         given(profileImageService.uploadProfileImage(eq(memberId), any())).willReturn(mockResponse);
 
         // [When & Then]
-        mockMvc.perform(
+        performAsync(
                         multipart("/api/members/{memberId}/profile-image", memberId)
                                 .file(file)
                                 .contentType(MediaType.MULTIPART_FORM_DATA)
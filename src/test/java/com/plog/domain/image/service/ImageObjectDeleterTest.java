@@ -0,0 +1,98 @@
+package com.plog.domain.image.service;
+
+import com.plog.domain.image.repository.ImageDeletionRepository;
+import com.plog.global.minio.storage.ObjectStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ImageObjectDeleterTest {
+
+    @Mock
+    private ObjectStorage objectStorage;
+
+    @Mock
+    private ImageDeletionRepository imageDeletionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImageObjectDeleter deleter;
+
+    @BeforeEach
+    void setUp() {
+        deleter = new ImageObjectDeleter(objectStorage, imageDeletionRepository, transactionManager, 2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 삭제 기록만 남기고, 스토리지 파일은 커밋된 뒤에 삭제한다")
+    void deleteAfterCommitWaitsForCommit() {
+        // [Given]
+        given(objectStorage.deleteAll(any())).willReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // [When]
+            deleter.deleteAfterCommit(List.of("a.jpg"));
+
+            // [Then] 커밋 전에는 기록만 저장됨
+            verify(imageDeletionRepository).saveAll(any());
+            verify(objectStorage, never()).deleteAll(any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(objectStorage).deleteAll(List.of("a.jpg"));
+            verify(imageDeletionRepository).deleteAllByStoredNameIn(List.of("a.jpg"));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("남아 있는 삭제 기록을 배치 단위로 다시 삭제하고, 삭제가 확인된 기록만 지운다")
+    void retryPendingDeletesRecordedObjects() {
+        // [Given]
+        given(imageDeletionRepository.findPendingStoredNames(any(Pageable.class)))
+                .willReturn(List.of("a.jpg", "b.jpg"), List.of("c.jpg"));
+        given(objectStorage.deleteAll(any())).willReturn(List.of());
+
+        // [When]
+        deleter.retryPending();
+
+        // [Then]
+        verify(objectStorage).deleteAll(List.of("a.jpg", "b.jpg"));
+        verify(objectStorage).deleteAll(List.of("c.jpg"));
+        verify(imageDeletionRepository).deleteAllByStoredNameIn(List.of("a.jpg", "b.jpg"));
+        verify(imageDeletionRepository).deleteAllByStoredNameIn(List.of("c.jpg"));
+    }
+
+    @Test
+    @DisplayName("재시도 중 다시 실패한 파일이 있으면 같은 기록을 반복해서 조회하지 않고 다음 실행으로 미룬다")
+    void retryPendingStopsOnFailure() {
+        // [Given]
+        given(imageDeletionRepository.findPendingStoredNames(any(Pageable.class)))
+                .willReturn(List.of("a.jpg", "b.jpg"));
+        given(objectStorage.deleteAll(any())).willReturn(List.of("a.jpg"));
+
+        // [When]
+        deleter.retryPending();
+
+        // [Then]
+        verify(imageDeletionRepository, times(1)).findPendingStoredNames(any(Pageable.class));
+        verify(imageDeletionRepository).deleteAllByStoredNameIn(List.of("b.jpg"));
+    }
+}
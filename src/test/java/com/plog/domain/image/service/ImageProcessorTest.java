@@ -0,0 +1,155 @@
+package com.plog.domain.image.service;
+
+import com.plog.global.exception.errorCode.ImageErrorCode;
+import com.plog.global.exception.exceptions.ImageException;
+import com.plog.testUtil.TestImages;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageProcessorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImageProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        processor = new ImageProcessor(true, 64, 0.8f, 9, meterRegistry);
+    }
+
+    private BufferedImage read(ImageProcessor.ProcessedImage processed) throws IOException {
+        try (InputStream in = processed.source().getInputStream()) {
+            return ImageIO.read(in);
+        }
+    }
+
+    private byte[] bytes(ImageProcessor.ProcessedImage processed) throws IOException {
+        try (InputStream in = processed.source().getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * JPEG 의 SOI 마커 바로 뒤에 방향 값만 담은 EXIF(APP1) 세그먼트를 끼워 넣습니다.
+     */
+    private byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] tiff = {
+                'M', 'M', 0, 42, 0, 0, 0, 8,          // 빅엔디언 TIFF 헤더, IFD0 오프셋 8
+                0, 1,                                 // 엔트리 1개
+                0x01, 0x12, 0, 3, 0, 0, 0, 1,         // Orientation, SHORT, count 1
+                0, (byte) orientation, 0, 0,
+                0, 0, 0, 0                            // 다음 IFD 없음
+        };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        int length = 2 + 6 + tiff.length;
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.writeBytes("Exif\0\0".getBytes(StandardCharsets.ISO_8859_1));
+        out.writeBytes(tiff);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("확장자가 이미지여도 매직 바이트가 이미지가 아니면 예외가 발생한다")
+    void rejectsNonImageContent() {
+        MockMultipartFile fake = new MockMultipartFile("file", "fake.jpg", "image/jpeg", "MZ-not-an-image".getBytes());
+
+        assertThatThrownBy(() -> processor.process(fake))
+                .isInstanceOf(ImageException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ImageErrorCode.INVALID_FILE_EXTENSION);
+    }
+
+    @Test
+    @DisplayName("최대 해상도를 넘는 JPEG 는 비율을 유지하며 축소되고 절감량이 지표로 기록된다")
+    void downscalesOversizedJpeg() throws IOException {
+        // [Given]
+        byte[] original = TestImages.jpeg(400, 200);
+        MockMultipartFile file = new MockMultipartFile("file", "big.jpg", "image/jpeg", original);
+
+        // [When]
+        ImageProcessor.ProcessedImage processed = processor.process(file);
+
+        // [Then]
+        BufferedImage result = read(processed);
+        assertThat(processed.format()).isEqualTo(ImageProcessor.ImageFormat.JPEG);
+        assertThat(result.getWidth()).isEqualTo(64);
+        assertThat(result.getHeight()).isEqualTo(32);
+        assertThat(processed.size()).isLessThan(original.length);
+
+        DistributionSummary saved = meterRegistry.find("image.upload.bytes.saved").tag("format", "jpeg").summary();
+        assertThat(saved).isNotNull();
+        assertThat(saved.count()).isEqualTo(1);
+        assertThat((long) saved.totalAmount()).isEqualTo(original.length - processed.size());
+    }
+
+    @Test
+    @DisplayName("EXIF 방향 정보는 픽셀에 반영되고 메타데이터는 제거된다")
+    void appliesOrientationAndStripsExif() throws IOException {
+        // [Given] 가로 40, 세로 20 이미지에 시계 방향 90도 회전(6) 정보를 추가
+        byte[] jpeg = withExifOrientation(TestImages.jpeg(40, 20), 6);
+        MockMultipartFile file = new MockMultipartFile("file", "phone.jpg", "image/jpeg", jpeg);
+
+        // [When]
+        ImageProcessor.ProcessedImage processed = processor.process(file);
+
+        // [Then]
+        BufferedImage result = read(processed);
+        assertThat(result.getWidth()).isEqualTo(20);
+        assertThat(result.getHeight()).isEqualTo(40);
+        assertThat(new String(bytes(processed), StandardCharsets.ISO_8859_1)).doesNotContain("Exif");
+    }
+
+    @Test
+    @DisplayName("GIF 는 애니메이션 보존을 위해 원본 그대로 저장한다")
+    void passesGifThrough() {
+        MockMultipartFile file = new MockMultipartFile("file", "anim.gif", "image/gif", TestImages.gif(200, 200));
+
+        ImageProcessor.ProcessedImage processed = processor.process(file);
+
+        assertThat(processed.format()).isEqualTo(ImageProcessor.ImageFormat.GIF);
+        assertThat(processed.source()).isSameAs(file);
+    }
+
+    @Test
+    @DisplayName("처리 기능이 꺼져 있으면 형식만 검증하고 원본을 저장한다")
+    void passesThroughWhenDisabled() {
+        ImageProcessor disabled = new ImageProcessor(false, 64, 0.8f, 9, meterRegistry);
+        MockMultipartFile file = new MockMultipartFile("file", "big.jpg", "image/jpeg", TestImages.jpeg(400, 200));
+
+        ImageProcessor.ProcessedImage processed = disabled.process(file);
+
+        assertThat(processed.source()).isSameAs(file);
+        assertThat(processed.size()).isEqualTo(file.getSize());
+    }
+
+    @Test
+    @DisplayName("PNG 는 투명도를 유지하며 축소된다")
+    void downscalesPngKeepingAlpha() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("file", "logo.png", "image/png", TestImages.png(128, 128));
+
+        ImageProcessor.ProcessedImage processed = processor.process(file);
+
+        BufferedImage result = read(processed);
+        assertThat(processed.format()).isEqualTo(ImageProcessor.ImageFormat.PNG);
+        assertThat(result.getWidth()).isEqualTo(64);
+        assertThat(result.getColorModel().hasAlpha()).isTrue();
+    }
+}
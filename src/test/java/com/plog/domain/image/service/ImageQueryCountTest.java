@@ -0,0 +1,71 @@
+package com.plog.domain.image.service;
+
+import com.plog.domain.image.dto.ImageDeleteRes;
+import com.plog.domain.member.entity.Member;
+import com.plog.global.minio.storage.ObjectStorage;
+import com.plog.testUtil.QueryCountTestSupport;
+import com.plog.testUtil.TestImages;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageQueryCountTest extends QueryCountTestSupport {
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private ObjectStorage objectStorage;
+
+    @ParameterizedTest(name = "이미지 {0}개")
+    @ValueSource(ints = {1, 10, 50})
+    @DisplayName("이미지 일괄 삭제는 이미지 수와 관계없이 일정한 수의 쿼리로 처리된다")
+    void deleteImagesQueryCount(int imageCount) {
+        // [Given]
+        Member uploader = member();
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < imageCount; i++) {
+            String storedName = "bulk-" + i + ".png";
+            urls.add(objectStorage.urlOf(storedName));
+            image(uploader, storedName, objectStorage.urlOf(storedName));
+        }
+
+        // [When]
+        AtomicReference<ImageDeleteRes> result = new AtomicReference<>();
+        List<String> queries = recordQueries(() -> result.set(imageService.deleteImages(urls, uploader.getId())));
+
+        // [Then]
+        // 저장 키로 이미지 조회 1 + 참조 여부 확인 1 + 일괄 DELETE 1 + 스토리지 삭제 기록의 ID 할당 1 + 배치 INSERT 1
+        // (스토리지 삭제와 기록 정리는 커밋 후 실행되므로 포함되지 않음)
+        assertQueryCountAtMost(queries, 5);
+        assertThat(result.get().successUrls()).hasSize(imageCount);
+    }
+
+    @ParameterizedTest(name = "이미지 {0}개")
+    @ValueSource(ints = {1, 5})
+    @DisplayName("이미지 일괄 업로드는 이미지당 INSERT 한 번만 실행한다")
+    void uploadImagesQueryCount(int imageCount) {
+        // [Given]
+        Member uploader = member();
+        List<MultipartFile> files = IntStream.range(0, imageCount)
+                .<MultipartFile>mapToObj(i -> new MockMultipartFile(
+                        "files", "image-" + i + ".png", "image/png", TestImages.png(16, 16)))
+                .toList();
+
+        // [When]
+        List<String> queries = recordQueries(() -> imageService.uploadImages(files, uploader.getId()));
+
+        // [Then]
+        assertQueryCountAtMost(queries, imageCount);
+    }
+}
@@ -1,5 +1,6 @@
 package com.plog.domain.image.service;
 
+import com.plog.domain.image.dto.ImageDeleteRes;
 import com.plog.domain.image.dto.ImageUploadRes;
 import com.plog.domain.image.entity.Image;
 import com.plog.domain.image.repository.ImageRepository;
@@ -12,22 +13,34 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.plog.testUtil.TestImages;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -41,12 +54,21 @@ class ImageServiceTest {
     @Mock
     private ObjectStorage objectStorage;
 
+    @Spy
+    private ImageProcessor imageProcessor = new ImageProcessor(true, 2048, 0.82f, 9, new SimpleMeterRegistry());
+
     @Mock
     private ImageRepository imageRepository;
 
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private ImageUrlResolver imageUrlResolver;
+
+    @Mock
+    private ImageObjectDeleter imageObjectDeleter;
+
     @Test
     @DisplayName("이미지 업로드 시 UUID가 적용된 고유한 파일명으로 저장소에 전달된다")
     void uploadImageSuccess() {
@@ -54,7 +76,7 @@ class ImageServiceTest {
         Long memberId = 1L;
         String originalFilename = "test-image.jpg";
         MockMultipartFile file = new MockMultipartFile(
-                "file", originalFilename, "image/jpeg", "content".getBytes()
+                "file", originalFilename, "image/jpeg", TestImages.jpeg(4, 4)
         );
         String mockUrl = "http://minio-url/bucket/uuid-filename.jpg";
 
@@ -62,7 +84,7 @@ class ImageServiceTest {
         // 만약 서비스가 getReferenceById를 쓴다면 아래처럼 lenient()를 써서 유연하게 대처 가능
         // lenient().when(memberRepository.getReferenceById(memberId)).thenReturn(new Member(...));
 
-        given(objectStorage.upload(any(MultipartFile.class), anyString()))
+        given(objectStorage.upload(any(InputStreamSource.class), anyLong(), anyString(), anyString()))
                 .willReturn(mockUrl);
 
         // [When]
@@ -75,7 +97,7 @@ class ImageServiceTest {
 
         // 파일명 변환 검증
         ArgumentCaptor<String> filenameCaptor = ArgumentCaptor.forClass(String.class);
-        verify(objectStorage).upload(any(MultipartFile.class), filenameCaptor.capture());
+        verify(objectStorage).upload(any(InputStreamSource.class), anyLong(), anyString(), filenameCaptor.capture());
         String savedFilename = filenameCaptor.getValue();
         assertThat(savedFilename).isNotEqualTo(originalFilename);
         assertThat(savedFilename).endsWith(".jpg");
@@ -83,20 +105,39 @@ class ImageServiceTest {
         verify(imageRepository).save(any(Image.class));
     }
 
+    @Test
+    @DisplayName("확장자와 실제 형식이 다르면 매직 바이트로 판별한 형식으로 저장된다")
+    void uploadImageUsesDetectedFormat() {
+        // [Given]
+        MockMultipartFile disguised = new MockMultipartFile(
+                "file", "photo.jpg", "image/jpeg", TestImages.png(4, 4)
+        );
+        given(objectStorage.upload(any(InputStreamSource.class), anyLong(), anyString(), anyString()))
+                .willReturn("http://minio-url/bucket/uuid.png");
+
+        // [When]
+        imageService.uploadImage(disguised, 1L);
+
+        // [Then]
+        ArgumentCaptor<String> filenameCaptor = ArgumentCaptor.forClass(String.class);
+        verify(objectStorage).upload(any(InputStreamSource.class), anyLong(), eq("image/png"), filenameCaptor.capture());
+        assertThat(filenameCaptor.getValue()).endsWith(".png");
+    }
+
     @Test
     @DisplayName("다중 이미지 업로드 성공 시 모든 파일의 URL을 반환한다")
     void uploadImagesSuccess() {
         // [Given]
         Long memberId = 1L;
         List<MultipartFile> files = List.of(
-                new MockMultipartFile("f1", "a.png", "image/png", "d1".getBytes()),
-                new MockMultipartFile("f2", "b.jpg", "image/jpeg", "d2".getBytes())
+                new MockMultipartFile("f1", "a.png", "image/png", TestImages.png(4, 4)),
+                new MockMultipartFile("f2", "b.jpg", "image/jpeg", TestImages.jpeg(4, 4))
         );
         String mockUrl = "http://mock-url/img";
 
         // 🚨 [수정] findById Stubbing 제거
 
-        given(objectStorage.upload(any(MultipartFile.class), anyString()))
+        given(objectStorage.upload(any(InputStreamSource.class), anyLong(), anyString(), anyString()))
                 .willReturn(mockUrl);
 
         // [When]
@@ -106,7 +147,7 @@ class ImageServiceTest {
         assertThat(result.successUrls()).hasSize(2);
         assertThat(result.failedFilenames()).isEmpty();
 
-        verify(objectStorage, times(2)).upload(any(MultipartFile.class), anyString());
+        verify(objectStorage, times(2)).upload(any(InputStreamSource.class), anyLong(), anyString(), anyString());
         verify(imageRepository, times(2)).save(any(Image.class));
     }
 
@@ -115,12 +156,12 @@ class ImageServiceTest {
     void uploadImagesPartialFailure() {
         // [Given]
         Long memberId = 1L;
-        MockMultipartFile validFile = new MockMultipartFile("f1", "ok.jpg", "image/jpeg", "data".getBytes());
+        MockMultipartFile validFile = new MockMultipartFile("f1", "ok.jpg", "image/jpeg", TestImages.jpeg(4, 4));
         MockMultipartFile invalidFile = new MockMultipartFile("f2", "bad.exe", "app/exe", "bad".getBytes());
 
         // 🚨 [수정] findById Stubbing 제거
 
-        given(objectStorage.upload(any(MultipartFile.class), anyString()))
+        given(objectStorage.upload(any(InputStreamSource.class), anyLong(), anyString(), anyString()))
                 .willReturn("http://mock.jpg");
 
         // [When]
@@ -129,7 +170,7 @@ class ImageServiceTest {
         // [Then]
         assertThat(result.successUrls()).hasSize(1);
         assertThat(result.failedFilenames()).containsExactly("bad.exe");
-        verify(objectStorage, times(1)).upload(any(MultipartFile.class), anyString());
+        verify(objectStorage, times(1)).upload(any(InputStreamSource.class), anyLong(), anyString(), anyString());
     }
 
     @Test
@@ -162,7 +203,7 @@ class ImageServiceTest {
     }
 
     @Test
-    @DisplayName("이미지 단일 삭제 성공 시 스토리지와 DB에서 모두 삭제된다")
+    @DisplayName("이미지 단일 삭제 시 메타데이터를 먼저 삭제하고 스토리지 파일은 커밋 후 삭제되도록 예약한다")
     void deleteImageSuccess() {
         // [Given]
         String imageUrl = "http://minio/bucket/uuid-image.jpg";
@@ -176,17 +217,46 @@ class ImageServiceTest {
                 .accessUrl(imageUrl)
                 .storedName(storedName)
                 .build();
+        ReflectionTestUtils.setField(mockImage, "id", 10L);
         ReflectionTestUtils.setField(mockImage, "uploader", mockMember);
 
-        given(objectStorage.parsePath(imageUrl)).willReturn(storedName);
-        given(imageRepository.findByAccessUrl(imageUrl)).willReturn(Optional.of(mockImage));
+        given(imageUrlResolver.resolve(imageUrl)).willReturn(Optional.of(mockImage));
+        given(imageRepository.findUnreferencedIdsIn(List.of(10L))).willReturn(List.of(10L));
 
         // [When]
         imageService.deleteImage(imageUrl, memberId);
 
         // [Then]
-        verify(objectStorage, times(1)).delete(storedName);
-        verify(imageRepository, times(1)).delete(mockImage);
+        InOrder order = inOrder(imageRepository, imageObjectDeleter);
+        order.verify(imageRepository).delete(mockImage);
+        order.verify(imageRepository).flush();
+        order.verify(imageObjectDeleter).deleteAfterCommit(List.of(storedName));
+        verify(objectStorage, never()).delete(anyString());
+        verify(imageUrlResolver).evictAll(List.of(imageUrl));
+    }
+
+    @Test
+    @DisplayName("게시글·템플릿·프로필에서 사용 중인 이미지는 삭제하지 않고 예외가 발생한다")
+    void deleteImageInUse() {
+        // [Given]
+        String imageUrl = "http://minio/bucket/used.jpg";
+        Long memberId = 1L;
+        Member owner = Member.builder().build();
+        ReflectionTestUtils.setField(owner, "id", memberId);
+
+        Image image = Image.builder().accessUrl(imageUrl).storedName("used.jpg").build();
+        ReflectionTestUtils.setField(image, "id", 10L);
+        ReflectionTestUtils.setField(image, "uploader", owner);
+
+        given(imageUrlResolver.resolve(imageUrl)).willReturn(Optional.of(image));
+        given(imageRepository.findUnreferencedIdsIn(List.of(10L))).willReturn(List.of());
+
+        // [When & Then]
+        assertThatThrownBy(() -> imageService.deleteImage(imageUrl, memberId))
+                .isInstanceOf(ImageException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ImageErrorCode.IMAGE_IN_USE);
+        verify(imageRepository, never()).delete(any());
+        verify(imageObjectDeleter, never()).deleteAfterCommit(any());
     }
 
     @Test
@@ -196,7 +266,7 @@ class ImageServiceTest {
         String wrongUrl = "http://minio/bucket/ghost.jpg";
         Long memberId = 1L;
 
-        given(imageRepository.findByAccessUrl(wrongUrl)).willReturn(Optional.empty());
+        given(imageUrlResolver.resolve(wrongUrl)).willReturn(Optional.empty());
 
         // [When & Then]
         assertThatThrownBy(() -> imageService.deleteImage(wrongUrl, memberId))
@@ -207,7 +277,7 @@ class ImageServiceTest {
     }
 
     @Test
-    @DisplayName("다중 이미지 삭제 시 리스트 개수만큼 반복하여 삭제한다")
+    @DisplayName("다중 이미지 삭제 시 한 번의 조회와 한 번의 DELETE 문으로 메타데이터를 삭제하고, 스토리지 파일은 커밋 후 한 번에 삭제되도록 예약한다")
     void deleteImagesSuccess() {
         // [Given]
         Long memberId = 1L;
@@ -218,22 +288,120 @@ class ImageServiceTest {
         String url2 = "http://minio/bucket/2.jpg";
         List<String> urls = List.of(url1, url2);
 
-        given(objectStorage.parsePath(url1)).willReturn("1.jpg");
-        given(objectStorage.parsePath(url2)).willReturn("2.jpg");
-
         Image img1 = Image.builder().accessUrl(url1).storedName("1.jpg").build();
         Image img2 = Image.builder().accessUrl(url2).storedName("2.jpg").build();
+        ReflectionTestUtils.setField(img1, "id", 10L);
+        ReflectionTestUtils.setField(img2, "id", 20L);
         ReflectionTestUtils.setField(img1, "uploader", mockMember);
         ReflectionTestUtils.setField(img2, "uploader", mockMember);
 
-        given(imageRepository.findByAccessUrl(url1)).willReturn(Optional.of(img1));
-        given(imageRepository.findByAccessUrl(url2)).willReturn(Optional.of(img2));
+        given(imageUrlResolver.resolveAll(anyCollection())).willReturn(Map.of(url1, img1, url2, img2));
+        given(imageRepository.findUnreferencedIdsIn(anyCollection())).willReturn(List.of(10L, 20L));
+
+        // [When]
+        ImageDeleteRes result = imageService.deleteImages(urls, memberId);
+
+        // [Then]
+        assertThat(result.successUrls()).containsExactly(url1, url2);
+        assertThat(result.failedUrls()).isEmpty();
+
+        verify(imageUrlResolver, times(1)).resolveAll(anyCollection());
+        InOrder order = inOrder(imageRepository, imageObjectDeleter);
+        order.verify(imageRepository).deleteAllByIdInBatch(List.of(10L, 20L));
+        order.verify(imageObjectDeleter).deleteAfterCommit(Set.of("1.jpg", "2.jpg"));
+        verify(objectStorage, never()).deleteAll(any());
+    }
+
+    @Test
+    @DisplayName("다중 이미지 삭제 시 없는 이미지와 권한 없는 이미지는 실패로 반환하고 나머지만 삭제한다")
+    void deleteImagesPartialFailure() {
+        // [Given]
+        Long memberId = 1L;
+        Member owner = Member.builder().build();
+        Member other = Member.builder().build();
+        ReflectionTestUtils.setField(owner, "id", memberId);
+        ReflectionTestUtils.setField(other, "id", 2L);
+
+        String okUrl = "http://minio/bucket/ok.jpg";
+        String ghostUrl = "http://minio/bucket/ghost.jpg";
+        String othersUrl = "http://minio/bucket/others.jpg";
+
+        Image ok = Image.builder().accessUrl(okUrl).storedName("ok.jpg").build();
+        Image others = Image.builder().accessUrl(othersUrl).storedName("others.jpg").build();
+        ReflectionTestUtils.setField(ok, "id", 10L);
+        ReflectionTestUtils.setField(others, "id", 20L);
+        ReflectionTestUtils.setField(ok, "uploader", owner);
+        ReflectionTestUtils.setField(others, "uploader", other);
+
+        given(imageUrlResolver.resolveAll(anyCollection()))
+                .willReturn(Map.of(okUrl, ok, othersUrl, others));
+        given(imageRepository.findUnreferencedIdsIn(anyCollection())).willReturn(List.of(10L));
+
+        // [When]
+        ImageDeleteRes result = imageService.deleteImages(
+                List.of(okUrl, ghostUrl, othersUrl), memberId);
+
+        // [Then]
+        assertThat(result.successUrls()).containsExactly(okUrl);
+        assertThat(result.failedUrls()).containsExactlyInAnyOrder(ghostUrl, othersUrl);
+        verify(imageRepository).deleteAllByIdInBatch(List.of(10L));
+        verify(imageObjectDeleter).deleteAfterCommit(Set.of("ok.jpg"));
+    }
+
+    @Test
+    @DisplayName("다중 이미지 삭제 시 사용 중인 이미지는 실패로 반환하고, 나머지 이미지만 삭제한다")
+    void deleteImagesReportsReferencedImagesAsFailures() {
+        // [Given] 1.jpg 는 게시글이 참조 중
+        Long memberId = 1L;
+        Member owner = Member.builder().build();
+        ReflectionTestUtils.setField(owner, "id", memberId);
+
+        String usedUrl = "http://minio/bucket/1.jpg";
+        String freeUrl = "http://minio/bucket/2.jpg";
+        Image used = Image.builder().accessUrl(usedUrl).storedName("1.jpg").build();
+        Image free = Image.builder().accessUrl(freeUrl).storedName("2.jpg").build();
+        ReflectionTestUtils.setField(used, "id", 10L);
+        ReflectionTestUtils.setField(free, "id", 20L);
+        ReflectionTestUtils.setField(used, "uploader", owner);
+        ReflectionTestUtils.setField(free, "uploader", owner);
+
+        given(imageUrlResolver.resolveAll(anyCollection())).willReturn(Map.of(usedUrl, used, freeUrl, free));
+        given(imageRepository.findUnreferencedIdsIn(anyCollection())).willReturn(List.of(20L));
+
+        // [When]
+        ImageDeleteRes result = imageService.deleteImages(List.of(usedUrl, freeUrl), memberId);
+
+        // [Then]
+        assertThat(result.successUrls()).containsExactly(freeUrl);
+        assertThat(result.failedUrls()).containsExactly(usedUrl);
+        verify(imageRepository).deleteAllByIdInBatch(List.of(20L));
+        verify(imageObjectDeleter).deleteAfterCommit(Set.of("2.jpg"));
+        verify(imageUrlResolver).evictAll(List.of(freeUrl));
+    }
+
+    @Test
+    @DisplayName("다중 이미지 삭제 시 모든 이미지가 사용 중이면 아무것도 삭제하지 않는다")
+    void deleteImagesSkipsDeleteWhenAllReferenced() {
+        // [Given]
+        Long memberId = 1L;
+        Member owner = Member.builder().build();
+        ReflectionTestUtils.setField(owner, "id", memberId);
+
+        String url = "http://minio/bucket/1.jpg";
+        Image image = Image.builder().accessUrl(url).storedName("1.jpg").build();
+        ReflectionTestUtils.setField(image, "id", 10L);
+        ReflectionTestUtils.setField(image, "uploader", owner);
+
+        given(imageUrlResolver.resolveAll(anyCollection())).willReturn(Map.of(url, image));
+        given(imageRepository.findUnreferencedIdsIn(anyCollection())).willReturn(List.of());
 
         // [When]
-        imageService.deleteImages(urls, memberId);
+        ImageDeleteRes result = imageService.deleteImages(List.of(url), memberId);
 
         // [Then]
-        verify(objectStorage, times(2)).delete(anyString());
-        verify(imageRepository, times(2)).delete(any(Image.class));
+        assertThat(result.successUrls()).isEmpty();
+        assertThat(result.failedUrls()).containsExactly(url);
+        verify(imageRepository, never()).deleteAllByIdInBatch(any());
+        verify(imageObjectDeleter, never()).deleteAfterCommit(any());
     }
 }
@@ -0,0 +1,295 @@
+package com.plog.domain.image.service;
+
+import com.plog.domain.image.dto.ImageUploadRes;
+import com.plog.domain.image.dto.ImageUploadSessionReq;
+import com.plog.domain.image.dto.ImageUploadSessionRes;
+import com.plog.domain.image.entity.Image;
+import com.plog.domain.image.entity.ImageStatus;
+import com.plog.domain.image.repository.ImageRepository;
+import com.plog.domain.member.entity.Member;
+import com.plog.domain.member.repository.MemberRepository;
+import com.plog.global.exception.errorCode.ImageErrorCode;
+import com.plog.global.exception.exceptions.AuthException;
+import com.plog.global.exception.exceptions.ImageException;
+import com.plog.testUtil.InMemoryObjectStorage;
+import com.plog.testUtil.TestImages;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 직접 업로드 세션의 발급, 완료 검증, 만료 정리를 메모리 기반 스토리지로 검증하는 단위 테스트입니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageUploadSessionServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final long MAX_SIZE = 1024 * 1024;
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private InMemoryObjectStorage storage;
+    private ImageUploadSessionServiceImpl service;
+    private Member member;
+    private ImageUploadSessionRes issued;
+
+    @BeforeEach
+    void setUp() {
+        storage = new InMemoryObjectStorage();
+        service = new ImageUploadSessionServiceImpl(storage, imageRepository, memberRepository,
+                new ImageProcessor(true, 2048, 0.82f, 9, new SimpleMeterRegistry()), Duration.ofMinutes(10), MAX_SIZE);
+        member = Member.builder().build();
+        ReflectionTestUtils.setField(member, "id", MEMBER_ID);
+    }
+
+    /**
+     * 세션을 발급하고, 저장된 PENDING 이미지를 반환합니다. 발급 응답은 {@code issued}에 보관합니다.
+     */
+    private Image openSession(ImageUploadSessionReq request) {
+        given(memberRepository.getReferenceById(MEMBER_ID)).willReturn(member);
+        given(imageRepository.save(any(Image.class))).willAnswer(invocation -> {
+            Image image = invocation.getArgument(0);
+            ReflectionTestUtils.setField(image, "id", 10L);
+            ReflectionTestUtils.setField(image, "createDate", LocalDateTime.now());
+            return image;
+        });
+
+        issued = service.createSession(request, MEMBER_ID);
+
+        ArgumentCaptor<Image> captor = ArgumentCaptor.forClass(Image.class);
+        verify(imageRepository).save(captor.capture());
+        Image image = captor.getValue();
+        lenient().when(imageRepository.findById(10L)).thenReturn(Optional.of(image));
+        return image;
+    }
+
+    @Test
+    @DisplayName("세션 발급 시 PENDING 이미지가 저장되고 Presigned URL 이 반환된다")
+    void createSessionIssuesPresignedUrl() {
+        // [When]
+        Image image = openSession(new ImageUploadSessionReq("cat.png", "image/png", 100L));
+
+        // [Then]
+        assertThat(image.getStatus()).isEqualTo(ImageStatus.PENDING);
+        assertThat(image.getStoredName()).endsWith(".png");
+        assertThat(issued.imageId()).isEqualTo(10L);
+        assertThat(issued.uploadUrl()).contains(image.getStoredName()).contains("X-Amz-Signature");
+    }
+
+    @Test
+    @DisplayName("직접 업로드된 객체가 선언한 크기와 형식과 일치하면 서버가 지정한 새 경로에 저장되고 이미지가 활성화된다")
+    void completeSessionActivatesImage() {
+        // [Given]
+        byte[] content = TestImages.png(4, 4);
+        Image image = openSession(new ImageUploadSessionReq("cat.png", "image/png", (long) content.length));
+        String uploadedKey = image.getStoredName();
+        storage.putViaPresignedUrl(issued.uploadUrl(), content, "image/png");
+
+        // [When]
+        ImageUploadRes result = service.completeSession(10L, MEMBER_ID);
+
+        // [Then]
+        assertThat(image.getStatus()).isEqualTo(ImageStatus.ACTIVE);
+        assertThat(image.getStoredName()).isNotEqualTo(uploadedKey).endsWith(".png");
+        assertThat(image.getAccessUrl()).isEqualTo(storage.urlOf(image.getStoredName()));
+        assertThat(result.successUrls()).containsExactly(image.getAccessUrl());
+        assertThat(storage.contains(uploadedKey)).isFalse();
+        assertThat(storage.contains(image.getStoredName())).isTrue();
+
+        // 이미 완료된 세션은 같은 결과를 반환한다
+        assertThat(service.completeSession(10L, MEMBER_ID).successUrls()).containsExactly(image.getAccessUrl());
+    }
+
+    @Test
+    @DisplayName("완료 후 Presigned URL 로 다시 업로드해도 서비스 중인 이미지는 바뀌지 않는다")
+    void completeSessionIgnoresOverwriteThroughPresignedUrl() {
+        // [Given]
+        byte[] content = TestImages.png(4, 4);
+        Image image = openSession(new ImageUploadSessionReq("cat.png", "image/png", (long) content.length));
+        storage.putViaPresignedUrl(issued.uploadUrl(), content, "image/png");
+        service.completeSession(10L, MEMBER_ID);
+        byte[] served = storage.read(image.getStoredName(), Integer.MAX_VALUE);
+
+        // [When] 아직 유효한 URL 로 HTML 을 덮어씀
+        storage.putViaPresignedUrl(issued.uploadUrl(), "<html>".getBytes(StandardCharsets.UTF_8), "text/html");
+
+        // [Then]
+        assertThat(storage.read(image.getStoredName(), Integer.MAX_VALUE)).isEqualTo(served);
+        assertThat(issued.uploadUrl()).doesNotContain(image.getStoredName());
+    }
+
+    @Test
+    @DisplayName("직접 업로드된 JPEG 도 메타데이터가 제거된 뒤 저장된다")
+    void completeSessionStripsMetadata() {
+        // [Given] SOI 뒤에 위치 정보를 담은 COM 세그먼트를 끼워 넣은 JPEG
+        byte[] jpeg = TestImages.jpeg(8, 8);
+        byte[] marker = "GPS 37.5665,126.9780".getBytes(StandardCharsets.ISO_8859_1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(0xFF);
+        out.write(0xFE);
+        out.write((marker.length + 2) >> 8);
+        out.write((marker.length + 2) & 0xFF);
+        out.writeBytes(marker);
+        out.write(jpeg, 2, jpeg.length - 2);
+        byte[] content = out.toByteArray();
+
+        Image image = openSession(new ImageUploadSessionReq("cat.jpg", "image/jpeg", (long) content.length));
+        storage.putViaPresignedUrl(issued.uploadUrl(), content, "image/jpeg");
+
+        // [When]
+        service.completeSession(10L, MEMBER_ID);
+
+        // [Then]
+        byte[] stored = storage.read(image.getStoredName(), Integer.MAX_VALUE);
+        assertThat(new String(stored, StandardCharsets.ISO_8859_1)).doesNotContain("GPS");
+        assertThat(image.getSize()).isEqualTo(stored.length);
+    }
+
+    @Test
+    @DisplayName("Presigned URL 이 만료된 세션은 완료할 수 없다")
+    void completeSessionRejectsExpiredSession() {
+        // [Given]
+        byte[] content = TestImages.png(4, 4);
+        Image image = openSession(new ImageUploadSessionReq("cat.png", "image/png", (long) content.length));
+        storage.putViaPresignedUrl(issued.uploadUrl(), content, "image/png");
+        ReflectionTestUtils.setField(image, "createDate", LocalDateTime.now().minusMinutes(11));
+
+        // [When & Then]
+        assertThatThrownBy(() -> service.completeSession(10L, MEMBER_ID))
+                .isInstanceOf(ImageException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ImageErrorCode.UPLOAD_SESSION_EXPIRED);
+        assertThat(image.getStatus()).isEqualTo(ImageStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("업로드 전에 완료를 요청하면 예외가 발생한다")
+    void completeSessionBeforeUpload() {
+        openSession(new ImageUploadSessionReq("cat.png", "image/png", 100L));
+
+        assertThatThrownBy(() -> service.completeSession(10L, MEMBER_ID))
+                .isInstanceOf(ImageException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ImageErrorCode.UPLOAD_NOT_COMPLETED);
+    }
+
+    @Test
+    @DisplayName("업로드된 객체가 선언과 다르면 객체를 삭제하고 예외가 발생한다")
+    void completeSessionRejectsMismatch() {
+        // [Given] 100 바이트 PNG 로 선언하고 실제로는 다른 크기의 JPEG 를 업로드
+        Image image = openSession(new ImageUploadSessionReq("cat.png", "image/png", 100L));
+        storage.putViaPresignedUrl(issued.uploadUrl(), TestImages.jpeg(4, 4), "image/jpeg");
+
+        // [When & Then]
+        assertThatThrownBy(() -> service.completeSession(10L, MEMBER_ID))
+                .isInstanceOf(ImageException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ImageErrorCode.UPLOAD_VERIFICATION_FAILED);
+        assertThat(storage.contains(image.getStoredName())).isFalse();
+        assertThat(image.getStatus()).isEqualTo(ImageStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("크기와 Content-Type 이 선언과 같아도 실제 내용이 선언한 형식이 아니면 객체를 삭제하고 예외가 발생한다")
+    void completeSessionRejectsSignatureMismatch() {
+        // [Given] PNG 로 선언하고 같은 크기·Content-Type 으로 JPEG 를 업로드
+        byte[] content = TestImages.jpeg(4, 4);
+        Image image = openSession(new ImageUploadSessionReq("cat.png", "image/png", (long) content.length));
+        storage.putViaPresignedUrl(issued.uploadUrl(), content, "image/png");
+
+        // [When & Then]
+        assertThatThrownBy(() -> service.completeSession(10L, MEMBER_ID))
+                .isInstanceOf(ImageException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ImageErrorCode.UPLOAD_VERIFICATION_FAILED);
+        assertThat(storage.contains(image.getStoredName())).isFalse();
+        assertThat(image.getStatus()).isEqualTo(ImageStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 내용을 이미지 Content-Type 으로 업로드하면 완료할 수 없다")
+    void completeSessionRejectsNonImageContent() {
+        // [Given]
+        byte[] content = "<script>alert(1)</script>".getBytes(StandardCharsets.UTF_8);
+        Image image = openSession(new ImageUploadSessionReq("cat.gif", "image/gif", (long) content.length));
+        storage.putViaPresignedUrl(issued.uploadUrl(), content, "image/gif");
+
+        // [When & Then]
+        assertThatThrownBy(() -> service.completeSession(10L, MEMBER_ID))
+                .isInstanceOf(ImageException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ImageErrorCode.UPLOAD_VERIFICATION_FAILED);
+        assertThat(storage.contains(image.getStoredName())).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 회원의 업로드 세션은 완료할 수 없다")
+    void completeSessionRejectsOtherMember() {
+        openSession(new ImageUploadSessionReq("cat.png", "image/png", 100L));
+
+        assertThatThrownBy(() -> service.completeSession(10L, 2L))
+                .isInstanceOf(AuthException.class);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식이나 최대 크기를 넘는 세션은 발급하지 않는다")
+    void createSessionValidatesDeclaration() {
+        assertThatThrownBy(() -> service.createSession(
+                new ImageUploadSessionReq("doc.pdf", "application/pdf", 100L), MEMBER_ID))
+                .isInstanceOf(ImageException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ImageErrorCode.INVALID_FILE_EXTENSION);
+
+        assertThatThrownBy(() -> service.createSession(
+                new ImageUploadSessionReq("huge.jpg", "image/jpeg", MAX_SIZE + 1), MEMBER_ID))
+                .isInstanceOf(ImageException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ImageErrorCode.FILE_TOO_LARGE);
+
+        verify(imageRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("만료된 세션은 스토리지 객체와 함께 PENDING 상태인 메타데이터만 정리된다")
+    void reapExpiredSessions() {
+        // [Given]
+        Image abandoned = Image.builder()
+                .storedName("abandoned.png").accessUrl(storage.urlOf("abandoned.png"))
+                .status(ImageStatus.PENDING).build();
+        ReflectionTestUtils.setField(abandoned, "id", 20L);
+        storage.putViaPresignedUrl(storage.presignUpload("abandoned.png", Duration.ofMinutes(1)),
+                TestImages.png(2, 2), "image/png");
+
+        given(imageRepository.findExpiredUploadSessions(any(), any(Pageable.class))).willReturn(List.of(abandoned));
+        given(imageRepository.deletePendingByIdIn(List.of(20L))).willReturn(1);
+
+        // [When]
+        int reaped = service.reapExpiredSessions(LocalDateTime.now());
+
+        // [Then]
+        assertThat(reaped).isEqualTo(1);
+        assertThat(storage.contains("abandoned.png")).isFalse();
+        verify(imageRepository).deletePendingByIdIn(List.of(20L));
+        verify(imageRepository, never()).deleteAllByIdInBatch(any());
+    }
+}
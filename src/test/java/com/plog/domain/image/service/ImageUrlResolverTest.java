@@ -0,0 +1,122 @@
+package com.plog.domain.image.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.plog.domain.image.entity.Image;
+import com.plog.domain.image.repository.ImageRepository;
+import com.plog.global.minio.storage.ObjectStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.plog.global.config.CacheConfig.IMAGE_ID_CACHE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ImageUrlResolverTest {
+
+    private static final String EXTERNAL_URL = "https://cdn.plog.com/team-bucket/a.jpg";
+    private static final String INTERNAL_URL = "http://minio:9000/team-bucket/a.jpg";
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @Mock
+    private ObjectStorage objectStorage;
+
+    private ImageUrlResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(IMAGE_ID_CACHE_NAME, Caffeine.newBuilder().maximumSize(10).build());
+        resolver = new ImageUrlResolver(imageRepository, objectStorage, cacheManager);
+    }
+
+    private Image image(long id, String storedName) {
+        Image image = Image.builder().storedName(storedName).accessUrl(EXTERNAL_URL).build();
+        ReflectionTestUtils.setField(image, "id", id);
+        return image;
+    }
+
+    @Test
+    @DisplayName("처음 조회하는 URL은 저장 키로 조회하고, 이후에는 캐시된 ID로 기본 키 조회한다")
+    void resolveUsesStoredNameThenCachedId() {
+        // [Given]
+        Image image = image(1L, "a.jpg");
+        given(objectStorage.parsePath(EXTERNAL_URL)).willReturn("a.jpg");
+        given(imageRepository.findAllByStoredNameIn(Set.of("a.jpg"))).willReturn(List.of(image));
+        given(imageRepository.findAllById(List.of(1L))).willReturn(List.of(image));
+
+        // [When]
+        assertThat(resolver.resolve(EXTERNAL_URL)).contains(image);
+        assertThat(resolver.resolve(EXTERNAL_URL)).contains(image);
+
+        // [Then]
+        verify(imageRepository, times(1)).findAllByStoredNameIn(anyCollection());
+        verify(imageRepository, times(1)).findAllById(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("내부/외부 엔드포인트 URL이 같은 이미지를 가리키면 모두 같은 이미지로 변환한다")
+    void resolveAllMapsBothEndpoints() {
+        // [Given]
+        Image image = image(1L, "a.jpg");
+        given(objectStorage.parsePath(EXTERNAL_URL)).willReturn("a.jpg");
+        given(objectStorage.parsePath(INTERNAL_URL)).willReturn("a.jpg");
+        given(imageRepository.findAllByStoredNameIn(Set.of("a.jpg"))).willReturn(List.of(image));
+
+        // [When]
+        Map<String, Image> result = resolver.resolveAll(List.of(EXTERNAL_URL, INTERNAL_URL));
+
+        // [Then]
+        assertThat(result).containsExactly(Map.entry(EXTERNAL_URL, image), Map.entry(INTERNAL_URL, image));
+    }
+
+    @Test
+    @DisplayName("저장소 URL이 아닌 외부 이미지 주소는 DB를 조회하지 않고 제외한다")
+    void resolveSkipsForeignUrls() {
+        // [Given]
+        String foreign = "https://example.com/cat.png";
+        given(objectStorage.parsePath(foreign)).willReturn("");
+
+        // [When]
+        Map<String, Image> result = resolver.resolveAll(List.of(foreign));
+
+        // [Then]
+        assertThat(result).isEmpty();
+        verify(imageRepository, never()).findAllByStoredNameIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("캐시된 이미지가 삭제되었다면 캐시를 비우고 저장 키로 다시 조회한다")
+    void resolveFallsBackWhenCachedImageIsGone() {
+        // [Given]
+        Image image = image(1L, "a.jpg");
+        given(objectStorage.parsePath(EXTERNAL_URL)).willReturn("a.jpg");
+        given(imageRepository.findAllByStoredNameIn(Set.of("a.jpg"))).willReturn(List.of(image), List.of());
+        given(imageRepository.findAllById(List.of(1L))).willReturn(List.of());
+
+        resolver.resolve(EXTERNAL_URL);
+
+        // [When]
+        boolean resolved = resolver.resolve(EXTERNAL_URL).isPresent();
+
+        // [Then]
+        assertThat(resolved).isFalse();
+        verify(imageRepository, times(2)).findAllByStoredNameIn(anyCollection());
+    }
+}
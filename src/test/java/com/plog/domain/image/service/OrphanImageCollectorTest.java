@@ -0,0 +1,207 @@
+package com.plog.domain.image.service;
+
+import com.plog.domain.image.entity.Image;
+import com.plog.domain.image.entity.ImageDeletion;
+import com.plog.domain.image.repository.ImageDeletionRepository;
+import com.plog.domain.image.repository.ImageRepository;
+import com.plog.global.exception.errorCode.ImageErrorCode;
+import com.plog.global.exception.exceptions.ImageException;
+import com.plog.global.minio.storage.ObjectStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrphanImageCollectorTest {
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @Mock
+    private ObjectStorage objectStorage;
+
+    @Mock
+    private ImageDeletionRepository imageDeletionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrphanImageCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        collector = new OrphanImageCollector(
+                imageRepository,
+                new ImageObjectDeleter(objectStorage, imageDeletionRepository, transactionManager, 100),
+                transactionManager,
+                Duration.ofHours(24), "2026-01-01T00:00:00", 2, 5, Duration.ZERO);
+    }
+
+    private Image image(long id, String storedName, Long size) {
+        Image image = Image.builder().storedName(storedName).accessUrl("http://minio/bucket/" + storedName).size(size).build();
+        ReflectionTestUtils.setField(image, "id", id);
+        return image;
+    }
+
+    @Test
+    @DisplayName("고아 이미지는 배치 단위로 DB와 스토리지에서 일괄 삭제되고 회수한 용량이 집계된다")
+    void sweepDeletesInBatches() {
+        // [Given]
+        Image a = image(1L, "a.jpg", 100L);
+        Image b = image(2L, "b.jpg", 200L);
+        Image c = image(3L, "c.jpg", null);
+
+        given(imageRepository.findOrphans(any(), any(), any(Pageable.class)))
+                .willReturn(List.of(a, b), List.of(c));
+        given(imageRepository.findOrphanIdsIn(anyCollection()))
+                .willReturn(List.of(1L, 2L), List.of(3L));
+        given(objectStorage.deleteAll(any())).willReturn(List.of());
+
+        // [When]
+        OrphanImageCollector.SweepResult result = collector.sweep(LocalDateTime.now());
+
+        // [Then]
+        assertThat(result.deletedCount()).isEqualTo(3);
+        assertThat(result.failedCount()).isZero();
+        assertThat(result.reclaimedBytes()).isEqualTo(300L);
+
+        verify(imageRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(imageRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(objectStorage).deleteAll(List.of("a.jpg", "b.jpg"));
+        verify(objectStorage).deleteAll(List.of("c.jpg"));
+        verify(imageDeletionRepository).deleteAllByStoredNameIn(List.of("a.jpg", "b.jpg"));
+        verify(imageDeletionRepository).deleteAllByStoredNameIn(List.of("c.jpg"));
+    }
+
+    @Test
+    @DisplayName("조회 이후 다시 참조된 이미지는 삭제하지 않는다")
+    void sweepSkipsReReferencedImages() {
+        // [Given]
+        Image a = image(1L, "a.jpg", 100L);
+        Image b = image(2L, "b.jpg", 200L);
+
+        given(imageRepository.findOrphans(any(), any(), any(Pageable.class)))
+                .willReturn(List.of(a, b), List.of());
+        given(imageRepository.findOrphanIdsIn(anyCollection())).willReturn(List.of(2L));
+        given(objectStorage.deleteAll(any())).willReturn(List.of());
+
+        // [When]
+        OrphanImageCollector.SweepResult result = collector.sweep(LocalDateTime.now());
+
+        // [Then]
+        assertThat(result.deletedCount()).isEqualTo(1);
+        assertThat(result.reclaimedBytes()).isEqualTo(200L);
+        verify(imageRepository).deleteAllByIdInBatch(List.of(2L));
+        verify(objectStorage).deleteAll(List.of("b.jpg"));
+    }
+
+    @Test
+    @DisplayName("재확인과 삭제 사이에 다시 참조되어 외래 키 제약에 걸린 배치는 건너뛰고 다음 배치를 계속 정리한다")
+    void sweepContinuesAfterForeignKeyViolation() {
+        // [Given] 첫 배치의 a.jpg 가 재확인 직후 게시글에 사용됨
+        Image a = image(1L, "a.jpg", 100L);
+        Image b = image(2L, "b.jpg", 200L);
+
+        given(imageRepository.findOrphans(any(), any(), any(Pageable.class)))
+                .willReturn(List.of(a, b), List.of(b));
+        given(imageRepository.findOrphanIdsIn(anyCollection()))
+                .willReturn(List.of(1L, 2L), List.of(2L));
+        willThrow(new DataIntegrityViolationException("fk_post_image_image"))
+                .given(imageRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        given(objectStorage.deleteAll(any())).willReturn(List.of());
+
+        // [When]
+        OrphanImageCollector.SweepResult result = collector.sweep(LocalDateTime.now());
+
+        // [Then]
+        assertThat(result.deletedCount()).isEqualTo(1);
+        assertThat(result.reclaimedBytes()).isEqualTo(200L);
+        verify(imageRepository).deleteAllByIdInBatch(List.of(2L));
+        verify(objectStorage, never()).deleteAll(List.of("a.jpg", "b.jpg"));
+        verify(objectStorage).deleteAll(List.of("b.jpg"));
+    }
+
+    @Test
+    @DisplayName("스토리지 삭제에 실패한 이미지는 실패 건으로 집계되고, 삭제 기록이 남아 다시 삭제할 수 있다")
+    void sweepKeepsStorageFailuresForRetry() {
+        // [Given]
+        Image a = image(1L, "a.jpg", 100L);
+        Image b = image(2L, "b.jpg", 200L);
+
+        given(imageRepository.findOrphans(any(), any(), any(Pageable.class))).willReturn(List.of(a, b), List.of());
+        given(imageRepository.findOrphanIdsIn(anyCollection())).willReturn(List.of(1L, 2L));
+        given(objectStorage.deleteAll(any())).willReturn(List.of("a.jpg"));
+
+        // [When]
+        OrphanImageCollector.SweepResult result = collector.sweep(LocalDateTime.now());
+
+        // [Then] 메타데이터와 함께 두 파일의 삭제 기록이 저장되고, 삭제가 확인된 b.jpg 의 기록만 지워짐
+        assertThat(result.deletedCount()).isEqualTo(1);
+        assertThat(result.failedCount()).isEqualTo(1);
+        assertThat(result.reclaimedBytes()).isEqualTo(200L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ImageDeletion>> recordCaptor = ArgumentCaptor.forClass(List.class);
+        verify(imageDeletionRepository).saveAll(recordCaptor.capture());
+        assertThat(recordCaptor.getValue()).extracting(ImageDeletion::getStoredName).containsExactly("a.jpg", "b.jpg");
+        verify(imageDeletionRepository).deleteAllByStoredNameIn(List.of("b.jpg"));
+    }
+
+    @Test
+    @DisplayName("스토리지 요청 자체가 실패하면 모든 파일의 삭제 기록을 남긴다")
+    void sweepKeepsAllRecordsWhenStorageIsDown() {
+        // [Given]
+        Image a = image(1L, "a.jpg", 100L);
+
+        given(imageRepository.findOrphans(any(), any(), any(Pageable.class))).willReturn(List.of(a));
+        given(imageRepository.findOrphanIdsIn(anyCollection())).willReturn(List.of(1L));
+        given(objectStorage.deleteAll(any())).willThrow(new ImageException(ImageErrorCode.IMAGE_DELETE_FAILED, "down"));
+
+        // [When]
+        OrphanImageCollector.SweepResult result = collector.sweep(LocalDateTime.now());
+
+        // [Then]
+        assertThat(result.deletedCount()).isZero();
+        assertThat(result.failedCount()).isEqualTo(1);
+        assertThat(result.reclaimedBytes()).isZero();
+        verify(imageDeletionRepository).saveAll(any());
+        verify(imageDeletionRepository, never()).deleteAllByStoredNameIn(any());
+    }
+
+    @Test
+    @DisplayName("한 번의 실행에서는 설정된 최대 배치 수까지만 처리한다")
+    void sweepStopsAtMaxBatches() {
+        // [Given]
+        given(imageRepository.findOrphans(any(), any(), any(Pageable.class)))
+                .willAnswer(invocation -> List.of(image(1L, "a.jpg", 1L), image(2L, "b.jpg", 1L)));
+        given(imageRepository.findOrphanIdsIn(anyCollection())).willReturn(List.of());
+
+        // [When]
+        collector.sweep(LocalDateTime.now());
+
+        // [Then]
+        verify(imageRepository, times(5)).findOrphans(any(), any(), any(Pageable.class));
+        verify(imageRepository, never()).deleteAllByIdInBatch(any());
+    }
+}
@@ -5,6 +5,7 @@ import com.plog.domain.image.entity.Image;
 import com.plog.domain.image.repository.ImageRepository;
 import com.plog.domain.member.entity.Member;
 import com.plog.domain.member.repository.MemberRepository;
+import com.plog.domain.post.service.FeedVersion;
 import com.plog.global.exception.errorCode.ImageErrorCode;
 import com.plog.global.exception.exceptions.ImageException;
 import com.plog.global.minio.storage.ObjectStorage;
@@ -14,7 +15,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.plog.testUtil.TestImages;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -25,6 +30,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
@@ -60,17 +67,23 @@ class ProfileImageServiceTest {
     @Mock
     private ObjectStorage objectStorage;
 
+    @Mock
+    private FeedVersion feedVersion;
+
+    @Spy
+    private ImageProcessor imageProcessor = new ImageProcessor(true, 2048, 0.82f, 9, new SimpleMeterRegistry());
+
     @Test
     @DisplayName("프로필 이미지 업로드 시 기존 이미지가 없으면 바로 저장된다")
     void uploadProfileImageSuccess_New() {
         // [Given]
         Long memberId = 1L;
         Member member = createMember(memberId);
-        MockMultipartFile file = new MockMultipartFile("file", "test.jpg", "image/jpeg", "data".getBytes());
+        MockMultipartFile file = new MockMultipartFile("file", "test.jpg", "image/jpeg", TestImages.jpeg(4, 4));
         String mockUrl = "http://minio/profile.jpg";
 
         given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
-        given(objectStorage.upload(any(MultipartFile.class), any(String.class))).willReturn(mockUrl);
+        given(objectStorage.upload(any(InputStreamSource.class), anyLong(), anyString(), anyString())).willReturn(mockUrl);
 
         // [When]
         ProfileImageUploadRes result = profileImageService.uploadProfileImage(memberId, file);
@@ -92,10 +105,10 @@ class ProfileImageServiceTest {
         Image oldImage = Image.builder().storedName("old/path.jpg").build();
         member.updateProfileImage(oldImage);
 
-        MockMultipartFile newFile = new MockMultipartFile("file", "new.jpg", "image/jpeg", "newdata".getBytes());
+        MockMultipartFile newFile = new MockMultipartFile("file", "new.jpg", "image/jpeg", TestImages.jpeg(4, 4));
 
         given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
-        given(objectStorage.upload(any(), any())).willReturn("http://new-url");
+        given(objectStorage.upload(any(), anyLong(), any(), any())).willReturn("http://new-url");
 
         // [When]
         profileImageService.uploadProfileImage(memberId, newFile);
@@ -106,7 +119,7 @@ class ProfileImageServiceTest {
         verify(imageRepository).delete(eq(oldImage));
 
         // 2. 새 파일 업로드 호출 검증
-        verify(objectStorage).upload(any(), any());
+        verify(objectStorage).upload(any(), anyLong(), any(), any());
     }
 
     @Test
@@ -115,17 +128,17 @@ class ProfileImageServiceTest {
         // [Given]
         Long memberId = 99L;
         Member member = createMember(memberId);
-        MockMultipartFile file = new MockMultipartFile("file", "avatar.png", "image/png", "data".getBytes());
+        MockMultipartFile file = new MockMultipartFile("file", "avatar.png", "image/png", TestImages.png(4, 4));
 
         given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
-        given(objectStorage.upload(any(), any())).willReturn("url");
+        given(objectStorage.upload(any(), anyLong(), any(), any())).willReturn("url");
 
         // [When]
         profileImageService.uploadProfileImage(memberId, file);
 
         // [Then]
         ArgumentCaptor<String> pathCaptor = ArgumentCaptor.forClass(String.class);
-        verify(objectStorage).upload(any(), pathCaptor.capture());
+        verify(objectStorage).upload(any(), anyLong(), any(), pathCaptor.capture());
 
         String capturedPath = pathCaptor.getValue();
         assertThat(capturedPath).contains("profile/image/" + memberId + "/");
@@ -176,13 +189,13 @@ class ProfileImageServiceTest {
     void shouldDeleteFile_WhenTransactionRollback() {
         // given
         Long memberId = 1L;
-        MockMultipartFile file = new MockMultipartFile("file", "test.jpg", "image/jpeg", "test data".getBytes());
+        MockMultipartFile file = new MockMultipartFile("file", "test.jpg", "image/jpeg", TestImages.jpeg(4, 4));
 
         Member member = Member.builder().build();
         org.springframework.test.util.ReflectionTestUtils.setField(member, "id", memberId);
 
         given(memberRepository.findById(memberId)).willReturn(java.util.Optional.of(member));
-        given(objectStorage.upload(any(), any())).willReturn("https://minio.url/test.jpg");
+        given(objectStorage.upload(any(), anyLong(), any(), any())).willReturn("https://minio.url/test.jpg");
 
         given(imageRepository.save(any())).willThrow(new RuntimeException("DB Error"));
 
@@ -192,6 +205,6 @@ class ProfileImageServiceTest {
 
         }
 
-        verify(objectStorage, times(1)).upload(any(), any());
+        verify(objectStorage, times(1)).upload(any(), anyLong(), any(), any());
     }
 }
\ No newline at end of file
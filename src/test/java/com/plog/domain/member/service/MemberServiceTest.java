@@ -4,6 +4,7 @@ import com.plog.domain.member.dto.MemberInfoRes;
 import com.plog.domain.member.dto.MemberUpdaterReq;
 import com.plog.domain.member.entity.Member;
 import com.plog.domain.member.repository.MemberRepository;
+import com.plog.domain.post.service.FeedVersion;
 import com.plog.global.exception.errorCode.AuthErrorCode;
 import com.plog.global.exception.exceptions.AuthException;
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,9 @@ class MemberServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private FeedVersion feedVersion;
+
     @Mock
     private Member member;
 
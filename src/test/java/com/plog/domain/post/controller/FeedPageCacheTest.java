@@ -0,0 +1,84 @@
+package com.plog.domain.post.controller;
+
+import com.plog.domain.post.dto.ContentVersion;
+import com.plog.domain.post.service.PostService;
+import com.plog.global.response.SliceRes;
+import com.plog.testUtil.PinnedThreadRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FeedPageCacheTest {
+
+    private static final ContentVersion FEED_VERSION = new ContentVersion("W/\"feed-1\"", -1);
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private FeedPageCache feedPageCache;
+
+    @AfterEach
+    void tearDown() {
+        if (feedPageCache != null) {
+            feedPageCache.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드에서 여러 요청이 처음 만들어지는 페이지를 기다려도 캐리어 스레드에 고정되지 않는다")
+    void firstLoadDoesNotPinVirtualThreads() throws Exception {
+        // [Given] 목록 조회가 DB 대기처럼 오래 걸림
+        given(postService.getFeedVersion()).willReturn(FEED_VERSION);
+        given(postService.getPosts(any(Pageable.class))).willAnswer(invocation -> {
+            Thread.sleep(100);
+            return new SliceRes<>(List.of(), false, null);
+        });
+        feedPageCache = new FeedPageCache(postService, JsonMapper.builder().build(), meterRegistry,
+                5, Duration.ofMinutes(1), true);
+
+        // [When]
+        List<FeedPageCache.FeedPage> pages = new ArrayList<>();
+        List<String> pinned = PinnedThreadRecorder.record(() -> {
+            try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<FeedPageCache.FeedPage>> futures = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    futures.add(requests.submit(() -> feedPageCache.get(0)));
+                }
+                for (Future<FeedPageCache.FeedPage> future : futures) {
+                    pages.add(future.get());
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // [Then]
+        assertThat(pinned).isEmpty();
+        assertThat(pages).hasSize(8).allSatisfy(page -> assertThat(page.eTag()).isEqualTo(FEED_VERSION.eTag()));
+        verify(postService, times(1)).getPosts(any(Pageable.class));
+    }
+}
@@ -1,19 +1,22 @@
 package com.plog.domain.post.controller;
 
-import com.plog.domain.comment.dto.CommentInfoRes;
 import com.plog.domain.member.entity.Member;
+import com.plog.domain.post.dto.ContentVersion;
 import com.plog.domain.post.dto.PostCreateReq;
 import com.plog.domain.post.dto.PostInfoRes;
 import com.plog.domain.post.dto.PostListRes;
 import com.plog.domain.post.dto.PostUpdateReq;
 import com.plog.domain.post.entity.Post;
 import com.plog.domain.post.service.PostService;
+import com.plog.global.response.SliceRes;
 import com.plog.global.security.*;
 import com.plog.testUtil.SecurityTestConfig;
 import com.plog.testUtil.WebMvcTestSupport;
 import com.plog.testUtil.WithCustomMockUser;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
@@ -23,13 +26,15 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -40,13 +45,26 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * JPA, Repository, Service 빈은 로드되지 않으며, MockitoBean을 통해 주입합니다.
  */
 @WebMvcTest(PostController.class)
-@Import(SecurityTestConfig.class)
+@Import({SecurityTestConfig.class, FeedPageCache.class})
 @ActiveProfiles("test")
 class PostControllerTest extends WebMvcTestSupport {
 
+    private static final ContentVersion POST_VERSION = new ContentVersion("W/\"post-1\"", 1_760_000_000_000L);
+    private static final ContentVersion FEED_VERSION = new ContentVersion("W/\"feed-1\"", -1);
+
     @MockitoBean
     private PostService postService;
 
+    @Autowired
+    private FeedPageCache feedPageCache;
+
+    @BeforeEach
+    void stubVersions() {
+        given(postService.getPostVersion(anyLong())).willReturn(POST_VERSION);
+        given(postService.getFeedVersion()).willReturn(FEED_VERSION);
+        feedPageCache.invalidateAll();
+    }
+
     @Test
     @DisplayName("게시글 생성 시 인증된 사용자가 요청하면 성공한다")
     @WithCustomMockUser
@@ -79,8 +97,6 @@ class PostControllerTest extends WebMvcTestSupport {
                 .member(author)
                 .build();
 
-        Slice<CommentInfoRes> mockComments = new SliceImpl<>(Collections.emptyList());
-
         given(postService.getPostDetail(anyLong(), anyInt())).willReturn(PostInfoRes.from(mockPost));
 
         // [When]
@@ -93,11 +109,129 @@ class PostControllerTest extends WebMvcTestSupport {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("success"))
                 .andExpect(jsonPath("$.data.title").value("조회 제목"))
-                .andExpect(jsonPath("$.message").value("게시글 조회 성공"));
+                .andExpect(jsonPath("$.message").value("게시글 조회 성공"))
+                .andExpect(header().string("ETag", POST_VERSION.eTag()))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(header().string("Cache-Control", "no-cache, public"));
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회 시 If-None-Match 가 현재 버전과 같으면 본문을 조회하지 않고 304를 반환한다")
+    void getPostNotModified() throws Exception {
+        // [When]
+        ResultActions resultActions = mockMvc
+                .perform(get("/api/posts/1").header("If-None-Match", POST_VERSION.eTag()))
+                .andDo(print());
+
+        // [Then]
+        resultActions
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", POST_VERSION.eTag()))
+                .andExpect(header().string("Cache-Control", "no-cache, public"))
+                .andExpect(content().string(""));
+        verify(postService, never()).getPostDetail(anyLong(), anyInt());
+        verify(postService).increaseViewCount(1L);
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회 시 If-None-Match 가 이전 버전이면 본문을 조회하여 200을 반환한다")
+    void getPostModified() throws Exception {
+        // [Given]
+        Member author = new Member("email", "password", "nickname", null);
+        Post post = Post.builder().title("조회 제목").content("조회 본문").member(author).build();
+        given(postService.getPostDetail(anyLong(), anyInt())).willReturn(PostInfoRes.from(post));
+
+        // [When]
+        ResultActions resultActions = mockMvc
+                .perform(get("/api/posts/1").header("If-None-Match", "W/\"post-0\""))
+                .andDo(print());
+
+        // [Then]
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", POST_VERSION.eTag()));
+        verify(postService, never()).increaseViewCount(anyLong());
     }
 
     @Test
-    @DisplayName("게시글 목록 조회 시 페이징 처리된 Slice 리스트를 반환한다")
+    @DisplayName("게시글 목록 조회 시 If-None-Match 가 현재 목록 버전과 같으면 목록을 조회하지 않고 304를 반환한다")
+    void getPostsNotModified() throws Exception {
+        // [When] 캐시 대상이 아닌 페이지
+        ResultActions resultActions = mockMvc
+                .perform(get("/api/posts").param("page", "20").header("If-None-Match", FEED_VERSION.eTag()))
+                .andDo(print());
+
+        // [Then]
+        resultActions
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", FEED_VERSION.eTag()));
+        verify(postService, never()).getPosts(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("기본 정렬의 첫 페이지는 한 번만 조회하고, 이후에는 캐시된 응답과 ETag 로 응답한다")
+    void getPostsFromFeedPageCache() throws Exception {
+        // [Given]
+        Member author = new Member("email", "password", "nickname", null);
+        Post post = Post.builder().title("제목1").content("내용1").member(author).build();
+        given(postService.getPosts(any(Pageable.class))).willReturn(
+                new SliceRes<>(List.of(PostListRes.from(post)), true, 1L));
+
+        // [When]
+        mockMvc.perform(get("/api/posts")).andExpect(status().isOk());
+        ResultActions cached = mockMvc.perform(get("/api/posts").param("page", "0").param("size", "10"))
+                .andDo(print());
+        ResultActions notModified = mockMvc.perform(get("/api/posts").header("If-None-Match", FEED_VERSION.eTag()));
+
+        // [Then]
+        cached
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data.items[0].title").value("제목1"))
+                .andExpect(jsonPath("$.data.nextCursor").value(1))
+                .andExpect(jsonPath("$.message").value("게시글 목록 조회 성공"))
+                .andExpect(header().string("ETag", FEED_VERSION.eTag()))
+                .andExpect(header().string("Cache-Control", "no-cache, public"));
+        notModified.andExpect(status().isNotModified());
+        verify(postService, times(1)).getPosts(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createDate")));
+    }
+
+    @Test
+    @DisplayName("목록 버전이 바뀌면 이전 페이지를 이전 ETag 로 응답하면서 백그라운드에서 다시 만든다")
+    void getPostsStaleWhileRevalidate() throws Exception {
+        // [Given]
+        Member author = new Member("email", "password", "nickname", null);
+        Post before = Post.builder().title("이전 글").content("내용").member(author).build();
+        Post after = Post.builder().title("새 글").content("내용").member(author).build();
+        given(postService.getPosts(any(Pageable.class)))
+                .willReturn(new SliceRes<>(List.of(PostListRes.from(before)), false, null))
+                .willReturn(new SliceRes<>(List.of(PostListRes.from(after)), false, null));
+        mockMvc.perform(get("/api/posts")).andExpect(status().isOk());
+
+        ContentVersion changed = new ContentVersion("W/\"feed-2\"", -1);
+        given(postService.getFeedVersion()).willReturn(changed);
+
+        // [When] 바뀐 뒤 첫 요청은 기다리지 않고 이전 응답을 받음
+        mockMvc.perform(get("/api/posts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].title").value("이전 글"))
+                .andExpect(header().string("ETag", FEED_VERSION.eTag()));
+
+        // [Then] 백그라운드에서 다시 만든 뒤에는 새 응답과 새 ETag
+        verify(postService, timeout(5_000).times(2)).getPosts(any(Pageable.class));
+        String eTag = FEED_VERSION.eTag();
+        for (int i = 0; i < 50 && !changed.eTag().equals(eTag); i++) {
+            Thread.sleep(100);
+            eTag = mockMvc.perform(get("/api/posts")).andReturn().getResponse().getHeader("ETag");
+        }
+        mockMvc.perform(get("/api/posts"))
+                .andExpect(jsonPath("$.data.items[0].title").value("새 글"))
+                .andExpect(header().string("ETag", changed.eTag()));
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 시 항목과 다음 페이지 정보만 담은 목록을 반환한다")
     void getPostsSuccess() throws Exception {
         // [Given]
         Member author = new Member("email", "password", "nickname", null);
@@ -105,11 +239,11 @@ class PostControllerTest extends WebMvcTestSupport {
         Post post1 = Post.builder().title("제목1").content("내용1").member(author).build();
         Post post2 = Post.builder().title("제목2").content("내용2").member(author).build();
 
-        Slice<PostListRes> sliceResponse = new SliceImpl<>(
+        SliceRes<PostListRes> sliceResponse = SliceRes.from(new SliceImpl<>(
                 List.of(PostListRes.from(post2), PostListRes.from(post1)),
                 pageable,
-                false // 다음 페이지가 없다고 가정
-        );
+                true // 다음 페이지가 있다고 가정
+        ));
 
         given(postService.getPosts(any(Pageable.class))).willReturn(sliceResponse);
 
@@ -125,11 +259,14 @@ class PostControllerTest extends WebMvcTestSupport {
         resultActions
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("success"))
-                .andExpect(jsonPath("$.data.content").isArray())
-                .andExpect(jsonPath("$.data.content[0].title").value("제목2"))
-                .andExpect(jsonPath("$.data.content[1].title").value("제목1"))
-                .andExpect(jsonPath("$.data.number").value(0))
-                .andExpect(jsonPath("$.data.last").value(true))
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items[0].title").value("제목2"))
+                .andExpect(jsonPath("$.data.items[1].title").value("제목1"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value(1))
+                .andExpect(jsonPath("$.data.pageable").doesNotExist())
+                .andExpect(header().string("ETag", FEED_VERSION.eTag()))
+                .andExpect(jsonPath("$.data.sort").doesNotExist())
                 .andExpect(jsonPath("$.message").value("게시글 목록 조회 성공"));
     }
 
@@ -171,7 +308,7 @@ class PostControllerTest extends WebMvcTestSupport {
     }
 
     @Test
-    @DisplayName("특정 회원의 게시글 목록 조회 시 Slice 구조와 상세 DTO 필드들이 JSON에 포함되어야 한다")
+    @DisplayName("특정 회원의 게시글 목록 조회 시 목록 구조와 상세 DTO 필드들이 JSON에 포함되어야 한다")
     void getPostsByMemberApiSuccess() throws Exception {
         // [Given]
         Long memberId = 1L;
@@ -184,7 +321,7 @@ class PostControllerTest extends WebMvcTestSupport {
         );
 
         // SliceImpl을 사용하여 서비스 반환값 모킹 (데이터 1개, 다음 페이지 없음)
-        Slice<PostInfoRes> sliceResponse = new SliceImpl<>(List.of(res), pageable, false);
+        SliceRes<PostInfoRes> sliceResponse = SliceRes.from(new SliceImpl<>(List.of(res), pageable, false));
 
         // 서비스 메서드 호출 시 Pageable 파라미터를 포함하도록 설정
         given(postService.getPostsByMember(eq(memberId), any(Pageable.class)))
@@ -202,17 +339,17 @@ class PostControllerTest extends WebMvcTestSupport {
         resultActions
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("success"))
-                // Slice 구조에서는 데이터가 'content' 필드 안에 배열로 들어갑니다.
-                .andExpect(jsonPath("$.data.content").isArray())
-                .andExpect(jsonPath("$.data.content[0].id").value(100))
-                .andExpect(jsonPath("$.data.content[0].title").value("제목"))
-                .andExpect(jsonPath("$.data.content[0].content").value("본문"))
-                .andExpect(jsonPath("$.data.content[0].viewCount").value(5))
-                .andExpect(jsonPath("$.data.content[0].createDate").exists())
-                .andExpect(jsonPath("$.data.content[0].modifyDate").exists())
-                // Slice 메타데이터 검증 (다음 페이지 여부 등)
-                .andExpect(jsonPath("$.data.last").value(true))
-                .andExpect(jsonPath("$.data.first").value(true))
+                // 목록 데이터는 'items' 필드 안에 배열로 들어갑니다.
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items[0].id").value(100))
+                .andExpect(jsonPath("$.data.items[0].title").value("제목"))
+                .andExpect(jsonPath("$.data.items[0].content").value("본문"))
+                .andExpect(jsonPath("$.data.items[0].viewCount").value(5))
+                .andExpect(jsonPath("$.data.items[0].createDate").exists())
+                .andExpect(jsonPath("$.data.items[0].modifyDate").exists())
+                // 다음 페이지 정보 검증
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andExpect(jsonPath("$.data.nextCursor").isEmpty())
                 .andExpect(jsonPath("$.message").value("사용자 게시글 목록 조회 성공"));
 
         // 서비스 계층으로 정확한 인자가 전달되었는지 확인합니다.
@@ -0,0 +1,91 @@
+package com.plog.domain.post.service;
+
+import com.plog.domain.post.dto.ContentVersion;
+import com.plog.domain.post.dto.FeedVersionView;
+import com.plog.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FeedVersionTest {
+
+    private static final LocalDateTime MODIFIED = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    @Mock
+    private PostRepository postRepository;
+
+    private static FeedVersionView view(long postCount) {
+        return new FeedVersionView() {
+            @Override
+            public long getPostCount() {
+                return postCount;
+            }
+
+            @Override
+            public Long getPostMaxId() {
+                return 100L;
+            }
+
+            @Override
+            public LocalDateTime getPostModifyDate() {
+                return MODIFIED;
+            }
+
+            @Override
+            public Long getHashTagMaxId() {
+                return null;
+            }
+
+            @Override
+            public LocalDateTime getAuthorModifyDate() {
+                return MODIFIED;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("계산한 버전은 유효 시간 동안 재사용하고, 커밋 후 갱신 요청이 오면 다시 계산한다")
+    void reusesVersionUntilRefreshed() {
+        // [Given]
+        FeedVersion feedVersion = new FeedVersion(postRepository, Duration.ofMinutes(1));
+        given(postRepository.findFeedVersion()).willReturn(view(3), view(2));
+
+        // [When]
+        ContentVersion first = feedVersion.current();
+        ContentVersion cached = feedVersion.current();
+        feedVersion.refreshAfterCommit();
+        ContentVersion refreshed = feedVersion.current();
+
+        // [Then] 게시글 수만 달라도 ETag 가 바뀜
+        assertThat(cached).isEqualTo(first);
+        assertThat(refreshed.eTag()).isNotEqualTo(first.eTag()).startsWith("W/\"feed-");
+        assertThat(refreshed.lastModified()).isEqualTo(-1);
+        verify(postRepository, times(2)).findFeedVersion();
+    }
+
+    @Test
+    @DisplayName("유효 시간이 지나면 다른 인스턴스의 변경을 반영하도록 다시 계산한다")
+    void reloadsAfterTtl() {
+        // [Given]
+        FeedVersion feedVersion = new FeedVersion(postRepository, Duration.ZERO);
+        given(postRepository.findFeedVersion()).willReturn(view(3), view(2));
+
+        // [When]
+        ContentVersion first = feedVersion.current();
+        ContentVersion second = feedVersion.current();
+
+        // [Then]
+        assertThat(second.eTag()).isNotEqualTo(first.eTag());
+    }
+}
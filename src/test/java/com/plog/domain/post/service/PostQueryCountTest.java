@@ -0,0 +1,175 @@
+package com.plog.domain.post.service;
+
+import com.plog.domain.comment.entity.Comment;
+import com.plog.domain.member.entity.Member;
+import com.plog.domain.post.dto.ContentVersion;
+import com.plog.domain.post.dto.PostCreateReq;
+import com.plog.domain.post.dto.PostInfoRes;
+import com.plog.domain.post.dto.PostListRes;
+import com.plog.domain.post.entity.Post;
+import com.plog.global.minio.storage.ObjectStorage;
+import com.plog.global.response.SliceRes;
+import com.plog.testUtil.QueryCountTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostQueryCountTest extends QueryCountTestSupport {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private ObjectStorage objectStorage;
+
+    @Autowired
+    private FeedVersion feedVersion;
+
+    @ParameterizedTest(name = "댓글 {0}개")
+    @ValueSource(ints = {1, 10, 30})
+    @DisplayName("게시글 상세 조회는 댓글 수와 관계없이 일정한 수의 쿼리로 처리된다")
+    void getPostDetailQueryCount(int commentCount) {
+        // [Given]
+        Member author = memberWithProfileImage(objectStorage.urlOf("author.png"));
+        Post post = post(author, "spring", "jpa");
+        for (int i = 0; i < commentCount; i++) {
+            Member commenter = memberWithProfileImage(objectStorage.urlOf("commenter-" + i + ".png"));
+            Comment parent = comment(post, commenter, null);
+            for (int j = 0; j < 7; j++) {
+                comment(post, member(), parent);
+            }
+        }
+
+        // [When]
+        AtomicReference<PostInfoRes> result = new AtomicReference<>();
+        List<String> queries = recordQueries(() -> result.set(postService.getPostDetail(post.getId(), 0)));
+
+        // [Then]
+        // 게시글(작성자, 태그 포함) 1 + 댓글 1 + 대댓글 미리보기 ID 1 + 대댓글 1 + 조회수 UPDATE 1
+        assertQueryCountAtMost(queries, 5);
+        assertThat(result.get().comments().items())
+                .allSatisfy(comment -> {
+                    assertThat(comment.previewReplies().items()).hasSize(5);
+                    assertThat(comment.previewReplies().hasNext()).isTrue();
+                });
+    }
+
+    @Test
+    @DisplayName("게시글 버전은 한 번의 쿼리로 조회되며, 조회수 증가로는 바뀌지 않고 댓글 작성으로 바뀐다")
+    void getPostVersionQueryCount() {
+        // [Given]
+        Post post = post(member(), "spring", "jpa");
+        comment(post, member(), null);
+
+        // [When]
+        AtomicReference<ContentVersion> initial = new AtomicReference<>();
+        List<String> queries = recordQueries(() -> initial.set(postService.getPostVersion(post.getId())));
+
+        postService.getPostDetail(post.getId(), 0);
+        em.flush();
+        em.clear();
+        ContentVersion afterView = postService.getPostVersion(post.getId());
+
+        comment(em.find(Post.class, post.getId()), member(), null);
+        em.flush();
+        ContentVersion afterComment = postService.getPostVersion(post.getId());
+
+        // [Then]
+        assertQueryCountAtMost(queries, 1);
+        assertThat(afterView).isEqualTo(initial.get());
+        assertThat(afterComment.eTag()).isNotEqualTo(initial.get().eTag());
+        assertThat(afterComment.lastModified()).isGreaterThanOrEqualTo(initial.get().lastModified());
+    }
+
+    @ParameterizedTest(name = "게시글 {0}개")
+    @ValueSource(ints = {1, 10, 30})
+    @DisplayName("게시글 목록 조회는 게시글 수와 관계없이 일정한 수의 쿼리로 처리된다")
+    void getPostsQueryCount(int postCount) {
+        // [Given]
+        for (int i = 0; i < postCount; i++) {
+            post(memberWithProfileImage(objectStorage.urlOf("profile-" + i + ".png")), "tag-" + i, "common");
+        }
+
+        // [When]
+        AtomicReference<SliceRes<PostListRes>> result = new AtomicReference<>();
+        List<String> queries = recordQueries(() -> result.set(postService.getPosts(
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createDate")))));
+
+        // [Then]
+        // 게시글(작성자, 프로필 이미지 포함) 1 + 해시태그 배치 로딩 1
+        assertQueryCountAtMost(queries, 2);
+        assertThat(result.get().items())
+                .hasSize(Math.min(postCount, 20))
+                .allSatisfy(post -> {
+                    assertThat(post.hashtags()).hasSize(2);
+                    assertThat(post.profileImage()).isNotNull();
+                });
+    }
+
+    @Test
+    @DisplayName("게시글 작성 시 해시태그와 이미지는 태그마다 조회하지 않고 한 번에 조회한다")
+    void createPostQueryCount() {
+        // [Given]
+        Member author = member();
+        String imageA = objectStorage.urlOf("a.png");
+        String imageB = objectStorage.urlOf("b.png");
+        image(author, "a.png", imageA);
+        image(author, "b.png", imageB);
+        post(author, "spring");
+
+        PostCreateReq request = new PostCreateReq(
+                "제목",
+                "![a](" + imageA + ")\n<img src=\"" + imageB + "\">",
+                List.of("Spring", "JPA", "query count", "spring"),
+                null);
+
+        // [When]
+        List<String> queries = recordQueries(() -> postService.createPost(author.getId(), request));
+
+        // [Then]
+        // 해시태그 조회 1 + 이미지 조회 1 + 테이블별 배치 INSERT 4 (게시글, 해시태그, 게시글-해시태그, 게시글-이미지)
+        // + ID 블록 할당 최대 4 (엔티티별 시퀀스 블록을 처음 쓰거나 모두 소진했을 때만)
+        assertQueryCountAtMost(queries, 10);
+        assertThat(queries).filteredOn(sql -> sql.contains("insert into")).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("게시글 목록 버전은 한 번의 집계 쿼리로 계산되며, 서비스를 거치지 않은 게시글 삭제와 작성자 변경에도 바뀐다")
+    void feedVersionQueryCount() {
+        // [Given]
+        Member author = member();
+        post(author, "spring");
+        Post older = post(author, "jpa");
+        post(author, "spring");
+
+        // [When]
+        AtomicReference<ContentVersion> initial = new AtomicReference<>();
+        List<String> queries = recordQueries(() -> initial.set(feedVersion.load()));
+
+        // 가장 최근이 아닌 게시글을 직접 삭제 (최대 ID·최종 수정 시각은 그대로)
+        em.createQuery("delete from PostHashTag t where t.post.id = :id").setParameter("id", older.getId()).executeUpdate();
+        em.createQuery("delete from Post p where p.id = :id").setParameter("id", older.getId()).executeUpdate();
+        ContentVersion afterDelete = feedVersion.load();
+
+        em.createQuery("update Member m set m.modifyDate = :now where m.id = :id")
+                .setParameter("now", LocalDateTime.now().plusMinutes(1))
+                .setParameter("id", author.getId())
+                .executeUpdate();
+        ContentVersion afterAuthorChange = feedVersion.load();
+
+        // [Then]
+        assertQueryCountAtMost(queries, 1);
+        assertThat(afterDelete.eTag()).isNotEqualTo(initial.get().eTag());
+        assertThat(afterAuthorChange.eTag()).isNotEqualTo(afterDelete.eTag());
+    }
+}
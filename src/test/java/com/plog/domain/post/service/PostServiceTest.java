@@ -2,6 +2,10 @@ package com.plog.domain.post.service;
 
 import com.plog.domain.comment.repository.CommentRepository;
 import com.plog.domain.hashtag.repository.PostHashTagRepository;
+import com.plog.domain.image.entity.Image;
+import com.plog.domain.image.entity.PostImage;
+import com.plog.domain.image.repository.PostImageRepository;
+import com.plog.domain.image.service.ImageUrlResolver;
 import com.plog.domain.member.entity.Member;
 import com.plog.domain.member.repository.MemberRepository;
 import com.plog.domain.post.dto.PostCreateReq;
@@ -12,6 +16,7 @@ import com.plog.domain.post.entity.Post;
 import com.plog.domain.post.repository.PostRepository;
 import com.plog.global.exception.exceptions.AuthException;
 import com.plog.global.exception.exceptions.PostException;
+import com.plog.global.response.SliceRes;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,8 +27,10 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
+import java.util.Map;
 
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -51,6 +58,15 @@ public class PostServiceTest {
     @Mock
     private PostHashTagRepository postHashTagRepository;
 
+    @Mock
+    private ImageUrlResolver imageUrlResolver;
+
+    @Mock
+    private PostImageRepository postImageRepository;
+
+    @Mock
+    private FeedVersion feedVersion;
+
     @Test
     @DisplayName("게시글 저장 시 마크다운이 제거된 요약글이 자동 생성")
     void createPostSuccess() {
@@ -106,6 +122,42 @@ public class PostServiceTest {
         assertThat(savedPost.getSummary()).endsWith("...");
     }
 
+    @Test
+    @DisplayName("게시글 저장 시 본문과 썸네일에서 추출한 이미지의 참조 정보가 기록된다")
+    void createPostRecordsImageReferences() {
+        // [Given]
+        Long memberId = 1L;
+        String thumbnail = "http://minio/bucket/thumb.png";
+        String content = "# 제목\n![사진](http://minio/bucket/a.jpg)\n"
+                + "<img src=\"http://minio/bucket/b.png\" width=\"100\">\n"
+                + "![중복](http://minio/bucket/a.jpg)";
+        PostCreateReq requestDto = new PostCreateReq("제목", content, List.of(), thumbnail);
+
+        Member mockMember = Member.builder().build();
+        ReflectionTestUtils.setField(mockMember, "id", memberId);
+        Image image = Image.builder().accessUrl("http://minio/bucket/a.jpg").storedName("a.jpg").build();
+
+        given(memberRepository.getReferenceById(memberId)).willReturn(mockMember);
+        given(postRepository.save(any(Post.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(imageUrlResolver.resolveAll(any())).willReturn(Map.of("http://minio/bucket/a.jpg", image));
+
+        // [When]
+        postService.createPost(memberId, requestDto);
+
+        // [Then]
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Set<String>> urlCaptor = ArgumentCaptor.forClass(Set.class);
+        verify(imageUrlResolver).resolveAll(urlCaptor.capture());
+        assertThat(urlCaptor.getValue()).containsExactly(
+                thumbnail, "http://minio/bucket/a.jpg", "http://minio/bucket/b.png");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PostImage>> refCaptor = ArgumentCaptor.forClass(List.class);
+        verify(postImageRepository).saveAll(refCaptor.capture());
+        assertThat(refCaptor.getValue()).hasSize(1);
+        assertThat(refCaptor.getValue().get(0).getImage()).isEqualTo(image);
+    }
+
     @Test
     @DisplayName("전체 게시글 조회 시 리포지토리의 결과를 Slice DTO로 변환하여 반환한다")
     void getPostsSuccess() {
@@ -124,13 +176,13 @@ public class PostServiceTest {
         given(postRepository.findAllWithMember(any(Pageable.class))).willReturn(mockPage);
 
         // [When]
-        Slice<PostListRes> result = postService.getPosts(pageable);
+        SliceRes<PostListRes> result = postService.getPosts(pageable);
 
         // [Then]
-        assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).title()).isEqualTo("테스트 제목");
-        assertThat(result.getNumber()).isEqualTo(0);
-        assertThat(result.isLast()).isTrue();
+        assertThat(result.items()).hasSize(1);
+        assertThat(result.items().get(0).title()).isEqualTo("테스트 제목");
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
 
         verify(postRepository).findAllWithMember(pageable);
     }
@@ -231,6 +283,7 @@ public class PostServiceTest {
         verify(postRepository).delete(post);
         verify(commentRepository).deleteParentsByPostId(postId);
         verify(commentRepository).deleteRepliesByPostId(postId);
+        verify(postImageRepository).deleteAllByPostId(postId);
     }
 
     @Test
@@ -300,15 +353,15 @@ public class PostServiceTest {
                 .willReturn(mockSlice);
 
         // [When]
-        Slice<PostInfoRes> result = postService.getPostsByMember(memberId, pageable);
+        SliceRes<PostInfoRes> result = postService.getPostsByMember(memberId, pageable);
 
         // [Then]
         // 1. Slice 자체에 대한 검증
-        assertThat(result.getContent()).hasSize(1); // 실제 데이터 개수 확인
+        assertThat(result.items()).hasSize(1); // 실제 데이터 개수 확인
         assertThat(result.hasNext()).isFalse();    // 다음 페이지 여부 확인
 
         // 2. DTO 필드 매핑 검증 (첫 번째 요소 추출)
-        PostInfoRes dto = result.getContent().get(0);
+        PostInfoRes dto = result.items().get(0);
         assertThat(dto.title()).isEqualTo("테스트 제목");
         assertThat(dto.content()).isEqualTo("테스트 본문");
         assertThat(dto.viewCount()).isEqualTo(10);
@@ -0,0 +1,291 @@
+package com.plog.domain.post.service;
+
+import com.plog.domain.image.entity.Image;
+import com.plog.domain.image.entity.PostTemplateImage;
+import com.plog.domain.image.repository.PostTemplateImageRepository;
+import com.plog.domain.image.service.ImageUrlResolver;
+import com.plog.domain.member.entity.Member;
+import com.plog.domain.member.repository.MemberRepository;
+import com.plog.domain.post.dto.PostTemplateInfoDto;
+import com.plog.domain.post.dto.PostTemplateSeed;
+import com.plog.domain.post.dto.PostTemplateUpdateReq;
+import com.plog.domain.post.entity.PostTemplate;
+import com.plog.domain.post.repository.PostTemplateRepository;
+import com.plog.global.config.CacheConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.plog.global.config.CacheConfig.POST_TEMPLATE_SUMMARY_CACHE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostTemplateServiceTest {
+
+    @InjectMocks
+    private PostTemplateServiceImpl postTemplateService;
+
+    @Mock
+    private PostTemplateRepository postTemplateRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private PostTemplateImageRepository postTemplateImageRepository;
+
+    @Mock
+    private ImageUrlResolver imageUrlResolver;
+
+    private Member member(Long id) {
+        Member member = Member.builder().build();
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+
+    private PostTemplate template(Long id, Member member, String content) {
+        PostTemplate template = PostTemplate.builder()
+                .name("템플릿")
+                .title("제목")
+                .content(content)
+                .member(member)
+                .build();
+        ReflectionTestUtils.setField(template, "id", id);
+        return template;
+    }
+
+    private PostTemplate seedReference(Long id, Member member, String seedKey) {
+        PostTemplate template = PostTemplate.builder()
+                .name(seedKey)
+                .title("")
+                .content("")
+                .seedKey(seedKey)
+                .member(member)
+                .build();
+        ReflectionTestUtils.setField(template, "id", id);
+        return template;
+    }
+
+    private void useRealSummaryCache() {
+        given(cacheManager.getCache(POST_TEMPLATE_SUMMARY_CACHE_NAME)).willReturn(
+                new CacheConfig(1000L, 10L, 10L).cacheManager().getCache(POST_TEMPLATE_SUMMARY_CACHE_NAME));
+        given(postTemplateRepository.findSummariesByMemberId(anyLong(), anyLong(), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of()));
+    }
+
+    @Test
+    @DisplayName("신규 회원의 기본 템플릿은 본문을 복사하지 않고 seed 키만 참조하는 빈 제목·본문으로 저장된다")
+    void initTemplateSeedOfUserSavesSeedReferences() {
+        // [Given]
+        Long memberId = 1L;
+        postTemplateService.init();
+        given(memberRepository.getReferenceById(memberId)).willReturn(member(memberId));
+
+        // [When]
+        postTemplateService.initTemplateSeedOfUser(memberId);
+
+        // [Then]
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PostTemplate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(postTemplateRepository).saveAll(captor.capture());
+
+        Map<String, PostTemplateSeed> seeds = postTemplateService.getSeeds();
+        assertThat(seeds).isNotEmpty();
+        assertThat(captor.getValue()).hasSize(seeds.size()).allSatisfy(template -> {
+            assertThat(template.getTitle()).isEmpty();
+            assertThat(template.getContent()).isEmpty();
+            assertThat(template.isSeedReference()).isTrue();
+            assertThat(template.getName()).isEqualTo(seeds.get(template.getSeedKey()).name());
+        });
+        assertThat(captor.getValue()).extracting(PostTemplate::getSeedKey)
+                .containsExactlyElementsOf(seeds.keySet());
+    }
+
+    @Test
+    @DisplayName("seed 를 참조하는 템플릿을 조회하면 seed 의 제목과 본문이 채워진다")
+    void getTemplateFillsSeedBody() {
+        // [Given]
+        Long memberId = 1L;
+        postTemplateService.init();
+        PostTemplateSeed seed = postTemplateService.getSeeds().values().iterator().next();
+        PostTemplate template = seedReference(10L, member(memberId), seed.key());
+        given(postTemplateRepository.findById(10L)).willReturn(Optional.of(template));
+
+        // [When]
+        PostTemplateInfoDto result = postTemplateService.getTemplate(memberId, 10L);
+
+        // [Then]
+        assertThat(result.id()).isEqualTo(10L);
+        assertThat(result.title()).isEqualTo(seed.title());
+        assertThat(result.content()).isEqualTo(seed.content()).isNotEmpty();
+        assertThat(template.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("seed 참조 템플릿을 수정하면 seed 참조가 해제되고 회원의 본문이 저장되며, 같은 seed 를 참조하는 다른 회원의 템플릿은 그대로다")
+    void updateSeedReferenceCopiesOnlyOwnTemplate() {
+        // [Given]
+        postTemplateService.init();
+        PostTemplateSeed seed = postTemplateService.getSeeds().values().iterator().next();
+        String seedContent = seed.content();
+        PostTemplate mine = seedReference(10L, member(1L), seed.key());
+        PostTemplate others = seedReference(20L, member(2L), seed.key());
+        given(postTemplateRepository.findById(10L)).willReturn(Optional.of(mine));
+
+        // [When]
+        postTemplateService.updatePostTemplate(1L, 10L, new PostTemplateUpdateReq("내 템플릿", "내 제목", "내 본문"));
+
+        // [Then]
+        assertThat(mine.isSeedReference()).isFalse();
+        assertThat(mine.getSeedKey()).isNull();
+        assertThat(mine.getTitle()).isEqualTo("내 제목");
+        assertThat(mine.getContent()).isEqualTo("내 본문");
+        verify(postTemplateRepository).save(mine);
+
+        assertThat(others.getSeedKey()).isEqualTo(seed.key());
+        assertThat(others.getContent()).isEmpty();
+        verify(postTemplateRepository, never()).save(others);
+        assertThat(postTemplateService.getSeeds().get(seed.key()).content()).isEqualTo(seedContent);
+    }
+
+    @Test
+    @DisplayName("템플릿 목록은 회원별 첫 페이지만 캐시하고, 커서 이후 페이지와 크기가 다른 요청은 매번 조회한다")
+    void templateListCachesFirstPageOnly() {
+        // [Given]
+        Long memberId = 1L;
+        useRealSummaryCache();
+
+        // [When]
+        postTemplateService.getTemplateListByMember(memberId, null, 20);
+        postTemplateService.getTemplateListByMember(memberId, null, 20);
+        postTemplateService.getTemplateListByMember(memberId, 5L, 20);
+        postTemplateService.getTemplateListByMember(memberId, 5L, 20);
+        postTemplateService.getTemplateListByMember(memberId, null, 10);
+
+        // [Then]
+        verify(postTemplateRepository, times(1)).findSummariesByMemberId(eq(memberId), eq(0L), eq(Pageable.ofSize(20)));
+        verify(postTemplateRepository, times(2)).findSummariesByMemberId(eq(memberId), eq(5L), any(Pageable.class));
+        verify(postTemplateRepository, times(1)).findSummariesByMemberId(eq(memberId), eq(0L), eq(Pageable.ofSize(10)));
+    }
+
+    @Test
+    @DisplayName("템플릿을 생성·수정·삭제하면 해당 회원의 첫 페이지 캐시가 비워져 다시 조회한다")
+    void templateChangesEvictCachedFirstPage() {
+        // [Given]
+        Long memberId = 1L;
+        Member member = member(memberId);
+        PostTemplate template = template(10L, member, "이미지 없는 본문");
+        useRealSummaryCache();
+        given(memberRepository.getReferenceById(memberId)).willReturn(member);
+        given(postTemplateRepository.save(any(PostTemplate.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(postTemplateRepository.findById(10L)).willReturn(Optional.of(template));
+
+        // [When]
+        postTemplateService.getTemplateListByMember(memberId, null, 20);
+        postTemplateService.getTemplateListByMember(memberId, null, 20);
+
+        postTemplateService.createPostTemplate(memberId, new PostTemplateInfoDto(null, "템플릿", "제목", "본문"));
+        postTemplateService.getTemplateListByMember(memberId, null, 20);
+
+        postTemplateService.updatePostTemplate(memberId, 10L, new PostTemplateUpdateReq("템플릿", "제목", "수정"));
+        postTemplateService.getTemplateListByMember(memberId, null, 20);
+
+        postTemplateService.deleteTemplate(memberId, 10L);
+        postTemplateService.getTemplateListByMember(memberId, null, 20);
+        postTemplateService.getTemplateListByMember(memberId, null, 20);
+
+        // [Then] 최초 조회 1회 + 변경마다 1회
+        verify(postTemplateRepository, times(4)).findSummariesByMemberId(eq(memberId), eq(0L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("템플릿 저장 시 본문에서 추출한 업로드 이미지의 참조 정보가 기록된다")
+    void createTemplateRecordsImageReferences() {
+        // [Given]
+        Long memberId = 1L;
+        String content = "![사진](http://minio/bucket/a.jpg)\n<img src=\"https://example.com/b.png\">";
+        Image image = Image.builder().accessUrl("http://minio/bucket/a.jpg").storedName("a.jpg").build();
+
+        given(memberRepository.getReferenceById(memberId)).willReturn(member(memberId));
+        given(postTemplateRepository.save(any(PostTemplate.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(imageUrlResolver.resolveAll(any())).willReturn(Map.of("http://minio/bucket/a.jpg", image));
+
+        // [When]
+        postTemplateService.createPostTemplate(memberId, new PostTemplateInfoDto(null, "템플릿", "제목", content));
+
+        // [Then]
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Set<String>> urlCaptor = ArgumentCaptor.forClass(Set.class);
+        verify(imageUrlResolver).resolveAll(urlCaptor.capture());
+        assertThat(urlCaptor.getValue()).containsExactly("http://minio/bucket/a.jpg", "https://example.com/b.png");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PostTemplateImage>> refCaptor = ArgumentCaptor.forClass(List.class);
+        verify(postTemplateImageRepository).saveAll(refCaptor.capture());
+        assertThat(refCaptor.getValue()).extracting(PostTemplateImage::getImage).containsExactly(image);
+    }
+
+    @Test
+    @DisplayName("템플릿 수정 시 기존 이미지 참조를 지우고 새 본문 기준으로 다시 기록한다")
+    void updateTemplateReplacesImageReferences() {
+        // [Given]
+        Long memberId = 1L;
+        PostTemplate template = template(10L, member(memberId), "![old](http://minio/bucket/old.jpg)");
+        Image image = Image.builder().accessUrl("http://minio/bucket/new.jpg").storedName("new.jpg").build();
+
+        given(postTemplateRepository.findById(10L)).willReturn(Optional.of(template));
+        given(imageUrlResolver.resolveAll(any())).willReturn(Map.of("http://minio/bucket/new.jpg", image));
+
+        // [When]
+        postTemplateService.updatePostTemplate(memberId, 10L,
+                new PostTemplateUpdateReq("템플릿", "제목", "![new](http://minio/bucket/new.jpg)"));
+
+        // [Then]
+        InOrder order = inOrder(postTemplateImageRepository);
+        order.verify(postTemplateImageRepository).deleteAllByTemplateId(10L);
+        order.verify(postTemplateImageRepository).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("템플릿 삭제 시 이미지 참조를 먼저 지운 뒤 템플릿을 삭제하고, 이미지가 없는 본문은 참조를 기록하지 않는다")
+    void deleteTemplateRemovesImageReferencesFirst() {
+        // [Given]
+        Long memberId = 1L;
+        PostTemplate template = template(10L, member(memberId), "이미지 없는 본문");
+        given(postTemplateRepository.findById(10L)).willReturn(Optional.of(template));
+
+        // [When]
+        postTemplateService.deleteTemplate(memberId, 10L);
+
+        // [Then]
+        InOrder order = inOrder(postTemplateImageRepository, postTemplateRepository);
+        order.verify(postTemplateImageRepository).deleteAllByTemplateId(10L);
+        order.verify(postTemplateRepository).delete(template);
+        verify(postTemplateImageRepository, never()).saveAll(any());
+    }
+}
@@ -0,0 +1,132 @@
+package com.plog.domain.post.service;
+
+import com.plog.domain.comment.dto.CommentCreateReq;
+import com.plog.domain.comment.service.CommentService;
+import com.plog.domain.hashtag.repository.HashTagRepository;
+import com.plog.domain.member.entity.Member;
+import com.plog.domain.member.repository.MemberRepository;
+import com.plog.domain.post.dto.PostCreateReq;
+import com.plog.domain.post.entity.Post;
+import com.plog.domain.post.repository.PostRepository;
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * open-in-view 를 끈 상태에서 조회 응답이 서비스 트랜잭션 안에서 모두 만들어지는지 검증합니다.
+ * <p>
+ * 테스트 트랜잭션 없이 서비스를 호출한 뒤 결과를 직렬화하므로, 응답에 초기화되지 않은 지연 로딩 프록시가 남아 있으면
+ * {@link LazyInitializationException}으로 실패합니다. 데이터는 커밋하고 테스트 후 직접 지웁니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-count;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.plog.testUtil.QueryCounter"
+})
+class ResponseAssemblyTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private HashTagRepository hashTagRepository;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+    private Long memberId;
+    private Long postId;
+    private Long commentId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        memberId = tx.execute(status -> memberRepository.save(Member.builder()
+                .email(suffix + "@plog.com")
+                .password("password")
+                .nickname("user-" + suffix)
+                .build())).getId();
+        postId = postService.createPost(memberId,
+                new PostCreateReq("제목", "## 본문", List.of("osiv-" + suffix), null));
+        commentId = commentService.createComment(postId, memberId, new CommentCreateReq("댓글", memberId, null));
+        commentService.createComment(postId, memberId, new CommentCreateReq("대댓글", memberId, commentId));
+    }
+
+    @AfterEach
+    void tearDown() {
+        postService.deletePost(memberId, postId);
+        tx.executeWithoutResult(status -> {
+            memberRepository.deleteById(memberId);
+            hashTagRepository.deleteAll(hashTagRepository.findAllByNameIn(List.of("osiv-" + suffix)));
+        });
+    }
+
+    @Test
+    @DisplayName("open-in-view 가 꺼져 있어 요청 단위로 EntityManager 를 열어 두지 않는다")
+    void openInViewIsDisabled() {
+        assertThat(context.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 지연 로딩하면 조용히 쿼리를 실행하지 않고 바로 실패한다")
+    void lazyLoadingOutsideTransactionFails() {
+        Post post = postRepository.findById(postId).orElseThrow();
+
+        assertThatThrownBy(() -> post.getPostHashTags().size())
+                .isInstanceOf(LazyInitializationException.class);
+    }
+
+    @Test
+    @DisplayName("게시글·댓글 조회 응답은 서비스 트랜잭션이 끝난 뒤에도 지연 로딩 없이 직렬화된다")
+    void responsesAreAssembledInsideServiceTransaction() {
+        String detail = jsonMapper.writeValueAsString(postService.getPostDetail(postId, 0));
+        String feed = jsonMapper.writeValueAsString(
+                postService.getPosts(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createDate"))));
+        String byMember = jsonMapper.writeValueAsString(postService.getPostsByMember(memberId, PageRequest.of(0, 10)));
+        String comments = jsonMapper.writeValueAsString(commentService.getCommentsByPostId(postId, 0));
+        String replies = jsonMapper.writeValueAsString(commentService.getRepliesByCommentId(commentId, 0));
+
+        assertThat(detail).contains("user-" + suffix, "대댓글");
+        assertThat(feed).contains("user-" + suffix, "osiv-" + suffix);
+        assertThat(byMember).contains("user-" + suffix);
+        assertThat(comments).contains("댓글", "대댓글");
+        assertThat(replies).contains("대댓글");
+    }
+}
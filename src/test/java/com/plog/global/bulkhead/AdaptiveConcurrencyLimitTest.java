@@ -0,0 +1,117 @@
+package com.plog.global.bulkhead;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long WINDOW_MILLIS = 1000;
+
+    private MutableClock clock;
+    private AdaptiveConcurrencyLimit limit;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-10-18T00:00:00Z"));
+        // 계산 결과를 그대로 확인할 수 있도록 새 한도를 바로 반영합니다.
+        limit = new AdaptiveConcurrencyLimit(10, 2, 100, WINDOW_MILLIS, 1.0, clock);
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청이 한도에 도달하면 기다리지 않고 거절한다")
+    void rejectsBeyondLimit() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+
+        assertThat(limit.tryAcquire()).isFalse();
+        limit.release(millis(10));
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.getInFlight()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("한도까지 요청이 차 있어도 응답 시간이 평소와 같으면 한도를 늘린다")
+    void growsWhileLatencyIsStable() {
+        saturatedWindow(10);
+
+        assertThat(limit.getLimit()).isEqualTo(13); // 10 + √10
+    }
+
+    @Test
+    @DisplayName("응답 시간이 평소보다 길어지면 대기열이 생긴 것으로 보고 한도를 줄인다")
+    void shrinksWhenLatencyRises() {
+        saturatedWindow(10);
+        int before = limit.getLimit();
+
+        saturatedWindow(200);
+
+        assertThat(limit.getLimit()).isLessThan(before);
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청이 한도의 절반에도 못 미치면 응답 시간과 관계없이 한도를 바꾸지 않는다")
+    void keepsLimitWhenUnderused() {
+        clock.advance(Duration.ofMillis(WINDOW_MILLIS));
+        for (int i = 0; i < AdaptiveConcurrencyLimit.MIN_WINDOW_SAMPLES; i++) {
+            limit.tryAcquire();
+            limit.release(millis(10));
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    /**
+     * 현재 한도만큼 요청을 동시에 받은 뒤 모두 같은 응답 시간으로 끝내, 한도를 다시 계산하는 구간 하나를 채웁니다.
+     */
+    private void saturatedWindow(long rttMillis) {
+        int concurrency = Math.max(limit.getLimit(), AdaptiveConcurrencyLimit.MIN_WINDOW_SAMPLES);
+        for (int i = 0; i < concurrency; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+        clock.advance(Duration.ofMillis(WINDOW_MILLIS));
+        for (int i = 0; i < concurrency; i++) {
+            limit.release(millis(rttMillis));
+        }
+    }
+
+    private static long millis(long millis) {
+        return Duration.ofMillis(millis).toNanos();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.plog.global.bulkhead;
+
+import com.plog.global.exception.exceptions.BulkheadException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BulkheadExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("자리가 없으면 max-wait 만큼 기다린 뒤 거절하고 거절 수를 기록한다")
+    void bulkheadRejectsAfterMaxWait() {
+        Bulkhead bulkhead = new Bulkhead("upload", 1, Duration.ofMillis(20), meterRegistry);
+
+        assertThat(bulkhead.tryEnter()).isTrue();
+        assertThat(bulkhead.tryEnter()).isFalse();
+        bulkhead.exit();
+        assertThat(bulkhead.tryEnter()).isTrue();
+
+        assertThat(rejected("upload", Bulkhead.REASON_FULL)).isEqualTo(1);
+        assertThat(meterRegistry.get("bulkhead.active").tag("bulkhead", "upload").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전용 스레드와 대기열이 모두 차 있으면 작업을 넘기는 즉시 거절한다")
+    void executorRejectsWhenQueueIsFull() throws Exception {
+        executor = new BulkheadExecutor("upload-processing", 1, 1, Duration.ofMinutes(1), Duration.ofMinutes(1),
+                meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<?> running = start(executor.submit(() -> release.await(5, TimeUnit.SECONDS)));
+        Future<?> queued = start(executor.submit(() -> "queued"));
+
+        assertThatThrownBy(() -> start(executor.submit(() -> "rejected")))
+                .isInstanceOf(BulkheadException.class);
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+        assertThat(rejected("upload-processing", BulkheadExecutor.REASON_QUEUE_FULL)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열에서 queue-timeout 넘게 기다린 작업은 실행하지 않고 거절한다")
+    void executorSkipsTasksThatWaitedTooLong() throws Exception {
+        executor = new BulkheadExecutor("upload-processing", 1, 1, Duration.ofMillis(50), Duration.ofMinutes(1),
+                meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch executed = new CountDownLatch(1);
+
+        Future<?> running = start(executor.submit(() -> release.await(5, TimeUnit.SECONDS)));
+        Future<?> queued = start(executor.submit(() -> {
+            executed.countDown();
+            return "queued";
+        }));
+        Thread.sleep(100);
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(BulkheadException.class);
+        assertThat(executed.getCount()).isEqualTo(1);
+        assertThat(rejected("upload-processing", BulkheadExecutor.REASON_QUEUE_TIMEOUT)).isEqualTo(1);
+    }
+
+    private static Future<?> start(WebAsyncTask<?> task) {
+        AsyncTaskExecutor taskExecutor = task.getExecutor();
+        return taskExecutor.submit(task.<Object>getCallable());
+    }
+
+    private double rejected(String bulkhead, String reason) {
+        return meterRegistry.get("bulkhead.rejected").tag("bulkhead", bulkhead).tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,99 @@
+package com.plog.global.bulkhead;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+            new AdaptiveConcurrencyLimit(1, 1, 1, 1000, 0.2, Clock.systemUTC()),
+            new AdaptiveConcurrencyLimit(1, 1, 1, 1000, 0.2, Clock.systemUTC()),
+            UploadBulkheadConfig.UPLOAD_PATHS, JsonMapper.builder().build(), meterRegistry);
+
+    @Test
+    @DisplayName("한도를 넘는 요청은 체인을 실행하지 않고 CommonResponse 형식의 503으로 바로 거절한다")
+    void rejectsExcessRequestsImmediately() throws Exception {
+        // [Given] 읽기 한도(1)를 다른 요청이 차지하고 있음
+        AtomicReference<MockHttpServletResponse> rejected = new AtomicReference<>();
+        AtomicInteger executed = new AtomicInteger();
+
+        // [When]
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/posts"), new MockHttpServletResponse(), (req, res) -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/posts/1"), response,
+                    (innerReq, innerRes) -> executed.incrementAndGet());
+            rejected.set(response);
+        });
+
+        // [Then]
+        MockHttpServletResponse response = rejected.get();
+        assertThat(executed).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("\"status\":\"fail\"", "서버가 혼잡하여");
+        assertThat(decisions("read", "accepted")).isEqualTo(1);
+        assertThat(decisions("read", "rejected")).isEqualTo(1);
+        assertThat(meterRegistry.get("concurrency.inflight").tag("limiter", "read").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기 요청이 쓰기 한도를 모두 차지해도 읽기 요청은 자신의 한도로 처리된다")
+    void readsAndWritesHaveSeparateLimits() throws Exception {
+        // [Given]
+        AtomicInteger reads = new AtomicInteger();
+        AtomicInteger writes = new AtomicInteger();
+
+        // [When] 쓰기 한도(1)를 차지한 상태에서 읽기 하나와 쓰기 하나를 더 보냄
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/posts"), new MockHttpServletResponse(), (req, res) -> {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/posts"), new MockHttpServletResponse(),
+                    (innerReq, innerRes) -> reads.incrementAndGet());
+            filter.doFilter(new MockHttpServletRequest("DELETE", "/api/posts/1"), new MockHttpServletResponse(),
+                    (innerReq, innerRes) -> writes.incrementAndGet());
+        });
+
+        // [Then]
+        assertThat(reads).hasValue(1);
+        assertThat(writes).hasValue(0);
+        assertThat(decisions("write", "rejected")).isEqualTo(1);
+        assertThat(decisions("read", "rejected")).isZero();
+    }
+
+    @Test
+    @DisplayName("업로드 경로와 API 가 아닌 경로는 한도에 포함하지 않는다")
+    void ignoresUploadsAndNonApiPaths() throws Exception {
+        // [Given]
+        AtomicInteger executed = new AtomicInteger();
+        FilterChain count = (req, res) -> executed.incrementAndGet();
+
+        // [When] 쓰기 한도(1)를 차지한 상태에서 업로드와 Actuator 요청을 보냄
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/posts"), new MockHttpServletResponse(), (req, res) -> {
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/images"), new MockHttpServletResponse(), count);
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/members/1/profile-image"),
+                    new MockHttpServletResponse(), count);
+            filter.doFilter(new MockHttpServletRequest("POST", "/actuator/jfr"), new MockHttpServletResponse(), count);
+        });
+
+        // [Then]
+        assertThat(executed).hasValue(3);
+        assertThat(decisions("write", "accepted")).isEqualTo(1);
+        assertThat(decisions("write", "rejected")).isZero();
+    }
+
+    private double decisions(String limiter, String outcome) {
+        return meterRegistry.get("concurrency.decisions").tag("limiter", limiter).tag("outcome", outcome)
+                .counter().count();
+    }
+}
@@ -0,0 +1,133 @@
+package com.plog.global.config;
+
+import com.plog.domain.hashtag.entity.HashTag;
+import com.plog.domain.hashtag.repository.HashTagRepository;
+import com.plog.domain.member.entity.Member;
+import com.plog.domain.member.repository.MemberRepository;
+import com.plog.testUtil.QueryCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시는 커밋된 데이터만 보관하므로, 롤백 방식의 {@code QueryCountTestSupport} 대신
+ * 데이터를 커밋하고 테스트 후 직접 지웁니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-count;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.plog.testUtil.QueryCounter"
+})
+class SecondLevelCacheTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private HashTagRepository hashTagRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            memberRepository.findByEmail(suffix + "@plog.com").ifPresent(memberRepository::delete);
+            hashTagRepository.deleteAll(hashTagRepository.findAllByNameIn(List.of("spring-" + suffix, "jpa-" + suffix)));
+        });
+    }
+
+    @Test
+    @DisplayName("이메일로 한 번 조회한 회원은 다시 조회할 때 DB 를 거치지 않는다")
+    void memberByEmailIsCached() {
+        // [Given]
+        String email = suffix + "@plog.com";
+        tx.executeWithoutResult(status -> memberRepository.save(Member.builder()
+                .email(email)
+                .password("password")
+                .nickname("user-" + suffix)
+                .build()));
+        tx.executeWithoutResult(status -> memberRepository.findByEmail(email));
+
+        // [When]
+        List<String> queries = QueryCounter.record(() -> tx.executeWithoutResult(status ->
+                assertThat(memberRepository.findByEmail(email)).get()
+                        .extracting(Member::getNickname).isEqualTo("user-" + suffix)));
+
+        // [Then]
+        assertThat(queries).isEmpty();
+        assertThat(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", SecondLevelCacheConfig.MEMBER_REGION)
+                .tag("result", "hit")
+                .functionCounter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("로그인 필터처럼 트랜잭션 밖에서 호출해도 이메일로 회원을 조회한다")
+    void memberByEmailOutsideTransaction() {
+        // [Given]
+        String email = suffix + "@plog.com";
+        tx.executeWithoutResult(status -> memberRepository.save(Member.builder()
+                .email(email)
+                .password("password")
+                .nickname("user-" + suffix)
+                .build()));
+
+        // [When] & [Then]
+        assertThat(memberRepository.findByEmail(email)).get()
+                .extracting(Member::getNickname).isEqualTo("user-" + suffix);
+        assertThat(hashTagRepository.findAllByNameIn(List.of("missing-" + suffix))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("해시태그는 캐시에 없는 이름만 DB 에서 조회한다")
+    void hashTagsByNameAreCached() {
+        // [Given]
+        String spring = "spring-" + suffix;
+        String jpa = "jpa-" + suffix;
+        tx.executeWithoutResult(status -> hashTagRepository.saveAll(List.of(new HashTag(spring), new HashTag(jpa))));
+        tx.executeWithoutResult(status -> hashTagRepository.findAllByNameIn(List.of(spring)));
+
+        // [When]
+        List<String> cached = QueryCounter.record(() -> tx.executeWithoutResult(status ->
+                assertThat(hashTagRepository.findAllByNameIn(List.of(spring)))
+                        .extracting(HashTag::getName).containsExactly(spring)));
+        List<String> partial = QueryCounter.record(() -> tx.executeWithoutResult(status ->
+                assertThat(hashTagRepository.findAllByNameIn(List.of(spring, jpa, "missing-" + suffix)))
+                        .extracting(HashTag::getName).containsExactlyInAnyOrder(spring, jpa)));
+
+        // [Then]
+        assertThat(cached).isEmpty();
+        assertThat(partial).hasSize(1);
+    }
+}
@@ -0,0 +1,128 @@
+package com.plog.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = node("primary");
+    private final DataSource replica = node("replica");
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.end();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica 에서, 쓰기 트랜잭션은 primary 에서 실행된다")
+    void routesByTransactionReadOnlyFlag() {
+        // [Given]
+        Routing routing = new Routing(monitor(false));
+
+        // [When]
+        String readNode = routing.read();
+        String writeNode = routing.write();
+
+        // [Then]
+        assertThat(readNode).isEqualTo("replica");
+        assertThat(writeNode).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("같은 요청에서 쓰기가 있었다면 이후 읽기 전용 트랜잭션도 primary 에서 실행된다")
+    void pinsReadsToPrimaryAfterWrite() {
+        // [Given]
+        Routing routing = new Routing(monitor(false));
+        ReadYourWrites.begin();
+        String beforeWrite = routing.read();
+
+        // [When]
+        routing.write();
+        String afterWrite = routing.read();
+
+        // [Then]
+        assertThat(beforeWrite).isEqualTo("replica");
+        assertThat(afterWrite).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("요청 범위 밖의 쓰기는 이후 읽기를 primary 에 고정하지 않는다")
+    void doesNotPinOutsideRequestScope() {
+        // [Given]
+        Routing routing = new Routing(monitor(false));
+
+        // [When]
+        routing.write();
+
+        // [Then]
+        assertThat(routing.read()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("replica 의 복제 지연을 확인할 수 없으면 읽기 전용 트랜잭션도 primary 에서 실행된다")
+    void fallsBackToPrimaryWhenReplicaLagUnknown() {
+        // [Given] 복제되지 않는 DB 이므로 replica 에는 heartbeat 테이블이 없음
+        ReplicaLagMonitor monitor = monitor(true);
+        monitor.init();
+        Routing routing = new Routing(monitor);
+
+        // [When]
+        String readNode = routing.read();
+
+        // [Then]
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+        assertThat(readNode).isEqualTo("primary");
+    }
+
+    private ReplicaLagMonitor monitor(boolean lagCheckEnabled) {
+        return new ReplicaLagMonitor(primary, replica, lagCheckEnabled, Duration.ofSeconds(5), new SimpleMeterRegistry());
+    }
+
+    private static DataSource node(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table node (name varchar(20))");
+        jdbc.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+
+    private final class Routing {
+
+        private final JdbcTemplate jdbc;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        private Routing(ReplicaLagMonitor monitor) {
+            DataSource dataSource = ReplicaRoutingDataSource.readWriteSplitting(primary, replica, monitor);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.jdbc = new JdbcTemplate(dataSource);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        private String read() {
+            return readOnly.execute(status -> jdbc.queryForObject("select name from node", String.class));
+        }
+
+        private String write() {
+            return readWrite.execute(status -> {
+                jdbc.update("update node set name = name");
+                return jdbc.queryForObject("select name from node", String.class);
+            });
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.plog.global.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlightRecordingManagerTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    private FlightRecordingManager manager;
+
+    @AfterEach
+    void tearDown() {
+        if (manager != null) {
+            manager.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("상시 녹화 중 발생한 도메인 이벤트가 덤프 파일에 기록된다")
+    void dumpContainsDomainEvents() throws Exception {
+        // [Given]
+        manager = new FlightRecordingManager("default", Duration.ofMinutes(5), DataSize.ofMegabytes(16), dumpDirectory);
+        manager.start();
+
+        TagResolutionEvent event = new TagResolutionEvent();
+        event.begin();
+        event.postId = 42L;
+        event.requestedTags = 3;
+        event.distinctTags = 2;
+        event.createdTags = 1;
+        event.commit();
+
+        // [When]
+        Path file = manager.dump();
+
+        // [Then]
+        assertThat(file).startsWith(dumpDirectory).exists();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("com.plog.post.TagResolution"))
+                .toList();
+        assertThat(events).singleElement().satisfies(recorded -> {
+            assertThat(recorded.getLong("postId")).isEqualTo(42L);
+            assertThat(recorded.getInt("createdTags")).isEqualTo(1);
+        });
+    }
+}
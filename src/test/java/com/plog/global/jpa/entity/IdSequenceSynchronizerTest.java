@@ -0,0 +1,58 @@
+package com.plog.global.jpa.entity;
+
+import com.plog.domain.member.entity.Member;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:id-sequence;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional
+class IdSequenceSynchronizerTest {
+
+    @Autowired
+    private IdSequenceSynchronizer idSequenceSynchronizer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("ID 를 직접 지정해 넣은 행이 있으면 시퀀스를 최대 ID 뒤로 옮겨 새 엔티티와 충돌하지 않게 한다")
+    void movesSequencePastExistingIds() {
+        // [Given]
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("insert into member (id, email, password, nickname, create_date, modify_date) values (?, ?, ?, ?, ?, ?)",
+                10_000L, "legacy@plog.com", "password", "legacy", now, now);
+
+        // [When]
+        int adjusted = idSequenceSynchronizer.synchronize();
+        Member member = Member.builder()
+                .email("new@plog.com")
+                .password("password")
+                .nickname("new")
+                .build();
+        em.persist(member);
+        em.flush();
+
+        // [Then]
+        assertThat(adjusted).isEqualTo(1);
+        assertThat(member.getId()).isGreaterThan(10_000L);
+        assertThat(idSequenceSynchronizer.synchronize()).isZero();
+    }
+}
@@ -0,0 +1,52 @@
+package com.plog.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCountMetricsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCountMetricsFilter filter = new QueryCountMetricsFilter(meterRegistry);
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    @Test
+    @DisplayName("요청 처리 중 실행된 SQL 문 수를 매핑 패턴 태그로 기록한다")
+    void recordsStatementsPerRequest() throws Exception {
+        // [Given]
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1");
+
+        // [When]
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/posts/{id}");
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+        });
+
+        // [Then]
+        DistributionSummary summary = meterRegistry.get("http.server.requests.queries")
+                .tag("method", "GET").tag("uri", "/api/posts/{id}").summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("API 가 아닌 요청과 요청 밖에서 실행된 SQL 은 기록하지 않는다")
+    void ignoresNonApiRequests() throws Exception {
+        // [Given]
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+
+        // [When]
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> inspector.inspect("select 1"));
+
+        // [Then]
+        assertThat(meterRegistry.find("http.server.requests.queries").summary()).isNull();
+        assertThat(QueryCountInspector.end()).isZero();
+    }
+}
@@ -0,0 +1,142 @@
+package com.plog.global.minio.storage;
+
+import com.plog.global.exception.errorCode.ImageErrorCode;
+import com.plog.global.exception.exceptions.ImageException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientObjectStorageTest {
+
+    @Mock
+    private ObjectStorage delegate;
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private ResilientObjectStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-10-18T00:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+        StorageCircuitBreaker circuitBreaker = new StorageCircuitBreaker(2, Duration.ofSeconds(30), clock);
+        storage = new ResilientObjectStorage(delegate, circuitBreaker, 3, Duration.ZERO, Duration.ZERO, meterRegistry);
+    }
+
+    private ImageException deleteFailed() {
+        return new ImageException(ImageErrorCode.IMAGE_DELETE_FAILED, "delete failed", "이미지 삭제 중 오류가 발생했습니다.");
+    }
+
+    @Test
+    @DisplayName("멱등 작업은 일시적인 실패 후 재시도하여 성공한다")
+    void retriesIdempotentOperation() {
+        // [Given]
+        StoredObject object = new StoredObject(10L, "image/png");
+        given(delegate.stat("a.png"))
+                .willThrow(new ImageException(ImageErrorCode.IMAGE_UPLOAD_FAILED, "stat failed", "오류"))
+                .willReturn(Optional.of(object));
+
+        // [When]
+        Optional<StoredObject> result = storage.stat("a.png");
+
+        // [Then]
+        assertThat(result).contains(object);
+        verify(delegate, times(2)).stat("a.png");
+        assertThat(meterRegistry.get("storage.requests").tag("operation", "stat").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("업로드는 재시도하지 않는다")
+    void doesNotRetryUpload() {
+        // [Given]
+        given(delegate.upload(any(), anyLong(), anyString(), anyString()))
+                .willThrow(new ImageException(ImageErrorCode.IMAGE_UPLOAD_FAILED, "upload failed", "오류"));
+
+        // [When & Then]
+        assertThatThrownBy(() -> storage.upload(new ByteArrayResource(new byte[1]), 1L, "image/png", "a.png"))
+                .isInstanceOf(ImageException.class);
+        verify(delegate, times(1)).upload(any(), anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 차단되어 스토리지를 호출하지 않고 즉시 실패한다")
+    void opensCircuitAfterConsecutiveFailures() {
+        // [Given]
+        willThrow(deleteFailed()).given(delegate).delete("a.png");
+        assertThatThrownBy(() -> storage.delete("a.png")).isInstanceOf(ImageException.class);
+
+        // [When & Then]
+        assertThatThrownBy(() -> storage.delete("a.png"))
+                .isInstanceOf(ImageException.class)
+                .extracting("errorCode").isEqualTo(ImageErrorCode.IMAGE_UPLOAD_FAILED);
+        verify(delegate, times(2)).delete("a.png");
+        assertThat(meterRegistry.get("storage.circuit.state").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나면 시험 요청이 성공한 뒤 정상 상태로 복구된다")
+    void closesCircuitAfterSuccessfulProbe() {
+        // [Given]
+        willThrow(deleteFailed()).given(delegate).delete("a.png");
+        assertThatThrownBy(() -> storage.delete("a.png")).isInstanceOf(ImageException.class);
+        clock.advance(Duration.ofSeconds(31));
+
+        // [When]
+        storage.delete("b.png");
+
+        // [Then]
+        assertThat(meterRegistry.get("storage.circuit.state").gauge().value()).isZero();
+        verify(delegate).delete("b.png");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
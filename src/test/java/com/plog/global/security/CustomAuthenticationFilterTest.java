@@ -4,18 +4,22 @@ package com.plog.global.security;
 import com.plog.domain.member.dto.MemberInfoRes;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
@@ -41,6 +45,7 @@ class CustomAuthenticationFilterTest {
     @Mock private TokenResolver tokenResolver;
     @Mock private CustomUserDetailsService customUserDetailsService;
     @Mock private TokenStore tokenStore;
+    @Spy private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @Test
     @DisplayName("자동 재발급 - AT 만료 시 RT가 화이트리스트에 존재하면 새 토큰을 설정한다")
@@ -78,5 +83,7 @@ class CustomAuthenticationFilterTest {
         // then
         verify(tokenResolver).setHeader(response, newAt);
         verify(filterChain).doFilter(request, response);
+        assertThat(meterRegistry.counter("auth.token.parse", "outcome", "expired").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("auth.token.reissue", "outcome", "success").count()).isEqualTo(1);
     }
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.plog.global.trace;
+
+import com.plog.global.bulkhead.BulkheadExecutor;
+import com.plog.global.metrics.QueryCountInspector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTraceFilterTest {
+
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    @Test
+    @DisplayName("기준 시간을 넘은 요청은 SQL 문과 계층별 시간을 함께 보관한다")
+    void capturesSlowRequest() throws Exception {
+        // [Given]
+        RequestTraceFilter filter = new RequestTraceFilter(true, 1.0, Duration.ZERO, 10, 2);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // [When]
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/posts/{id}");
+            RequestTrace.recordAuth(2_000_000);
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+            inspector.inspect("select 3");
+            RequestTrace.recordDbTime(3_000_000);
+            RequestTrace.recordStorageCall(1_500_000);
+        });
+
+        // [Then]
+        List<SlowRequest> slowRequests = filter.getSlowRequests();
+        assertThat(slowRequests).hasSize(1);
+        SlowRequest slowRequest = slowRequests.get(0);
+        assertThat(slowRequest.pattern()).isEqualTo("/api/posts/{id}");
+        assertThat(slowRequest.status()).isEqualTo(200);
+        assertThat(slowRequest.statements()).isEqualTo(3);
+        assertThat(slowRequest.sql()).containsExactly("select 1", "select 2");
+        assertThat(slowRequest.sqlTruncated()).isTrue();
+        assertThat(slowRequest.dbMs()).isEqualTo(3.0);
+        assertThat(slowRequest.storageCalls()).isEqualTo(1);
+        assertThat(slowRequest.storageMs()).isEqualTo(1.5);
+        assertThat(slowRequest.authMs()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 격벽 스레드의 작업까지 포함해 응답이 끝난 시점에 기록한다")
+    void capturesAsyncRequestAfterCompletion() throws Exception {
+        // [Given]
+        RequestTraceFilter filter = new RequestTraceFilter(true, 1.0, Duration.ZERO, 10, 50);
+        BulkheadExecutor executor = new BulkheadExecutor("upload-processing", 1, 1, Duration.ofMinutes(1),
+                Duration.ofMinutes(1), new SimpleMeterRegistry());
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/images");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<Future<?>> work = new AtomicReference<>();
+
+        try {
+            // [When] 컨트롤러가 격벽 작업을 반환한 것처럼 비동기 처리를 시작하고 작업을 넘김
+            filter.doFilter(request, response, (req, res) -> {
+                req.startAsync();
+                WebAsyncTask<Object> task = executor.submit(() -> {
+                    inspector.inspect("insert into image");
+                    RequestTrace.recordStorageCall(2_000_000);
+                    return null;
+                });
+                work.set(task.getExecutor().submit(task.getCallable()));
+            });
+
+            // [Then] 요청 스레드가 반환된 시점에는 아직 기록하지 않음
+            assertThat(filter.getSlowRequests()).isEmpty();
+
+            work.get().get(5, TimeUnit.SECONDS);
+            ((MockAsyncContext) request.getAsyncContext()).complete();
+        } finally {
+            executor.shutdown();
+        }
+
+        List<SlowRequest> slowRequests = filter.getSlowRequests();
+        assertThat(slowRequests).hasSize(1);
+        assertThat(slowRequests.get(0).sql()).containsExactly("insert into image");
+        assertThat(slowRequests.get(0).storageCalls()).isEqualTo(1);
+        assertThat(slowRequests.get(0).storageMs()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("기준 시간보다 빨리 끝난 요청은 보관하지 않는다")
+    void ignoresFastRequest() throws Exception {
+        // [Given]
+        RequestTraceFilter filter = new RequestTraceFilter(true, 1.0, Duration.ofMinutes(1), 10, 50);
+
+        // [When]
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/posts"), new MockHttpServletResponse(),
+                (req, res) -> inspector.inspect("select 1"));
+
+        // [Then]
+        assertThat(filter.getSlowRequests()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("표본에서 제외된 요청은 추적하지 않는다")
+    void skipsUnsampledRequest() throws Exception {
+        // [Given]
+        RequestTraceFilter filter = new RequestTraceFilter(true, 0.0, Duration.ZERO, 10, 50);
+
+        // [When]
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/posts"), new MockHttpServletResponse(),
+                (req, res) -> inspector.inspect("select 1"));
+
+        // [Then]
+        assertThat(filter.getSlowRequests()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("보관 개수를 넘으면 오래된 요청부터 밀려나고 최신순으로 조회된다")
+    void keepsMostRecentRequests() throws Exception {
+        // [Given]
+        RequestTraceFilter filter = new RequestTraceFilter(true, 1.0, Duration.ZERO, 2, 50);
+
+        // [When]
+        for (int id = 1; id <= 3; id++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/posts/" + id), new MockHttpServletResponse(),
+                    (req, res) -> { });
+        }
+
+        // [Then]
+        assertThat(filter.getSlowRequests())
+                .extracting(SlowRequest::uri)
+                .containsExactly("/api/posts/3", "/api/posts/2");
+
+        filter.clearSlowRequests();
+        assertThat(filter.getSlowRequests()).isEmpty();
+    }
+}
@@ -0,0 +1,111 @@
+package com.plog.testUtil;
+
+import com.plog.global.minio.storage.ObjectStorage;
+import com.plog.global.minio.storage.StoredObject;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트에서 MinIO 대신 사용하는 메모리 기반 {@link ObjectStorage} 구현체입니다.
+ * <p>
+ * Presigned URL 로 클라이언트가 직접 업로드하는 흐름을 {@link #putViaPresignedUrl(String, byte[], String)}로
+ * 재현할 수 있어, 실제 MinIO 서버 없이 업로드 세션의 발급부터 완료 검증까지 테스트할 수 있습니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+public class InMemoryObjectStorage implements ObjectStorage {
+
+    private static final String BASE_URL = "http://minio.test/bucket/";
+    private static final String PRESIGN_QUERY = "?X-Amz-Signature=test";
+
+    private final Map<String, StoredBytes> objects = new ConcurrentHashMap<>();
+
+    /**
+     * 클라이언트가 Presigned URL 로 PUT 요청을 보낸 것처럼 객체를 저장합니다.
+     */
+    public void putViaPresignedUrl(String presignedUrl, byte[] content, String contentType) {
+        if (!presignedUrl.endsWith(PRESIGN_QUERY)) {
+            throw new IllegalArgumentException("not a presigned url: " + presignedUrl);
+        }
+        objects.put(parsePath(presignedUrl), new StoredBytes(content, contentType));
+    }
+
+    public boolean contains(String destination) {
+        return objects.containsKey(destination);
+    }
+
+    @Override
+    public String upload(MultipartFile file, String destination) {
+        return upload(file, file.getSize(), file.getContentType(), destination);
+    }
+
+    @Override
+    public String upload(InputStreamSource source, long size, String contentType, String destination) {
+        try (InputStream in = source.getInputStream()) {
+            objects.put(destination, new StoredBytes(in.readAllBytes(), contentType));
+            return urlOf(destination);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void delete(String destination) {
+        objects.remove(destination);
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> destinations) {
+        destinations.forEach(objects::remove);
+        return List.of();
+    }
+
+    @Override
+    public String parsePath(String url) {
+        if (url == null || !url.startsWith(BASE_URL)) {
+            return "";
+        }
+        String path = url.substring(BASE_URL.length());
+        int query = path.indexOf('?');
+        return query < 0 ? path : path.substring(0, query);
+    }
+
+    @Override
+    public String presignUpload(String destination, Duration expiry) {
+        return urlOf(destination) + PRESIGN_QUERY;
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String destination) {
+        return Optional.ofNullable(objects.get(destination))
+                .map(stored -> new StoredObject(stored.content().length, stored.contentType()));
+    }
+
+    @Override
+    public byte[] read(String destination, int maxLength) {
+        StoredBytes stored = objects.get(destination);
+        if (stored == null) {
+            return new byte[0];
+        }
+        return Arrays.copyOf(stored.content(), Math.min(maxLength, stored.content().length));
+    }
+
+    @Override
+    public String urlOf(String destination) {
+        return BASE_URL + destination;
+    }
+
+    private record StoredBytes(byte[] content, String contentType) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.plog.testUtil;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드가 캐리어 스레드에 고정(pinning)된 채 대기한 구간을 JFR {@code jdk.VirtualThreadPinned} 이벤트로 기록합니다.
+ * <p>
+ * {@code synchronized} 블록이나 {@code ConcurrentHashMap.compute} 안에서 I/O·잠금 대기를 하면 가상 스레드가
+ * 캐리어에서 내려오지 못해, 가상 스레드 모드의 처리량이 플랫폼 스레드 수로 다시 제한됩니다.
+ * 테스트 JVM 의 {@code -Djdk.tracePinnedThreads}는 스택을 출력만 하므로, 검증이 필요한 구간은 이 클래스로 감쌉니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+public final class PinnedThreadRecorder {
+
+    private static final String PINNED = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 12;
+
+    private PinnedThreadRecorder() {
+    }
+
+    /**
+     * 작업을 실행하는 동안 발생한 고정 이벤트를 모든 스레드에 대해 기록합니다.
+     *
+     * @param action 측정할 작업
+     * @return 고정된 구간마다 대기 시간과 스택 상단 프레임을 담은 설명
+     */
+    public static List<String> record(Runnable action) {
+        List<String> pinned = new CopyOnWriteArrayList<>();
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable(PINNED).withThreshold(Duration.ZERO).withStackTrace();
+            stream.onEvent(PINNED, event -> pinned.add(describe(event)));
+            stream.startAsync();
+            action.run();
+            stream.stop();
+        }
+        return pinned;
+    }
+
+    private static String describe(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(MAX_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "#" + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n    at ", "pinned " + event.getDuration().toMillis() + "ms\n    at ", ""));
+    }
+}
@@ -0,0 +1,142 @@
+package com.plog.testUtil;
+
+import com.plog.domain.comment.entity.Comment;
+import com.plog.domain.hashtag.entity.HashTag;
+import com.plog.domain.hashtag.entity.PostHashTag;
+import com.plog.domain.image.entity.Image;
+import com.plog.domain.member.entity.Member;
+import com.plog.domain.post.entity.Post;
+import com.plog.domain.post.entity.PostStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서비스 호출 한 번에 실행되는 쿼리 수를 검증하는 테스트의 공통 설정입니다.
+ * <p>
+ * H2(MySQL 모드) 위에서 실제 JPA 매핑으로 실행하며, {@link QueryCounter}로 SQL 을 기록합니다.
+ * 각 테스트는 트랜잭션 안에서 실행되고 종료 시 롤백됩니다.
+ *
+ * <p><b>사용 방법:</b><br>
+ * 1. 테스트 데이터를 저장한 뒤 {@link #recordQueries(Runnable)}로 측정할 호출을 감쌉니다. <br>
+ * 2. 측정 직전에 영속성 컨텍스트를 비우므로, 1차 캐시에 의해 쿼리가 가려지지 않습니다. <br>
+ * 3. 측정 종료 시 flush 하여 쓰기 지연된 INSERT/UPDATE 도 집계합니다. <br>
+ * 4. {@link #assertQueryCountAtMost(List, int)}로 상한을 검증합니다. <br>
+ * 5. 롤백된 이전 테스트의 데이터가 2차 캐시에 남지 않도록 테스트마다 캐시를 비웁니다.
+ *
+ * <p><b>상속 정보:</b><br>
+ * 모든 쿼리 수 회귀 테스트의 부모 추상 클래스입니다.
+ *
+ * @author jack8
+ * @see QueryCounter
+ * @since 2026-10-18
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-count;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.plog.testUtil.QueryCounter"
+})
+@Transactional
+public abstract class QueryCountTestSupport {
+
+    @Autowired
+    protected EntityManager em;
+
+    @BeforeEach
+    void evictSecondLevelCache() {
+        em.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    /**
+     * 영속성 컨텍스트를 비운 뒤 작업을 실행하고, 실행된 SQL 목록을 반환합니다.
+     */
+    protected List<String> recordQueries(Runnable action) {
+        em.flush();
+        em.clear();
+        return QueryCounter.record(() -> {
+            action.run();
+            em.flush();
+        });
+    }
+
+    protected Member member() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Member member = Member.builder()
+                .email(suffix + "@plog.com")
+                .password("password")
+                .nickname("user-" + suffix)
+                .build();
+        em.persist(member);
+        return member;
+    }
+
+    protected Member memberWithProfileImage(String accessUrl) {
+        Member member = member();
+        member.updateProfileImage(image(member, accessUrl.substring(accessUrl.lastIndexOf('/') + 1), accessUrl));
+        return member;
+    }
+
+    protected Image image(Member uploader, String storedName, String accessUrl) {
+        Image image = Image.builder()
+                .originalName(storedName)
+                .storedName(storedName)
+                .accessUrl(accessUrl)
+                .size(100L)
+                .uploader(uploader)
+                .build();
+        em.persist(image);
+        return image;
+    }
+
+    protected Post post(Member author, String... tags) {
+        Post post = Post.builder()
+                .title("제목")
+                .content("## 본문")
+                .summary("본문")
+                .status(PostStatus.PUBLISHED)
+                .member(author)
+                .build();
+        em.persist(post);
+        for (String tag : tags) {
+            HashTag hashTag = em.createQuery("select h from HashTag h where h.name = :name", HashTag.class)
+                    .setParameter("name", tag)
+                    .getResultStream()
+                    .findFirst()
+                    .orElseGet(() -> {
+                        HashTag created = new HashTag(tag);
+                        em.persist(created);
+                        return created;
+                    });
+            em.persist(PostHashTag.builder().post(post).hashTag(hashTag).displayName(tag).build());
+        }
+        return post;
+    }
+
+    protected Comment comment(Post post, Member author, Comment parent) {
+        Comment comment = Comment.builder()
+                .post(post)
+                .author(author)
+                .content("댓글")
+                .parent(parent)
+                .build();
+        em.persist(comment);
+        return comment;
+    }
+
+    protected void assertQueryCountAtMost(List<String> statements, int max) {
+        assertThat(statements)
+                .as("executed %d queries (max %d):%n%s", statements.size(), max, String.join("\n", statements))
+                .isNotEmpty()
+                .hasSizeLessThanOrEqualTo(max);
+    }
+}
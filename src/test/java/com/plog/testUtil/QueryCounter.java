@@ -0,0 +1,48 @@
+package com.plog.testUtil;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 기록하는 {@link StatementInspector} 구현체입니다.
+ * <p>
+ * {@code hibernate.session_factory.statement_inspector} 속성으로 등록되며,
+ * {@link #record(Runnable)} 로 감싼 구간에서 현재 스레드가 실행한 SQL 만 기록합니다.
+ * 스케줄러 등 다른 스레드의 쿼리는 집계되지 않습니다.
+ *
+ * @author jack8
+ * @see QueryCountTestSupport
+ * @since 2026-10-18
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = RECORDED.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * 주어진 작업을 실행하는 동안 현재 스레드에서 실행된 SQL 목록을 반환합니다.
+     *
+     * @param action 측정할 작업
+     * @return 실행 순서대로 기록된 SQL 목록
+     */
+    public static List<String> record(Runnable action) {
+        List<String> statements = new ArrayList<>();
+        RECORDED.set(statements);
+        try {
+            action.run();
+        } finally {
+            RECORDED.remove();
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,57 @@
+package com.plog.testUtil;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 이미지 업로드 관련 테스트에서 사용할 실제 이미지 바이트를 생성하는 유틸리티입니다.
+ * <p>
+ * 업로드 경로는 확장자가 아닌 매직 바이트로 형식을 판별하므로,
+ * 테스트용 파일에도 디코딩 가능한 이미지 데이터가 필요합니다.
+ *
+ * @author Jaewon Ryu
+ * @since 2026-10-18
+ */
+public final class TestImages {
+
+    private TestImages() {
+    }
+
+    public static byte[] jpeg(int width, int height) {
+        return write(image(width, height, BufferedImage.TYPE_INT_RGB), "jpg");
+    }
+
+    public static byte[] png(int width, int height) {
+        return write(image(width, height, BufferedImage.TYPE_INT_ARGB), "png");
+    }
+
+    public static byte[] gif(int width, int height) {
+        return write(image(width, height, BufferedImage.TYPE_INT_RGB), "gif");
+    }
+
+    private static BufferedImage image(int width, int height, int type) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.ORANGE);
+        g.fillRect(0, 0, width / 2, height);
+        g.setColor(Color.BLUE);
+        g.fillRect(width / 2, 0, width - width / 2, height);
+        g.dispose();
+        return image;
+    }
+
+    private static byte[] write(BufferedImage image, String format) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, format, out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
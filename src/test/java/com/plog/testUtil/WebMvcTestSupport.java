@@ -3,18 +3,27 @@ package com.plog.testUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.plog.domain.member.service.AuthService;
 import com.plog.global.security.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 
 /**
  * WebMvcTest 에 대한 테스트 유틸입니다.
  * <p>
  * autowired 된 MockMvc 및 사용할 Objectmapper 를 사전에 정의합니다.
  * 보안 필터가 요구하는 공통 보안 빈들을 Mock 객체로 등록합니다.
+ * 필터가 지표를 기록할 수 있도록 메모리 기반 {@link SimpleMeterRegistry}를 등록합니다.
+ * 비동기로 처리되는 API 는 {@link #performAsync(RequestBuilder)}로 결과 디스패치까지 수행합니다.
  *
  * <p><b>상속 정보:</b><br>
  * 모든 slice 테스트의 부모 추상 클래스입니다.
@@ -23,6 +32,7 @@ import org.springframework.test.web.servlet.MockMvc;
  * @author jack8
  * @since 2026-01-20
  */
+@Import(SimpleMeterRegistry.class)
 public abstract class WebMvcTestSupport {
 
     @Autowired
@@ -47,4 +57,14 @@ public abstract class WebMvcTestSupport {
 
     @MockitoBean
     protected CustomUserDetailsService customUserDetailsService;
-}
\ No newline at end of file
+
+    /**
+     * 비동기 처리가 시작됐는지 확인한 뒤, 처리 결과로 응답을 만드는 디스패치까지 수행합니다.
+     */
+    protected ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+        MvcResult started = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+}